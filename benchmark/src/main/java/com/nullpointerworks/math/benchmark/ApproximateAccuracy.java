@@ -0,0 +1,257 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+import com.nullpointerworks.math.Approximate;
+
+/**
+ * Measures the accuracy of the functions in {@code Approximate}. Every function is swept over an evenly spaced grid of its domain and compared against {@code StrictMath}. {@code Math} is measured the same way as a reference. For every function the maximum absolute error, the maximum relative error, the input of the worst result and a histogram of the error in ulps is reported.<br>
+ * <br>
+ * Errors in ulps are expressed in units of the float nearest to the reference value, because the library works in floats. Bucket {@code 0} of the histogram counts errors below 1 ulp, bucket {@code i} counts errors in {@code [2^(i-1), 2^i)} ulps, and the last bucket counts everything from {@code 2^24} ulps up, which is an error the size of the result itself.<br>
+ * <br>
+ * A table is printed to the console and the full results are written as JSON, to {@code approximate-accuracy.json} unless another file is given. The throughput side is measured by {@code ApproximateBenchmark}.
+ * <pre>
+ * java -cp benchmark/target/benchmarks.jar com.nullpointerworks.math.benchmark.ApproximateAccuracy [file] [samples]</pre>
+ * @since 1.1.0
+ */
+public class ApproximateAccuracy 
+{
+	/*
+	 * the amount of histogram buckets
+	 */
+	static final int BUCKETS = 26;
+	
+	public static void main(String[] args) throws IOException
+	{
+		String file = (args.length > 0)? args[0]: "approximate-accuracy.json";
+		int samples = (args.length > 1)? Integer.parseInt(args[1]): 1<<20;
+		int side = (int)Math.sqrt(samples);
+		
+		List<Result> results = new ArrayList<Result>();
+		unary(results, "exp", -20.0, 20.0, samples, Approximate::exp, Math::exp, StrictMath::exp);
+		binary(results, "pow", 0.0, 10.0, -4.0, 4.0, side, Approximate::pow, Math::pow, StrictMath::pow);
+		unary(results, "sin", -8.0*Math.PI, 8.0*Math.PI, samples, Approximate::sin, Math::sin, StrictMath::sin);
+		unary(results, "cos", -8.0*Math.PI, 8.0*Math.PI, samples, Approximate::cos, Math::cos, StrictMath::cos);
+		unary(results, "sinc", -8.0*Math.PI, 8.0*Math.PI, samples, Approximate::sinc, ApproximateAccuracy::sinc, ApproximateAccuracy::sinc);
+		unary(results, "asin", -1.0, 1.0, samples, Approximate::asin, Math::asin, StrictMath::asin);
+		unary(results, "acos", -1.0, 1.0, samples, Approximate::acos, Math::acos, StrictMath::acos);
+		unary(results, "atan", -100.0, 100.0, samples, Approximate::atan, Math::atan, StrictMath::atan);
+		binary(results, "atan2", -10.0, 10.0, -10.0, 10.0, side, Approximate::atan2, Math::atan2, StrictMath::atan2);
+		
+		System.out.println(table(results));
+		try (Writer w = Files.newBufferedWriter(Paths.get(file), StandardCharsets.UTF_8))
+		{
+			w.write(json(results));
+		}
+		System.out.println("Accuracy results are saved to "+file);
+	}
+	
+	/**
+	 * The error statistics of one implementation of one function.
+	 */
+	static final class Result
+	{
+		final String function;
+		final String implementation;
+		final String domain;
+		long samples;
+		long invalid;
+		double maxAbs;
+		double maxRel;
+		double maxUlp;
+		double[] worst;
+		final long[] histogram = new long[BUCKETS];
+		
+		Result(String function, String implementation, String domain)
+		{
+			this.function = function;
+			this.implementation = implementation;
+			this.domain = domain;
+		}
+		
+		/*
+		 * record one approximation against its reference
+		 */
+		void add(double value, double reference, double... input)
+		{
+			if (Double.isNaN(reference) || Double.isInfinite(reference)) return;
+			samples++;
+			if (Double.isNaN(value) || Double.isInfinite(value))
+			{
+				invalid++;
+				histogram[BUCKETS-1]++;
+				return;
+			}
+			
+			double abs = Math.abs(value - reference);
+			double rel = (reference != 0.0)? abs / Math.abs(reference): (abs == 0.0)? 0.0: Double.POSITIVE_INFINITY;
+			double ulp = abs / Math.ulp((float)reference);
+			
+			if (abs > maxAbs) maxAbs = abs;
+			if (rel > maxRel) maxRel = rel;
+			if (ulp > maxUlp || worst == null)
+			{
+				maxUlp = ulp;
+				worst = input;
+			}
+			histogram[bucket(ulp)]++;
+		}
+	}
+	
+	/*
+	 * histogram bucket of an error in ulps
+	 */
+	static int bucket(double ulp)
+	{
+		if (ulp < 1.0) return 0;
+		int b = Math.getExponent(ulp) + 1;
+		return (b < BUCKETS-1)? b: BUCKETS-1;
+	}
+	
+	/*
+	 * sweep a function of one argument
+	 */
+	private static void unary(List<Result> results, String name, 
+							  double low, double high, int samples,
+							  DoubleUnaryOperator approximate,
+							  DoubleUnaryOperator math,
+							  DoubleUnaryOperator strict)
+	{
+		String domain = "["+low+", "+high+"]";
+		Result a = new Result(name, "Approximate", domain);
+		Result m = new Result(name, "Math", domain);
+		double step = (high-low) / (samples-1);
+		for (int i=0; i<samples; i++)
+		{
+			double x = (i == samples-1)? high: low + i*step;
+			double ref = strict.applyAsDouble(x);
+			a.add(approximate.applyAsDouble(x), ref, x);
+			m.add(math.applyAsDouble(x), ref, x);
+		}
+		results.add(a);
+		results.add(m);
+	}
+	
+	/*
+	 * sweep a function of two arguments over a side-by-side grid
+	 */
+	private static void binary(List<Result> results, String name, 
+							   double low1, double high1, double low2, double high2, int side,
+							   DoubleBinaryOperator approximate,
+							   DoubleBinaryOperator math,
+							   DoubleBinaryOperator strict)
+	{
+		String domain = "["+low1+", "+high1+"] x ["+low2+", "+high2+"]";
+		Result a = new Result(name, "Approximate", domain);
+		Result m = new Result(name, "Math", domain);
+		double step1 = (high1-low1) / (side-1);
+		double step2 = (high2-low2) / (side-1);
+		for (int i=0; i<side; i++)
+		{
+			double x = (i == side-1)? high1: low1 + i*step1;
+			for (int j=0; j<side; j++)
+			{
+				double y = (j == side-1)? high2: low2 + j*step2;
+				double ref = strict.applyAsDouble(x, y);
+				a.add(approximate.applyAsDouble(x, y), ref, x, y);
+				m.add(math.applyAsDouble(x, y), ref, x, y);
+			}
+		}
+		results.add(a);
+		results.add(m);
+	}
+	
+	/*
+	 * reference cardinal sine
+	 */
+	private static double sinc(double x)
+	{
+		if (x == 0.0) return 1.0;
+		return StrictMath.sin(x) / x;
+	}
+	
+	/*
+	 * console table
+	 */
+	static String table(List<Result> results)
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format(Locale.ROOT, "%-8s %-12s %10s %12s %12s %14s %8s  %s%n",
+				"Function", "Impl", "Samples", "Max abs", "Max rel", "Max ulp", "Invalid", "Worst input"));
+		for (Result r : results)
+		{
+			sb.append(String.format(Locale.ROOT, "%-8s %-12s %10d %12.4e %12.4e %14.4g %8d  %s%n",
+					r.function, r.implementation, r.samples, r.maxAbs, r.maxRel, r.maxUlp, r.invalid, list(r.worst)));
+		}
+		return sb.toString();
+	}
+	
+	/*
+	 * machine readable results
+	 */
+	static String json(List<Result> results)
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append("[\n");
+		for (int i=0; i<results.size(); i++)
+		{
+			Result r = results.get(i);
+			sb.append("    {\n");
+			sb.append("        \"function\" : \"").append(r.function).append("\",\n");
+			sb.append("        \"implementation\" : \"").append(r.implementation).append("\",\n");
+			sb.append("        \"reference\" : \"StrictMath\",\n");
+			sb.append("        \"domain\" : \"").append(r.domain).append("\",\n");
+			sb.append("        \"samples\" : ").append(r.samples).append(",\n");
+			sb.append("        \"invalid\" : ").append(r.invalid).append(",\n");
+			sb.append("        \"maxAbsError\" : ").append(number(r.maxAbs)).append(",\n");
+			sb.append("        \"maxRelError\" : ").append(number(r.maxRel)).append(",\n");
+			sb.append("        \"maxUlpError\" : ").append(number(r.maxUlp)).append(",\n");
+			sb.append("        \"worstInput\" : ").append(list(r.worst)).append(",\n");
+			sb.append("        \"ulpHistogram\" : [");
+			for (int b=0; b<BUCKETS; b++)
+			{
+				if (b > 0) sb.append(", ");
+				sb.append(r.histogram[b]);
+			}
+			sb.append("]\n");
+			sb.append((i < results.size()-1)? "    },\n": "    }\n");
+		}
+		sb.append("]\n");
+		return sb.toString();
+	}
+	
+	/*
+	 * a JSON number, with non-finite values as strings
+	 */
+	private static String number(double v)
+	{
+		if (Double.isNaN(v) || Double.isInfinite(v)) return "\""+v+"\"";
+		return Double.toString(v);
+	}
+	
+	private static String list(double[] v)
+	{
+		if (v == null) return "[]";
+		StringBuilder sb = new StringBuilder("[");
+		for (int i=0; i<v.length; i++)
+		{
+			if (i > 0) sb.append(", ");
+			sb.append(number(v[i]));
+		}
+		return sb.append("]").toString();
+	}
+}
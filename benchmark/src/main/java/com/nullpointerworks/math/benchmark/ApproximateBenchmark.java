@@ -0,0 +1,255 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nullpointerworks.math.Approximate;
+
+/**
+ * Measures the throughput of the functions in {@code Approximate} next to {@code Math} and {@code StrictMath}. Every invocation evaluates a table of 1024 inputs from the same domains that {@code ApproximateAccuracy} sweeps, so the results of both can be put side by side.
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApproximateBenchmark 
+{
+	private double[] exponents;
+	private double[] bases;
+	private double[] powers;
+	private double[] angles;
+	private double[] ratios;
+	private double[] values;
+	private double[] ys;
+	private double[] xs;
+	
+	@Setup
+	public void setup()
+	{
+		exponents = doubles(Data.vector(1024, -20f, 20f, 5L));
+		bases = doubles(Data.vector(1024, 0f, 10f, 6L));
+		powers = doubles(Data.vector(1024, -4f, 4f, 7L));
+		angles = doubles(Data.vector(1024, -8f*(float)Math.PI, 8f*(float)Math.PI, 8L));
+		ratios = doubles(Data.vector(1024, -1f, 1f, 9L));
+		values = doubles(Data.vector(1024, -100f, 100f, 10L));
+		ys = doubles(Data.vector(1024, -10f, 10f, 11L));
+		xs = doubles(Data.vector(1024, -10f, 10f, 12L));
+	}
+	
+	@Benchmark
+	public double expApproximate()
+	{
+		double s = 0.0;
+		for (double x : exponents) s += Approximate.exp(x);
+		return s;
+	}
+	
+	@Benchmark
+	public double expMath()
+	{
+		double s = 0.0;
+		for (double x : exponents) s += Math.exp(x);
+		return s;
+	}
+	
+	@Benchmark
+	public double expStrict()
+	{
+		double s = 0.0;
+		for (double x : exponents) s += StrictMath.exp(x);
+		return s;
+	}
+	
+	@Benchmark
+	public double powApproximate()
+	{
+		double s = 0.0;
+		for (int i=0; i<1024; i++) s += Approximate.pow(bases[i], powers[i]);
+		return s;
+	}
+	
+	@Benchmark
+	public double powMath()
+	{
+		double s = 0.0;
+		for (int i=0; i<1024; i++) s += Math.pow(bases[i], powers[i]);
+		return s;
+	}
+	
+	@Benchmark
+	public double powStrict()
+	{
+		double s = 0.0;
+		for (int i=0; i<1024; i++) s += StrictMath.pow(bases[i], powers[i]);
+		return s;
+	}
+	
+	@Benchmark
+	public double sinApproximate()
+	{
+		double s = 0.0;
+		for (double x : angles) s += Approximate.sin(x);
+		return s;
+	}
+	
+	@Benchmark
+	public double sinMath()
+	{
+		double s = 0.0;
+		for (double x : angles) s += Math.sin(x);
+		return s;
+	}
+	
+	@Benchmark
+	public double sinStrict()
+	{
+		double s = 0.0;
+		for (double x : angles) s += StrictMath.sin(x);
+		return s;
+	}
+	
+	@Benchmark
+	public double cosApproximate()
+	{
+		double s = 0.0;
+		for (double x : angles) s += Approximate.cos(x);
+		return s;
+	}
+	
+	@Benchmark
+	public double cosMath()
+	{
+		double s = 0.0;
+		for (double x : angles) s += Math.cos(x);
+		return s;
+	}
+	
+	@Benchmark
+	public double cosStrict()
+	{
+		double s = 0.0;
+		for (double x : angles) s += StrictMath.cos(x);
+		return s;
+	}
+	
+	@Benchmark
+	public double asinApproximate()
+	{
+		double s = 0.0;
+		for (double x : ratios) s += Approximate.asin(x);
+		return s;
+	}
+	
+	@Benchmark
+	public double asinMath()
+	{
+		double s = 0.0;
+		for (double x : ratios) s += Math.asin(x);
+		return s;
+	}
+	
+	@Benchmark
+	public double asinStrict()
+	{
+		double s = 0.0;
+		for (double x : ratios) s += StrictMath.asin(x);
+		return s;
+	}
+	
+	@Benchmark
+	public double acosApproximate()
+	{
+		double s = 0.0;
+		for (double x : ratios) s += Approximate.acos(x);
+		return s;
+	}
+	
+	@Benchmark
+	public double acosMath()
+	{
+		double s = 0.0;
+		for (double x : ratios) s += Math.acos(x);
+		return s;
+	}
+	
+	@Benchmark
+	public double acosStrict()
+	{
+		double s = 0.0;
+		for (double x : ratios) s += StrictMath.acos(x);
+		return s;
+	}
+	
+	@Benchmark
+	public double atanApproximate()
+	{
+		double s = 0.0;
+		for (double x : values) s += Approximate.atan(x);
+		return s;
+	}
+	
+	@Benchmark
+	public double atanMath()
+	{
+		double s = 0.0;
+		for (double x : values) s += Math.atan(x);
+		return s;
+	}
+	
+	@Benchmark
+	public double atanStrict()
+	{
+		double s = 0.0;
+		for (double x : values) s += StrictMath.atan(x);
+		return s;
+	}
+	
+	@Benchmark
+	public double atan2Approximate()
+	{
+		double s = 0.0;
+		for (int i=0; i<1024; i++) s += Approximate.atan2(ys[i], xs[i]);
+		return s;
+	}
+	
+	@Benchmark
+	public double atan2Math()
+	{
+		double s = 0.0;
+		for (int i=0; i<1024; i++) s += Math.atan2(ys[i], xs[i]);
+		return s;
+	}
+	
+	@Benchmark
+	public double atan2Strict()
+	{
+		double s = 0.0;
+		for (int i=0; i<1024; i++) s += StrictMath.atan2(ys[i], xs[i]);
+		return s;
+	}
+	
+	private static double[] doubles(float[] v)
+	{
+		double[] d = new double[v.length];
+		for (int i=0; i<v.length; i++) d[i] = v[i];
+		return d;
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nullpointerworks.math.geometry.Geometry2;
+import com.nullpointerworks.math.geometry.g2d.Circle;
+import com.nullpointerworks.math.geometry.g2d.Geometry2D;
+import com.nullpointerworks.math.geometry.g2d.Rectangle;
+import com.nullpointerworks.math.geometry.g2d.Triangle;
+import com.nullpointerworks.math.geometry.logic.LogicGroup2D;
+
+/**
+ * Measures computing the area of a logic group, by sampling {@code isInside} on a 1000 by 1000 grid over its bounding box and by integrating its cross sections on one thread and on the common fork/join pool.
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AreaBenchmark
+{
+	private static final int SAMPLES = 1000;
+
+	private LogicGroup2D region;
+
+	@Setup
+	public void setup()
+	{
+		Geometry2D plate = Geometry2.AND(
+				new Rectangle(100f, 100f, 3000f, 1800f),
+				Geometry2.NOT(new Circle(800f, 800f, 400f), new Triangle(2000f, 300f, 3000f, 1500f, 1500f, 1800f)));
+		Geometry2D rings = Geometry2.XOR(
+				new Circle(1900f, 1000f, 600f), new Circle(1900f, 1000f, 450f), new Circle(1900f, 1000f, 300f));
+		region = (LogicGroup2D)Geometry2.OR(plate, rings);
+	}
+
+	@Benchmark
+	public float sampled()
+	{
+		float x = region.minX();
+		float y = region.minY();
+		float dx = (region.maxX() - x) / SAMPLES;
+		float dy = (region.maxY() - y) / SAMPLES;
+		int inside = 0;
+		for (int j=0; j<SAMPLES; j++)
+		{
+			for (int i=0; i<SAMPLES; i++)
+			{
+				if (region.isInside(x + (i+0.5f)*dx, y + (j+0.5f)*dy)) inside++;
+			}
+		}
+		return inside * dx * dy;
+	}
+
+	@Benchmark
+	public float integrated()
+	{
+		return region.area(1f);
+	}
+
+	@Benchmark
+	public float integratedParallel()
+	{
+		return region.area(1f, ForkJoinPool.commonPool());
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.Main;
+
+/**
+ * Entry point of the benchmark jar. Accepts the regular JMH command line, but writes the results as JSON to {@code jmh-result.json} unless another result format or file is given.
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar
+ * java -jar benchmark/target/benchmarks.jar MatrixBenchmark -rff matrix.json</pre>
+ * @since 1.1.0
+ */
+public class BenchmarkRunner 
+{
+	public static void main(String[] args) throws Exception
+	{
+		List<String> list = new ArrayList<String>(Arrays.asList(args));
+		if (!list.contains("-rf"))
+		{
+			list.add("-rf");
+			list.add("json");
+		}
+		if (!list.contains("-rff"))
+		{
+			list.add("-rff");
+			list.add("jmh-result.json");
+		}
+		Main.main(list.toArray(new String[list.size()]));
+	}
+}
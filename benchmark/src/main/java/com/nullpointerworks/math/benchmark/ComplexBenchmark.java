@@ -0,0 +1,75 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nullpointerworks.math.Complex;
+import com.nullpointerworks.math.FFT;
+
+/**
+ * Measures the interleaved complex kernels and the Fourier transform on blocks of complex samples. Sizes that are not a power of two go through Bluestein's algorithm.
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComplexBenchmark 
+{
+	@Param({"1024", "65536", "60000"})
+	public int size;
+	
+	private FFT fft;
+	private float[] signal;
+	private float[] other;
+	private float[] res;
+	
+	@Setup
+	public void setup()
+	{
+		fft = new FFT(size);
+		signal = Data.vector(2*size, -1f, 1f, 1L);
+		other = Data.vector(2*size, -1f, 1f, 2L);
+		res = new float[2*size];
+	}
+	
+	@Benchmark
+	public float[] roundtrip()
+	{
+		fft.forward(signal);
+		fft.inverse(signal);
+		return signal;
+	}
+	
+	@Benchmark
+	public float[] mul()
+	{
+		Complex.mul(signal, other, res, size);
+		return res;
+	}
+	
+	@Benchmark
+	public float[] div()
+	{
+		Complex.div(signal, other, res, size);
+		return res;
+	}
+}
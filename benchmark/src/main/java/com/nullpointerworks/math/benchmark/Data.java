@@ -0,0 +1,40 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.util.SplittableRandom;
+
+/**
+ * Reproducible benchmark input.
+ * @since 1.1.0
+ */
+final class Data 
+{
+	/*
+	 * a rows-by-cols matrix with values in [-1,1)
+	 */
+	static float[][] matrix(int rows, int cols, long seed)
+	{
+		SplittableRandom r = new SplittableRandom(seed);
+		float[][] m = new float[rows][cols];
+		for (float[] row : m)
+			for (int i=0; i<cols; i++)
+				row[i] = (float)(r.nextDouble()*2.0 - 1.0);
+		return m;
+	}
+	
+	/*
+	 * a vector with values in [low,high)
+	 */
+	static float[] vector(int n, float low, float high, long seed)
+	{
+		SplittableRandom r = new SplittableRandom(seed);
+		float[] v = new float[n];
+		for (int i=0; i<n; i++)
+			v[i] = (float)(low + r.nextDouble()*(high-low));
+		return v;
+	}
+}
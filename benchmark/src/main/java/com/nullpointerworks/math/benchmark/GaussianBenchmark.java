@@ -0,0 +1,87 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nullpointerworks.math.random.Gaussian;
+import com.nullpointerworks.math.random.Randomizer;
+
+/**
+ * Compares the ziggurat {@code Gaussian} sampler against Box-Muller over {@code _double()}, for single samples and for filling an array of 4096 values.
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GaussianBenchmark 
+{
+	@Param({"MersenneTwister", "Xoshiro256StarStar"})
+	public String randomizer;
+	
+	private Randomizer rng;
+	private Gaussian gauss;
+	private double[] doubles;
+	
+	@Setup
+	public void setup()
+	{
+		rng = RandomizerBenchmark.make(randomizer);
+		rng.seed(12345L);
+		gauss = new Gaussian(rng);
+		doubles = new double[4096];
+	}
+	
+	@Benchmark
+	public double boxMuller()
+	{
+		double u = 1.0 - rng._double();
+		double v = rng._double();
+		return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * v);
+	}
+	
+	@Benchmark
+	public double ziggurat()
+	{
+		return gauss.sample();
+	}
+	
+	@Benchmark
+	public double[] fillBoxMuller()
+	{
+		for (int i=0; i<doubles.length-1; i+=2)
+		{
+			double u = 1.0 - rng._double();
+			double v = 2.0 * Math.PI * rng._double();
+			double r = Math.sqrt(-2.0 * Math.log(u));
+			doubles[i  ] = r * Math.cos(v);
+			doubles[i+1] = r * Math.sin(v);
+		}
+		return doubles;
+	}
+	
+	@Benchmark
+	public double[] fillZiggurat()
+	{
+		gauss.fill(doubles);
+		return doubles;
+	}
+}
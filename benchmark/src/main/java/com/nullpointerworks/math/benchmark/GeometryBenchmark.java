@@ -0,0 +1,84 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nullpointerworks.math.geometry.Geometry2;
+import com.nullpointerworks.math.geometry.g2d.Circle;
+import com.nullpointerworks.math.geometry.g2d.Geometry2D;
+import com.nullpointerworks.math.geometry.g2d.Point;
+import com.nullpointerworks.math.geometry.g2d.Rectangle;
+import com.nullpointerworks.math.geometry.g2d.Triangle;
+
+/**
+ * Measures {@code Geometry2.intersect} for every pair of primitives in the solver table. Each pair is measured for a hit and for a miss, since most solvers exit early on a hit.
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryBenchmark 
+{
+	@Param({"Point", "Circle", "Triangle", "Rectangle"})
+	public String first;
+	
+	@Param({"Point", "Circle", "Triangle", "Rectangle"})
+	public String second;
+	
+	private Geometry2D a;
+	private Geometry2D hit;
+	private Geometry2D miss;
+	
+	@Setup
+	public void setup()
+	{
+		a = make(first, 0f, 0f);
+		hit = make(second, 0f, 0f);
+		miss = make(second, 100f, 100f);
+	}
+	
+	@Benchmark
+	public boolean intersectHit()
+	{
+		return Geometry2.intersect(a, hit);
+	}
+	
+	@Benchmark
+	public boolean intersectMiss()
+	{
+		return Geometry2.intersect(a, miss);
+	}
+	
+	/*
+	 * primitives of roughly equal size around (x,y)
+	 */
+	private Geometry2D make(String type, float x, float y)
+	{
+		switch(type)
+		{
+		case "Point": return new Point(x+0.5f, y+0.5f);
+		case "Circle": return new Circle(x+0.5f, y+0.5f, 2f);
+		case "Triangle": return new Triangle(x-2f,y-2f, x+3f,y-1f, x,y+3f);
+		default: return new Rectangle(x-2f, y-2f, 4f, 4f);
+		}
+	}
+}
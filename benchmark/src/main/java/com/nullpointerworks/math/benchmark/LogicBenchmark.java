@@ -0,0 +1,78 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nullpointerworks.math.geometry.Geometry2;
+import com.nullpointerworks.math.geometry.g2d.Circle;
+import com.nullpointerworks.math.geometry.g2d.Geometry2D;
+import com.nullpointerworks.math.geometry.g2d.Rectangle;
+import com.nullpointerworks.math.geometry.g2d.Triangle;
+import com.nullpointerworks.math.geometry.logic.LogicProgram2D;
+
+/**
+ * Measures point tests on a nested logic group, by walking the group and by running the compiled {@code LogicProgram2D}. Every invocation tests 4096 locations spread over an area four times the size of the group.
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogicBenchmark
+{
+	private Geometry2D group;
+	private LogicProgram2D program;
+	private float[] xs;
+	private float[] ys;
+	private boolean[] out;
+
+	@Setup
+	public void setup()
+	{
+		// a plate with holes, some bosses and a ring of alternating segments
+		Geometry2D plate = Geometry2.AND(
+				new Rectangle(0f, 0f, 100f, 60f),
+				Geometry2.NOT(new Circle(20f, 20f, 8f), new Circle(80f, 20f, 8f),
+							  new Triangle(40f, 50f, 60f, 50f, 50f, 35f)));
+		Geometry2D bosses = Geometry2.OR(
+				new Circle(20f, 20f, 4f), new Circle(80f, 20f, 4f), new Rectangle(45f, 5f, 10f, 10f));
+		Geometry2D ring = Geometry2.XOR(
+				new Circle(50f, 30f, 12f), new Circle(50f, 30f, 9f), new Circle(50f, 30f, 6f), new Circle(50f, 30f, 3f));
+		group = Geometry2.OR(plate, bosses, ring);
+		program = LogicProgram2D.compile(group);
+
+		xs = Data.vector(4096, -50f, 150f, 21L);
+		ys = Data.vector(4096, -30f, 90f, 22L);
+		out = new boolean[4096];
+	}
+
+	@Benchmark
+	public boolean[] tree()
+	{
+		for (int i=0; i<xs.length; i++) out[i] = group.isInside(xs[i], ys[i]);
+		return out;
+	}
+
+	@Benchmark
+	public boolean[] compiled()
+	{
+		return program.isInside(xs, ys, out);
+	}
+}
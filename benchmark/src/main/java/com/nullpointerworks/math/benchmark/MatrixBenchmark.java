@@ -0,0 +1,74 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nullpointerworks.math.matrix.Matrix4;
+
+/**
+ * Measures the 4-by-4 matrix operations most used in transformation pipelines.
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixBenchmark 
+{
+	private final Matrix4 M4 = new Matrix4();
+	private float[][] a;
+	private float[][] b;
+	private float[] vertex;
+	private float[][] vertices;
+	
+	@Setup
+	public void setup()
+	{
+		a = M4.mul( M4.rotation(new float[] {0.3f, 1f, 0.2f}, 0.7f), M4.translate(1f, -2f, 3f) );
+		b = M4.mul( M4.scale(2f, 0.5f, 1.5f), M4.rotation(0.1f, 0.2f, 0.3f) );
+		vertex = new float[] {1f, 2f, 3f, 1f};
+		vertices = Data.matrix(1024, 4, 7L);
+	}
+	
+	@Benchmark
+	public float[][] mul()
+	{
+		return M4.mul(a, b);
+	}
+	
+	@Benchmark
+	public float[][] inverse()
+	{
+		return M4.inverse(a);
+	}
+	
+	@Benchmark
+	public float[] transformVertex()
+	{
+		return M4.transform(a, vertex);
+	}
+	
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public float[][] transformVertices()
+	{
+		return M4.transform(a, vertices);
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nullpointerworks.math.matrix.MatrixN;
+
+/**
+ * Measures the general purpose square matrix product at several sizes.
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatrixNBenchmark 
+{
+	@Param({"16", "64", "256", "512"})
+	public int size;
+	
+	private float[][] a;
+	private float[][] b;
+	private float[][] res;
+	
+	@Setup
+	public void setup()
+	{
+		a = Data.matrix(size, size, 1L);
+		b = Data.matrix(size, size, 2L);
+		res = new float[size][size];
+	}
+	
+	@Benchmark
+	public float[][] mul()
+	{
+		return MatrixN.mul(a, b);
+	}
+	
+	@Benchmark
+	public float[][] mulInto()
+	{
+		return MatrixN.mul(a, b, res);
+	}
+	
+	@Benchmark
+	public float[][] mulTransposed()
+	{
+		return MatrixN.mul(a, true, b, true);
+	}
+}
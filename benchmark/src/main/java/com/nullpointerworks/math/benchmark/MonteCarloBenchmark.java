@@ -0,0 +1,89 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nullpointerworks.math.MonteCarlo;
+import com.nullpointerworks.math.geometry.Geometry2;
+import com.nullpointerworks.math.geometry.g2d.Circle;
+import com.nullpointerworks.math.geometry.g2d.Geometry2D;
+import com.nullpointerworks.math.geometry.g2d.Rectangle;
+import com.nullpointerworks.math.random.Randomizer;
+import com.nullpointerworks.math.random.Xoshiro256StarStar;
+
+/**
+ * Measures estimating the area of a logic group to a standard error of 0.1 percent of its bounding box, with a loop over uniform random samples and with the Monte Carlo integrator on one thread and on the common fork/join pool. The uniform loop uses the amount of samples the error needs for plain random sampling.
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonteCarloBenchmark
+{
+	@Param({"STRATIFIED", "HALTON", "SOBOL", "R2"})
+	public String sampling;
+
+	private Geometry2D region;
+	private MonteCarlo mc;
+	private Randomizer rng;
+	private int uniformSamples;
+
+	@Setup
+	public void setup()
+	{
+		region = Geometry2.AND(
+				new Rectangle(0f, 0f, 100f, 100f),
+				Geometry2.NOT(new Circle(50f, 50f, 30f)),
+				Geometry2.OR(new Circle(30f, 30f, 40f), new Circle(70f, 70f, 40f)));
+		mc = new MonteCarlo();
+		mc.setSampling(MonteCarlo.Sampling.valueOf(sampling));
+		mc.setTargetError(0.001 * 100.0 * 100.0);
+		rng = new Xoshiro256StarStar(42L);
+
+		// a fraction p inside has a standard error of sqrt(p(1-p)/n), at worst 0.5/sqrt(n)
+		uniformSamples = (int)(0.25 / (0.001*0.001));
+	}
+
+	@Benchmark
+	public float uniform()
+	{
+		int inside = 0;
+		for (int i=0; i<uniformSamples; i++)
+		{
+			if (region.isInside(rng._float(0f, 100f), rng._float(0f, 100f))) inside++;
+		}
+		return inside * (100f*100f / uniformSamples);
+	}
+
+	@Benchmark
+	public MonteCarlo.Estimate integrator()
+	{
+		return mc.area(region);
+	}
+
+	@Benchmark
+	public MonteCarlo.Estimate integratorParallel()
+	{
+		return mc.area(region, ForkJoinPool.commonPool());
+	}
+}
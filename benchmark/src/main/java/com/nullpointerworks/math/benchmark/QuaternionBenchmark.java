@@ -0,0 +1,93 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nullpointerworks.math.Quaternion;
+
+/**
+ * Measures the packed quaternion operations of an animation pass over a skeleton of joints.
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuaternionBenchmark 
+{
+	@Param({"1000"})
+	public int joints;
+	
+	private float[] a;
+	private float[] b;
+	private float[] pose;
+	private float[] vectors;
+	private float[] moved;
+	private float[] matrices;
+	
+	@Setup
+	public void setup()
+	{
+		a = Data.vector(4*joints, -1f, 1f, 1L);
+		b = Data.vector(4*joints, -1f, 1f, 2L);
+		Quaternion.normalize(a, a, joints);
+		Quaternion.normalize(b, b, joints);
+		pose = new float[4*joints];
+		vectors = Data.vector(3*joints, -1f, 1f, 3L);
+		moved = new float[3*joints];
+		matrices = new float[16*joints];
+	}
+	
+	@Benchmark
+	public float[] slerp()
+	{
+		Quaternion.slerp(a, b, 0.3f, pose, joints);
+		return pose;
+	}
+	
+	@Benchmark
+	public float[] nlerp()
+	{
+		Quaternion.nlerp(a, b, 0.3f, pose, joints);
+		return pose;
+	}
+	
+	@Benchmark
+	public float[] compose()
+	{
+		Quaternion.mul(a, b, pose, joints);
+		return pose;
+	}
+	
+	@Benchmark
+	public float[] transform()
+	{
+		Quaternion.transform(a, vectors, moved, joints);
+		return moved;
+	}
+	
+	@Benchmark
+	public float[] matrix4()
+	{
+		Quaternion.matrix4(a, matrices, joints);
+		return matrices;
+	}
+}
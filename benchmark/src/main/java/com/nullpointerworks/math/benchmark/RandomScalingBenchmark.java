@@ -0,0 +1,109 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.nullpointerworks.math.Random;
+import com.nullpointerworks.math.random.MersenneTwister;
+import com.nullpointerworks.math.random.Randomizer;
+
+/**
+ * Measures how the throughput of {@code Random} scales with the amount of threads that draw from it at the same time. {@code synchronizedShared} guards one shared Mersenne twister with a lock, which is the only correct way to share a single generator. {@code concurrent} uses the concurrent mode of {@code Random}, where every thread draws from its own stream.<br>
+ * <br>
+ * JMH takes a single thread count per run, so {@code main} runs the benchmark for 1, 2, 4, 8, 16, 32 and 64 threads, prints a table of the total throughput and writes the JMH results of every run as JSON, to {@code random-scaling-<threads>.json} unless another base name is given.
+ * <pre>
+ * java -cp benchmark/target/benchmarks.jar com.nullpointerworks.math.benchmark.RandomScalingBenchmark [file]</pre>
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomScalingBenchmark
+{
+	static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+	private final Object lock = new Object();
+	private Randomizer shared;
+
+	@Setup
+	public void setup()
+	{
+		shared = new MersenneTwister();
+		Random.setConcurrent(12345L);
+	}
+
+	@Benchmark
+	public double synchronizedShared()
+	{
+		synchronized (lock)
+		{
+			return shared._double();
+		}
+	}
+
+	@Benchmark
+	public double concurrent()
+	{
+		return Random.Double();
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		String file = (args.length > 0)? args[0]: "random-scaling.json";
+		List<RunResult> results = new ArrayList<RunResult>();
+		List<Integer> counts = new ArrayList<Integer>();
+
+		for (int t : THREADS)
+		{
+			Options opt = new OptionsBuilder()
+					.include(RandomScalingBenchmark.class.getName()+"\\.")
+					.threads(t)
+					.resultFormat(ResultFormatType.JSON)
+					.result(file.replace(".json", "-"+t+".json"))
+					.build();
+			for (RunResult r : new Runner(opt).run())
+			{
+				results.add(r);
+				counts.add(t);
+			}
+		}
+
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format(Locale.ROOT, "%-20s %8s %14s%n", "benchmark", "threads", "ops/us"));
+		for (int i=0; i<results.size(); i++)
+		{
+			RunResult r = results.get(i);
+			String name = r.getParams().getBenchmark();
+			name = name.substring(name.lastIndexOf('.')+1);
+			sb.append(String.format(Locale.ROOT, "%-20s %8d %14.3f%n", name, counts.get(i), r.getPrimaryResult().getScore()));
+		}
+		System.out.println(sb);
+	}
+}
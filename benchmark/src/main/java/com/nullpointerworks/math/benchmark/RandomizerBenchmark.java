@@ -0,0 +1,128 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nullpointerworks.math.random.FastMersenneTwister;
+import com.nullpointerworks.math.random.Halton;
+import com.nullpointerworks.math.random.LinearCongruential;
+import com.nullpointerworks.math.random.MersenneTwister;
+import com.nullpointerworks.math.random.PermutedCongruential;
+import com.nullpointerworks.math.random.R2;
+import com.nullpointerworks.math.random.Randomizer;
+import com.nullpointerworks.math.random.Sobol;
+import com.nullpointerworks.math.random.SplitMix64;
+import com.nullpointerworks.math.random.SystemRandomizer;
+import com.nullpointerworks.math.random.Xoshiro256StarStar;
+
+/**
+ * Measures the generation speed of each {@code Randomizer} implementation. The {@code loop} benchmarks fill an array of 4096 values one call at a time, the {@code fill} benchmarks use the bulk methods.
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomizerBenchmark 
+{
+	@Param({"LinearCongruential", "MersenneTwister", "FastMersenneTwister", "SystemRandomizer",
+			"SplitMix64", "Xoshiro256StarStar", "PermutedCongruential", "Sobol", "Halton", "R2"})
+	public String randomizer;
+	
+	private Randomizer rng;
+	private float[] floats;
+	private double[] doubles;
+	
+	@Setup
+	public void setup()
+	{
+		rng = make(randomizer);
+		rng.seed(12345L);
+		floats = new float[4096];
+		doubles = new double[4096];
+	}
+	
+	@Benchmark
+	public double nextDouble()
+	{
+		return rng._double();
+	}
+	
+	@Benchmark
+	public float nextFloat()
+	{
+		return rng._float();
+	}
+	
+	@Benchmark
+	public int nextInteger()
+	{
+		return rng._integer(0, 1000);
+	}
+	
+	@Benchmark
+	public float[] loopFloat()
+	{
+		for (int i=0; i<floats.length; i++) floats[i] = rng._float();
+		return floats;
+	}
+	
+	@Benchmark
+	public float[] fillFloat()
+	{
+		rng.fill(floats);
+		return floats;
+	}
+	
+	@Benchmark
+	public double[] loopDouble()
+	{
+		for (int i=0; i<doubles.length; i++) doubles[i] = rng._double(-1.0, 1.0);
+		return doubles;
+	}
+	
+	@Benchmark
+	public double[] fillDouble()
+	{
+		rng.fill(doubles, -1.0, 1.0);
+		return doubles;
+	}
+	
+	/*
+	 * create a randomizer by its class name
+	 */
+	static Randomizer make(String name)
+	{
+		switch(name)
+		{
+		case "LinearCongruential": return new LinearCongruential();
+		case "MersenneTwister": return new MersenneTwister();
+		case "FastMersenneTwister": return new FastMersenneTwister();
+		case "SplitMix64": return new SplitMix64();
+		case "Xoshiro256StarStar": return new Xoshiro256StarStar();
+		case "PermutedCongruential": return new PermutedCongruential();
+		case "Sobol": return new Sobol();
+		case "Halton": return new Halton();
+		case "R2": return new R2();
+		default: return new SystemRandomizer();
+		}
+	}
+}
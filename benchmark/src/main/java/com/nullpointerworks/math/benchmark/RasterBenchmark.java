@@ -0,0 +1,81 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nullpointerworks.math.geometry.Geometry2;
+import com.nullpointerworks.math.geometry.g2d.Circle;
+import com.nullpointerworks.math.geometry.g2d.Geometry2D;
+import com.nullpointerworks.math.geometry.g2d.Rectangle;
+import com.nullpointerworks.math.geometry.g2d.Triangle;
+import com.nullpointerworks.math.geometry.raster.CoverageMask;
+import com.nullpointerworks.math.geometry.raster.Rasterizer2D;
+
+/**
+ * Measures rasterizing a logic group into a 3840 by 2160 coverage mask, by testing every pixel with {@code isInside} and with the span rasterizer on one thread and on the common fork/join pool.
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RasterBenchmark
+{
+	private Geometry2D region;
+	private CoverageMask mask;
+
+	@Setup
+	public void setup()
+	{
+		Geometry2D plate = Geometry2.AND(
+				new Rectangle(100f, 100f, 3000f, 1800f),
+				Geometry2.NOT(new Circle(800f, 800f, 400f), new Triangle(2000f, 300f, 3000f, 1500f, 1500f, 1800f)));
+		Geometry2D rings = Geometry2.XOR(
+				new Circle(1900f, 1000f, 600f), new Circle(1900f, 1000f, 450f), new Circle(1900f, 1000f, 300f));
+		region = Geometry2.OR(plate, rings);
+		mask = new CoverageMask(3840, 2160);
+	}
+
+	@Benchmark
+	public CoverageMask perPixel()
+	{
+		for (int j=0; j<mask.height(); j++)
+		{
+			for (int i=0; i<mask.width(); i++)
+			{
+				mask.set(i, j, region.isInside(0.5f + i, 0.5f + j));
+			}
+		}
+		return mask;
+	}
+
+	@Benchmark
+	public CoverageMask spans()
+	{
+		return Rasterizer2D.rasterize(region, mask, 0.5f, 0.5f, 1f);
+	}
+
+	@Benchmark
+	public CoverageMask spansParallel()
+	{
+		return Rasterizer2D.rasterize(region, mask, 0.5f, 0.5f, 1f, ForkJoinPool.commonPool());
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nullpointerworks.math.Approximate;
+import com.nullpointerworks.math.FloatMath;
+
+/**
+ * Compares the {@code StrictMath} backed trigonometry of {@code FloatMath} with the approximations in {@code Approximate}. Every invocation evaluates a table of angles spread over several periods.
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrigBenchmark 
+{
+	private float[] angles;
+	
+	@Setup
+	public void setup()
+	{
+		angles = Data.vector(1024, -20f, 20f, 3L);
+	}
+	
+	@Benchmark
+	public float floatMathSin()
+	{
+		float s = 0f;
+		for (float a : angles) s += FloatMath.sin(a);
+		return s;
+	}
+	
+	@Benchmark
+	public float floatMathCos()
+	{
+		float s = 0f;
+		for (float a : angles) s += FloatMath.cos(a);
+		return s;
+	}
+	
+	@Benchmark
+	public double approximateSin()
+	{
+		double s = 0.0;
+		for (float a : angles) s += Approximate.sin(a);
+		return s;
+	}
+	
+	@Benchmark
+	public double approximateCos()
+	{
+		double s = 0.0;
+		for (float a : angles) s += Approximate.cos(a);
+		return s;
+	}
+}
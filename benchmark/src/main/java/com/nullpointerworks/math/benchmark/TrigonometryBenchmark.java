@@ -0,0 +1,125 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nullpointerworks.math.FloatMath;
+import com.nullpointerworks.math.trigonometry.PolynomialTrigonometry;
+import com.nullpointerworks.math.trigonometry.StrictTrigonometry;
+import com.nullpointerworks.math.trigonometry.TableTrigonometry;
+import com.nullpointerworks.math.trigonometry.Trigonometry;
+
+/**
+ * Compares the {@code Trigonometry} providers. Each provider is installed in {@code FloatMath} and evaluated through the scalar functions and through the bulk array functions.
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrigonometryBenchmark 
+{
+	@Param({"strict", "polynomial", "table"})
+	public String provider;
+	
+	private float[] angles;
+	private float[] values;
+	private float[] res;
+	
+	@Setup
+	public void setup()
+	{
+		angles = Data.vector(1024, -20f, 20f, 3L);
+		values = Data.vector(1024, -1f, 1f, 4L);
+		res = new float[1024];
+		FloatMath.setTrigonometry(provider(provider));
+	}
+	
+	@TearDown
+	public void tearDown()
+	{
+		FloatMath.setTrigonometry(null);
+	}
+	
+	@Benchmark
+	public float sin()
+	{
+		float s = 0f;
+		for (float a : angles) s += FloatMath.sin(a);
+		return s;
+	}
+	
+	@Benchmark
+	public float tan()
+	{
+		float s = 0f;
+		for (float a : angles) s += FloatMath.tan(a);
+		return s;
+	}
+	
+	@Benchmark
+	public float asin()
+	{
+		float s = 0f;
+		for (float v : values) s += FloatMath.asin(v);
+		return s;
+	}
+	
+	@Benchmark
+	public float atan()
+	{
+		float s = 0f;
+		for (float a : angles) s += FloatMath.atan(a);
+		return s;
+	}
+	
+	@Benchmark
+	public float[] sinArray()
+	{
+		FloatMath.sin(angles, res);
+		return res;
+	}
+	
+	@Benchmark
+	public float[] cosArray()
+	{
+		FloatMath.cos(angles, res);
+		return res;
+	}
+	
+	@Benchmark
+	public float[] acosArray()
+	{
+		FloatMath.acos(values, res);
+		return res;
+	}
+	
+	private static Trigonometry provider(String name)
+	{
+		switch (name)
+		{
+		case "polynomial": return PolynomialTrigonometry.instance;
+		case "table": return TableTrigonometry.instance;
+		default: return StrictTrigonometry.instance;
+		}
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nullpointerworks.math.vector.Vector3;
+
+/**
+ * Measures the most common 3D vector operations.
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorBenchmark 
+{
+	private final Vector3 V3 = new Vector3();
+	private float[] a;
+	private float[] b;
+	
+	@Setup
+	public void setup()
+	{
+		a = new float[] {1.5f, -2f, 0.25f};
+		b = new float[] {-0.5f, 3f, 4f};
+	}
+	
+	@Benchmark
+	public float[] normalize()
+	{
+		return V3.normalize(a);
+	}
+	
+	@Benchmark
+	public float[] cross()
+	{
+		return V3.cross(a, b);
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.Test;
+
+import com.nullpointerworks.math.geometry.g2d.Circle;
+import com.nullpointerworks.math.geometry.g2d.Geometry2D;
+import com.nullpointerworks.math.geometry.g2d.Point;
+import com.nullpointerworks.math.geometry.g2d.Rectangle;
+import com.nullpointerworks.math.geometry.g2d.Triangle;
+
+/**
+ * Checks that {@code Geometry2.intersect} does not allocate for any pair of the four base primitives.
+ */
+class Geometry2AllocationTest
+{
+	private static final int WARMUP = 20_000;
+	private static final int ROUNDS = 1_000;
+	
+	/*
+	 * every primitive type twice, once overlapping the others and once far away, so both the solvers and the bounding box rejection run
+	 */
+	private static Geometry2D[] primitives()
+	{
+		return new Geometry2D[]
+		{
+			new Point(0.5f, 0.5f),
+			new Circle(0.5f, 0.5f, 1f),
+			new Triangle(new float[] {-1f,-1f}, new float[] {2f,-1f}, new float[] {0.5f,2f}),
+			new Rectangle(-0.5f, -0.5f, 2f, 2f),
+			new Point(50f, 50f),
+			new Circle(-50f, 50f, 1f),
+			new Triangle(new float[] {50f,-50f}, new float[] {51f,-50f}, new float[] {50f,-49f}),
+			new Rectangle(-50f, -50f, 1f, 1f)
+		};
+	}
+	
+	/*
+	 * tests every ordered pair, which covers all 16 primitive type pairs
+	 */
+	private static int intersectAll(Geometry2D[] g)
+	{
+		int hits = 0;
+		for (int i=0; i<g.length; i++)
+		{
+			for (int j=0; j<g.length; j++)
+			{
+				if (Geometry2.intersect(g[i], g[j])) hits++;
+			}
+		}
+		return hits;
+	}
+	
+	@Test
+	void intersectDoesNotAllocate()
+	{
+		assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(mx.isThreadAllocatedMemorySupported());
+		mx.setThreadAllocatedMemoryEnabled(true);
+		long id = Thread.currentThread().getId();
+		
+		Geometry2D[] g = primitives();
+		int hits = 0;
+		for (int i=0; i<WARMUP; i++) hits += intersectAll(g);
+		
+		// the cost of reading the counter itself
+		long t0 = mx.getThreadAllocatedBytes(id);
+		long t1 = mx.getThreadAllocatedBytes(id);
+		long overhead = t1 - t0;
+		
+		long before = mx.getThreadAllocatedBytes(id);
+		for (int i=0; i<ROUNDS; i++) hits += intersectAll(g);
+		long after = mx.getThreadAllocatedBytes(id);
+		
+		assertEquals(0L, after - before - overhead, "bytes allocated by "+(ROUNDS*g.length*g.length)+" intersections");
+		assertEquals((WARMUP+ROUNDS) * intersectAll(g), hits);
+	}
+}
@@ -9,8 +9,9 @@ package com.nullpointerworks.math;
  * Provides static methods that perform mathematical operations related to complex numbers. All operations provide a new {@code float[2]} object and do not modify the content of the input. Complex numbers are represented in the format described below.
 <pre>z = R + Ri
 float[2] {real, imaginary}</pre>
- * 
+ * The bulk operations work on interleaved arrays of complex numbers, {@code {r0,i0, r1,i1, ...}}, and write into a given destination array instead of creating new ones.
  * @since 1.0.0
+ * @see FFT
  */
 public class Complex 
 {
@@ -331,6 +332,98 @@ public class Complex
 		return new float[] {z[0],z[1]};
 	}
 	
+	// ======================================================
+	// interleaved arrays
+	// ======================================================
+	
+	/**
+	 * Multiplies two arrays of complex numbers element by element. The arrays are interleaved, {@code {r0,i0, r1,i1, ...}}. The destination may be the same array as one of the inputs.
+	 * @param a - the first array of complex numbers
+	 * @param b - the second array of complex numbers
+	 * @param res - the destination array
+	 * @param n - the amount of complex numbers to process
+	 * @since 1.1.0
+	 */
+	public static void mul(float[] a, float[] b, float[] res, int n)
+	{
+		for (int k=0,l=n<<1; k<l; k+=2)
+		{
+			float ar = a[k], ai = a[k+1];
+			float br = b[k], bi = b[k+1];
+			res[k]   = ar * br - ai * bi;
+			res[k+1] = ar * bi + ai * br;
+		}
+	}
+	
+	/**
+	 * Divides two arrays of complex numbers element by element. The arrays are interleaved, {@code {r0,i0, r1,i1, ...}}. Gives the same result as {@code div(float[], float[])} for every element. The destination may be the same array as one of the inputs.
+	 * @param a - the numerators
+	 * @param b - the denominators
+	 * @param res - the destination array
+	 * @param n - the amount of complex numbers to process
+	 * @since 1.1.0
+	 */
+	public static void div(float[] a, float[] b, float[] res, int n)
+	{
+		for (int k=0,l=n<<1; k<l; k+=2)
+		{
+			float ar = a[k], ai = a[k+1];
+			float br = b[k], bi = b[k+1];
+			float d = br * br + bi * bi;
+			res[k]   = (ar * br + ai * bi) / d;
+			res[k+1] = (ai * br - ar * bi) / d;
+		}
+	}
+	
+	/**
+	 * Writes the conjugate of every complex number in the interleaved array {@code z} into {@code res}. The destination may be the same array as the input.
+	 * @param z - the array of complex numbers
+	 * @param res - the destination array
+	 * @param n - the amount of complex numbers to process
+	 * @since 1.1.0
+	 */
+	public static void conjugate(float[] z, float[] res, int n)
+	{
+		for (int k=0,l=n<<1; k<l; k+=2)
+		{
+			res[k]   =  z[k];
+			res[k+1] = -z[k+1];
+		}
+	}
+	
+	/**
+	 * Writes the modulus of every complex number in the interleaved array {@code z} into {@code res}. The destination holds one value per complex number.
+	 * @param z - the array of complex numbers
+	 * @param res - the destination array of {@code n} moduli
+	 * @param n - the amount of complex numbers to process
+	 * @since 1.1.0
+	 */
+	public static void magnitude(float[] z, float[] res, int n)
+	{
+		for (int j=0,k=0; j<n; j++,k+=2)
+		{
+			float r = z[k], i = z[k+1];
+			res[j] = (float) Math.sqrt( r*r + i*i );
+		}
+	}
+	
+	/**
+	 * Writes a complex number with radius {@code 1.0} for every angle in {@code x} into the interleaved array {@code res}. Uses the same approximation as {@code cis(float)}.
+	 * @param x - the array of {@code n} angles in radians
+	 * @param res - the destination array of complex numbers
+	 * @param n - the amount of angles to process
+	 * @since 1.1.0
+	 */
+	public static void cis(float[] x, float[] res, int n)
+	{
+		for (int j=0,k=0; j<n; j++,k+=2)
+		{
+			float a = x[j];
+			res[k]   = (float)Approximate.cos( a );
+			res[k+1] = (float)Approximate.sin( a );
+		}
+	}
+	
 	/**
 	 * Print the content of a complex number.
 	 * @param z - the complex number to print
@@ -0,0 +1,317 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math;
+
+/**
+ * A fast Fourier transform of a fixed size over interleaved arrays of complex numbers, {@code {r0,i0, r1,i1, ...}}. The transform is computed in place. All twiddle factors and permutations are computed when the object is created, so transforming a signal does not allocate any memory.<br>
+ * <br>
+ * Sizes that are a power of two use an iterative radix-4 transform, with a single radix-2 pass when needed. Any other size is computed with Bluestein's algorithm, which expresses the transform as a convolution of a power of two size. An object for a power of two size can be shared between threads, other sizes use an internal work buffer and should be used by one thread at a time.
+ * <pre>
+ * forward: X[k] = sum x[j] * e^(-2 pi i jk/n)
+ * inverse: x[j] = 1/n * sum X[k] * e^(2 pi i jk/n)</pre>
+ * @since 1.1.0
+ * @see Complex
+ */
+public class FFT
+{
+	private final int n;
+	
+	/*
+	 * power of two sizes
+	 */
+	private final float[] twiddle;
+	private final int[] swap;
+	
+	/*
+	 * other sizes
+	 */
+	private final FFT conv;
+	private final float[] chirp;
+	private final float[] kernel;
+	private final float[] work;
+	
+	/**
+	 * Create a Fourier transform for signals of {@code n} complex numbers.
+	 * @param n - the amount of complex numbers in a signal, at least {@code 1}
+	 * @since 1.1.0
+	 */
+	public FFT(int n)
+	{
+		this.n = n;
+		if (isPowerOfTwo(n))
+		{
+			twiddle = twiddles(n);
+			swap = permutation(n);
+			conv = null;
+			chirp = null;
+			kernel = null;
+			work = null;
+			return;
+		}
+		
+		twiddle = null;
+		swap = null;
+		
+		int m = 1;
+		while (m < 2*n-1) m <<= 1;
+		conv = new FFT(m);
+		chirp = new float[2*n];
+		kernel = new float[2*m];
+		work = new float[2*m];
+		
+		// w[k] = e^(-pi i k^2/n), k^2 is reduced modulo 2n to keep the angle accurate
+		for (int k=0; k<n; k++)
+		{
+			long kk = ((long)k*k) % (2L*n);
+			double a = Math.PI * kk / n;
+			chirp[2*k]   = (float) StrictMath.cos(a);
+			chirp[2*k+1] = (float)-StrictMath.sin(a);
+		}
+		
+		// the conjugate chirp, mirrored around zero
+		for (int k=0; k<n; k++)
+		{
+			float r = chirp[2*k];
+			float i = -chirp[2*k+1];
+			kernel[2*k]   = r;
+			kernel[2*k+1] = i;
+			if (k > 0)
+			{
+				kernel[2*(m-k)]   = r;
+				kernel[2*(m-k)+1] = i;
+			}
+		}
+		conv.forward(kernel);
+	}
+	
+	/**
+	 * Returns the amount of complex numbers this transform works on.
+	 * @return the size of the transform
+	 * @since 1.1.0
+	 */
+	public int size()
+	{
+		return n;
+	}
+	
+	/**
+	 * Computes the forward transform of the interleaved signal {@code z} in place.
+	 * @param z - an interleaved array of at least {@code 2*size()} values
+	 * @since 1.1.0
+	 */
+	public void forward(float[] z)
+	{
+		forward(z, 0);
+	}
+	
+	/**
+	 * Computes the forward transform of the interleaved signal in {@code z}, starting at the given array index, in place.
+	 * @param z - an interleaved array of complex numbers
+	 * @param offset - the array index of the first real component
+	 * @since 1.1.0
+	 */
+	public void forward(float[] z, int offset)
+	{
+		if (conv == null) transform(z, offset, 1f);
+		else bluestein(z, offset);
+	}
+	
+	/**
+	 * Computes the inverse transform of the interleaved spectrum {@code z} in place. The result is scaled by {@code 1/n}, so that {@code inverse(forward(z))} gives back {@code z}.
+	 * @param z - an interleaved array of at least {@code 2*size()} values
+	 * @since 1.1.0
+	 */
+	public void inverse(float[] z)
+	{
+		inverse(z, 0);
+	}
+	
+	/**
+	 * Computes the inverse transform of the interleaved spectrum in {@code z}, starting at the given array index, in place. The result is scaled by {@code 1/n}.
+	 * @param z - an interleaved array of complex numbers
+	 * @param offset - the array index of the first real component
+	 * @since 1.1.0
+	 */
+	public void inverse(float[] z, int offset)
+	{
+		float s = 1f / n;
+		int l = offset + 2*n;
+		if (conv == null)
+		{
+			transform(z, offset, -1f);
+			for (int k=offset; k<l; k++) z[k] *= s;
+			return;
+		}
+		
+		// inverse(z) = conj( forward( conj(z) ) ) / n
+		for (int k=offset+1; k<l; k+=2) z[k] = -z[k];
+		bluestein(z, offset);
+		for (int k=offset; k<l; k+=2)
+		{
+			z[k]   *=  s;
+			z[k+1] *= -s;
+		}
+	}
+	
+	/*
+	 * iterative decimation in time. two radix-2 stages are combined into a single radix-4 pass,
+	 * with an extra radix-2 pass first when the amount of stages is odd.
+	 * sign 1 is the forward transform, -1 uses the conjugate twiddles
+	 */
+	private void transform(float[] z, int o, float sign)
+	{
+		int[] sw = swap;
+		for (int k=0,l=sw.length; k<l; k+=2)
+		{
+			int a = o + sw[k];
+			int b = o + sw[k+1];
+			float r = z[a], i = z[a+1];
+			z[a] = z[b]; z[a+1] = z[b+1];
+			z[b] = r;    z[b+1] = i;
+		}
+		
+		int l = o + 2*n;
+		int len = 1;
+		
+		// odd amount of stages, all twiddles of the first one are 1
+		if ((Integer.numberOfTrailingZeros(n) & 1) == 1)
+		{
+			for (int a=o; a<l; a+=4)
+			{
+				float ar = z[a],   ai = z[a+1];
+				float br = z[a+2], bi = z[a+3];
+				z[a]   = ar + br; z[a+1] = ai + bi;
+				z[a+2] = ar - br; z[a+3] = ai - bi;
+			}
+			len = 2;
+		}
+		
+		// combine four transforms of len into one of 4*len
+		float[] w = twiddle;
+		for (; len<n; len<<=2)
+		{
+			int q = 2*len;				// a quarter block in floats
+			int step = 2*(n/(4*len));	// twiddle stride in floats
+			for (int start=o; start<l; start+=4*q)
+			{
+				for (int j=0,t=0; j<q; j+=2,t+=step)
+				{
+					// twiddles of the first stage are the squares of the second
+					float w2r = w[t], w2i = sign*w[t+1];
+					float w1r = w[2*t], w1i = sign*w[2*t+1];
+					
+					int a0 = start + j;
+					int a1 = a0 + q;
+					int a2 = a1 + q;
+					int a3 = a2 + q;
+					
+					float x0r = z[a0], x0i = z[a0+1];
+					float x1r = z[a1], x1i = z[a1+1];
+					float x2r = z[a2], x2i = z[a2+1];
+					float x3r = z[a3], x3i = z[a3+1];
+					
+					// first stage, pairs (0,1) and (2,3)
+					float tr = x1r*w1r - x1i*w1i;
+					float ti = x1r*w1i + x1i*w1r;
+					float y0r = x0r + tr, y0i = x0i + ti;
+					float y1r = x0r - tr, y1i = x0i - ti;
+					
+					tr = x3r*w1r - x3i*w1i;
+					ti = x3r*w1i + x3i*w1r;
+					float y2r = x2r + tr, y2i = x2i + ti;
+					float y3r = x2r - tr, y3i = x2i - ti;
+					
+					// second stage, pairs (0,2) and (1,3). the twiddle of the last pair is rotated by -i
+					float ur = y2r*w2r - y2i*w2i;
+					float ui = y2r*w2i + y2i*w2r;
+					tr = y3r*w2r - y3i*w2i;
+					ti = y3r*w2i + y3i*w2r;
+					float vr =  sign*ti;
+					float vi = -sign*tr;
+					
+					z[a0] = y0r + ur; z[a0+1] = y0i + ui;
+					z[a2] = y0r - ur; z[a2+1] = y0i - ui;
+					z[a1] = y1r + vr; z[a1+1] = y1i + vi;
+					z[a3] = y1r - vr; z[a3+1] = y1i - vi;
+				}
+			}
+		}
+	}
+	
+	/*
+	 * X[k] = w[k] * sum (x[j] * w[j]) * conj(w[k-j])
+	 */
+	private void bluestein(float[] z, int o)
+	{
+		float[] a = work;
+		int m2 = a.length;
+		
+		for (int k=0,j=o,l=2*n; k<l; k+=2,j+=2)
+		{
+			float xr = z[j], xi = z[j+1];
+			float wr = chirp[k], wi = chirp[k+1];
+			a[k]   = xr*wr - xi*wi;
+			a[k+1] = xr*wi + xi*wr;
+		}
+		for (int k=2*n; k<m2; k++) a[k] = 0f;
+		
+		conv.forward(a);
+		Complex.mul(a, kernel, a, m2>>1);
+		conv.inverse(a);
+		
+		for (int k=0,j=o,l=2*n; k<l; k+=2,j+=2)
+		{
+			float xr = a[k], xi = a[k+1];
+			float wr = chirp[k], wi = chirp[k+1];
+			z[j]   = xr*wr - xi*wi;
+			z[j+1] = xr*wi + xi*wr;
+		}
+	}
+	
+	/*
+	 * e^(-2 pi i k/n) for the first half of the circle
+	 */
+	private static float[] twiddles(int n)
+	{
+		float[] w = new float[Math.max(2, n)];
+		for (int k=0; k<n/2; k++)
+		{
+			double a = 2d * Math.PI * k / n;
+			w[2*k]   = (float) StrictMath.cos(a);
+			w[2*k+1] = (float)-StrictMath.sin(a);
+		}
+		return w;
+	}
+	
+	/*
+	 * pairs of float indices to swap into bit reversed order
+	 */
+	private static int[] permutation(int n)
+	{
+		int bits = Integer.numberOfTrailingZeros(n);
+		int count = 0;
+		int[] rev = new int[n];
+		for (int k=0; k<n; k++)
+		{
+			rev[k] = (bits == 0)? 0 : Integer.reverse(k) >>> (32-bits);
+			if (k < rev[k]) count++;
+		}
+		
+		int[] sw = new int[2*count];
+		for (int k=0,c=0; k<n; k++)
+		{
+			if (k >= rev[k]) continue;
+			sw[c++] = 2*k;
+			sw[c++] = 2*rev[k];
+		}
+		return sw;
+	}
+	
+	private static boolean isPowerOfTwo(int n)
+	{
+		return n > 0 && (n & (n-1)) == 0;
+	}
+}
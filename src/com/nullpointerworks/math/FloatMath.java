@@ -5,8 +5,13 @@
  */
 package com.nullpointerworks.math;
 
+import com.nullpointerworks.math.trigonometry.StrictTrigonometry;
+import com.nullpointerworks.math.trigonometry.Trigonometry;
+
 /**
- * A collection of float based mathematical operations. It contains a few useful constants, interpolation functions, trigonometry, etc.
+ * A collection of float based mathematical operations. It contains a few useful constants, interpolation functions, trigonometry, etc.<br>
+ * <br>
+ * The trigonometric functions are computed by the installed {@code Trigonometry} provider. By default this is {@code StrictTrigonometry}, but a faster provider can be installed with {@code setTrigonometry(Trigonometry)}.
  * @since 1.0.0
  */
 public class FloatMath
@@ -41,6 +46,25 @@ public class FloatMath
 	 */
 	public static final float TAU 			= (6.283185307f);
 	
+	private static Trigonometry trigonometry = StrictTrigonometry.instance;
+	
+	/**
+	 * Returns the currently installed trigonometry provider.
+	 * @return the currently installed trigonometry provider
+	 * @since 1.1.0
+	 */
+	public static final Trigonometry getTrigonometry() {return trigonometry;}
+	
+	/**
+	 * Set the trigonometry provider to be used by the trigonometric functions of this class. Passing {@code null} installs {@code StrictTrigonometry}.
+	 * @param t - an instance of {@code Trigonometry}
+	 * @since 1.1.0
+	 */
+	public static final void setTrigonometry(Trigonometry t) 
+	{
+		trigonometry = (t==null)? StrictTrigonometry.instance: t;
+	}
+	
 	/**
 	 * Returns the length of the hypotenuse of a right angled triangle with the sides {@code a} and {@code b}.
 	 * <pre>c = sqrt(a^2 + b^2)</pre>
@@ -322,11 +346,11 @@ public class FloatMath
      * result is NaN.</ul>
      * @param theta - an angle, in radians.
      * @return the cosine of the argument.
-     * @see StrictMath
+     * @see Trigonometry
      */
 	public static float cos(float theta)
 	{
-		return (float) StrictMath.cos(theta);
+		return trigonometry.cos(theta);
 	}
 	
 	/**
@@ -336,11 +360,11 @@ public class FloatMath
      * than 1, then the result is NaN.</ul>
      * @param theta - the value whose arc cosine is to be returned.
      * @return the arc cosine of the argument.
-     * @see StrictMath
+     * @see Trigonometry
      */
 	public static float acos(float theta)
 	{
-		return (float) StrictMath.acos(theta);
+		return trigonometry.acos(theta);
 	}
 	
 	/**
@@ -351,11 +375,11 @@ public class FloatMath
      * same sign as the argument.</ul>
      * @param theta - an angle, in radians.
      * @return the sine of the argument.
-     * @see StrictMath
+     * @see Trigonometry
      */
 	public static float sin(float theta)
 	{
-		return (float) StrictMath.sin(theta);
+		return trigonometry.sin(theta);
 	}
 	
 	/**
@@ -367,11 +391,11 @@ public class FloatMath
      * same sign as the argument.</ul>
      * @param theta - the value whose arc sine is to be returned.
      * @return the arc sine of the argument.
-     * @see StrictMath
+     * @see Trigonometry
      */
 	public static float asin(float theta)
 	{
-		return (float) StrictMath.asin(theta);
+		return trigonometry.asin(theta);
 	}
 
 	/**
@@ -382,11 +406,11 @@ public class FloatMath
      * same sign as the argument.</ul>
      * @param delta - an angle, in radians.
      * @return the tangent of the argument.
-     * @see StrictMath
+     * @see Trigonometry
      */
 	public static float tan(float delta)
 	{
-		return (float) StrictMath.tan(delta);
+		return trigonometry.tan(delta);
 	}
 	
 	/**
@@ -397,10 +421,82 @@ public class FloatMath
      * same sign as the argument.</ul>
      * @param delta - the value whose arc tangent is to be returned.
      * @return the arc tangent of the argument.
-     * @see StrictMath
+     * @see Trigonometry
      */
 	public static float atan(float delta)
 	{
-		return (float) StrictMath.atan(delta);
+		return trigonometry.atan(delta);
+	}
+	
+	/**
+	 * Writes the sine of every angle in {@code x} into the same index of {@code res}, using the installed trigonometry provider. The destination has to be at least as long as the input, and may be the input itself.
+	 * @param x - an array of angles, in radians
+	 * @param res - the destination array
+	 * @since 1.1.0
+	 * @see Trigonometry
+	 */
+	public static void sin(float[] x, float[] res)
+	{
+		trigonometry.sin(x, res);
+	}
+	
+	/**
+	 * Writes the cosine of every angle in {@code x} into the same index of {@code res}, using the installed trigonometry provider. The destination has to be at least as long as the input, and may be the input itself.
+	 * @param x - an array of angles, in radians
+	 * @param res - the destination array
+	 * @since 1.1.0
+	 * @see Trigonometry
+	 */
+	public static void cos(float[] x, float[] res)
+	{
+		trigonometry.cos(x, res);
+	}
+	
+	/**
+	 * Writes the tangent of every angle in {@code x} into the same index of {@code res}, using the installed trigonometry provider. The destination has to be at least as long as the input, and may be the input itself.
+	 * @param x - an array of angles, in radians
+	 * @param res - the destination array
+	 * @since 1.1.0
+	 * @see Trigonometry
+	 */
+	public static void tan(float[] x, float[] res)
+	{
+		trigonometry.tan(x, res);
+	}
+	
+	/**
+	 * Writes the arc sine of every value in {@code x} into the same index of {@code res}, using the installed trigonometry provider. The destination has to be at least as long as the input, and may be the input itself.
+	 * @param x - an array of values
+	 * @param res - the destination array
+	 * @since 1.1.0
+	 * @see Trigonometry
+	 */
+	public static void asin(float[] x, float[] res)
+	{
+		trigonometry.asin(x, res);
+	}
+	
+	/**
+	 * Writes the arc cosine of every value in {@code x} into the same index of {@code res}, using the installed trigonometry provider. The destination has to be at least as long as the input, and may be the input itself.
+	 * @param x - an array of values
+	 * @param res - the destination array
+	 * @since 1.1.0
+	 * @see Trigonometry
+	 */
+	public static void acos(float[] x, float[] res)
+	{
+		trigonometry.acos(x, res);
+	}
+	
+	/**
+	 * Writes the arc tangent of every value in {@code x} into the same index of {@code res}, using the installed trigonometry provider. The destination has to be at least as long as the input, and may be the input itself.
+	 * @param x - an array of values
+	 * @param res - the destination array
+	 * @since 1.1.0
+	 * @see Trigonometry
+	 */
+	public static void atan(float[] x, float[] res)
+	{
+		trigonometry.atan(x, res);
 	}
 }
@@ -0,0 +1,401 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.nullpointerworks.math.geometry.g2d.Geometry2D;
+import com.nullpointerworks.math.random.Halton;
+import com.nullpointerworks.math.random.QuasiRandomizer;
+import com.nullpointerworks.math.random.R2;
+import com.nullpointerworks.math.random.RandomStreams;
+import com.nullpointerworks.math.random.Sobol;
+import com.nullpointerworks.math.random.SplittableRandomizer;
+import com.nullpointerworks.math.random.Xoshiro256StarStar;
+
+/**
+ * A Monte Carlo integrator for functions over an interval and for the area of 2D geometries.
+ * <pre>
+ * MonteCarlo mc = new MonteCarlo();
+ * mc.setSampling(MonteCarlo.Sampling.HALTON);
+ * mc.setTargetError(1e-4);
+ * MonteCarlo.Estimate e = mc.area(region, ForkJoinPool.commonPool());
+ * float area = e.value();</pre>
+ * The samples are split over a fixed amount of independent replicates. Every replicate draws from its own random stream, and computes its own estimate of the integral. Quasi-random replicates use a low-discrepancy sequence that is shifted by a seed from that stream. The result is the mean of those estimates. The standard error is taken from how much the estimates differ, which is valid for stratified and quasi-random points alike.<br>
+ * <br>
+ * The integrator works in rounds that double the amount of samples. After every round the error is compared to the target error, and the integration stops early once it is reached or when the sample budget runs out. The replicates of a round are independent, so large rounds are computed on a fork/join pool. Every replicate only depends on the seed and its index, so the result does not depend on the amount of threads.<br>
+ * <br>
+ * The settings of an integrator should not be changed while it is integrating. Integrating itself does not change the integrator, so one integrator can be used by multiple threads.
+ * @since 1.1.0
+ */
+public class MonteCarlo
+{
+	/**
+	 * The ways to place the samples of a replicate.
+	 * @since 1.1.0
+	 */
+	public enum Sampling
+	{
+		/**
+		 * Divides the domain into equal cells and places one uniform random sample in every cell of a round.
+		 */
+		STRATIFIED,
+
+		/**
+		 * Places samples on the Halton sequence in bases 2 and 3, shifted by a random offset per replicate.
+		 */
+		HALTON,
+
+		/**
+		 * Places samples on the Sobol sequence, with a random digital shift per replicate. Rounds are powers of two, which suits the sequence best.
+		 */
+		SOBOL,
+
+		/**
+		 * Places samples on the R2 sequence, with a random start per replicate.
+		 */
+		R2
+	}
+
+	/**
+	 * The result of an integration.
+	 * @since 1.1.0
+	 */
+	public static final class Estimate
+	{
+		private final double value;
+		private final double error;
+		private final long samples;
+		private final boolean converged;
+
+		Estimate(double value, double error, long samples, boolean converged)
+		{
+			this.value = value;
+			this.error = error;
+			this.samples = samples;
+			this.converged = converged;
+		}
+
+		/**
+		 * Returns the estimated value of the integral.
+		 * @return the estimated value of the integral
+		 * @since 1.1.0
+		 */
+		public float value()
+		{
+			return (float)value;
+		}
+
+		/**
+		 * Returns the standard error of the estimate. With stratified sampling the true value is within two standard errors of the estimate in about 95 percent of the integrations. Quasi-random replicates are less normally distributed, so their error is a rougher guide.
+		 * @return the standard error of the estimate
+		 * @since 1.1.0
+		 */
+		public float error()
+		{
+			return (float)error;
+		}
+
+		/**
+		 * Returns the amount of samples that were used.
+		 * @return the amount of samples that were used
+		 * @since 1.1.0
+		 */
+		public long samples()
+		{
+			return samples;
+		}
+
+		/**
+		 * Returns {@code true} if the target error was reached before the sample budget ran out.
+		 * @return {@code true} if the target error was reached
+		 * @since 1.1.0
+		 */
+		public boolean isConverged()
+		{
+			return converged;
+		}
+
+		@Override
+		public String toString()
+		{
+			return value+" +/- "+error+" ("+samples+" samples)";
+		}
+	}
+
+	/*
+	 * the amount of samples of a replicate in the first round
+	 */
+	private static final int FIRST_ROUND = 256;
+
+	private Sampling sampling = Sampling.STRATIFIED;
+	private long seed = 0x5DEECE66DL;
+	private int replicates = 16;
+	private long maxSamples = 1L << 22;
+	private double targetError = 0.0;
+
+	/**
+	 * Create an integrator with stratified sampling, 16 replicates, a budget of 2^22 samples and no target error.
+	 * @since 1.1.0
+	 */
+	public MonteCarlo() {}
+
+	/**
+	 * Set how the samples of a replicate are placed.
+	 * @param s - the sampling method
+	 * @since 1.1.0
+	 */
+	public void setSampling(Sampling s)
+	{
+		if (s != null) sampling = s;
+	}
+
+	/**
+	 * Set the seed of the random streams of the replicates. Integrations with the same seed and settings return the same estimate.
+	 * @param s - the seed
+	 * @since 1.1.0
+	 */
+	public void setSeed(long s)
+	{
+		seed = s;
+	}
+
+	/**
+	 * Set the amount of independent replicates, at least {@code 2}. More replicates give a more reliable error estimate and more parallel work per round. Every replicate draws at least one sample, so the sample budget is raised to the amount of replicates if it is smaller.
+	 * @param n - the amount of replicates
+	 * @since 1.1.0
+	 */
+	public void setReplicates(int n)
+	{
+		replicates = (n<2)?2:n;
+		if (maxSamples < replicates) maxSamples = replicates;
+	}
+
+	/**
+	 * Set the largest amount of samples an integration may use. Every replicate draws at least one sample, so a budget smaller than the amount of replicates is raised to the amount of replicates.
+	 * @param n - the sample budget
+	 * @since 1.1.0
+	 */
+	public void setMaxSamples(long n)
+	{
+		maxSamples = (n<replicates)?replicates:n;
+	}
+
+	/**
+	 * Set the standard error at which an integration stops early. A target of {@code 0} always uses the whole sample budget.
+	 * @param e - the target standard error
+	 * @since 1.1.0
+	 */
+	public void setTargetError(double e)
+	{
+		targetError = (e>0.0)?e:0.0;
+	}
+
+	/**
+	 * Integrates the function over the interval from {@code a} to {@code b}, on the calling thread.
+	 * @param f - the function to integrate
+	 * @param a - the start of the interval
+	 * @param b - the end of the interval
+	 * @return the estimate of the integral
+	 * @since 1.1.0
+	 */
+	public Estimate integrate(Function f, float a, float b)
+	{
+		return integrate(f, a, b, null);
+	}
+
+	/**
+	 * Integrates the function over the interval from {@code a} to {@code b}, using the given fork/join pool. Large rounds are split over the pool, small rounds and a {@code null} pool are computed on the calling thread. The function is called from multiple threads at once.
+	 * @param f - the function to integrate
+	 * @param a - the start of the interval
+	 * @param b - the end of the interval
+	 * @param pool - the pool to compute on, or {@code null}
+	 * @return the estimate of the integral
+	 * @since 1.1.0
+	 */
+	public Estimate integrate(Function f, float a, float b, ForkJoinPool pool)
+	{
+		final double x = a;
+		final double w = (double)b - a;
+		Integrand in = (u, v) -> f.calculate((float)(x + u*w));
+		return run(in, 1, w, pool);
+	}
+
+	/**
+	 * Estimates the area of the geometry, on the calling thread.
+	 * @param g - the geometry to measure
+	 * @return the estimate of the area
+	 * @since 1.1.0
+	 */
+	public Estimate area(Geometry2D g)
+	{
+		return area(g, null);
+	}
+
+	/**
+	 * Estimates the area of the geometry by sampling {@code isInside} within its bounding box, using the given fork/join pool. Large rounds are split over the pool, small rounds and a {@code null} pool are computed on the calling thread. The geometry must not change while it is being sampled.
+	 * @param g - the geometry to measure
+	 * @param pool - the pool to compute on, or {@code null}
+	 * @return the estimate of the area
+	 * @since 1.1.0
+	 */
+	public Estimate area(Geometry2D g, ForkJoinPool pool)
+	{
+		final double x = g.minX();
+		final double y = g.minY();
+		final double w = (double)g.maxX() - x;
+		final double h = (double)g.maxY() - y;
+		if (!(w > 0.0) || !(h > 0.0)) return new Estimate(0.0, 0.0, 0L, true);
+
+		Integrand in = (u, v) -> g.isInside((float)(x + u*w), (float)(y + v*h))? 1.0: 0.0;
+		return run(in, 2, w*h, pool);
+	}
+
+	// ----------------------------------------------------------------------
+
+	/**
+	 * A function on the unit square. One-dimensional integrands ignore {@code v}.
+	 */
+	interface Integrand
+	{
+		double value(double u, double v);
+	}
+
+	/*
+	 * integrates over the unit square in rounds, and scales the estimate by the volume of the domain
+	 */
+	private Estimate run(Integrand in, int dim, double volume, ForkJoinPool pool)
+	{
+		int k = replicates;
+		RandomStreams streams = new RandomStreams(new Xoshiro256StarStar(seed));
+		Replicate[] reps = new Replicate[k];
+		for (int i=0; i<k; i++) reps[i] = new Replicate(in, dim, sampling, streams.stream(i));
+
+		long total = 0L;
+		int m = FIRST_ROUND;
+		double mean = 0.0, error = 0.0;
+		while (true)
+		{
+			m = (int)Math.min(m, Math.max(1L, (maxSamples - total) / k));
+			if (dim == 2 && sampling == Sampling.STRATIFIED)
+			{
+				int s = (int)Math.sqrt(m);
+				m = s*s;
+			}
+
+			MonteCarloTask task = new MonteCarloTask(reps, m, 0, k);
+			if (pool != null && MonteCarloTask.isParallel(k, m))
+			{
+				pool.invoke(task);
+			}
+			else
+			{
+				task.replicates();
+			}
+			total += (long)k*m;
+
+			// the mean and standard error of the replicate estimates
+			double sum = 0.0;
+			for (Replicate r : reps) sum += r.mean();
+			mean = sum / k;
+			double var = 0.0;
+			for (Replicate r : reps)
+			{
+				double d = r.mean() - mean;
+				var += d*d;
+			}
+			error = Math.sqrt(var / ((double)k*(k-1)));
+
+			if (targetError > 0.0 && error*Math.abs(volume) <= targetError && total > (long)k*FIRST_ROUND)
+			{
+				return new Estimate(mean*volume, error*Math.abs(volume), total, true);
+			}
+			if (total + k > maxSamples) break;
+			m = (m < (1<<29))? m*2: m;
+		}
+		return new Estimate(mean*volume, error*Math.abs(volume), total, false);
+	}
+
+	/**
+	 * An independent replicate of the integration, with its own random stream and its own running sum.
+	 */
+	static final class Replicate
+	{
+		/*
+		 * the amount of quasi-random points generated at once
+		 */
+		private static final int CHUNK = 1024;
+
+		private final Integrand in;
+		private final int dim;
+		private final SplittableRandomizer rng;
+		private final QuasiRandomizer q;
+		private final double[] buf;
+		private double sum = 0.0;
+		private long count = 0L;
+
+		Replicate(Integrand in, int dim, Sampling sampling, SplittableRandomizer rng)
+		{
+			this.in = in;
+			this.dim = dim;
+			this.rng = rng;
+			switch (sampling)
+			{
+			case HALTON: q = new Halton(dim, rng._long()); break;
+			case SOBOL: q = new Sobol(dim, rng._long()); break;
+			case R2: q = new R2(dim, rng._long()); break;
+			default: q = null;
+			}
+			this.buf = (q == null)? null: new double[dim*CHUNK];
+		}
+
+		double mean()
+		{
+			return (count == 0L)? 0.0: sum / count;
+		}
+
+		/*
+		 * draws the given amount of samples
+		 */
+		void round(int m)
+		{
+			double s = 0.0;
+			if (q != null)
+			{
+				for (int done=0; done<m; )
+				{
+					int n = Math.min(CHUNK, m-done);
+					q.points(buf, 0, n);
+					if (dim == 1) for (int i=0; i<n; i++) s += in.value(buf[i], 0.0);
+					else for (int i=0; i<n; i++) s += in.value(buf[2*i], buf[2*i+1]);
+					done += n;
+				}
+			}
+			else if (dim == 1)
+			{
+				double d = 1.0 / m;
+				for (int i=0; i<m; i++)
+				{
+					s += in.value((i + rng._double()) * d, 0.0);
+				}
+			}
+			else
+			{
+				int side = (int)Math.sqrt(m);
+				double d = 1.0 / side;
+				for (int j=0; j<side; j++)
+				{
+					for (int i=0; i<side; i++)
+					{
+						s += in.value((i + rng._double()) * d, (j + rng._double()) * d);
+					}
+				}
+			}
+			sum += s;
+			count += m;
+		}
+	}
+}
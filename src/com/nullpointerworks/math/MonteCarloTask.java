@@ -0,0 +1,64 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A fork/join task that runs one round of a range of Monte Carlo replicates. The range is halved until it holds a single replicate. Every replicate has its own random stream and running sum, so tasks never share data that is written.
+ * @since 1.1.0
+ */
+final class MonteCarloTask extends RecursiveAction
+{
+	private static final long serialVersionUID = -1729531707842297611L;
+
+	/*
+	 * the amount of samples in a round below which it is run on the calling thread
+	 */
+	static final long THRESHOLD = 16L*1024L;
+
+	private final MonteCarlo.Replicate[] reps;
+	private final int samples;
+	private final int from, to;
+
+	MonteCarloTask(MonteCarlo.Replicate[] reps, int samples, int from, int to)
+	{
+		this.reps = reps;
+		this.samples = samples;
+		this.from = from;
+		this.to = to;
+	}
+
+	/**
+	 * Returns {@code true} if a round of the given size is large enough to be worth splitting over multiple threads.
+	 */
+	static boolean isParallel(int replicates, int samples)
+	{
+		return (long)replicates * samples >= THRESHOLD;
+	}
+
+	@Override
+	protected void compute()
+	{
+		if (to-from <= 1)
+		{
+			replicates();
+			return;
+		}
+
+		int mid = from + (to-from)/2;
+		invokeAll(new MonteCarloTask(reps, samples, from, mid),
+				  new MonteCarloTask(reps, samples, mid, to));
+	}
+
+	/*
+	 * run the range on the calling thread
+	 */
+	void replicates()
+	{
+		for (int i=from; i<to; i++) reps[i].round(samples);
+	}
+}
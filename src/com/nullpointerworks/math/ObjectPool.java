@@ -0,0 +1,100 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * A pool of reusable objects with a separate store for every thread, so objects can be taken and returned without any synchronization. An object taken from the pool keeps whatever content it had when it was returned, and should be set before use.<br>
+ * <br>
+ * Objects are best returned in the reverse order they were taken, on the thread that took them. An object returned on another thread ends up in that thread's store. When a store is full, returned objects are left to the garbage collector.
+ * <pre>
+ * Vec3f v = Vec3f.pool.acquire().set(x, y, z);
+ * ...
+ * Vec3f.pool.release(v);</pre>
+ * @param <T> the type of the pooled objects
+ * @since 1.1.0
+ */
+public final class ObjectPool<T>
+{
+	/*
+	 * the objects of a single thread
+	 */
+	private static final class Store
+	{
+		Object[] items = new Object[16];
+		int size = 0;
+	}
+	
+	private final Supplier<T> factory;
+	private final int capacity;
+	private final ThreadLocal<Store> stores = ThreadLocal.withInitial(Store::new);
+	
+	/**
+	 * Create a pool that keeps up to {@code 256} objects per thread.
+	 * @param factory - creates a new object when the store of a thread is empty
+	 * @since 1.1.0
+	 */
+	public ObjectPool(Supplier<T> factory)
+	{
+		this(factory, 256);
+	}
+	
+	/**
+	 * Create a pool that keeps up to the given amount of objects per thread.
+	 * @param factory - creates a new object when the store of a thread is empty
+	 * @param capacity - the maximum amount of objects kept per thread
+	 * @since 1.1.0
+	 */
+	public ObjectPool(Supplier<T> factory, int capacity)
+	{
+		this.factory = factory;
+		this.capacity = capacity;
+	}
+	
+	/**
+	 * Takes an object from the store of the current thread, or creates one if the store is empty.
+	 * @return an object from the pool
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public T acquire()
+	{
+		Store s = stores.get();
+		if (s.size == 0) return factory.get();
+		T t = (T) s.items[--s.size];
+		s.items[s.size] = null;
+		return t;
+	}
+	
+	/**
+	 * Returns an object to the store of the current thread. The object should not be used after it has been released.
+	 * @param t - the object to return
+	 * @since 1.1.0
+	 */
+	public void release(T t)
+	{
+		if (t == null) return;
+		Store s = stores.get();
+		if (s.size == capacity) return;
+		if (s.size == s.items.length)
+		{
+			s.items = Arrays.copyOf(s.items, Math.min(capacity, s.size << 1));
+		}
+		s.items[s.size++] = t;
+	}
+	
+	/**
+	 * Returns the amount of objects in the store of the current thread.
+	 * @return the amount of idle objects of this thread
+	 * @since 1.1.0
+	 */
+	public int size()
+	{
+		return stores.get().size;
+	}
+}
@@ -15,6 +15,7 @@ import com.nullpointerworks.math.vector.Vector4;
  * 
  * q = r + bi + cj + dk
  * q = float[4] {real, i, j, k}</pre>
+ * The methods that take a destination array write their result into it instead of creating a new one. The bulk methods work on packed arrays, where quaternion {@code n} occupies the indices {@code 4n} to {@code 4n+3} and a vector3 occupies {@code 3n} to {@code 3n+2}.
  * @since 1.0.0
  */
 public class Quaternion 
@@ -222,6 +223,310 @@ public class Quaternion
 		return mul(r,q);
 	}
 	
+	/**
+	 * Multiplies two quaternions and stores the result in {@code res}. The destination may be the same array as one of the inputs.
+	 * @param q - the base quaternion
+	 * @param r - the multiplier quaternion
+	 * @param res - the destination quaternion
+	 * @return the destination quaternion
+	 * @since 1.1.0
+	 */
+	public static float[] mul(float[] q, float[] r, float[] res)
+	{
+		mul(q,0, r,0, res,0);
+		return res;
+	}
+	
+	/**
+	 * Normalizes a quaternion and stores the result in {@code res}. The destination may be the same array as the input.
+	 * @param q - the quaternion to normalize
+	 * @param res - the destination quaternion
+	 * @return the destination quaternion
+	 * @since 1.1.0
+	 */
+	public static float[] normalize(float[] q, float[] res)
+	{
+		normalize(q,0, res,0);
+		return res;
+	}
+	
+	/**
+	 * Convert a quaternion into a 4-by-4 matrix stored in {@code res}.
+	 * @param q - the quaternion to convert
+	 * @param res - the destination 4-by-4 matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public static float[][] matrix(float[] q, float[][] res)
+	{
+		float w=q[0], x=q[1], y=q[2], z=q[3];
+		
+		float xx2 = 2f*x*x;
+		float xy2 = 2f*x*y;
+		float xz2 = 2f*x*z;
+		float yy2 = 2f*y*y;
+		float yz2 = 2f*y*z;
+		float zz2 = 2f*z*z;
+		float wx2 = 2f*w*x;
+		float wy2 = 2f*w*y;
+		float wz2 = 2f*w*z;
+		
+		float[] r0 = res[0], r1 = res[1], r2 = res[2], r3 = res[3];
+		r0[0] = 1f - yy2 - zz2;	r0[1] = xy2 - wz2;		r0[2] = xz2 + wy2;		r0[3] = 0f;
+		r1[0] = xy2 + wz2;		r1[1] = 1f - xx2 - zz2;	r1[2] = yz2 - wx2;		r1[3] = 0f;
+		r2[0] = xz2 - wy2;		r2[1] = yz2 + wx2;		r2[2] = 1f - xx2 - yy2;	r2[3] = 0f;
+		r3[0] = 0f;				r3[1] = 0f;				r3[2] = 0f;				r3[3] = 1f;
+		return res;
+	}
+	
+	/**
+	 * Rotates a vector3 with the given unit quaternion and stores the result in {@code res}. This gives the same rotation as the matrix of the quaternion, without building the matrix. The destination may be the same array as the input vector.
+	 * @param q - the unit quaternion
+	 * @param v - the vector3 to rotate
+	 * @param res - the destination vector3
+	 * @return the destination vector3
+	 * @since 1.1.0
+	 */
+	public static float[] transform(float[] q, float[] v, float[] res)
+	{
+		transform(q,0, v,0, res,0);
+		return res;
+	}
+	
+	/**
+	 * Spherical linear interpolation between two unit quaternions. The interpolation follows the shortest arc at a constant angular velocity. A {@code t} of {@code 0} gives {@code a}, {@code 1} gives {@code b}. 
+	 * @param a - the start quaternion
+	 * @param b - the end quaternion
+	 * @param t - the interpolation factor
+	 * @return the interpolated quaternion
+	 * @since 1.1.0
+	 */
+	public static float[] slerp(float[] a, float[] b, float t)
+	{
+		return slerp(a, b, t, new float[4]);
+	}
+	
+	/**
+	 * Spherical linear interpolation between two unit quaternions, stored in {@code res}. The interpolation follows the shortest arc at a constant angular velocity. The destination may be the same array as one of the inputs.
+	 * @param a - the start quaternion
+	 * @param b - the end quaternion
+	 * @param t - the interpolation factor
+	 * @param res - the destination quaternion
+	 * @return the destination quaternion
+	 * @since 1.1.0
+	 */
+	public static float[] slerp(float[] a, float[] b, float t, float[] res)
+	{
+		slerp(a,0, b,0, t, res,0);
+		return res;
+	}
+	
+	/**
+	 * Normalized linear interpolation between two unit quaternions. The interpolation follows the shortest arc, but unlike {@code slerp} its angular velocity is not constant. It's a lot cheaper to compute, and close to {@code slerp} for quaternions that are near each other.
+	 * @param a - the start quaternion
+	 * @param b - the end quaternion
+	 * @param t - the interpolation factor
+	 * @return the interpolated quaternion
+	 * @since 1.1.0
+	 */
+	public static float[] nlerp(float[] a, float[] b, float t)
+	{
+		return nlerp(a, b, t, new float[4]);
+	}
+	
+	/**
+	 * Normalized linear interpolation between two unit quaternions, stored in {@code res}. The destination may be the same array as one of the inputs.
+	 * @param a - the start quaternion
+	 * @param b - the end quaternion
+	 * @param t - the interpolation factor
+	 * @param res - the destination quaternion
+	 * @return the destination quaternion
+	 * @since 1.1.0
+	 */
+	public static float[] nlerp(float[] a, float[] b, float t, float[] res)
+	{
+		nlerp(a,0, b,0, t, res,0);
+		return res;
+	}
+	
+	// ======================================================
+	// packed arrays
+	// ======================================================
+	
+	/**
+	 * Multiplies {@code n} pairs of quaternions from two packed arrays, {@code res[i] = q[i] * r[i]}. Composing a joint with its parent is done this way. The destination may be the same array as one of the inputs.
+	 * @param q - the packed base quaternions
+	 * @param r - the packed multiplier quaternions
+	 * @param res - the packed destination quaternions
+	 * @param n - the amount of quaternions to process
+	 * @since 1.1.0
+	 */
+	public static void mul(float[] q, float[] r, float[] res, int n)
+	{
+		for (int i=0,l=n<<2; i<l; i+=4)
+		{
+			mul(q,i, r,i, res,i);
+		}
+	}
+	
+	/**
+	 * Normalizes {@code n} quaternions from a packed array. The destination may be the same array as the input.
+	 * @param q - the packed quaternions
+	 * @param res - the packed destination quaternions
+	 * @param n - the amount of quaternions to process
+	 * @since 1.1.0
+	 */
+	public static void normalize(float[] q, float[] res, int n)
+	{
+		for (int i=0,l=n<<2; i<l; i+=4)
+		{
+			normalize(q,i, res,i);
+		}
+	}
+	
+	/**
+	 * Rotates {@code n} packed vector3s, each with its own unit quaternion, {@code res[i] = q[i] * v[i]}. The destination may be the same array as the input vectors.
+	 * @param q - the packed unit quaternions
+	 * @param v - the packed vector3s
+	 * @param res - the packed destination vector3s
+	 * @param n - the amount of vectors to process
+	 * @since 1.1.0
+	 */
+	public static void transform(float[] q, float[] v, float[] res, int n)
+	{
+		for (int i=0,j=0; i<n; i++,j+=3)
+		{
+			transform(q,i<<2, v,j, res,j);
+		}
+	}
+	
+	/**
+	 * Spherical linear interpolation between {@code n} pairs of unit quaternions from two packed arrays, all with the same factor {@code t}. The destination may be the same array as one of the inputs.
+	 * @param a - the packed start quaternions
+	 * @param b - the packed end quaternions
+	 * @param t - the interpolation factor
+	 * @param res - the packed destination quaternions
+	 * @param n - the amount of quaternions to process
+	 * @since 1.1.0
+	 */
+	public static void slerp(float[] a, float[] b, float t, float[] res, int n)
+	{
+		for (int i=0,l=n<<2; i<l; i+=4)
+		{
+			slerp(a,i, b,i, t, res,i);
+		}
+	}
+	
+	/**
+	 * Spherical linear interpolation between {@code n} pairs of unit quaternions from two packed arrays, each with its own factor from {@code t}. The destination may be the same array as one of the inputs.
+	 * @param a - the packed start quaternions
+	 * @param b - the packed end quaternions
+	 * @param t - an interpolation factor for every pair
+	 * @param res - the packed destination quaternions
+	 * @param n - the amount of quaternions to process
+	 * @since 1.1.0
+	 */
+	public static void slerp(float[] a, float[] b, float[] t, float[] res, int n)
+	{
+		for (int i=0,j=0; j<n; i+=4,j++)
+		{
+			slerp(a,i, b,i, t[j], res,i);
+		}
+	}
+	
+	/**
+	 * Normalized linear interpolation between {@code n} pairs of unit quaternions from two packed arrays, all with the same factor {@code t}. The destination may be the same array as one of the inputs.
+	 * @param a - the packed start quaternions
+	 * @param b - the packed end quaternions
+	 * @param t - the interpolation factor
+	 * @param res - the packed destination quaternions
+	 * @param n - the amount of quaternions to process
+	 * @since 1.1.0
+	 */
+	public static void nlerp(float[] a, float[] b, float t, float[] res, int n)
+	{
+		for (int i=0,l=n<<2; i<l; i+=4)
+		{
+			nlerp(a,i, b,i, t, res,i);
+		}
+	}
+	
+	/**
+	 * Normalized linear interpolation between {@code n} pairs of unit quaternions from two packed arrays, each with its own factor from {@code t}. The destination may be the same array as one of the inputs.
+	 * @param a - the packed start quaternions
+	 * @param b - the packed end quaternions
+	 * @param t - an interpolation factor for every pair
+	 * @param res - the packed destination quaternions
+	 * @param n - the amount of quaternions to process
+	 * @since 1.1.0
+	 */
+	public static void nlerp(float[] a, float[] b, float[] t, float[] res, int n)
+	{
+		for (int i=0,j=0; j<n; i+=4,j++)
+		{
+			nlerp(a,i, b,i, t[j], res,i);
+		}
+	}
+	
+	/**
+	 * Converts {@code n} packed quaternions into row-major 3-by-3 matrices. Matrix {@code i} is written to the indices {@code 9i} to {@code 9i+8} of {@code res}.
+	 * @param q - the packed quaternions
+	 * @param res - the destination for {@code 9*n} values
+	 * @param n - the amount of quaternions to process
+	 * @since 1.1.0
+	 */
+	public static void matrix3(float[] q, float[] res, int n)
+	{
+		for (int i=0,o=0,l=n<<2; i<l; i+=4,o+=9)
+		{
+			float w=q[i], x=q[i+1], y=q[i+2], z=q[i+3];
+			
+			float xx2 = 2f*x*x;
+			float xy2 = 2f*x*y;
+			float xz2 = 2f*x*z;
+			float yy2 = 2f*y*y;
+			float yz2 = 2f*y*z;
+			float zz2 = 2f*z*z;
+			float wx2 = 2f*w*x;
+			float wy2 = 2f*w*y;
+			float wz2 = 2f*w*z;
+			
+			res[o  ] = 1f - yy2 - zz2;	res[o+1] = xy2 - wz2;		res[o+2] = xz2 + wy2;
+			res[o+3] = xy2 + wz2;		res[o+4] = 1f - xx2 - zz2;	res[o+5] = yz2 - wx2;
+			res[o+6] = xz2 - wy2;		res[o+7] = yz2 + wx2;		res[o+8] = 1f - xx2 - yy2;
+		}
+	}
+	
+	/**
+	 * Converts {@code n} packed quaternions into row-major 4-by-4 matrices. Matrix {@code i} is written to the indices {@code 16i} to {@code 16i+15} of {@code res}.
+	 * @param q - the packed quaternions
+	 * @param res - the destination for {@code 16*n} values
+	 * @param n - the amount of quaternions to process
+	 * @since 1.1.0
+	 */
+	public static void matrix4(float[] q, float[] res, int n)
+	{
+		for (int i=0,o=0,l=n<<2; i<l; i+=4,o+=16)
+		{
+			float w=q[i], x=q[i+1], y=q[i+2], z=q[i+3];
+			
+			float xx2 = 2f*x*x;
+			float xy2 = 2f*x*y;
+			float xz2 = 2f*x*z;
+			float yy2 = 2f*y*y;
+			float yz2 = 2f*y*z;
+			float zz2 = 2f*z*z;
+			float wx2 = 2f*w*x;
+			float wy2 = 2f*w*y;
+			float wz2 = 2f*w*z;
+			
+			res[o   ] = 1f - yy2 - zz2;	res[o+ 1] = xy2 - wz2;		res[o+ 2] = xz2 + wy2;		res[o+ 3] = 0f;
+			res[o+ 4] = xy2 + wz2;		res[o+ 5] = 1f - xx2 - zz2;	res[o+ 6] = yz2 - wx2;		res[o+ 7] = 0f;
+			res[o+ 8] = xz2 - wy2;		res[o+ 9] = yz2 + wx2;		res[o+10] = 1f - xx2 - yy2;	res[o+11] = 0f;
+			res[o+12] = 0f;				res[o+13] = 0f;				res[o+14] = 0f;				res[o+15] = 1f;
+		}
+	}
+	
 	/**
 	 * Returns a copy of the given quaternion.
 	 * @param z - the quaternion to copy
@@ -251,4 +556,142 @@ public class Quaternion
 	{
 		return new float[] {s,v[0],v[1],v[2]};
 	}
+	
+	/*
+	 * quaternion kernels on array offsets. 
+	 * all inputs are read before the output is written, so the output may alias an input
+	 */
+	private static void mul(float[] q, int qo, float[] r, int ro, float[] res, int o)
+	{
+		float a = q[qo],b = q[qo+1],c = q[qo+2],d = q[qo+3];
+		float e = r[ro],f = r[ro+1],g = r[ro+2],h = r[ro+3];
+		
+		res[o  ] = a*e - b*f - c*g - d*h;
+		res[o+1] = a*f + b*e + c*h - d*g;
+		res[o+2] = a*g - b*h + c*e + d*f;
+		res[o+3] = a*h + b*g - c*f + d*e;
+	}
+	
+	private static void normalize(float[] q, int qo, float[] res, int o)
+	{
+		float w = q[qo], x = q[qo+1], y = q[qo+2], z = q[qo+3];
+		float invm = 1f / (float) Math.sqrt(w*w + x*x + y*y + z*z);
+		res[o  ] = w*invm;
+		res[o+1] = x*invm;
+		res[o+2] = y*invm;
+		res[o+3] = z*invm;
+	}
+	
+	/*
+	 * v' = v + w*t + u x t, where t = 2 * (u x v)
+	 */
+	private static void transform(float[] q, int qo, float[] v, int vo, float[] res, int o)
+	{
+		float w = q[qo], x = q[qo+1], y = q[qo+2], z = q[qo+3];
+		float vx = v[vo], vy = v[vo+1], vz = v[vo+2];
+		
+		float tx = 2f * (y*vz - z*vy);
+		float ty = 2f * (z*vx - x*vz);
+		float tz = 2f * (x*vy - y*vx);
+		
+		res[o  ] = vx + w*tx + (y*tz - z*ty);
+		res[o+1] = vy + w*ty + (z*tx - x*tz);
+		res[o+2] = vz + w*tz + (x*ty - y*tx);
+	}
+	
+	private static void nlerp(float[] a, int ao, float[] b, int bo, float t, float[] res, int o)
+	{
+		float aw = a[ao], ax = a[ao+1], ay = a[ao+2], az = a[ao+3];
+		float bw = b[bo], bx = b[bo+1], by = b[bo+2], bz = b[bo+3];
+		
+		// take the shortest arc
+		float d = aw*bw + ax*bx + ay*by + az*bz;
+		float s1 = (d < 0f)? -t : t;
+		float s0 = 1f - t;
+		
+		float w = s0*aw + s1*bw;
+		float x = s0*ax + s1*bx;
+		float y = s0*ay + s1*by;
+		float z = s0*az + s1*bz;
+		float invm = 1f / (float) Math.sqrt(w*w + x*x + y*y + z*z);
+		res[o  ] = w*invm;
+		res[o+1] = x*invm;
+		res[o+2] = y*invm;
+		res[o+3] = z*invm;
+	}
+	
+	private static void slerp(float[] a, int ao, float[] b, int bo, float t, float[] res, int o)
+	{
+		float aw = a[ao], ax = a[ao+1], ay = a[ao+2], az = a[ao+3];
+		float bw = b[bo], bx = b[bo+1], by = b[bo+2], bz = b[bo+3];
+		
+		// take the shortest arc
+		float d = aw*bw + ax*bx + ay*by + az*bz;
+		float sign = 1f;
+		if (d < 0f)
+		{
+			d = -d;
+			sign = -1f;
+		}
+		
+		float s0, s1;
+		if (t >= 0f && t <= 1f)
+		{
+			// sin(t*theta)/sin(theta) as a polynomial in t and cos(theta), no trigonometry needed
+			float xm1 = d - 1f;
+			float t0 = 1f - t;
+			float tt0 = t0*t0, tt1 = t*t;
+			float c0 = 1f, c1 = 1f;
+			for (int i=SLERP_TERMS-1; i>=0; i--)
+			{
+				c0 = 1f + (SLERP_U[i]*tt0 - SLERP_V[i]) * xm1 * c0;
+				c1 = 1f + (SLERP_U[i]*tt1 - SLERP_V[i]) * xm1 * c1;
+			}
+			s0 = t0*c0;
+			s1 = t*c1*sign;
+		}
+		else
+		{
+			// extrapolation, nearly parallel quaternions divide by a vanishing sine
+			if (d > SLERP_LINEAR)
+			{
+				nlerp(a,ao, b,bo, t, res,o);
+				return;
+			}
+			double sin = Math.sqrt(1d - (double)d*d);
+			double theta = Math.atan2(sin, d);
+			s0 = (float) (Math.sin((1d-t) * theta) / sin);
+			s1 = (float) (Math.sin(t * theta) / sin) * sign;
+		}
+		
+		res[o  ] = s0*aw + s1*bw;
+		res[o+1] = s0*ax + s1*bx;
+		res[o+2] = s0*ay + s1*by;
+		res[o+3] = s0*az + s1*bz;
+	}
+	
+	/*
+	 * sin(t*theta)/sin(theta) = t * (1 + b1*(1 + b2*(1 + ...))), 
+	 * b_i = (t^2 - i^2) / (i*(2i+1)) * (cos(theta) - 1)
+	 * the series is cut off after 16 terms, scaling the last term by SLERP_MU makes up for the remainder. 
+	 * the error is below 4e-8 for t in [0,1] on the shortest arc
+	 */
+	private static final int SLERP_TERMS = 16;
+	private static final float SLERP_MU = 1.9166648f;
+	private static final float[] SLERP_U = new float[SLERP_TERMS];
+	private static final float[] SLERP_V = new float[SLERP_TERMS];
+	static
+	{
+		for (int i=1; i<=SLERP_TERMS; i++)
+		{
+			float m = (i == SLERP_TERMS)? SLERP_MU : 1f;
+			SLERP_U[i-1] = (float) (m / (i*(2d*i+1d)));
+			SLERP_V[i-1] = (float) (m * i / (2d*i+1d));
+		}
+	}
+	
+	/*
+	 * the dot product above which extrapolation falls back to nlerp
+	 */
+	private static final float SLERP_LINEAR = 0.9995f;
 }
@@ -5,13 +5,27 @@
  */
 package com.nullpointerworks.math;
 
+import java.nio.FloatBuffer;
+
+import com.nullpointerworks.math.random.FastMersenneTwister;
+import com.nullpointerworks.math.random.Halton;
 import com.nullpointerworks.math.random.LinearCongruential;
 import com.nullpointerworks.math.random.MersenneTwister;
+import com.nullpointerworks.math.random.PermutedCongruential;
+import com.nullpointerworks.math.random.QuasiRandomizer;
+import com.nullpointerworks.math.random.R2;
+import com.nullpointerworks.math.random.RandomStreams;
 import com.nullpointerworks.math.random.Randomizer;
+import com.nullpointerworks.math.random.Sobol;
+import com.nullpointerworks.math.random.SplitMix64;
+import com.nullpointerworks.math.random.SplittableRandomizer;
 import com.nullpointerworks.math.random.SystemRandomizer;
+import com.nullpointerworks.math.random.Xoshiro256StarStar;
 
 /**
- * This randomizer class allow for different types of randomization algorithms to be used aside from the JVM's system randomizer. In this version of the math library there are three randomizer available: A Linear Congruent number generator, a Mersenne Twister and the regular System generator. By default, the System randomizer is installed, but can be overridden by using the {@code setRandomizer(Randomizer)} method.
+ * This randomizer class allow for different types of randomization algorithms to be used aside from the JVM's system randomizer. In this version of the math library there are four classic randomizers available, a Linear Congruent number generator, a Mersenne Twister, its SIMD-oriented fast variant and the regular System generator, and three splittable generators for parallel work: SplitMix64, Xoshiro256** and a permuted congruential generator. By default, the System randomizer is installed, but can be overridden by using the {@code setRandomizer(Randomizer)} method.<br>
+ * <br>
+ * The installed randomizer is shared by all threads and is not thread-safe. Programs that draw numbers from several threads should enter concurrent mode with {@code setConcurrent(long)}, which gives every thread its own generator.
  * @since 1.0.0
  */
 public class Random
@@ -36,6 +50,16 @@ public class Random
 		return new MersenneTwister();
 	}
 	
+	/**
+	 * Returns a new instance of a SIMD-oriented fast Mersenne twister. It produces full 53-bit doubles from 64-bit outputs.
+	 * @return a new instance of a SIMD-oriented fast Mersenne twister
+	 * @since 1.1.0
+	 */
+	public static Randomizer FastMersenneTwister()
+	{
+		return new FastMersenneTwister();
+	}
+	
 	/**
 	 * Returns a new instance of a system randomizer.
 	 * @return a new instance of a system randomizer
@@ -46,21 +70,146 @@ public class Random
 		return new SystemRandomizer();
 	}
 	
-	private static Randomizer instance = SystemRandomizer();
+	/**
+	 * Returns a new instance of a SplitMix64 generator.
+	 * @param seed - the seed
+	 * @return a new instance of a SplitMix64 generator
+	 * @since 1.1.0
+	 */
+	public static SplittableRandomizer SplitMix64(long seed)
+	{
+		return new SplitMix64(seed);
+	}
+	
+	/**
+	 * Returns a new instance of a Xoshiro256** generator.
+	 * @param seed - the seed
+	 * @return a new instance of a Xoshiro256** generator
+	 * @since 1.1.0
+	 */
+	public static SplittableRandomizer Xoshiro256(long seed)
+	{
+		return new Xoshiro256StarStar(seed);
+	}
+	
+	/**
+	 * Returns a new instance of a permuted congruential generator.
+	 * @param seed - the seed
+	 * @return a new instance of a permuted congruential generator
+	 * @since 1.1.0
+	 */
+	public static SplittableRandomizer PermutedCongruential(long seed)
+	{
+		return new PermutedCongruential(seed);
+	}
+	
+	/**
+	 * Returns a new instance of a Sobol sequence. The points of a low-discrepancy sequence fill space more evenly than random points, which makes Monte Carlo estimates converge faster.
+	 * @param dimensions - the amount of coordinates of every point
+	 * @return a new instance of a Sobol sequence
+	 * @since 1.1.0
+	 * @see QuasiRandomizer
+	 */
+	public static QuasiRandomizer Sobol(int dimensions)
+	{
+		return new Sobol(dimensions);
+	}
 	
 	/**
-	 * Returns the currently installed randomizer.
+	 * Returns a new instance of a Halton sequence.
+	 * @param dimensions - the amount of coordinates of every point
+	 * @return a new instance of a Halton sequence
+	 * @since 1.1.0
+	 * @see QuasiRandomizer
+	 */
+	public static QuasiRandomizer Halton(int dimensions)
+	{
+		return new Halton(dimensions);
+	}
+	
+	/**
+	 * Returns a new instance of an R2 sequence, or one of its relatives for other amounts of dimensions.
+	 * @param dimensions - the amount of coordinates of every point
+	 * @return a new instance of an R2 sequence
+	 * @since 1.1.0
+	 * @see QuasiRandomizer
+	 */
+	public static QuasiRandomizer R2(int dimensions)
+	{
+		return new R2(dimensions);
+	}
+	
+	/**
+	 * Returns a set of independent random streams derived from a Xoshiro256** generator with the given seed. Parallel workers should each draw from their own stream instead of sharing the installed randomizer, which is not thread-safe.
+	 * @param seed - the seed of the root generator
+	 * @return a set of independent random streams
+	 * @since 1.1.0
+	 * @see RandomStreams
+	 */
+	public static RandomStreams streams(long seed)
+	{
+		return new RandomStreams(new Xoshiro256StarStar(seed));
+	}
+	
+	private static volatile Randomizer instance = SystemRandomizer();
+	private static volatile RandomStreams concurrent = null;
+	
+	/**
+	 * Returns the currently installed randomizer. In concurrent mode this is the generator of the calling thread.
 	 * @return the currently installed randomizer
 	 * @since 1.0.0
 	 */
-	public static final Randomizer getRandomizer() {return instance;}
+	public static final Randomizer getRandomizer() {return current();}
 	
 	/**
-	 * Set the randomizer to be used when calling values from this class.
+	 * Set the randomizer to be used when calling values from this class. This leaves concurrent mode. The randomizer is shared by all threads and is not thread-safe.
 	 * @param r - an instance of {@code Randomizer}
 	 * @since 1.0.0
 	 */
-	public static final void setRandomizer(Randomizer r) {instance = r;}
+	public static final void setRandomizer(Randomizer r) 
+	{
+		instance = r;
+		concurrent = null;
+	}
+	
+	/**
+	 * Enters concurrent mode with a Xoshiro256** generator with the given seed as the root. See {@code setConcurrent(SplittableRandomizer)}.
+	 * @param seed - the seed of the root generator
+	 * @since 1.1.0
+	 */
+	public static final void setConcurrent(long seed) 
+	{
+		setConcurrent(new Xoshiro256StarStar(seed));
+	}
+	
+	/**
+	 * Enters concurrent mode. Every thread that calls this class gets its own generator, on its own stream derived from the given root generator. No thread ever shares state with another, so the methods of this class are safe to call from any amount of threads and do not contend with each other. Threads are assigned streams in the order in which they first draw a number, see {@code RandomStreams.local()}.<br>
+	 * <br>
+	 * Calling {@code setRandomizer(Randomizer)} leaves concurrent mode. Calling this method again starts over with new streams for every thread.
+	 * @param root - the generator of the first stream
+	 * @since 1.1.0
+	 * @see RandomStreams
+	 */
+	public static final void setConcurrent(SplittableRandomizer root) 
+	{
+		concurrent = new RandomStreams(root);
+	}
+	
+	/**
+	 * Returns {@code true} if this class is in concurrent mode.
+	 * @return {@code true} if this class is in concurrent mode
+	 * @since 1.1.0
+	 */
+	public static final boolean isConcurrent() {return concurrent != null;}
+	
+	/*
+	 * the randomizer of the calling thread
+	 */
+	private static Randomizer current()
+	{
+		RandomStreams s = concurrent;
+		return (s == null)? instance: s.local();
+	}
 	
 	/**
 	 * Returns a newly generated double from the {@code Randomizer}.
@@ -69,7 +218,7 @@ public class Random
 	 */
 	public static double Double() 
 	{
-		return instance._double();
+		return current()._double();
 	}
 	
 	/**
@@ -79,7 +228,7 @@ public class Random
 	 */
 	public static float Float() 
 	{
-		return instance._float();
+		return current()._float();
 	}
 	
 	/**
@@ -89,7 +238,7 @@ public class Random
 	 */
 	public static boolean Boolean() 
 	{
-		return instance._boolean();
+		return current()._boolean();
 	}
 	
 	/**
@@ -101,7 +250,7 @@ public class Random
 	 */
 	public static double Double(double low, double high) 
 	{
-		return instance._double(low, high);
+		return current()._double(low, high);
 	}
 	
 	/**
@@ -113,7 +262,7 @@ public class Random
 	 */
 	public static float Float(float low, float high) 
 	{
-		return instance._float(low, high);
+		return current()._float(low, high);
 	}
 	
 	/**
@@ -125,6 +274,50 @@ public class Random
 	 */
 	public static int Integer(int low, int high) 
 	{
-		return instance._integer(low, high);
+		return current()._integer(low, high);
+	}
+	
+	/**
+	 * Fills the given array with newly generated floats from the {@code Randomizer}.
+	 * @param res - the destination array
+	 * @since 1.1.0
+	 */
+	public static void fill(float[] res) 
+	{
+		current().fill(res);
+	}
+	
+	/**
+	 * Fills the given array with doubles within the range of the lower and upper limit.
+	 * @param res - the destination array
+	 * @param low - the lower limit
+	 * @param high - the upper limit
+	 * @since 1.1.0
+	 */
+	public static void fill(double[] res, double low, double high) 
+	{
+		current().fill(res, low, high);
+	}
+	
+	/**
+	 * Fills the given array with integers within the range of the lower and upper limit.
+	 * @param res - the destination array
+	 * @param low - the lower limit
+	 * @param high - the upper limit
+	 * @since 1.1.0
+	 */
+	public static void fill(int[] res, int low, int high) 
+	{
+		current().fill(res, low, high);
+	}
+	
+	/**
+	 * Fills the remaining elements of the given buffer with newly generated floats from the {@code Randomizer}.
+	 * @param buf - the destination buffer
+	 * @since 1.1.0
+	 */
+	public static void fill(FloatBuffer buf) 
+	{
+		current().fill(buf);
 	}
 }
@@ -53,7 +53,7 @@ public class Geometry2
 	};
 	
 	/**
-	 * Test if two base primitives are in any way intersecting. A base geometry would be any implementation of a Point, Circle, Triangle or Rectangle.
+	 * Test if two base primitives are in any way intersecting. A base geometry would be any implementation of a Point, Circle, Triangle or Rectangle. Pairs of which the bounding boxes do not overlap are rejected before the intersection solver is used.
 	 * @param A - any base primitives
 	 * @param B - any base primitives
 	 * @return {@code true} if the two geometries are intersecting
@@ -67,6 +67,9 @@ public class Geometry2
 	{
 		int a = A.type().ordinal();
 		int b = B.type().ordinal();
+		
+		// points are compared with a tolerance, which the bounding box test would ignore
+		if ((a|b) != 0 && !A.overlaps(B)) return false;
 		return solvers[a][b].solve(A, B);
 	}
 	
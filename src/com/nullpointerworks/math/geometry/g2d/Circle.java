@@ -88,4 +88,28 @@ public class Circle extends Geometry2D
 		float h = 2f*radius;
 		return new Rectangle(x,y,w,h);
 	}
+	
+	@Override
+	public float minX()
+	{
+		return x - radius;
+	}
+	
+	@Override
+	public float minY()
+	{
+		return y - radius;
+	}
+	
+	@Override
+	public float maxX()
+	{
+		return x + radius;
+	}
+	
+	@Override
+	public float maxY()
+	{
+		return y + radius;
+	}
 }
@@ -0,0 +1,218 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.geometry.g2d;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A columnar container for circles. Instead of holding a {@code Circle} object per shape, the coordinates and radii of all circles are stored in primitive arrays. This keeps the data of thousands of circles in a few contiguous blocks of memory, which allows bulk point tests to stream through them without chasing references.<br>
+ * <br>
+ * A point is considered inside the batch when it is inside any of its circles. The inside test of a single circle is the same as {@code Circle.isInside(float,float)}.
+ * @since 1.1.0
+ * @see Circle
+ */
+public class CircleBatch
+{
+	private float[] x;
+	private float[] y;
+	private float[] radius;
+	private float[] sqr;
+	private int size = 0;
+	
+	/**
+	 * Creates an empty circle batch.
+	 * @since 1.1.0
+	 */
+	public CircleBatch()
+	{
+		this(16);
+	}
+	
+	/**
+	 * Creates an empty circle batch with room for the given number of circles before it needs to grow.
+	 * @param capacity - the initial capacity
+	 * @since 1.1.0
+	 */
+	public CircleBatch(int capacity)
+	{
+		capacity = (capacity<1)?1:capacity;
+		x = new float[capacity];
+		y = new float[capacity];
+		radius = new float[capacity];
+		sqr = new float[capacity];
+	}
+	
+	/**
+	 * Adds a circle defined by it's location and radius.
+	 * @param x - location on the x axes
+	 * @param y - location on the y axes
+	 * @param r - its radius
+	 * @return the index of the circle in this batch
+	 * @since 1.1.0
+	 */
+	public int add(float x, float y, float r)
+	{
+		if (size == this.x.length) grow();
+		int i = size++;
+		this.x[i] = x;
+		this.y[i] = y;
+		radius[i] = r;
+		sqr[i] = r*r;
+		return i;
+	}
+	
+	/**
+	 * Adds a copy of the given circle.
+	 * @param c - the circle to add
+	 * @return the index of the circle in this batch
+	 * @since 1.1.0
+	 */
+	public int add(Circle c)
+	{
+		return add(c.x, c.y, c.radius);
+	}
+	
+	/**
+	 * Returns a new {@code Circle} object with the properties of the circle at the given index.
+	 * @param i - the index of the circle
+	 * @return a new {@code Circle} object
+	 * @since 1.1.0
+	 */
+	public Circle get(int i)
+	{
+		return new Circle(x[i], y[i], radius[i]);
+	}
+	
+	/**
+	 * Returns the number of circles in this batch.
+	 * @return the number of circles in this batch
+	 * @since 1.1.0
+	 */
+	public int size()
+	{
+		return size;
+	}
+	
+	/**
+	 * Removes all circles from this batch.
+	 * @since 1.1.0
+	 */
+	public void clear()
+	{
+		size = 0;
+	}
+	
+	/**
+	 * Test to see if a location is found inside of the circle at the given index.
+	 * @param i - the index of the circle
+	 * @param px - x location to test
+	 * @param py - y location to test
+	 * @return {@code true} if the location is inside the circle
+	 * @since 1.1.0
+	 */
+	public boolean isInside(int i, float px, float py)
+	{
+		float dx = x[i] - px;
+		float dy = y[i] - py;
+		return (dx*dx + dy*dy) < sqr[i];
+	}
+	
+	/**
+	 * Test to see if a location is found inside of any circle in this batch.
+	 * @param px - x location to test
+	 * @param py - y location to test
+	 * @return {@code true} if the location is inside any of the circles
+	 * @since 1.1.0
+	 */
+	public boolean isInside(float px, float py)
+	{
+		final float[] x = this.x, y = this.y, sqr = this.sqr;
+		boolean in = false;
+		for (int i=0, l=size; i<l; i++)
+		{
+			float dx = x[i] - px;
+			float dy = y[i] - py;
+			in |= (dx*dx + dy*dy) < sqr[i];
+		}
+		return in;
+	}
+	
+	/**
+	 * Tests a list of locations against all circles in this batch. For every location {@code (xs[n], ys[n])} the result {@code out[n]} is set to {@code true} if it is inside any of the circles.
+	 * @param xs - the x locations to test
+	 * @param ys - the y locations to test
+	 * @param out - the destination for the results, at least as long as {@code xs}
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public boolean[] isInside(float[] xs, float[] ys, boolean[] out)
+	{
+		for (int n=0, l=xs.length; n<l; n++)
+		{
+			out[n] = isInside(xs[n], ys[n]);
+		}
+		return out;
+	}
+	
+	/**
+	 * Tests a list of locations against all circles in this batch. For every location {@code (xs[n], ys[n])} bit {@code n} is set if it is inside any of the circles, and cleared otherwise.
+	 * @param xs - the x locations to test
+	 * @param ys - the y locations to test
+	 * @param out - the destination for the results
+	 * @return the destination set
+	 * @since 1.1.0
+	 */
+	public BitSet isInside(float[] xs, float[] ys, BitSet out)
+	{
+		for (int n=0, l=xs.length; n<l; n++)
+		{
+			out.set(n, isInside(xs[n], ys[n]));
+		}
+		return out;
+	}
+	
+	/**
+	 * Move all circles in this batch along the x and y axes.
+	 * @param x - to translate along the x axes
+	 * @param y - to translate along the y axes
+	 * @since 1.1.0
+	 */
+	public void translate(float x, float y)
+	{
+		final float[] cx = this.x, cy = this.y;
+		for (int i=0, l=size; i<l; i++)
+		{
+			cx[i] += x;
+			cy[i] += y;
+		}
+	}
+	
+	/**
+	 * Move the circle at the given index along the x and y axes.
+	 * @param i - the index of the circle
+	 * @param x - to translate along the x axes
+	 * @param y - to translate along the y axes
+	 * @since 1.1.0
+	 */
+	public void translate(int i, float x, float y)
+	{
+		this.x[i] += x;
+		this.y[i] += y;
+	}
+	
+	/*
+	 * double the capacity
+	 */
+	private void grow()
+	{
+		int c = x.length << 1;
+		x = Arrays.copyOf(x, c);
+		y = Arrays.copyOf(y, c);
+		radius = Arrays.copyOf(radius, c);
+		sqr = Arrays.copyOf(sqr, c);
+	}
+}
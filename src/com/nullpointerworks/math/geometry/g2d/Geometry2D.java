@@ -84,4 +84,58 @@ public abstract class Geometry2D extends Geometry
 	{
 		return Dimension.G2D;
 	}
+	
+	/**
+	 * Returns the smallest x coordinate of the bounding box. The default implementation reads it from {@code getBoundingBox()}. Implementations can override this method to compute it from their fields without creating a {@code Rectangle}.
+	 * @return the smallest x coordinate of the bounding box
+	 * @since 1.1.0
+	 */
+	public float minX()
+	{
+		return getBoundingBox().x;
+	}
+	
+	/**
+	 * Returns the smallest y coordinate of the bounding box. The default implementation reads it from {@code getBoundingBox()}. Implementations can override this method to compute it from their fields without creating a {@code Rectangle}.
+	 * @return the smallest y coordinate of the bounding box
+	 * @since 1.1.0
+	 */
+	public float minY()
+	{
+		return getBoundingBox().y;
+	}
+	
+	/**
+	 * Returns the largest x coordinate of the bounding box. The default implementation reads it from {@code getBoundingBox()}. Implementations can override this method to compute it from their fields without creating a {@code Rectangle}.
+	 * @return the largest x coordinate of the bounding box
+	 * @since 1.1.0
+	 */
+	public float maxX()
+	{
+		Rectangle r = getBoundingBox();
+		return r.x + r.w;
+	}
+	
+	/**
+	 * Returns the largest y coordinate of the bounding box. The default implementation reads it from {@code getBoundingBox()}. Implementations can override this method to compute it from their fields without creating a {@code Rectangle}.
+	 * @return the largest y coordinate of the bounding box
+	 * @since 1.1.0
+	 */
+	public float maxY()
+	{
+		Rectangle r = getBoundingBox();
+		return r.y + r.h;
+	}
+	
+	/**
+	 * Test if the bounding box of this geometry overlaps the bounding box of the given geometry. Bounding boxes that only touch are considered to overlap. Both boxes are computed from the current state of the geometries.
+	 * @param g - the other geometry
+	 * @return {@code true} if the bounding boxes overlap
+	 * @since 1.1.0
+	 */
+	public final boolean overlaps(Geometry2D g)
+	{
+		return minX() <= g.maxX() && g.minX() <= maxX() && 
+			   minY() <= g.maxY() && g.minY() <= maxY();
+	}
 }
@@ -80,4 +80,28 @@ public class Point extends Geometry2D
 	{
 		return new Rectangle(x,y, 0,0);
 	}
+	
+	@Override
+	public float minX()
+	{
+		return x;
+	}
+	
+	@Override
+	public float minY()
+	{
+		return y;
+	}
+	
+	@Override
+	public float maxX()
+	{
+		return x;
+	}
+	
+	@Override
+	public float maxY()
+	{
+		return y;
+	}
 }
@@ -87,6 +87,30 @@ public class Rectangle extends Geometry2D
 		return this;
 	}
 	
+	@Override
+	public float minX()
+	{
+		return x;
+	}
+	
+	@Override
+	public float minY()
+	{
+		return y;
+	}
+	
+	@Override
+	public float maxX()
+	{
+		return x + w;
+	}
+	
+	@Override
+	public float maxY()
+	{
+		return y + h;
+	}
+	
 	private void recalculate()
 	{
 		float[] v0 = V2.New(x, y);
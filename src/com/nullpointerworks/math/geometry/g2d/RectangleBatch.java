@@ -0,0 +1,219 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.geometry.g2d;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A columnar container for axes aligned rectangles. The location and size of all rectangles are stored in primitive arrays instead of a {@code Rectangle} object per shape, which also avoids the two {@code Triangle} objects every {@code Rectangle} keeps internally.<br>
+ * <br>
+ * A point is considered inside the batch when it is inside any of its rectangles. A single rectangle is tested against its bounds directly, points on the edge of the rectangle are considered inside. For rectangles with a positive width and height this gives the same result as {@code Rectangle.isInside(float,float)}.
+ * @since 1.1.0
+ * @see Rectangle
+ */
+public class RectangleBatch
+{
+	private float[] x;
+	private float[] y;
+	private float[] w;
+	private float[] h;
+	private int size = 0;
+	
+	/**
+	 * Creates an empty rectangle batch.
+	 * @since 1.1.0
+	 */
+	public RectangleBatch()
+	{
+		this(16);
+	}
+	
+	/**
+	 * Creates an empty rectangle batch with room for the given number of rectangles before it needs to grow.
+	 * @param capacity - the initial capacity
+	 * @since 1.1.0
+	 */
+	public RectangleBatch(int capacity)
+	{
+		capacity = (capacity<1)?1:capacity;
+		x = new float[capacity];
+		y = new float[capacity];
+		w = new float[capacity];
+		h = new float[capacity];
+	}
+	
+	/**
+	 * Adds a rectangle at the location {@code (x,y)} with a given width and height.
+	 * @param x - location on the x axes
+	 * @param y - location on the y axes
+	 * @param w - width of the rectangle
+	 * @param h - height of the rectangle
+	 * @return the index of the rectangle in this batch
+	 * @since 1.1.0
+	 */
+	public int add(float x, float y, float w, float h)
+	{
+		if (size == this.x.length) grow();
+		int i = size++;
+		this.x[i] = x;
+		this.y[i] = y;
+		this.w[i] = w;
+		this.h[i] = h;
+		return i;
+	}
+	
+	/**
+	 * Adds a copy of the given rectangle.
+	 * @param r - the rectangle to add
+	 * @return the index of the rectangle in this batch
+	 * @since 1.1.0
+	 */
+	public int add(Rectangle r)
+	{
+		return add(r.x, r.y, r.w, r.h);
+	}
+	
+	/**
+	 * Returns a new {@code Rectangle} object with the properties of the rectangle at the given index.
+	 * @param i - the index of the rectangle
+	 * @return a new {@code Rectangle} object
+	 * @since 1.1.0
+	 */
+	public Rectangle get(int i)
+	{
+		return new Rectangle(x[i], y[i], w[i], h[i]);
+	}
+	
+	/**
+	 * Returns the number of rectangles in this batch.
+	 * @return the number of rectangles in this batch
+	 * @since 1.1.0
+	 */
+	public int size()
+	{
+		return size;
+	}
+	
+	/**
+	 * Removes all rectangles from this batch.
+	 * @since 1.1.0
+	 */
+	public void clear()
+	{
+		size = 0;
+	}
+	
+	/**
+	 * Test to see if a location is found inside of the rectangle at the given index.
+	 * @param i - the index of the rectangle
+	 * @param px - x location to test
+	 * @param py - y location to test
+	 * @return {@code true} if the location is inside the rectangle
+	 * @since 1.1.0
+	 */
+	public boolean isInside(int i, float px, float py)
+	{
+		float dx = px - x[i];
+		float dy = py - y[i];
+		return (dx >= 0f) & (dx <= w[i]) & (dy >= 0f) & (dy <= h[i]);
+	}
+	
+	/**
+	 * Test to see if a location is found inside of any rectangle in this batch.
+	 * @param px - x location to test
+	 * @param py - y location to test
+	 * @return {@code true} if the location is inside any of the rectangles
+	 * @since 1.1.0
+	 */
+	public boolean isInside(float px, float py)
+	{
+		final float[] x = this.x, y = this.y, w = this.w, h = this.h;
+		boolean in = false;
+		for (int i=0, l=size; i<l; i++)
+		{
+			float dx = px - x[i];
+			float dy = py - y[i];
+			in |= (dx >= 0f) & (dx <= w[i]) & (dy >= 0f) & (dy <= h[i]);
+		}
+		return in;
+	}
+	
+	/**
+	 * Tests a list of locations against all rectangles in this batch. For every location {@code (xs[n], ys[n])} the result {@code out[n]} is set to {@code true} if it is inside any of the rectangles.
+	 * @param xs - the x locations to test
+	 * @param ys - the y locations to test
+	 * @param out - the destination for the results, at least as long as {@code xs}
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public boolean[] isInside(float[] xs, float[] ys, boolean[] out)
+	{
+		for (int n=0, l=xs.length; n<l; n++)
+		{
+			out[n] = isInside(xs[n], ys[n]);
+		}
+		return out;
+	}
+	
+	/**
+	 * Tests a list of locations against all rectangles in this batch. For every location {@code (xs[n], ys[n])} bit {@code n} is set if it is inside any of the rectangles, and cleared otherwise.
+	 * @param xs - the x locations to test
+	 * @param ys - the y locations to test
+	 * @param out - the destination for the results
+	 * @return the destination set
+	 * @since 1.1.0
+	 */
+	public BitSet isInside(float[] xs, float[] ys, BitSet out)
+	{
+		for (int n=0, l=xs.length; n<l; n++)
+		{
+			out.set(n, isInside(xs[n], ys[n]));
+		}
+		return out;
+	}
+	
+	/**
+	 * Move all rectangles in this batch along the x and y axes.
+	 * @param x - to translate along the x axes
+	 * @param y - to translate along the y axes
+	 * @since 1.1.0
+	 */
+	public void translate(float x, float y)
+	{
+		final float[] rx = this.x, ry = this.y;
+		for (int i=0, l=size; i<l; i++)
+		{
+			rx[i] += x;
+			ry[i] += y;
+		}
+	}
+	
+	/**
+	 * Move the rectangle at the given index along the x and y axes.
+	 * @param i - the index of the rectangle
+	 * @param x - to translate along the x axes
+	 * @param y - to translate along the y axes
+	 * @since 1.1.0
+	 */
+	public void translate(int i, float x, float y)
+	{
+		this.x[i] += x;
+		this.y[i] += y;
+	}
+	
+	/*
+	 * double the capacity
+	 */
+	private void grow()
+	{
+		int c = x.length << 1;
+		x = Arrays.copyOf(x, c);
+		y = Arrays.copyOf(y, c);
+		w = Arrays.copyOf(w, c);
+		h = Arrays.copyOf(h, c);
+	}
+}
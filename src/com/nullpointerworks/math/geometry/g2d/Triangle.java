@@ -68,11 +68,10 @@ public class Triangle extends Geometry2D
 	@Override
 	public boolean isInside(float px, float py)
 	{
-		float[] vec = {px,py};
 		boolean b1,b2,b3;
-		b1 = cross(vec, v1, v2) < 0.0f;
-	    b2 = cross(vec, v2, v3) < 0.0f;
-	    b3 = cross(vec, v3, v1) < 0.0f;
+		b1 = cross(px, py, v1, v2) < 0.0f;
+	    b2 = cross(px, py, v2, v3) < 0.0f;
+	    b3 = cross(px, py, v3, v1) < 0.0f;
 		return ((b1 == b2) && (b2 == b3));
 	}
 	
@@ -111,15 +110,45 @@ public class Triangle extends Geometry2D
 	@Override
 	public Rectangle getBoundingBox() 
 	{
-		float minx = FloatMath.min( v1[X], v2[X], v3[X]);
-		float miny = FloatMath.min( v1[Y], v2[Y], v3[Y]);
-		float maxx = FloatMath.max( v1[X], v2[X], v3[X]);
-		float maxy = FloatMath.max( v1[Y], v2[Y], v3[Y]);
-		return new Rectangle(minx,miny, maxx-minx, maxy-miny);
+		float minx = minX();
+		float miny = minY();
+		return new Rectangle(minx,miny, maxX()-minx, maxY()-miny);
+	}
+	
+	@Override
+	public float minX()
+	{
+		return FloatMath.min( v1[X], v2[X], v3[X]);
+	}
+	
+	@Override
+	public float minY()
+	{
+		return FloatMath.min( v1[Y], v2[Y], v3[Y]);
+	}
+	
+	@Override
+	public float maxX()
+	{
+		return FloatMath.max( v1[X], v2[X], v3[X]);
+	}
+	
+	@Override
+	public float maxY()
+	{
+		return FloatMath.max( v1[Y], v2[Y], v3[Y]);
 	}
 	
 	private float cross(float[] p1, float[] p2, float[] p3)
 	{
 	    return (p1[X] - p3[X]) * (p2[Y] - p3[Y]) - (p2[X] - p3[X]) * (p1[Y] - p3[Y]);
 	}
+	
+	/*
+	 * same as above with the first point given as coordinates
+	 */
+	private float cross(float px, float py, float[] p2, float[] p3)
+	{
+	    return (px - p3[X]) * (p2[Y] - p3[Y]) - (p2[X] - p3[X]) * (py - p3[Y]);
+	}
 }
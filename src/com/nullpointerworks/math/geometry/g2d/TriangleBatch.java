@@ -0,0 +1,250 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.geometry.g2d;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A columnar container for triangles. The three vertices of all triangles are stored in six primitive arrays, one per coordinate, instead of a {@code Triangle} object per shape with three separate {@code float[2]} vertices.<br>
+ * <br>
+ * A point is considered inside the batch when it is inside any of its triangles. The inside test of a single triangle is the same as {@code Triangle.isInside(float,float)}.
+ * @since 1.1.0
+ * @see Triangle
+ */
+public class TriangleBatch
+{
+	private float[] x1, y1;
+	private float[] x2, y2;
+	private float[] x3, y3;
+	private int size = 0;
+	
+	/**
+	 * Creates an empty triangle batch.
+	 * @since 1.1.0
+	 */
+	public TriangleBatch()
+	{
+		this(16);
+	}
+	
+	/**
+	 * Creates an empty triangle batch with room for the given number of triangles before it needs to grow.
+	 * @param capacity - the initial capacity
+	 * @since 1.1.0
+	 */
+	public TriangleBatch(int capacity)
+	{
+		capacity = (capacity<1)?1:capacity;
+		x1 = new float[capacity];
+		y1 = new float[capacity];
+		x2 = new float[capacity];
+		y2 = new float[capacity];
+		x3 = new float[capacity];
+		y3 = new float[capacity];
+	}
+	
+	/**
+	 * Adds a triangle based on the given {@code (x,y)} coordinates.
+	 * @param x1 - x location of point 1
+	 * @param y1 - y location of point 1
+	 * @param x2 - x location of point 2
+	 * @param y2 - y location of point 2
+	 * @param x3 - x location of point 3
+	 * @param y3 - y location of point 3
+	 * @return the index of the triangle in this batch
+	 * @since 1.1.0
+	 */
+	public int add(float x1, float y1,
+				   float x2, float y2,
+				   float x3, float y3)
+	{
+		if (size == this.x1.length) grow();
+		int i = size++;
+		this.x1[i] = x1;
+		this.y1[i] = y1;
+		this.x2[i] = x2;
+		this.y2[i] = y2;
+		this.x3[i] = x3;
+		this.y3[i] = y3;
+		return i;
+	}
+	
+	/**
+	 * Adds a copy of the given triangle.
+	 * @param t - the triangle to add
+	 * @return the index of the triangle in this batch
+	 * @since 1.1.0
+	 */
+	public int add(Triangle t)
+	{
+		return add(t.v1[0], t.v1[1], t.v2[0], t.v2[1], t.v3[0], t.v3[1]);
+	}
+	
+	/**
+	 * Returns a new {@code Triangle} object with the vertices of the triangle at the given index.
+	 * @param i - the index of the triangle
+	 * @return a new {@code Triangle} object
+	 * @since 1.1.0
+	 */
+	public Triangle get(int i)
+	{
+		return new Triangle(x1[i], y1[i], x2[i], y2[i], x3[i], y3[i]);
+	}
+	
+	/**
+	 * Returns the number of triangles in this batch.
+	 * @return the number of triangles in this batch
+	 * @since 1.1.0
+	 */
+	public int size()
+	{
+		return size;
+	}
+	
+	/**
+	 * Removes all triangles from this batch.
+	 * @since 1.1.0
+	 */
+	public void clear()
+	{
+		size = 0;
+	}
+	
+	/**
+	 * Test to see if a location is found inside of the triangle at the given index.
+	 * @param i - the index of the triangle
+	 * @param px - x location to test
+	 * @param py - y location to test
+	 * @return {@code true} if the location is inside the triangle
+	 * @since 1.1.0
+	 */
+	public boolean isInside(int i, float px, float py)
+	{
+		return inside(px, py, x1[i], y1[i], x2[i], y2[i], x3[i], y3[i]);
+	}
+	
+	/**
+	 * Test to see if a location is found inside of any triangle in this batch.
+	 * @param px - x location to test
+	 * @param py - y location to test
+	 * @return {@code true} if the location is inside any of the triangles
+	 * @since 1.1.0
+	 */
+	public boolean isInside(float px, float py)
+	{
+		final float[] x1 = this.x1, y1 = this.y1;
+		final float[] x2 = this.x2, y2 = this.y2;
+		final float[] x3 = this.x3, y3 = this.y3;
+		boolean in = false;
+		for (int i=0, l=size; i<l; i++)
+		{
+			in |= inside(px, py, x1[i], y1[i], x2[i], y2[i], x3[i], y3[i]);
+		}
+		return in;
+	}
+	
+	/**
+	 * Tests a list of locations against all triangles in this batch. For every location {@code (xs[n], ys[n])} the result {@code out[n]} is set to {@code true} if it is inside any of the triangles.
+	 * @param xs - the x locations to test
+	 * @param ys - the y locations to test
+	 * @param out - the destination for the results, at least as long as {@code xs}
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public boolean[] isInside(float[] xs, float[] ys, boolean[] out)
+	{
+		for (int n=0, l=xs.length; n<l; n++)
+		{
+			out[n] = isInside(xs[n], ys[n]);
+		}
+		return out;
+	}
+	
+	/**
+	 * Tests a list of locations against all triangles in this batch. For every location {@code (xs[n], ys[n])} bit {@code n} is set if it is inside any of the triangles, and cleared otherwise.
+	 * @param xs - the x locations to test
+	 * @param ys - the y locations to test
+	 * @param out - the destination for the results
+	 * @return the destination set
+	 * @since 1.1.0
+	 */
+	public BitSet isInside(float[] xs, float[] ys, BitSet out)
+	{
+		for (int n=0, l=xs.length; n<l; n++)
+		{
+			out.set(n, isInside(xs[n], ys[n]));
+		}
+		return out;
+	}
+	
+	/**
+	 * Move all triangles in this batch along the x and y axes.
+	 * @param x - to translate along the x axes
+	 * @param y - to translate along the y axes
+	 * @since 1.1.0
+	 */
+	public void translate(float x, float y)
+	{
+		final float[] x1 = this.x1, y1 = this.y1;
+		final float[] x2 = this.x2, y2 = this.y2;
+		final float[] x3 = this.x3, y3 = this.y3;
+		for (int i=0, l=size; i<l; i++)
+		{
+			x1[i] += x;
+			y1[i] += y;
+			x2[i] += x;
+			y2[i] += y;
+			x3[i] += x;
+			y3[i] += y;
+		}
+	}
+	
+	/**
+	 * Move the triangle at the given index along the x and y axes.
+	 * @param i - the index of the triangle
+	 * @param x - to translate along the x axes
+	 * @param y - to translate along the y axes
+	 * @since 1.1.0
+	 */
+	public void translate(int i, float x, float y)
+	{
+		x1[i] += x;
+		y1[i] += y;
+		x2[i] += x;
+		y2[i] += y;
+		x3[i] += x;
+		y3[i] += y;
+	}
+	
+	/*
+	 * same sign test as Triangle.isInside(float,float), without branches
+	 */
+	private static boolean inside(float px, float py,
+								  float x1, float y1,
+								  float x2, float y2,
+								  float x3, float y3)
+	{
+		boolean b1 = ((px - x2) * (y1 - y2) - (x1 - x2) * (py - y2)) < 0.0f;
+		boolean b2 = ((px - x3) * (y2 - y3) - (x2 - x3) * (py - y3)) < 0.0f;
+		boolean b3 = ((px - x1) * (y3 - y1) - (x3 - x1) * (py - y1)) < 0.0f;
+		return (b1 == b2) & (b2 == b3);
+	}
+	
+	/*
+	 * double the capacity
+	 */
+	private void grow()
+	{
+		int c = x1.length << 1;
+		x1 = Arrays.copyOf(x1, c);
+		y1 = Arrays.copyOf(y1, c);
+		x2 = Arrays.copyOf(x2, c);
+		y2 = Arrays.copyOf(y2, c);
+		x3 = Arrays.copyOf(x3, c);
+		y3 = Arrays.copyOf(y3, c);
+	}
+}
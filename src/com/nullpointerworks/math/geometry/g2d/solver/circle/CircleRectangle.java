@@ -9,7 +9,6 @@ import com.nullpointerworks.math.geometry.g2d.Circle;
 import com.nullpointerworks.math.geometry.g2d.Geometry2D;
 import com.nullpointerworks.math.geometry.g2d.Rectangle;
 import com.nullpointerworks.math.geometry.g2d.solver.IIntersectionSolver2;
-import com.nullpointerworks.math.vector.Vector2;
 
 /**
  * An implementation that detects if a {@code Circle} objects is intersection a {@code Rectangle} object.
@@ -18,7 +17,6 @@ import com.nullpointerworks.math.vector.Vector2;
 public class CircleRectangle implements IIntersectionSolver2 
 {
 	public static final CircleRectangle instance = new CircleRectangle();
-	private final Vector2 V2 = new Vector2();
 	
 	@Override
 	public boolean solve(Geometry2D A, Geometry2D B) 
@@ -27,30 +25,29 @@ public class CircleRectangle implements IIntersectionSolver2
 		Rectangle r = (Rectangle) B;
 		
 		float rad = -cir.radius;
-		float[] c = {cir.x, cir.y};
-		float[][] vertices = 
-		{
-			{r.x, r.y},
-			{r.x+r.w, r.y},
-			{r.x+r.w, r.y+r.h},
-			{r.x, r.y+r.h}
-		};
+		float x0 = r.x, x1 = r.x+r.w;
+		float y0 = r.y, y1 = r.y+r.h;
 		
-		int l=vertices.length;
-		for (int i=0;i<l;i++)
-		{
-			if (cir.isInside(vertices[i])) return true;
-			
-			float[] v0 = vertices[i];
-			float[] v1 = vertices[(i+1)%l];
-			
-			float[] v = V2.sub(v1, v0);
-			float[] n = V2.normalize( V2.normal(v) );
-			n = V2.project(c, n, rad);
-			
-			if (r.isInside(n)) return true;
-		}
+		if (edge(cir, r, rad, x0, y0, x1, y0)) return true;
+		if (edge(cir, r, rad, x1, y0, x1, y1)) return true;
+		if (edge(cir, r, rad, x1, y1, x0, y1)) return true;
+		if (edge(cir, r, rad, x0, y1, x0, y0)) return true;
 		return false;
 	}
-
+	
+	/*
+	 * test the start of an edge, and the point on the circle furthest along the edge normal
+	 */
+	private boolean edge(Circle cir, Rectangle r, float rad, 
+						 float x0, float y0, float x1, float y1)
+	{
+		if (cir.isInside(x0, y0)) return true;
+		
+		float dx = x1 - x0;
+		float dy = y1 - y0;
+		float invm = 1f / (float) StrictMath.sqrt( dy*dy + dx*dx );
+		float nx = -dy*invm;
+		float ny =  dx*invm;
+		return r.isInside(cir.x + nx*rad, cir.y + ny*rad);
+	}
 }
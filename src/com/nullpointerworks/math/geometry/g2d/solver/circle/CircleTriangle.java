@@ -9,7 +9,6 @@ import com.nullpointerworks.math.geometry.g2d.Circle;
 import com.nullpointerworks.math.geometry.g2d.Geometry2D;
 import com.nullpointerworks.math.geometry.g2d.Triangle;
 import com.nullpointerworks.math.geometry.g2d.solver.IIntersectionSolver2;
-import com.nullpointerworks.math.vector.Vector2;
 
 /**
  * An implementation that detects if a {@code Circle} objects is intersection a {@code Triangle} object.
@@ -18,7 +17,7 @@ import com.nullpointerworks.math.vector.Vector2;
 public class CircleTriangle implements IIntersectionSolver2 
 {
 	public static final CircleTriangle instance = new CircleTriangle();
-	private final Vector2 V2 = new Vector2();
+	
 	@Override
 	public boolean solve(Geometry2D A, Geometry2D B) 
 	{
@@ -26,29 +25,38 @@ public class CircleTriangle implements IIntersectionSolver2
 		Triangle t = (Triangle) B;
 		
 		float rad = -cir.radius;
-		float[] c = {cir.x, cir.y};
-		float[][] vrt = {t.v1, t.v2, t.v3};
+		float[] v0 = t.v1;
+		float[] v1 = t.v2;
+		float[] v2 = t.v3;
 		
-		boolean hand = V2.cross( V2.sub(vrt[1], vrt[0]), V2.sub(vrt[2], vrt[0]) )[2] > 0f;
+		float ax = v1[0]-v0[0], ay = v1[1]-v0[1];
+		float bx = v2[0]-v0[0], by = v2[1]-v0[1];
+		boolean hand = ax*by - ay*bx > 0f;
 		
 		if (hand)
 		{
-			vrt[0] = t.v3;
-			vrt[2] = t.v1;
+			v0 = t.v3;
+			v2 = t.v1;
 		}
 		
-		int l=vrt.length;
-		for (int i=0;i<l;i++)
-		{
-			if (cir.isInside(vrt[i])) return true;
-			float[] v0 = vrt[i];
-			float[] v1 = vrt[(i+1)%l];
-			float[] v = V2.sub(v1, v0);
-			v = V2.normalize( V2.normal(v) );
-			v = V2.project(c, v, rad);
-			if (t.isInside(v)) return true;
-		}
+		if (edge(cir, t, rad, v0, v1)) return true;
+		if (edge(cir, t, rad, v1, v2)) return true;
+		if (edge(cir, t, rad, v2, v0)) return true;
 		return false;
 	}
-
+	
+	/*
+	 * test the start of an edge, and the point on the circle furthest along the edge normal
+	 */
+	private boolean edge(Circle cir, Triangle t, float rad, float[] v0, float[] v1)
+	{
+		if (cir.isInside(v0[0], v0[1])) return true;
+		
+		float dx = v1[0] - v0[0];
+		float dy = v1[1] - v0[1];
+		float invm = 1f / (float) StrictMath.sqrt( dy*dy + dx*dx );
+		float nx = -dy*invm;
+		float ny =  dx*invm;
+		return t.isInside(cir.x + nx*rad, cir.y + ny*rad);
+	}
 }
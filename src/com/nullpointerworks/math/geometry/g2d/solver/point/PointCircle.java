@@ -21,8 +21,8 @@ public class PointCircle implements IIntersectionSolver2
 	@Override
 	public boolean solve(Geometry2D A, Geometry2D B) 
 	{
-		Circle cir = (Circle) A;
-		Point p = (Point) B;
+		Point p = (Point) A;
+		Circle cir = (Circle) B;
 		return cir.isInside(p.x, p.y);
 	}
 
@@ -27,13 +27,14 @@ public class RectangleRectangle implements IIntersectionSolver2
 		Rectangle a = (Rectangle)A;
 		Rectangle b = (Rectangle)B;
 		
-		float a_centerx = a.x + (a.w - a.x)*0.5f;
-		float b_centerx = b.x + (b.w - b.x)*0.5f;
-		if ( abs(a.x - b.x) > (a_centerx + b_centerx) ) return false;
+		// the distance between the centers against the sum of the half extents
+		float a_centerx = a.x + a.w*0.5f;
+		float b_centerx = b.x + b.w*0.5f;
+		if ( abs(a_centerx - b_centerx) > (a.w + b.w)*0.5f ) return false;
 		
-		float a_centery = a.y + (a.h - a.y)*0.5f;
-		float b_centery = b.y + (b.h - b.y)*0.5f;
-		if ( abs(a.y - b.y) > (a_centery + b_centery) ) return false;
+		float a_centery = a.y + a.h*0.5f;
+		float b_centery = b.y + b.h*0.5f;
+		if ( abs(a_centery - b_centery) > (a.h + b.h)*0.5f ) return false;
 		
 	    return true;
 	}
@@ -8,7 +8,6 @@ package com.nullpointerworks.math.geometry.g2d.solver.triangle;
 import com.nullpointerworks.math.geometry.g2d.Geometry2D;
 import com.nullpointerworks.math.geometry.g2d.Triangle;
 import com.nullpointerworks.math.geometry.g2d.solver.IIntersectionSolver2;
-import com.nullpointerworks.math.vector.Vector2;
 
 /**
  * An implementation that detects if a {@code Triangle} objects is intersection another {@code Triangle} object.
@@ -18,36 +17,8 @@ public class TriangleTriangle implements IIntersectionSolver2
 {
 	public static final TriangleTriangle instance = new TriangleTriangle();
 
-	private int X = 0;
-	private int Y = 1;
-	
-	private float[] lambda(float[] A, float[] a,
-						   float[] B, float[] b)
-	{
-		float x1 = A[X];
-		float y1 = A[Y];
-		float dx1 = a[X];
-		float dy1 = a[Y];
-		
-		float x2 = B[X];
-		float y2 = B[Y];
-		float dx2 = b[X];
-		float dy2 = b[Y];
-		
-		float t1,t2,det = (dy1 * dx2 - dx1 * dy2);
-		if (det != 0f)
-			t1 = ((x1 - x2) * dy2 + (y2 - y1) * dx2) / det;
-		else t1 = Float.MAX_VALUE;
-		
-		det = (dy2 * dx1 - dx2 * dy1);
-		if (det != 0f)
-			t2 = ((x2 - x1) * dy1 + (y1 - y2) * dx1) / det;
-		else t2 = Float.MAX_VALUE;
-		
-		return new float[] {t1, t2};
-	}
-	
-	private final Vector2 V2 = new Vector2();
+	private final int X = 0;
+	private final int Y = 1;
 	
 	@Override
 	public boolean solve(Geometry2D gA, Geometry2D gB) 
@@ -65,34 +36,49 @@ public class TriangleTriangle implements IIntersectionSolver2
 		if (tb.isInside(ta.v3)) return true;
 	    
 		// check edges
-		float[][] poly_a = {ta.v1,ta.v2,ta.v3};
-		float[][] poly_b = {tb.v1,tb.v2,tb.v3};
-		
-		int j=0;
-		while (j<3)
-		{
-			float[] A = poly_a[j];
-			float[] a = V2.sub(poly_a[(j+1)%3], A);
-			
-			int i=0;
-			while (i<3)
-			{
-				float[] B = poly_b[i];
-				float[] b = V2.sub(poly_b[(i+1)%3], B);
-				
-				float[] l12 = lambda(A,a, B,b);
-				float t1 = l12[X];
-				float t2 = l12[Y];
-
-				if (t1>=0f && t1<=1f)
-					if (t2>=0f && t2<=1f)
-						return true;
-				
-				i++;
-			}
-			j++;
-		}
+		if (edge(ta.v1, ta.v2, tb)) return true;
+		if (edge(ta.v2, ta.v3, tb)) return true;
+		if (edge(ta.v3, ta.v1, tb)) return true;
 		return false;
 	}
 	
+	/*
+	 * test the edge from A to A2 against all edges of the triangle
+	 */
+	private boolean edge(float[] A, float[] A2, Triangle tb)
+	{
+		float ax = A2[X] - A[X];
+		float ay = A2[Y] - A[Y];
+		if (edge(A, ax, ay, tb.v1, tb.v2)) return true;
+		if (edge(A, ax, ay, tb.v2, tb.v3)) return true;
+		if (edge(A, ax, ay, tb.v3, tb.v1)) return true;
+		return false;
+	}
+	
+	/*
+	 * find the scalars at which the lines A+t1*a and B+t2*b cross.
+	 * the edges intersect if both are in the range [0,1]
+	 */
+	private boolean edge(float[] A, float dx1, float dy1, float[] B, float[] B2)
+	{
+		float x1 = A[X];
+		float y1 = A[Y];
+		
+		float x2 = B[X];
+		float y2 = B[Y];
+		float dx2 = B2[X] - x2;
+		float dy2 = B2[Y] - y2;
+		
+		float t1,t2,det = (dy1 * dx2 - dx1 * dy2);
+		if (det != 0f)
+			t1 = ((x1 - x2) * dy2 + (y2 - y1) * dx2) / det;
+		else t1 = Float.MAX_VALUE;
+		
+		det = (dy2 * dx1 - dx2 * dy1);
+		if (det != 0f)
+			t2 = ((x2 - x1) * dy1 + (y1 - y2) * dx1) / det;
+		else t2 = Float.MAX_VALUE;
+		
+		return (t1>=0f && t1<=1f) && (t2>=0f && t2<=1f);
+	}
 }
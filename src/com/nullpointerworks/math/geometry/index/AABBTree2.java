@@ -0,0 +1,503 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.geometry.index;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.nullpointerworks.math.geometry.g2d.Geometry2D;
+
+/**
+ * A spatial index that keeps the bounding boxes of its geometries in a balanced binary tree. Every leaf holds one geometry, every branch holds a box enclosing both of its children. New leaves are placed where they enlarge the tree the least, and the tree is rebalanced with rotations as it changes.<br>
+ * <br>
+ * Leaves store a box that is enlarged by a margin. A geometry that moves but stays within its enlarged box does not need to be reinserted, which makes updates of slowly moving geometries cheap. Unlike a uniform grid, the tree does not need to be tuned to the size of its geometries.
+ * @since 1.1.0
+ */
+public class AABBTree2 extends AbstractSpatialIndex2
+{
+	private static final int NULL = -1;
+	
+	private final float margin;
+	
+	/*
+	 * node pool
+	 */
+	private float[] nx0 = new float[16];
+	private float[] ny0 = new float[16];
+	private float[] nx1 = new float[16];
+	private float[] ny1 = new float[16];
+	private int[] parent = new int[16];
+	private int[] left = new int[16];
+	private int[] right = new int[16];
+	private int[] height = new int[16];
+	private int[] item = new int[16];
+	private int nodes = 0;
+	private int freeNode = NULL;
+	private int root = NULL;
+	
+	/*
+	 * leaf node of every id
+	 */
+	private int[] leaf = new int[16];
+	
+	private int[] stack = new int[64];
+	
+	/**
+	 * Create an AABB tree without a margin. Every movement of a geometry reinserts it into the tree.
+	 * @since 1.1.0
+	 */
+	public AABBTree2()
+	{
+		this(0f);
+	}
+	
+	/**
+	 * Create an AABB tree which enlarges the box of every leaf with the given margin.
+	 * @param margin - the distance a geometry can move before it's reinserted
+	 * @since 1.1.0
+	 */
+	public AABBTree2(float margin)
+	{
+		this.margin = margin;
+	}
+	
+	/**
+	 * Returns the height of the tree. An empty tree has a height of -1, a tree with a single geometry has a height of 0.
+	 * @return the height of the tree
+	 * @since 1.1.0
+	 */
+	public int height()
+	{
+		return (root == NULL)? -1 : height[root];
+	}
+	
+	@Override
+	public List<Geometry2D> query(Geometry2D g, List<Geometry2D> out)
+	{
+		int self = id(g);
+		float x0,y0,x1,y1;
+		if (self < 0)
+		{
+			x0 = g.minX(); y0 = g.minY(); x1 = g.maxX(); y1 = g.maxY();
+		}
+		else
+		{
+			x0 = minx[self]; y0 = miny[self]; x1 = maxx[self]; y1 = maxy[self];
+		}
+		if (root == NULL) return out;
+		
+		int sp = 0;
+		stack[sp++] = root;
+		while (sp > 0)
+		{
+			int n = stack[--sp];
+			if (!(nx0[n] <= x1 && x0 <= nx1[n] && ny0[n] <= y1 && y0 <= ny1[n])) continue;
+			
+			int id = item[n];
+			if (id == NULL)
+			{
+				sp = push(sp, left[n], right[n]);
+				continue;
+			}
+			if (id == self) continue;
+			if (!overlaps(id, x0,y0,x1,y1)) continue;
+			if (intersect(g, geoms[id])) out.add(geoms[id]);
+		}
+		return out;
+	}
+	
+	@Override
+	public List<Geometry2D> query(float x, float y, List<Geometry2D> out)
+	{
+		if (root == NULL) return out;
+		int sp = 0;
+		stack[sp++] = root;
+		while (sp > 0)
+		{
+			int n = stack[--sp];
+			if (!(nx0[n] <= x && x <= nx1[n] && ny0[n] <= y && y <= ny1[n])) continue;
+			
+			int id = item[n];
+			if (id == NULL)
+			{
+				sp = push(sp, left[n], right[n]);
+				continue;
+			}
+			if (!overlaps(id, x,y,x,y)) continue;
+			if (geoms[id].isInside(x, y)) out.add(geoms[id]);
+		}
+		return out;
+	}
+	
+	@Override
+	public List<Geometry2D[]> queryPairs(List<Geometry2D[]> out)
+	{
+		if (root == NULL) return out;
+		
+		// descend the tree against itself, every pair of subtrees is visited once
+		int sp = 0;
+		stack[sp++] = root;
+		stack[sp++] = root;
+		while (sp > 0)
+		{
+			int b = stack[--sp];
+			int a = stack[--sp];
+			
+			if (a == b)
+			{
+				if (item[a] != NULL) continue;
+				int l = left[a], r = right[a];
+				sp = push(sp, l, l);
+				sp = push(sp, r, r);
+				sp = push(sp, l, r);
+				continue;
+			}
+			if (!(nx0[a] <= nx1[b] && nx0[b] <= nx1[a] && ny0[a] <= ny1[b] && ny0[b] <= ny1[a])) continue;
+			
+			int p = item[a];
+			int q = item[b];
+			if (p != NULL && q != NULL)
+			{
+				if (!overlaps(p, minx[q],miny[q],maxx[q],maxy[q])) continue;
+				Geometry2D ga = geoms[p];
+				Geometry2D gb = geoms[q];
+				if (intersect(ga, gb)) out.add(new Geometry2D[] {ga, gb});
+				continue;
+			}
+			
+			// split the larger subtree
+			if (q == NULL && (p != NULL || height[b] > height[a]))
+			{
+				sp = push(sp, a, left[b]);
+				sp = push(sp, a, right[b]);
+			}
+			else
+			{
+				sp = push(sp, left[a], b);
+				sp = push(sp, right[a], b);
+			}
+		}
+		return out;
+	}
+	
+	@Override
+	void insert(int id)
+	{
+		int n = node();
+		item[n] = id;
+		height[n] = 0;
+		left[n] = NULL;
+		right[n] = NULL;
+		fatten(n, id);
+		leaf[id] = n;
+		insertLeaf(n);
+	}
+	
+	@Override
+	void delete(int id)
+	{
+		int n = leaf[id];
+		removeLeaf(n);
+		release(n);
+	}
+	
+	@Override
+	void move(int id)
+	{
+		int n = leaf[id];
+		if (nx0[n] <= minx[id] && ny0[n] <= miny[id] && maxx[id] <= nx1[n] && maxy[id] <= ny1[n]) return;
+		removeLeaf(n);
+		fatten(n, id);
+		insertLeaf(n);
+	}
+	
+	@Override
+	void reset()
+	{
+		nodes = 0;
+		freeNode = NULL;
+		root = NULL;
+	}
+	
+	@Override
+	void grow(int capacity)
+	{
+		leaf = Arrays.copyOf(leaf, capacity);
+	}
+	
+	/*
+	 * set the box of a leaf to the bounding box of its id plus the margin
+	 */
+	private void fatten(int n, int id)
+	{
+		nx0[n] = minx[id] - margin;
+		ny0[n] = miny[id] - margin;
+		nx1[n] = maxx[id] + margin;
+		ny1[n] = maxy[id] + margin;
+	}
+	
+	/*
+	 * place a leaf next to the sibling which grows the tree the least
+	 */
+	private void insertLeaf(int n)
+	{
+		if (root == NULL)
+		{
+			root = n;
+			parent[n] = NULL;
+			return;
+		}
+		
+		float x0 = nx0[n], y0 = ny0[n], x1 = nx1[n], y1 = ny1[n];
+		int index = root;
+		while (item[index] == NULL)
+		{
+			int c1 = left[index];
+			int c2 = right[index];
+			
+			float area = perimeter(nx0[index],ny0[index],nx1[index],ny1[index]);
+			float combined = perimeter(Math.min(x0,nx0[index]), Math.min(y0,ny0[index]), 
+									   Math.max(x1,nx1[index]), Math.max(y1,ny1[index]));
+			
+			// cost of creating a new parent here, and the minimum cost of pushing the leaf further down
+			float cost = 2f * combined;
+			float inherit = 2f * (combined - area);
+			float cost1 = cost(c1, x0,y0,x1,y1) + inherit;
+			float cost2 = cost(c2, x0,y0,x1,y1) + inherit;
+			
+			if (cost < cost1 && cost < cost2) break;
+			index = (cost1 < cost2)? c1 : c2;
+		}
+		
+		int sibling = index;
+		int old = parent[sibling];
+		int p = node();
+		parent[p] = old;
+		item[p] = NULL;
+		height[p] = height[sibling] + 1;
+		left[p] = sibling;
+		right[p] = n;
+		parent[sibling] = p;
+		parent[n] = p;
+		
+		if (old == NULL) root = p;
+		else
+		if (left[old] == sibling) left[old] = p;
+		else right[old] = p;
+		
+		refit(p);
+	}
+	
+	/*
+	 * cost of descending into a child
+	 */
+	private float cost(int c, float x0, float y0, float x1, float y1)
+	{
+		float grown = perimeter(Math.min(x0,nx0[c]), Math.min(y0,ny0[c]), 
+								Math.max(x1,nx1[c]), Math.max(y1,ny1[c]));
+		if (item[c] != NULL) return grown;
+		return grown - perimeter(nx0[c],ny0[c],nx1[c],ny1[c]);
+	}
+	
+	/*
+	 * take a leaf out of the tree, its parent node is released
+	 */
+	private void removeLeaf(int n)
+	{
+		if (n == root)
+		{
+			root = NULL;
+			return;
+		}
+		
+		int p = parent[n];
+		int g = parent[p];
+		int sibling = (left[p] == n)? right[p] : left[p];
+		
+		if (g == NULL)
+		{
+			root = sibling;
+			parent[sibling] = NULL;
+			release(p);
+			return;
+		}
+		
+		if (left[g] == p) left[g] = sibling;
+		else right[g] = sibling;
+		parent[sibling] = g;
+		release(p);
+		refit(g);
+	}
+	
+	/*
+	 * walk up from a branch, balancing and recomputing boxes and heights
+	 */
+	private void refit(int index)
+	{
+		while (index != NULL)
+		{
+			index = balance(index);
+			int c1 = left[index];
+			int c2 = right[index];
+			height[index] = 1 + Math.max(height[c1], height[c2]);
+			union(index, c1, c2);
+			index = parent[index];
+		}
+	}
+	
+	/*
+	 * rotate a branch if one of its children is more than one level higher than the other. returns the node now in its place
+	 */
+	private int balance(int a)
+	{
+		if (item[a] != NULL || height[a] < 2) return a;
+		
+		int b = left[a];
+		int c = right[a];
+		int diff = height[c] - height[b];
+		
+		// rotate c up
+		if (diff > 1)
+		{
+			int f = left[c];
+			int g = right[c];
+			
+			left[c] = a;
+			parent[c] = parent[a];
+			parent[a] = c;
+			replace(c, a);
+			
+			if (height[f] > height[g])
+			{
+				right[c] = f;
+				right[a] = g;
+				parent[g] = a;
+				union(a, b, g);
+				union(c, a, f);
+				height[a] = 1 + Math.max(height[b], height[g]);
+				height[c] = 1 + Math.max(height[a], height[f]);
+			}
+			else
+			{
+				right[c] = g;
+				right[a] = f;
+				parent[f] = a;
+				union(a, b, f);
+				union(c, a, g);
+				height[a] = 1 + Math.max(height[b], height[f]);
+				height[c] = 1 + Math.max(height[a], height[g]);
+			}
+			return c;
+		}
+		
+		// rotate b up
+		if (diff < -1)
+		{
+			int d = left[b];
+			int e = right[b];
+			
+			left[b] = a;
+			parent[b] = parent[a];
+			parent[a] = b;
+			replace(b, a);
+			
+			if (height[d] > height[e])
+			{
+				right[b] = d;
+				left[a] = e;
+				parent[e] = a;
+				union(a, c, e);
+				union(b, a, d);
+				height[a] = 1 + Math.max(height[c], height[e]);
+				height[b] = 1 + Math.max(height[a], height[d]);
+			}
+			else
+			{
+				right[b] = e;
+				left[a] = d;
+				parent[d] = a;
+				union(a, c, d);
+				union(b, a, e);
+				height[a] = 1 + Math.max(height[c], height[d]);
+				height[b] = 1 + Math.max(height[a], height[e]);
+			}
+			return b;
+		}
+		return a;
+	}
+	
+	/*
+	 * point the parent of a rotated node to its replacement
+	 */
+	private void replace(int n, int old)
+	{
+		int p = parent[n];
+		if (p == NULL) root = n;
+		else
+		if (left[p] == old) left[p] = n;
+		else right[p] = n;
+	}
+	
+	/*
+	 * set the box of n to enclose the boxes of a and b
+	 */
+	private void union(int n, int a, int b)
+	{
+		nx0[n] = Math.min(nx0[a], nx0[b]);
+		ny0[n] = Math.min(ny0[a], ny0[b]);
+		nx1[n] = Math.max(nx1[a], nx1[b]);
+		ny1[n] = Math.max(ny1[a], ny1[b]);
+	}
+	
+	private static float perimeter(float x0, float y0, float x1, float y1)
+	{
+		return 2f * ((x1 - x0) + (y1 - y0));
+	}
+	
+	private int push(int sp, int a, int b)
+	{
+		if (sp + 2 > stack.length) stack = Arrays.copyOf(stack, stack.length << 1);
+		stack[sp++] = a;
+		stack[sp++] = b;
+		return sp;
+	}
+	
+	/*
+	 * take a node from the pool
+	 */
+	private int node()
+	{
+		if (freeNode != NULL)
+		{
+			int n = freeNode;
+			freeNode = parent[n];
+			return n;
+		}
+		if (nodes == item.length)
+		{
+			int c = nodes << 1;
+			nx0 = Arrays.copyOf(nx0, c);
+			ny0 = Arrays.copyOf(ny0, c);
+			nx1 = Arrays.copyOf(nx1, c);
+			ny1 = Arrays.copyOf(ny1, c);
+			parent = Arrays.copyOf(parent, c);
+			left = Arrays.copyOf(left, c);
+			right = Arrays.copyOf(right, c);
+			height = Arrays.copyOf(height, c);
+			item = Arrays.copyOf(item, c);
+		}
+		return nodes++;
+	}
+	
+	/*
+	 * return a node to the pool, chained through its parent field
+	 */
+	private void release(int n)
+	{
+		parent[n] = freeNode;
+		freeNode = n;
+	}
+}
@@ -0,0 +1,212 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.geometry.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.nullpointerworks.math.geometry.Geometry2;
+import com.nullpointerworks.math.geometry.g2d.Geometry2D;
+
+/**
+ * Shared bookkeeping of the spatial indices. Every indexed geometry gets an integer id, its bounding box is kept in primitive arrays under that id. Ids of removed geometries are reused.
+ * @since 1.1.0
+ */
+abstract class AbstractSpatialIndex2 implements ISpatialIndex2
+{
+	Geometry2D[] geoms = new Geometry2D[16];
+	float[] minx = new float[16];
+	float[] miny = new float[16];
+	float[] maxx = new float[16];
+	float[] maxy = new float[16];
+	
+	/*
+	 * one past the highest id in use
+	 */
+	int top = 0;
+	
+	private final Map<Geometry2D,Integer> ids = new IdentityHashMap<Geometry2D,Integer>();
+	private int[] free = new int[16];
+	private int freeCount = 0;
+	private int[] marks = new int[16];
+	private int stamp = 0;
+	
+	/*
+	 * structure specific operations
+	 */
+	abstract void insert(int id);
+	abstract void delete(int id);
+	abstract void move(int id);
+	abstract void reset();
+	
+	@Override
+	public void add(Geometry2D g)
+	{
+		if (g == null || ids.containsKey(g)) return;
+		int id = allocate();
+		geoms[id] = g;
+		bounds(id);
+		ids.put(g, id);
+		insert(id);
+	}
+	
+	@Override
+	public boolean remove(Geometry2D g)
+	{
+		Integer id = ids.remove(g);
+		if (id == null) return false;
+		delete(id);
+		geoms[id] = null;
+		if (freeCount == free.length) free = Arrays.copyOf(free, freeCount << 1);
+		free[freeCount++] = id;
+		return true;
+	}
+	
+	@Override
+	public void update(Geometry2D g)
+	{
+		Integer id = ids.get(g);
+		if (id == null) return;
+		bounds(id);
+		move(id);
+	}
+	
+	@Override
+	public void update()
+	{
+		for (int id=0; id<top; id++)
+		{
+			if (geoms[id] == null) continue;
+			bounds(id);
+			move(id);
+		}
+	}
+	
+	@Override
+	public void clear()
+	{
+		ids.clear();
+		Arrays.fill(geoms, null);
+		top = 0;
+		freeCount = 0;
+		reset();
+	}
+	
+	@Override
+	public int size()
+	{
+		return ids.size();
+	}
+	
+	@Override
+	public List<Geometry2D> query(Geometry2D g)
+	{
+		return query(g, new ArrayList<Geometry2D>());
+	}
+	
+	@Override
+	public List<Geometry2D> query(float x, float y)
+	{
+		return query(x, y, new ArrayList<Geometry2D>());
+	}
+	
+	@Override
+	public List<Geometry2D[]> queryPairs()
+	{
+		return queryPairs(new ArrayList<Geometry2D[]>());
+	}
+	
+	/*
+	 * returns the id of an indexed geometry, or -1
+	 */
+	int id(Geometry2D g)
+	{
+		Integer id = ids.get(g);
+		return (id == null)? -1 : id;
+	}
+	
+	/*
+	 * start a new round of duplicate detection
+	 */
+	int nextStamp()
+	{
+		if (++stamp == 0)
+		{
+			Arrays.fill(marks, 0);
+			stamp = 1;
+		}
+		return stamp;
+	}
+	
+	/*
+	 * returns true the first time an id is visited in the current round
+	 */
+	boolean visit(int id, int s)
+	{
+		if (marks[id] == s) return false;
+		marks[id] = s;
+		return true;
+	}
+	
+	/*
+	 * aabb overlap test between an id and a box, edges touching counts as overlap
+	 */
+	boolean overlaps(int id, float x0, float y0, float x1, float y1)
+	{
+		return minx[id] <= x1 && x0 <= maxx[id] && miny[id] <= y1 && y0 <= maxy[id];
+	}
+	
+	/*
+	 * narrow phase, primitives go through the solver table
+	 */
+	static boolean intersect(Geometry2D a, Geometry2D b)
+	{
+		if (isPrimitive(a) && isPrimitive(b)) return Geometry2.intersect(a, b);
+		return true;
+	}
+	
+	private static boolean isPrimitive(Geometry2D g)
+	{
+		return g.type().ordinal() <= Geometry2D.Type.Rectangle.ordinal();
+	}
+	
+	/*
+	 * read the bounding box of a geometry
+	 */
+	private void bounds(int id)
+	{
+		Geometry2D g = geoms[id];
+		minx[id] = g.minX();
+		miny[id] = g.minY();
+		maxx[id] = g.maxX();
+		maxy[id] = g.maxY();
+	}
+	
+	private int allocate()
+	{
+		if (freeCount > 0) return free[--freeCount];
+		if (top == geoms.length)
+		{
+			int c = top << 1;
+			geoms = Arrays.copyOf(geoms, c);
+			minx = Arrays.copyOf(minx, c);
+			miny = Arrays.copyOf(miny, c);
+			maxx = Arrays.copyOf(maxx, c);
+			maxy = Arrays.copyOf(maxy, c);
+			marks = Arrays.copyOf(marks, c);
+			grow(c);
+		}
+		return top++;
+	}
+	
+	/*
+	 * called when the id capacity grows
+	 */
+	void grow(int capacity) {}
+}
@@ -0,0 +1,114 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.geometry.index;
+
+import java.util.List;
+
+import com.nullpointerworks.math.geometry.g2d.Geometry2D;
+
+/**
+ * An interface for a 2 dimensional spatial index. A spatial index keeps track of a collection of geometries and finds the ones that may touch using their bounding boxes, the broad phase. Candidates are then confirmed with the intersection solvers of {@code Geometry2}, the narrow phase.<br>
+ * <br>
+ * The bounding box of a geometry is read when it's added. Geometries that move or change shape must be reported with {@code update(Geometry2D)}, or all at once with {@code update()}, before the next query.<br>
+ * <br>
+ * Groups and other non-primitive geometries can be indexed as well. Since there is no intersection solver for them, any pair involving such a geometry is confirmed on bounding box overlap alone.
+ * @since 1.1.0
+ * @see com.nullpointerworks.math.geometry.Geometry2
+ */
+public interface ISpatialIndex2 
+{
+	/**
+	 * Adds a geometry to the index. Adding a geometry that is already indexed has no effect.
+	 * @param g - the geometry to add
+	 * @since 1.1.0
+	 */
+	void add(Geometry2D g);
+	
+	/**
+	 * Removes a geometry from the index.
+	 * @param g - the geometry to remove
+	 * @return {@code true} if the geometry was indexed
+	 * @since 1.1.0
+	 */
+	boolean remove(Geometry2D g);
+	
+	/**
+	 * Reads the bounding box of the given geometry again after it has moved or changed shape.
+	 * @param g - the geometry to update
+	 * @since 1.1.0
+	 */
+	void update(Geometry2D g);
+	
+	/**
+	 * Reads the bounding box of all indexed geometries again.
+	 * @since 1.1.0
+	 */
+	void update();
+	
+	/**
+	 * Removes all geometries from the index.
+	 * @since 1.1.0
+	 */
+	void clear();
+	
+	/**
+	 * Returns the number of indexed geometries.
+	 * @return the number of indexed geometries
+	 * @since 1.1.0
+	 */
+	int size();
+	
+	/**
+	 * Returns all indexed geometries that intersect the given geometry. If the geometry itself is indexed, it is not included in the result.
+	 * @param g - the geometry to test
+	 * @return a list of intersecting geometries
+	 * @since 1.1.0
+	 */
+	List<Geometry2D> query(Geometry2D g);
+	
+	/**
+	 * Adds all indexed geometries that intersect the given geometry to the given list. If the geometry itself is indexed, it is not included in the result.
+	 * @param g - the geometry to test
+	 * @param out - the list to add the results to
+	 * @return the list {@code out}
+	 * @since 1.1.0
+	 */
+	List<Geometry2D> query(Geometry2D g, List<Geometry2D> out);
+	
+	/**
+	 * Returns all indexed geometries that have the given location inside of them.
+	 * @param x - x location to test
+	 * @param y - y location to test
+	 * @return a list of geometries
+	 * @since 1.1.0
+	 */
+	List<Geometry2D> query(float x, float y);
+	
+	/**
+	 * Adds all indexed geometries that have the given location inside of them to the given list.
+	 * @param x - x location to test
+	 * @param y - y location to test
+	 * @param out - the list to add the results to
+	 * @return the list {@code out}
+	 * @since 1.1.0
+	 */
+	List<Geometry2D> query(float x, float y, List<Geometry2D> out);
+	
+	/**
+	 * Returns every pair of indexed geometries that intersect. Each pair is reported once as a {@code Geometry2D[2]}.
+	 * @return a list of intersecting pairs
+	 * @since 1.1.0
+	 */
+	List<Geometry2D[]> queryPairs();
+	
+	/**
+	 * Adds every pair of indexed geometries that intersect to the given list. Each pair is reported once as a {@code Geometry2D[2]}.
+	 * @param out - the list to add the results to
+	 * @return the list {@code out}
+	 * @since 1.1.0
+	 */
+	List<Geometry2D[]> queryPairs(List<Geometry2D[]> out);
+}
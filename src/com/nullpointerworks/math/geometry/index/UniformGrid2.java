@@ -0,0 +1,323 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.geometry.index;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.nullpointerworks.math.geometry.g2d.Geometry2D;
+
+/**
+ * A spatial index that divides the plane into square cells of a fixed size. Every geometry is listed in each cell its bounding box covers. Cells are stored in a hash table, so the grid is unbounded and only occupied cells use memory.<br>
+ * <br>
+ * The grid works best when most geometries are about the size of a cell. A geometry that covers many cells is listed in each of them, which makes it more expensive to update.
+ * @since 1.1.0
+ */
+public class UniformGrid2 extends AbstractSpatialIndex2
+{
+	private final float inv;
+	
+	/*
+	 * cell range of every id
+	 */
+	private int[] cx0 = new int[16];
+	private int[] cy0 = new int[16];
+	private int[] cx1 = new int[16];
+	private int[] cy1 = new int[16];
+	
+	/*
+	 * open addressing table from cell key to bucket
+	 */
+	private long[] keys = new long[64];
+	private int[] slots = new int[64];
+	private int used = 0;
+	
+	/*
+	 * buckets of ids
+	 */
+	private int[][] items = new int[16][];
+	private int[] counts = new int[16];
+	private long[] cells = new long[16];
+	private int buckets = 0;
+	
+	/**
+	 * Create a uniform grid with the given cell size.
+	 * @param cellSize - the width and height of a cell
+	 * @since 1.1.0
+	 */
+	public UniformGrid2(float cellSize)
+	{
+		inv = 1f / cellSize;
+		Arrays.fill(slots, -1);
+	}
+	
+	@Override
+	public List<Geometry2D> query(Geometry2D g, List<Geometry2D> out)
+	{
+		int self = id(g);
+		float x0,y0,x1,y1;
+		if (self < 0)
+		{
+			x0 = g.minX(); y0 = g.minY(); x1 = g.maxX(); y1 = g.maxY();
+		}
+		else
+		{
+			x0 = minx[self]; y0 = miny[self]; x1 = maxx[self]; y1 = maxy[self];
+		}
+		
+		int s = nextStamp();
+		if (self >= 0) visit(self, s);
+		int i0 = cell(x0), i1 = cell(x1);
+		int j0 = cell(y0), j1 = cell(y1);
+		for (int i=i0; i<=i1; i++)
+		for (int j=j0; j<=j1; j++)
+		{
+			int b = find(key(i,j));
+			if (b < 0) continue;
+			int[] list = items[b];
+			for (int n=0,l=counts[b]; n<l; n++)
+			{
+				int id = list[n];
+				if (!visit(id, s)) continue;
+				if (!overlaps(id, x0,y0,x1,y1)) continue;
+				if (intersect(g, geoms[id])) out.add(geoms[id]);
+			}
+		}
+		return out;
+	}
+	
+	@Override
+	public List<Geometry2D> query(float x, float y, List<Geometry2D> out)
+	{
+		int b = find(key(cell(x),cell(y)));
+		if (b < 0) return out;
+		int[] list = items[b];
+		for (int n=0,l=counts[b]; n<l; n++)
+		{
+			int id = list[n];
+			if (!overlaps(id, x,y,x,y)) continue;
+			if (geoms[id].isInside(x, y)) out.add(geoms[id]);
+		}
+		return out;
+	}
+	
+	@Override
+	public List<Geometry2D[]> queryPairs(List<Geometry2D[]> out)
+	{
+		for (int b=0; b<buckets; b++)
+		{
+			int l = counts[b];
+			if (l < 2) continue;
+			int[] list = items[b];
+			int ci = (int)(cells[b] >> 32);
+			int cj = (int)cells[b];
+			
+			for (int n=0; n<l; n++)
+			{
+				int p = list[n];
+				for (int m=n+1; m<l; m++)
+				{
+					int q = list[m];
+					if (!overlaps(p, minx[q],miny[q],maxx[q],maxy[q])) continue;
+					
+					// a pair shares several cells, only report it in the cell holding the corner of the overlap
+					if (cell(Math.max(minx[p],minx[q])) != ci) continue;
+					if (cell(Math.max(miny[p],miny[q])) != cj) continue;
+					
+					Geometry2D a = geoms[p];
+					Geometry2D c = geoms[q];
+					if (intersect(a, c)) out.add(new Geometry2D[] {a, c});
+				}
+			}
+		}
+		return out;
+	}
+	
+	@Override
+	void insert(int id)
+	{
+		range(id);
+		cells(id, true);
+	}
+	
+	@Override
+	void delete(int id)
+	{
+		cells(id, false);
+	}
+	
+	@Override
+	void move(int id)
+	{
+		int i0 = cell(minx[id]), i1 = cell(maxx[id]);
+		int j0 = cell(miny[id]), j1 = cell(maxy[id]);
+		if (i0==cx0[id] && i1==cx1[id] && j0==cy0[id] && j1==cy1[id]) return;
+		cells(id, false);
+		range(id);
+		cells(id, true);
+	}
+	
+	@Override
+	void reset()
+	{
+		Arrays.fill(slots, -1);
+		used = 0;
+		buckets = 0;
+	}
+	
+	@Override
+	void grow(int capacity)
+	{
+		cx0 = Arrays.copyOf(cx0, capacity);
+		cy0 = Arrays.copyOf(cy0, capacity);
+		cx1 = Arrays.copyOf(cx1, capacity);
+		cy1 = Arrays.copyOf(cy1, capacity);
+	}
+	
+	/*
+	 * store the cell range covered by the bounding box of an id
+	 */
+	private void range(int id)
+	{
+		cx0[id] = cell(minx[id]);
+		cy0[id] = cell(miny[id]);
+		cx1[id] = cell(maxx[id]);
+		cy1[id] = cell(maxy[id]);
+	}
+	
+	/*
+	 * add or remove an id in all cells of its stored range
+	 */
+	private void cells(int id, boolean add)
+	{
+		for (int i=cx0[id]; i<=cx1[id]; i++)
+		for (int j=cy0[id]; j<=cy1[id]; j++)
+		{
+			long k = key(i,j);
+			if (add)
+			{
+				int b = bucket(k);
+				int l = counts[b];
+				if (l == items[b].length) items[b] = Arrays.copyOf(items[b], l << 1);
+				items[b][l] = id;
+				counts[b] = l+1;
+			}
+			else
+			{
+				int b = find(k);
+				if (b < 0) continue;
+				int[] list = items[b];
+				int l = counts[b];
+				for (int n=0; n<l; n++)
+				{
+					if (list[n] != id) continue;
+					list[n] = list[l-1];
+					counts[b] = l-1;
+					break;
+				}
+			}
+		}
+	}
+	
+	private int cell(float v)
+	{
+		return (int)Math.floor(v * inv);
+	}
+	
+	private static long key(int i, int j)
+	{
+		return ((long)i << 32) | (j & 0xffffffffL);
+	}
+	
+	private static int hash(long k, int mask)
+	{
+		long h = k * 0x9E3779B97F4A7C15L;
+		return (int)(h ^ (h >>> 32)) & mask;
+	}
+	
+	/*
+	 * returns the bucket of a cell, or -1
+	 */
+	private int find(long k)
+	{
+		int mask = slots.length-1;
+		for (int h=hash(k,mask);; h=(h+1)&mask)
+		{
+			int b = slots[h];
+			if (b < 0) return -1;
+			if (keys[h] == k) return b;
+		}
+	}
+	
+	/*
+	 * returns the bucket of a cell, creating it if needed
+	 */
+	private int bucket(long k)
+	{
+		int b = find(k);
+		if (b >= 0) return b;
+		if ((used+1) << 1 > slots.length) rehash();
+		
+		if (buckets == items.length)
+		{
+			int c = buckets << 1;
+			items = Arrays.copyOf(items, c);
+			counts = Arrays.copyOf(counts, c);
+			cells = Arrays.copyOf(cells, c);
+		}
+		b = buckets++;
+		if (items[b] == null) items[b] = new int[4];
+		counts[b] = 0;
+		cells[b] = k;
+		
+		int mask = slots.length-1;
+		int h = hash(k,mask);
+		while (slots[h] >= 0) h = (h+1)&mask;
+		keys[h] = k;
+		slots[h] = b;
+		used++;
+		return b;
+	}
+	
+	/*
+	 * rebuild the table without empty buckets, growing it while more than a quarter is in use
+	 */
+	private void rehash()
+	{
+		int live = 0;
+		for (int b=0; b<buckets; b++) if (counts[b] > 0) live++;
+		int size = slots.length;
+		while (live << 2 > size) size <<= 1;
+		int[][] oi = items;
+		int[] oc = counts;
+		long[] ok = cells;
+		int ob = buckets;
+		
+		keys = new long[size];
+		slots = new int[size];
+		Arrays.fill(slots, -1);
+		items = new int[Math.max(16, ob)][];
+		counts = new int[items.length];
+		cells = new long[items.length];
+		used = 0;
+		buckets = 0;
+		
+		int mask = size-1;
+		for (int b=0; b<ob; b++)
+		{
+			if (oc[b] == 0) continue;
+			int n = buckets++;
+			items[n] = oi[b];
+			counts[n] = oc[b];
+			cells[n] = ok[b];
+			int h = hash(ok[b],mask);
+			while (slots[h] >= 0) h = (h+1)&mask;
+			keys[h] = ok[b];
+			slots[h] = n;
+			used++;
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.geometry.logic;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A fork/join task that sums a range of independent work items, such as the slices of an area integration or the cells of a quadtree level. The range is halved until its estimated cost is no more than {@code LEAF}, every leaf computes its part with its own scratch buffers.
+ * @since 1.1.0
+ */
+final class AreaTask extends RecursiveTask<Double>
+{
+	private static final long serialVersionUID = -3318029584112417205L;
+
+	/*
+	 * the estimated cost below which the work is done on the calling thread
+	 */
+	static final long THRESHOLD = 64L*1024L;
+
+	/*
+	 * the largest estimated cost for a single task
+	 */
+	static final long LEAF = 16L*1024L;
+
+	/**
+	 * A range of work items that can be summed independently.
+	 */
+	interface Range
+	{
+		double sum(int from, int to);
+	}
+
+	private final Range range;
+	private final int cost;
+	private final int from, to;
+
+	AreaTask(Range range, int cost, int from, int to)
+	{
+		this.range = range;
+		this.cost = cost;
+		this.from = from;
+		this.to = to;
+	}
+
+	/**
+	 * Returns {@code true} if the given amount of work items, each of the given estimated cost, is large enough to be worth splitting over multiple threads.
+	 */
+	static boolean isParallel(int items, int cost)
+	{
+		return (long)items * cost >= THRESHOLD;
+	}
+
+	/*
+	 * sums the range on the given pool, or on the calling thread if the pool is null or the work is small
+	 */
+	static double sum(Range range, int cost, int items, ForkJoinPool pool)
+	{
+		if (pool != null && isParallel(items, cost))
+		{
+			return pool.invoke(new AreaTask(range, cost, 0, items));
+		}
+		return range.sum(0, items);
+	}
+
+	@Override
+	protected Double compute()
+	{
+		int items = to-from;
+		if (items <= 1 || (long)items * cost <= LEAF)
+		{
+			return range.sum(from, to);
+		}
+
+		int mid = from + items/2;
+		AreaTask left = new AreaTask(range, cost, from, mid);
+		AreaTask right = new AreaTask(range, cost, mid, to);
+		left.fork();
+		double r = right.compute();
+		return left.join() + r;
+	}
+}
@@ -0,0 +1,365 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.geometry.logic;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import com.nullpointerworks.math.geometry.g2d.Geometry2D;
+
+/**
+ * Computes the area of a logic group.<br>
+ * <br>
+ * When every geometry in the group is a circle, triangle, rectangle, rounded rectangle, point or null geometry, the area is integrated from exact cross sections. Every horizontal line through the group is cut into intervals analytically, so the covered length {@code L(y)} of a line is exact. The y axes is split at every vertex, at the top and bottom of every circle and at every crossing of two boundaries, so between two splits {@code L(y)} is smooth. Every slice is integrated with Gauss-Legendre quadrature after the substitution {@code y = a + (b-a)(1-cos t)/2}, which also smooths out the square roots at the ends of circular arcs. A slice is halved until two rules of different order agree within its share of the tolerance.<br>
+ * <br>
+ * Any other geometry can only be tested with {@code isInside}. The bounding box of the group is then divided into a quadtree, one level at a time. A cell is sampled at its corners and its center, cells with mixed samples are divided again. The estimate of a level counts cells that were never mixed in full and mixed cells by the fraction of their samples inside. Levels are added until the estimate changes less than the tolerance for two levels in a row. Features smaller than a cell of the first level, a 16 by 16 grid, can be missed by the samples.
+ * @since 1.1.0
+ */
+final class GroupArea
+{
+	/*
+	 * the smallest tolerance, relative to the area of the bounding box
+	 */
+	private static final double MIN_TOLERANCE = 1e-12;
+
+	/*
+	 * the deepest halving of a slice
+	 */
+	private static final int MAX_SPLITS = 48;
+
+	/*
+	 * the quadtree levels that are always divided, and the deepest level
+	 */
+	private static final int MIN_LEVEL = 4;
+	private static final int MAX_LEVEL = 24;
+
+	/*
+	 * the largest amount of mixed cells in a quadtree level
+	 */
+	private static final int MAX_CELLS = 1 << 22;
+
+	/*
+	 * Gauss-Legendre nodes and weights on [-1,1] of a low and high order rule
+	 */
+	private static final double[][] LOW = gauss(8);
+	private static final double[][] HIGH = gauss(16);
+
+	private GroupArea() {}
+
+	/**
+	 * Returns the area of the given geometry. The tolerance is the larger of the absolute tolerance and the relative tolerance times the area of the bounding box. An unbounded geometry, such as a group in a {@code NOT} group that is not limited by an {@code AND} group, has an infinite area.
+	 */
+	static float area(Geometry2D g, double tolerance, double relative, ForkJoinPool pool)
+	{
+		double[] b = SectionNode.bounds(g);
+		if (b == null) return Float.POSITIVE_INFINITY;
+		double bw = b[2] - b[0];
+		double bh = b[3] - b[1];
+		if (!(bw > 0.0) || !(bh > 0.0)) return 0f;
+
+		double box = bw * bh;
+		double tol = Math.max(MIN_TOLERANCE * box, Math.max(tolerance, relative * box));
+		if (tol != tol) tol = MIN_TOLERANCE * box;
+
+		SectionNode.Domain d = new SectionNode.Domain(b[0], b[2]);
+		SectionNode root = SectionNode.of(g, d);
+		double a = (root != null)? integrate(root, d.nodes, b, tol, pool): quadtree(g, b, tol, pool);
+		return (float)Math.min(a, box);
+	}
+
+	// ----------------------------------------------------------------------
+
+	/*
+	 * integrates the cross sections of the given node over the y range of the domain
+	 */
+	private static double integrate(SectionNode root, int nodes, double[] b, double tol, ForkJoinPool pool)
+	{
+		final double[] ys = splits(root, b);
+		final int slices = ys.length-1;
+		final double per = tol / (b[3] - b[1]);
+
+		AreaTask.Range range = (from, to) ->
+		{
+			SectionNode.Scratch s = new SectionNode.Scratch(nodes);
+			double sum = 0.0;
+			for (int k=from; k<to; k++)
+			{
+				double y0 = ys[k], y1 = ys[k+1];
+				sum += slice(root, s, y0, y1, per*(y1-y0), 0);
+			}
+			return sum;
+		};
+		return AreaTask.sum(range, nodes * (LOW[0].length + HIGH[0].length), slices, pool);
+	}
+
+	/*
+	 * integrates a slice, halving it until the low and high order rules agree
+	 */
+	private static double slice(SectionNode root, SectionNode.Scratch s, double y0, double y1, double tol, int depth)
+	{
+		double lo = rule(root, s, y0, y1, LOW);
+		double hi = rule(root, s, y0, y1, HIGH);
+		double mid = 0.5*(y0 + y1);
+		if (Math.abs(hi - lo) <= tol || depth >= MAX_SPLITS || !(y0 < mid && mid < y1)) return hi;
+		return slice(root, s, y0, mid, 0.5*tol, depth+1) +
+			   slice(root, s, mid, y1, 0.5*tol, depth+1);
+	}
+
+	/*
+	 * applies a quadrature rule to the slice, after substituting y = y0 + (y1-y0)(1 - cos t)/2
+	 */
+	private static double rule(SectionNode root, SectionNode.Scratch s, double y0, double y1, double[][] gl)
+	{
+		double[] x = gl[0];
+		double[] w = gl[1];
+		double h = 0.5*(y1 - y0);
+		double sum = 0.0;
+		for (int i=0; i<x.length; i++)
+		{
+			double t = 0.5*Math.PI*(x[i] + 1.0);
+			double y = y0 + h*(1.0 - Math.cos(t));
+			sum += w[i] * Math.sin(t) * root.section(y, s).length();
+		}
+		return sum * h * 0.5*Math.PI;
+	}
+
+	/*
+	 * collects the heights at which a cross section can change shape, inside the domain and sorted
+	 */
+	private static double[] splits(SectionNode root, double[] b)
+	{
+		SectionNode.Boundary bd = new SectionNode.Boundary();
+		root.boundary(bd);
+
+		// the sides of the domain clip every cross section
+		int segs = bd.segs;
+		bd.segment(b[0], b[1], b[0], b[3]);
+		bd.segment(b[2], b[1], b[2], b[3]);
+
+		double[] sg = bd.segments;
+		double[] cc = bd.circles;
+		for (int i=0; i<bd.segs; i+=4)
+		{
+			for (int j=i+4; j<bd.segs; j+=4)
+			{
+				if (i >= segs && j >= segs) continue;
+				segmentSegment(bd, sg[i],sg[i+1],sg[i+2],sg[i+3], sg[j],sg[j+1],sg[j+2],sg[j+3]);
+			}
+			for (int j=0; j<bd.circs; j+=3)
+			{
+				segmentCircle(bd, sg[i],sg[i+1],sg[i+2],sg[i+3], cc[j],cc[j+1],cc[j+2]);
+			}
+		}
+		for (int i=0; i<bd.circs; i+=3)
+		{
+			for (int j=i+3; j<bd.circs; j+=3)
+			{
+				circleCircle(bd, cc[i],cc[i+1],cc[i+2], cc[j],cc[j+1],cc[j+2]);
+			}
+		}
+
+		double[] hs = bd.heights;
+		int n = 0;
+		for (int i=0; i<bd.hs; i++)
+		{
+			if (hs[i] > b[1] && hs[i] < b[3]) hs[n++] = hs[i];
+		}
+		Arrays.sort(hs, 0, n);
+
+		double[] ys = new double[n+2];
+		int m = 0;
+		ys[m++] = b[1];
+		for (int i=0; i<n; i++)
+		{
+			if (hs[i] > ys[m-1]) ys[m++] = hs[i];
+		}
+		if (b[3] > ys[m-1]) ys[m++] = b[3];
+		return Arrays.copyOf(ys, m);
+	}
+
+	/*
+	 * adds the height at which two line segments cross
+	 */
+	private static void segmentSegment(SectionNode.Boundary bd, double ax, double ay, double bx, double by, double cx, double cy, double dx, double dy)
+	{
+		if (Math.max(ax,bx) < Math.min(cx,dx) || Math.max(cx,dx) < Math.min(ax,bx)) return;
+		if (Math.max(ay,by) < Math.min(cy,dy) || Math.max(cy,dy) < Math.min(ay,by)) return;
+		double ux = bx-ax, uy = by-ay;
+		double vx = dx-cx, vy = dy-cy;
+		double den = ux*vy - uy*vx;
+		if (den == 0.0) return;
+		double wx = cx-ax, wy = cy-ay;
+		double t = (wx*vy - wy*vx) / den;
+		double u = (wx*uy - wy*ux) / den;
+		if (t >= 0.0 && t <= 1.0 && u >= 0.0 && u <= 1.0) bd.height(ay + t*uy);
+	}
+
+	/*
+	 * adds the heights at which a line segment crosses a circle
+	 */
+	private static void segmentCircle(SectionNode.Boundary bd, double ax, double ay, double bx, double by, double cx, double cy, double r)
+	{
+		if (Math.max(ax,bx) < cx-r || Math.min(ax,bx) > cx+r) return;
+		if (Math.max(ay,by) < cy-r || Math.min(ay,by) > cy+r) return;
+		double ux = bx-ax, uy = by-ay;
+		double fx = ax-cx, fy = ay-cy;
+		double qa = ux*ux + uy*uy;
+		if (qa == 0.0) return;
+		double qb = 2.0*(fx*ux + fy*uy);
+		double qc = fx*fx + fy*fy - r*r;
+		double disc = qb*qb - 4.0*qa*qc;
+		if (disc < 0.0) return;
+		double sq = Math.sqrt(disc);
+		double t1 = (-qb - sq) / (2.0*qa);
+		double t2 = (-qb + sq) / (2.0*qa);
+		if (t1 >= 0.0 && t1 <= 1.0) bd.height(ay + t1*uy);
+		if (t2 >= 0.0 && t2 <= 1.0) bd.height(ay + t2*uy);
+	}
+
+	/*
+	 * adds the heights at which two circles cross
+	 */
+	private static void circleCircle(SectionNode.Boundary bd, double ax, double ay, double ar, double bx, double by, double br)
+	{
+		double dx = bx-ax, dy = by-ay;
+		double d2 = dx*dx + dy*dy;
+		double d = Math.sqrt(d2);
+		if (d == 0.0 || d > ar+br || d < Math.abs(ar-br)) return;
+		double a = (ar*ar - br*br + d2) / (2.0*d);
+		double h = Math.sqrt(Math.max(0.0, ar*ar - a*a));
+		double my = ay + a*dy/d;
+		bd.height(my + h*dx/d);
+		bd.height(my - h*dx/d);
+	}
+
+	/*
+	 * computes the nodes and weights of an n-point Gauss-Legendre rule by Newton's method
+	 */
+	private static double[][] gauss(int n)
+	{
+		double[] x = new double[n];
+		double[] w = new double[n];
+		for (int i=0; i<(n+1)/2; i++)
+		{
+			double z = Math.cos(Math.PI * (i + 0.75) / (n + 0.5));
+			double dp = 0.0;
+			for (int it=0; it<100; it++)
+			{
+				double p0 = 1.0, p1 = 0.0;
+				for (int j=1; j<=n; j++)
+				{
+					double p2 = p1;
+					p1 = p0;
+					p0 = ((2.0*j - 1.0) * z * p1 - (j - 1.0) * p2) / j;
+				}
+				dp = n * (z*p0 - p1) / (z*z - 1.0);
+				double z1 = z;
+				z = z1 - p0/dp;
+				if (Math.abs(z - z1) < 1e-15) break;
+			}
+			x[i] = -z;
+			x[n-1-i] = z;
+			w[i] = 2.0 / ((1.0 - z*z) * dp*dp);
+			w[n-1-i] = w[i];
+		}
+		return new double[][] {x, w};
+	}
+
+	// ----------------------------------------------------------------------
+
+	/*
+	 * estimates the area with a quadtree over the domain, one level at a time
+	 */
+	private static double quadtree(Geometry2D g, double[] b, double tol, ForkJoinPool pool)
+	{
+		int side = 1 << MIN_LEVEL;
+		int m = side*side;
+		int[] cx = new int[m];
+		int[] cy = new int[m];
+		for (int i=0; i<m; i++)
+		{
+			cx[i] = i % side;
+			cy[i] = i / side;
+		}
+
+		double full = 0.0;
+		double last = Double.NaN;
+		int calm = 0;
+		for (int level=MIN_LEVEL; ; level++)
+		{
+			double cw = (b[2] - b[0]) / (1 << level);
+			double ch = (b[3] - b[1]) / (1 << level);
+			byte[] inside = classify(g, b[0], b[1], cw, ch, cx, cy, m, pool);
+
+			// cells with all samples alike are settled, mixed cells count by their fraction
+			double cell = cw*ch;
+			double mixed = 0.0;
+			int n = 0;
+			for (int i=0; i<m; i++)
+			{
+				int k = inside[i];
+				if (k == 0) continue;
+				if (k == 5)
+				{
+					full += cell;
+					continue;
+				}
+				mixed += cell * k / 5.0;
+				cx[n] = cx[i];
+				cy[n] = cy[i];
+				n++;
+			}
+			double estimate = full + mixed;
+
+			if (n == 0 || level >= MAX_LEVEL || 4L*n > MAX_CELLS) return estimate;
+			// the boundary samples are noisy, so two levels in a row have to agree
+			calm = (Math.abs(estimate - last) <= tol)? calm+1: 0;
+			if (calm >= 2) return estimate;
+			last = estimate;
+
+			// divide the mixed cells into the next level
+			int[] nx = new int[4*n];
+			int[] ny = new int[4*n];
+			for (int i=0, j=0; i<n; i++)
+			{
+				int x = cx[i] << 1, y = cy[i] << 1;
+				nx[j] = x;   ny[j++] = y;
+				nx[j] = x+1; ny[j++] = y;
+				nx[j] = x;   ny[j++] = y+1;
+				nx[j] = x+1; ny[j++] = y+1;
+			}
+			cx = nx;
+			cy = ny;
+			m = 4*n;
+		}
+	}
+
+	/*
+	 * counts the samples inside the geometry for every cell
+	 */
+	private static byte[] classify(Geometry2D g, double x0, double y0, double cw, double ch, int[] cx, int[] cy, int m, ForkJoinPool pool)
+	{
+		final byte[] inside = new byte[m];
+		AreaTask.Range range = (from, to) ->
+		{
+			for (int i=from; i<to; i++)
+			{
+				double x1 = x0 + cx[i]*cw, x2 = x1 + cw;
+				double y1 = y0 + cy[i]*ch, y2 = y1 + ch;
+				int k = 0;
+				if (g.isInside((float)x1, (float)y1)) k++;
+				if (g.isInside((float)x2, (float)y1)) k++;
+				if (g.isInside((float)x1, (float)y2)) k++;
+				if (g.isInside((float)x2, (float)y2)) k++;
+				if (g.isInside((float)(0.5*(x1+x2)), (float)(0.5*(y1+y2)))) k++;
+				inside[i] = (byte)k;
+			}
+			return 0.0;
+		};
+		AreaTask.sum(range, 5, m, pool);
+		return inside;
+	}
+}
@@ -7,6 +7,7 @@ package com.nullpointerworks.math.geometry.logic;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import com.nullpointerworks.math.geometry.g2d.Geometry2D;
 import com.nullpointerworks.math.geometry.g2d.Rectangle;
@@ -35,6 +36,27 @@ public abstract class LogicGroup2D extends Geometry2D
 		if (geom!=null) geoms.add(geom);
 	}
 	
+	/**
+	 * Returns the amount of geometries in this group.
+	 * @return the amount of geometries in this group
+	 * @since 1.1.0
+	 */
+	public int size()
+	{
+		return geoms.size();
+	}
+	
+	/**
+	 * Returns the geometry at the given index in this group.
+	 * @param index - the index of the geometry
+	 * @return the geometry at the given index
+	 * @since 1.1.0
+	 */
+	public Geometry2D get(int index)
+	{
+		return geoms.get(index);
+	}
+	
 	/**
 	 * Removes all geometries from this group.
 	 * @since 1.0.0
@@ -44,6 +66,17 @@ public abstract class LogicGroup2D extends Geometry2D
 		geoms.clear();
 	}
 	
+	/**
+	 * Compiles this group into a flat program that tests locations without walking the group. The program is a snapshot, it has to be compiled again after the group or its geometries have changed.
+	 * @return the compiled program
+	 * @since 1.1.0
+	 * @see LogicProgram2D
+	 */
+	public LogicProgram2D compile()
+	{
+		return LogicProgram2D.compile(this);
+	}
+	
 	@Override
 	public Type type() 
 	{
@@ -77,35 +110,108 @@ public abstract class LogicGroup2D extends Geometry2D
 		}
 	}
 	
+	/*
+	 * the default tolerance of the area, relative to the area of the bounding box
+	 */
 	final float resolution = 0.01f;
 	
 	/**
-	 * Currently, there is no way to compute the area of the group. This might be implemented in future iterations of the math library.
-	 * @return the value {@code -1.0}
+	 * Returns the area of this group, within one percent of the area of its bounding box. Groups of circles, triangles, rectangles and points are computed analytically and are usually exact to float precision. Other geometries are estimated with a quadtree. A group that is not bounded, like a {@code NOT} group which is not inside an {@code AND} group, has an infinite area.
+	 * @return the area of this group
 	 * @since 1.0.0
+	 * @see #area(float, ForkJoinPool)
 	 */
 	@Override
 	public float area() 
 	{
-		return -1f;
+		return GroupArea.area(this, 0.0, resolution, null);
+	}
+	
+	/**
+	 * Returns the area of this group, within the given tolerance. See {@link #area(float, ForkJoinPool)}.
+	 * @param tolerance - the largest error of the area, in square units
+	 * @return the area of this group
+	 * @since 1.1.0
+	 */
+	public float area(float tolerance) 
+	{
+		return GroupArea.area(this, tolerance, 0.0, null);
 	}
 	
+	/**
+	 * Returns the area of this group, within the given tolerance, using the given fork/join pool.<br>
+	 * <br>
+	 * When the group only holds circles, triangles, rectangles, rounded rectangles, points, null geometries and other logic groups, the area is integrated from exact cross sections of the group. The y axes is split where two boundaries cross or a boundary turns, and every slice is integrated with Gauss-Legendre quadrature until it is within its share of the tolerance. Subclasses of these classes may override {@code isInside}, so they count as other geometries. Any other geometry is estimated with a quadtree over the bounding box, which divides cells with mixed {@code isInside} samples until the estimate changes less than the tolerance for two levels in a row. Features smaller than a 16th of the bounding box can be missed by the quadtree.<br>
+	 * <br>
+	 * Large groups are split over the pool, small groups and a {@code null} pool are computed on the calling thread. The group must not change while its area is computed.
+	 * @param tolerance - the largest error of the area, in square units
+	 * @param pool - the pool to compute on, or {@code null}
+	 * @return the area of this group
+	 * @since 1.1.0
+	 */
+	public float area(float tolerance, ForkJoinPool pool) 
+	{
+		return GroupArea.area(this, tolerance, 0.0, pool);
+	}
+	
+	/**
+	 * Returns the bounding box around all geometries in this group. The bounds are computed from the geometries in the group on every call.
+	 * @return a {@code Rectangle} that fits around all geometries in this group
+	 * @since 1.0.0
+	 */
 	@Override
 	public Rectangle getBoundingBox() 
 	{
-		float x1 = Float.MAX_VALUE;
-		float y1 = Float.MAX_VALUE;
-		float x2 = 0f;
-		float y2 = 0f;
+		float x1 = minX();
+		float y1 = minY();
+		return new Rectangle(x1, y1, maxX()-x1, maxY()-y1);
+	}
+	
+	@Override
+	public float minX()
+	{
+		float x = Float.MAX_VALUE;
 		for (int i=0,l=geoms.size(); i<l; i++)
 		{
-			Geometry2D g = geoms.get(i);
-			Rectangle r = g.getBoundingBox();
-			if (r.x < x1) x1 = r.x;
-			if (r.y < y1) y1 = r.y;
-			if ((r.w+r.x) > x2) x2 = (r.w+r.x);
-			if ((r.h+r.y) > y2) y2 = (r.h+r.y);
+			float gx = geoms.get(i).minX();
+			if (gx < x) x = gx;
+		}
+		return x;
+	}
+	
+	@Override
+	public float minY()
+	{
+		float y = Float.MAX_VALUE;
+		for (int i=0,l=geoms.size(); i<l; i++)
+		{
+			float gy = geoms.get(i).minY();
+			if (gy < y) y = gy;
+		}
+		return y;
+	}
+	
+	@Override
+	public float maxX()
+	{
+		float x = -Float.MAX_VALUE;
+		for (int i=0,l=geoms.size(); i<l; i++)
+		{
+			float gx = geoms.get(i).maxX();
+			if (gx > x) x = gx;
+		}
+		return x;
+	}
+	
+	@Override
+	public float maxY()
+	{
+		float y = -Float.MAX_VALUE;
+		for (int i=0,l=geoms.size(); i<l; i++)
+		{
+			float gy = geoms.get(i).maxY();
+			if (gy > y) y = gy;
 		}
-		return new Rectangle(x1, y1, x2-x1, y2-y1);
+		return y;
 	}
 }
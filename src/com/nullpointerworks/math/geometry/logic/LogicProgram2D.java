@@ -0,0 +1,491 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.geometry.logic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import com.nullpointerworks.math.geometry.g2d.Circle;
+import com.nullpointerworks.math.geometry.g2d.Geometry2D;
+import com.nullpointerworks.math.geometry.g2d.Point;
+import com.nullpointerworks.math.geometry.g2d.Rectangle;
+import com.nullpointerworks.math.geometry.g2d.Triangle;
+import com.nullpointerworks.math.geometry.logic.LogicXor2D.LogicMode;
+
+/**
+ * A logic group compiled into a flat program. Instead of walking the tree of groups and geometries on every test, the tree is translated once into an array of instructions that test primitives against the location and combine the results. The program is evaluated in a single loop without virtual calls or list access.
+ * <pre>
+ * Geometry2D region = Geometry2.AND(a, Geometry2.NOT(b, c));
+ * LogicProgram2D program = LogicProgram2D.compile(region);
+ * boolean in = program.isInside(x, y);</pre>
+ * The program short-circuits {@code AND}, {@code OR} and {@code NOT} groups as soon as their result is known, and an {@code XOR} group in the "if 1 and only 1" interpretation as soon as a second geometry is hit. Every group whose geometries are bounded is guarded by its bounding box, so locations outside of it skip the whole group. The bounding box of an {@code AND} group is the overlap of the bounding boxes of its geometries.<br>
+ * <br>
+ * Circles, triangles and points are tested exactly as their own {@code isInside(float,float)} methods do. Rectangles are tested as a box that includes its edges. Any other geometry, including a subclass of a library geometry or group, is called through its own {@code isInside(float,float)} method. The coordinates of all primitives are copied when the program is compiled, so the program has to be compiled again after a geometry in the tree has changed.<br>
+ * <br>
+ * A program does not change after it has been compiled and can be shared between threads.
+ * @since 1.1.0
+ * @see LogicGroup2D
+ */
+public final class LogicProgram2D
+{
+	/*
+	 * instruction set. every instruction takes the opcode and a fixed amount of operands
+	 * from the code array. the result of the last test is kept in a single boolean register
+	 */
+	private static final int CIRCLE 	= 0;	// const			r = inside circle
+	private static final int TRIANGLE 	= 1;	// const			r = inside triangle
+	private static final int BOX 		= 2;	// const			r = inside box, edges included
+	private static final int POINT 		= 3;	// const			r = on point
+	private static final int CALL 		= 4;	// geometry		r = geometry.isInside()
+	private static final int CONST 		= 5;	// value			r = value
+	private static final int IF_TRUE 	= 6;	// target			jump if r
+	private static final int IF_FALSE 	= 7;	// target			jump if !r
+	private static final int NEGATE 	= 8;	// 				r = !r
+	private static final int GUARD 		= 9;	// const target value	if outside box: r = value, jump
+	private static final int XOR_BEGIN 	= 10;	// 				push a counter
+	private static final int XOR_ODD 	= 11;	// 				flip the parity of the counter if r
+	private static final int XOR_ONE 	= 12;	// target			count r, jump on the second hit
+	private static final int XOR_END 	= 13;	// 				r = counter is one, pop
+
+	/*
+	 * an xor counter takes two bits of a long
+	 */
+	private static final int MAX_XOR_DEPTH = 32;
+
+	private final int[] code;
+	private final float[] consts;
+	private final Geometry2D[] calls;
+
+	private LogicProgram2D(int[] code, float[] consts, Geometry2D[] calls)
+	{
+		this.code = code;
+		this.consts = consts;
+		this.calls = calls;
+	}
+
+	/**
+	 * Compiles the given geometry into a program. The geometry is usually a logic group, but any geometry is accepted.
+	 * @param geom - the geometry to compile
+	 * @return the compiled program
+	 * @since 1.1.0
+	 */
+	public static LogicProgram2D compile(Geometry2D geom)
+	{
+		Compiler c = new Compiler();
+		c.emit(geom, 0);
+		return new LogicProgram2D(Arrays.copyOf(c.code, c.size),
+								  Arrays.copyOf(c.consts, c.csize),
+								  c.calls.toArray(new Geometry2D[c.calls.size()]));
+	}
+
+	/**
+	 * Returns the amount of integers in the code of this program.
+	 * @return the amount of integers in the code of this program
+	 * @since 1.1.0
+	 */
+	public int length()
+	{
+		return code.length;
+	}
+
+	/**
+	 * Test to see if a location is found inside of the compiled geometry.
+	 * @param px - x location to test
+	 * @param py - y location to test
+	 * @return {@code true} if the location is inside the compiled geometry
+	 * @since 1.1.0
+	 */
+	public boolean isInside(float px, float py)
+	{
+		final int[] code = this.code;
+		final float[] c = this.consts;
+		final int end = code.length;
+		boolean r = false;
+		long acc = 0L;
+		int pc = 0;
+
+		while (pc < end)
+		{
+			switch (code[pc])
+			{
+			case CIRCLE:
+			{
+				int k = code[pc+1];
+				float dx = c[k] - px;
+				float dy = c[k+1] - py;
+				r = (dx*dx + dy*dy) < c[k+2];
+				pc += 2;
+				break;
+			}
+			case TRIANGLE:
+			{
+				int k = code[pc+1];
+				boolean b1 = (px - c[k  ]) * c[k+ 2] - c[k+ 3] * (py - c[k+ 1]) < 0f;
+				boolean b2 = (px - c[k+4]) * c[k+ 6] - c[k+ 7] * (py - c[k+ 5]) < 0f;
+				boolean b3 = (px - c[k+8]) * c[k+10] - c[k+11] * (py - c[k+ 9]) < 0f;
+				r = (b1 == b2) && (b2 == b3);
+				pc += 2;
+				break;
+			}
+			case BOX:
+			{
+				int k = code[pc+1];
+				r = c[k] <= px && px <= c[k+2] && c[k+1] <= py && py <= c[k+3];
+				pc += 2;
+				break;
+			}
+			case POINT:
+			{
+				int k = code[pc+1];
+				r = px == c[k] && py == c[k+1];
+				pc += 2;
+				break;
+			}
+			case CALL:
+				r = calls[code[pc+1]].isInside(px, py);
+				pc += 2;
+				break;
+
+			case CONST:
+				r = code[pc+1] != 0;
+				pc += 2;
+				break;
+
+			case IF_TRUE:
+				pc = (r)? code[pc+1]: pc+2;
+				break;
+
+			case IF_FALSE:
+				pc = (r)? pc+2: code[pc+1];
+				break;
+
+			case NEGATE:
+				r = !r;
+				pc += 1;
+				break;
+
+			case GUARD:
+			{
+				int k = code[pc+1];
+				if (px < c[k] || px > c[k+2] || py < c[k+1] || py > c[k+3])
+				{
+					r = code[pc+3] != 0;
+					pc = code[pc+2];
+				}
+				else pc += 4;
+				break;
+			}
+			case XOR_BEGIN:
+				acc <<= 2;
+				pc += 1;
+				break;
+
+			case XOR_ODD:
+				if (r) acc ^= 1L;
+				pc += 1;
+				break;
+
+			case XOR_ONE:
+				if (r)
+				{
+					if ((acc & 1L) != 0L)
+					{
+						acc ^= 3L;
+						pc = code[pc+1];
+						break;
+					}
+					acc |= 1L;
+				}
+				pc += 2;
+				break;
+
+			case XOR_END:
+				r = (acc & 3L) == 1L;
+				acc >>>= 2;
+				pc += 1;
+				break;
+
+			default:
+				return r;
+			}
+		}
+		return r;
+	}
+
+	/**
+	 * Tests a list of locations against the compiled geometry. For every location {@code (xs[n], ys[n])} the result {@code out[n]} is set to {@code true} if it is inside the geometry.
+	 * @param xs - the x locations to test
+	 * @param ys - the y locations to test
+	 * @param out - the destination for the results, at least as long as {@code xs}
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public boolean[] isInside(float[] xs, float[] ys, boolean[] out)
+	{
+		for (int n=0, l=xs.length; n<l; n++)
+		{
+			out[n] = isInside(xs[n], ys[n]);
+		}
+		return out;
+	}
+
+	/**
+	 * Tests a list of locations against the compiled geometry. For every location {@code (xs[n], ys[n])} bit {@code n} is set if it is inside the geometry, and cleared otherwise.
+	 * @param xs - the x locations to test
+	 * @param ys - the y locations to test
+	 * @param out - the destination for the results
+	 * @return the destination set
+	 * @since 1.1.0
+	 */
+	public BitSet isInside(float[] xs, float[] ys, BitSet out)
+	{
+		for (int n=0, l=xs.length; n<l; n++)
+		{
+			out.set(n, isInside(xs[n], ys[n]));
+		}
+		return out;
+	}
+
+	/*
+	 * translates a geometry tree into instructions
+	 */
+	private static final class Compiler
+	{
+		int[] code = new int[64];
+		float[] consts = new float[64];
+		List<Geometry2D> calls = new ArrayList<Geometry2D>();
+		int size = 0;
+		int csize = 0;
+
+		/*
+		 * emits the instructions of a geometry. leaves its result in the register
+		 */
+		void emit(Geometry2D g, int xorDepth)
+		{
+			Class<?> k = (g == null)? null: g.getClass();
+			if (k == Circle.class)
+			{
+				Circle c = (Circle)g;
+				op(CIRCLE, constants(c.x, c.y, c.sqr));
+			}
+			else
+			if (k == Triangle.class)
+			{
+				Triangle t = (Triangle)g;
+				op(TRIANGLE, constants(edge(t.v1, t.v2)));
+				constants(edge(t.v2, t.v3));
+				constants(edge(t.v3, t.v1));
+			}
+			else
+			if (k == Rectangle.class && isBox((Rectangle)g))
+			{
+				Rectangle r = (Rectangle)g;
+				op(BOX, constants(r.x, r.y, r.x+r.w, r.y+r.h));
+			}
+			else
+			if (k == Point.class)
+			{
+				Point p = (Point)g;
+				op(POINT, constants(p.x, p.y));
+			}
+			else
+			if (k == LogicAnd2D.class)
+			{
+				group(g, xorDepth, IF_FALSE, 1);
+			}
+			else
+			if (k == LogicOr2D.class)
+			{
+				group(g, xorDepth, IF_TRUE, 0);
+			}
+			else
+			if (k == LogicNot2D.class)
+			{
+				// not is the negated or of its geometries
+				float[] box = bounds(g);
+				int guard = (box != null)? guard(box, 1): -1;
+				children(((LogicGroup2D)g).geoms, xorDepth, IF_TRUE, 0);
+				op(NEGATE);
+				if (guard >= 0) code[guard] = size;
+			}
+			else
+			if (k == LogicXor2D.class && xorDepth < MAX_XOR_DEPTH)
+			{
+				LogicXor2D x = (LogicXor2D)g;
+				List<Geometry2D> geoms = x.geoms;
+				boolean one = x.getInterpretation() == LogicMode.ONLY_ONE;
+				float[] box = bounds(g);
+				int guard = (box != null)? guard(box, 0): -1;
+
+				op(XOR_BEGIN);
+				List<Integer> jumps = new ArrayList<Integer>();
+				for (int i=0,l=geoms.size(); i<l; i++)
+				{
+					emit(geoms.get(i), xorDepth+1);
+					if (one)
+					{
+						op(XOR_ONE, 0);
+						jumps.add(size-1);
+					}
+					else op(XOR_ODD);
+				}
+				for (int j : jumps) code[j] = size;
+				op(XOR_END);
+
+				if (guard >= 0) code[guard] = size;
+			}
+			else
+			if (g == null)
+			{
+				op(CONST, 0);
+			}
+			else
+			{
+				op(CALL, calls.size());
+				calls.add(g);
+			}
+		}
+
+		/*
+		 * and/or group. jumps out as soon as a geometry gives the deciding result
+		 */
+		void group(Geometry2D g, int xorDepth, int jump, int empty)
+		{
+			float[] box = bounds(g);
+			int guard = (box != null)? guard(box, 0): -1;
+			children(((LogicGroup2D)g).geoms, xorDepth, jump, empty);
+			if (guard >= 0) code[guard] = size;
+		}
+
+		void children(List<Geometry2D> geoms, int xorDepth, int jump, int empty)
+		{
+			int l = geoms.size();
+			if (l == 0)
+			{
+				op(CONST, empty);
+				return;
+			}
+
+			int[] jumps = new int[l-1];
+			for (int i=0; i<l; i++)
+			{
+				emit(geoms.get(i), xorDepth);
+				if (i < l-1)
+				{
+					op(jump, 0);
+					jumps[i] = size-1;
+				}
+			}
+			for (int j : jumps) code[j] = size;
+		}
+
+		/*
+		 * emits a bounding box guard and returns the location of its jump target
+		 */
+		int guard(float[] box, int value)
+		{
+			op(GUARD, constants(box), 0, value);
+			return size-2;
+		}
+
+		/*
+		 * the box outside of which the geometry is never inside, or null if there is none.
+		 * for a not group, the box outside of which it is always inside
+		 */
+		float[] bounds(Geometry2D g)
+		{
+			Class<?> k = g.getClass();
+			if (k == Circle.class || k == Point.class)
+				return box(g.minX(), g.minY(), g.maxX(), g.maxY());
+
+			if (k == Rectangle.class)
+				return isBox((Rectangle)g)? box(g.minX(), g.minY(), g.maxX(), g.maxY()): null;
+
+			if (k == Triangle.class)
+				return (g.area() > 0f)? box(g.minX(), g.minY(), g.maxX(), g.maxY()): null;
+
+			if (k == LogicAnd2D.class)
+			{
+				// the overlap of every bounded geometry
+				float[] res = null;
+				for (Geometry2D c : ((LogicGroup2D)g).geoms)
+				{
+					float[] b = bounds(c);
+					if (b == null || c.getClass() == LogicNot2D.class) continue;
+					if (res == null) res = b;
+					else
+					{
+						res[0] = Math.max(res[0], b[0]);
+						res[1] = Math.max(res[1], b[1]);
+						res[2] = Math.min(res[2], b[2]);
+						res[3] = Math.min(res[3], b[3]);
+					}
+				}
+				return res;
+			}
+
+			if (k == LogicOr2D.class || k == LogicNot2D.class || k == LogicXor2D.class)
+			{
+				// the union of all geometries, which all have to be bounded
+				List<Geometry2D> geoms = ((LogicGroup2D)g).geoms;
+				if (geoms.isEmpty()) return null;
+				float[] res = null;
+				for (Geometry2D c : geoms)
+				{
+					float[] b = bounds(c);
+					if (b == null || c.getClass() == LogicNot2D.class) return null;
+					if (res == null) res = b;
+					else
+					{
+						res[0] = Math.min(res[0], b[0]);
+						res[1] = Math.min(res[1], b[1]);
+						res[2] = Math.max(res[2], b[2]);
+						res[3] = Math.max(res[3], b[3]);
+					}
+				}
+				return res;
+			}
+			return null;
+		}
+
+		void op(int... ops)
+		{
+			if (size + ops.length > code.length) code = Arrays.copyOf(code, Math.max(code.length*2, size+ops.length));
+			for (int o : ops) code[size++] = o;
+		}
+
+		int constants(float... cs)
+		{
+			if (csize + cs.length > consts.length) consts = Arrays.copyOf(consts, Math.max(consts.length*2, csize+cs.length));
+			int k = csize;
+			for (float f : cs) consts[csize++] = f;
+			return k;
+		}
+
+		/*
+		 * a triangle edge as used in its cross product test
+		 */
+		static float[] edge(float[] p2, float[] p3)
+		{
+			return new float[] {p3[0], p3[1], p2[1] - p3[1], p2[0] - p3[0]};
+		}
+
+		static float[] box(float x1, float y1, float x2, float y2)
+		{
+			return new float[] {x1, y1, x2, y2};
+		}
+
+		/*
+		 * rectangles with a positive size are inside up to and including their edges
+		 */
+		static boolean isBox(Rectangle r)
+		{
+			return r.w > 0f && r.h > 0f;
+		}
+	}
+}
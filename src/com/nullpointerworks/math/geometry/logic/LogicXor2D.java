@@ -50,6 +50,16 @@ public class LogicXor2D extends LogicGroup2D
 		inter = lm;
 	}
 	
+	/**
+	 * Returns the XOR logic mode of this group.
+	 * @return the XOR logic mode of this group
+	 * @since 1.1.0
+	 */
+	public LogicMode getInterpretation()
+	{
+		return inter;
+	}
+	
 	@Override
 	public boolean isInside(float x, float y) 
 	{
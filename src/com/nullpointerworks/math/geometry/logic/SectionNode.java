@@ -0,0 +1,583 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.geometry.logic;
+
+import java.util.Arrays;
+
+import com.nullpointerworks.math.geometry.g2d.Circle;
+import com.nullpointerworks.math.geometry.g2d.Geometry2D;
+import com.nullpointerworks.math.geometry.g2d.NullGeometry;
+import com.nullpointerworks.math.geometry.g2d.Point;
+import com.nullpointerworks.math.geometry.g2d.Rectangle;
+import com.nullpointerworks.math.geometry.g2d.Triangle;
+import com.nullpointerworks.math.geometry.logic.LogicXor2D.LogicMode;
+
+import exp.nullpointerworks.math.geometry.g2d.RoundRectangle;
+
+/**
+ * A geometry prepared for computing its area. For a horizontal line a node computes the exact cross section of the geometry, as a list of intervals along the x axes. Groups combine the intervals of their geometries by counting how many geometries cover each part of the line. Every node also reports its boundary, so the area integration can split the y axes where cross sections change shape.<br>
+ * <br>
+ * Nodes do not change while computing, all intermediate intervals are kept in a {@code Scratch} per thread.
+ * @since 1.1.0
+ */
+abstract class SectionNode
+{
+	/*
+	 * the x range of the domain, every cross section is clipped to it
+	 */
+	final double x1, x2;
+
+	/*
+	 * index of the interval buffer of this node in the scratch
+	 */
+	final int id;
+
+	SectionNode(Domain d)
+	{
+		this.x1 = d.x1;
+		this.x2 = d.x2;
+		this.id = d.nodes++;
+	}
+
+	/*
+	 * computes the cross section of this node on the line at y
+	 */
+	abstract Spans section(double y, Scratch s);
+
+	/*
+	 * adds the boundary of this node to the given collection
+	 */
+	abstract void boundary(Boundary b);
+
+	/**
+	 * Prepares the given geometry for computing its area, or returns {@code null} if a geometry in it has no known cross section. Only the exact library classes have a known cross section, subclasses may override {@code isInside} and are left to the quadtree.
+	 */
+	static SectionNode of(Geometry2D g, Domain d)
+	{
+		Class<?> c = (g == null)? null: g.getClass();
+		if (c == Circle.class) return new CircleNode((Circle)g, d);
+		if (c == Triangle.class) return new TriangleNode((Triangle)g, d);
+		if (c == Rectangle.class) return new BoxNode((Rectangle)g, d);
+		if (c == Point.class) return new EmptyNode(d);
+		if (c == NullGeometry.class) return new FullNode(d);
+		if (c == RoundRectangle.class && ((RoundRectangle)g).w > 0f && ((RoundRectangle)g).h > 0f) return new RoundNode((RoundRectangle)g, d);
+		if (g instanceof LogicGroup2D)
+		{
+			int rule;
+			if (c == LogicAnd2D.class) rule = GroupNode.AND;
+			else if (c == LogicOr2D.class) rule = GroupNode.OR;
+			else if (c == LogicNot2D.class) rule = GroupNode.NOT;
+			else if (c == LogicXor2D.class) rule = (((LogicXor2D)g).getInterpretation() == LogicMode.ONLY_ONE)? GroupNode.ONE: GroupNode.ODD;
+			else return null;
+
+			LogicGroup2D lg = (LogicGroup2D)g;
+			SectionNode[] children = new SectionNode[lg.size()];
+			for (int i=0; i<children.length; i++)
+			{
+				children[i] = of(lg.get(i), d);
+				if (children[i] == null) return null;
+			}
+			return new GroupNode(d, children, rule);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the box outside of which the geometry is never inside, as {@code {x1,y1,x2,y2}}, or {@code null} if the geometry is unbounded. Unknown geometries are trusted to stay within their bounding box.
+	 */
+	static double[] bounds(Geometry2D g)
+	{
+		if (g == null || g instanceof NullGeometry) return null;
+
+		if (g.getClass() == LogicAnd2D.class)
+		{
+			// the overlap of every bounded geometry
+			LogicGroup2D lg = (LogicGroup2D)g;
+			double[] res = null;
+			for (int i=0, l=lg.size(); i<l; i++)
+			{
+				double[] b = bounds(lg.get(i));
+				if (b == null) continue;
+				if (res == null) res = b;
+				else
+				{
+					res[0] = Math.max(res[0], b[0]);
+					res[1] = Math.max(res[1], b[1]);
+					res[2] = Math.min(res[2], b[2]);
+					res[3] = Math.min(res[3], b[3]);
+				}
+			}
+			return res;
+		}
+
+		if (g instanceof LogicNot2D) return null;
+
+		if (g instanceof LogicGroup2D)
+		{
+			// the union of all geometries, which all have to be bounded
+			LogicGroup2D lg = (LogicGroup2D)g;
+			if (lg.size() == 0) return new double[] {0.0, 0.0, 0.0, 0.0};
+			double[] res = null;
+			for (int i=0, l=lg.size(); i<l; i++)
+			{
+				double[] b = bounds(lg.get(i));
+				if (b == null) return null;
+				if (res == null) res = b;
+				else
+				{
+					res[0] = Math.min(res[0], b[0]);
+					res[1] = Math.min(res[1], b[1]);
+					res[2] = Math.max(res[2], b[2]);
+					res[3] = Math.max(res[3], b[3]);
+				}
+			}
+			return res;
+		}
+
+		if (g instanceof Rectangle)
+		{
+			// rectangles of a negative size are still inside between their corners
+			Rectangle r = (Rectangle)g;
+			return new double[] {Math.min(r.x, r.x+r.w), Math.min(r.y, r.y+r.h),
+								 Math.max(r.x, r.x+r.w), Math.max(r.y, r.y+r.h)};
+		}
+		return new double[] {g.minX(), g.minY(), g.maxX(), g.maxY()};
+	}
+
+	/**
+	 * The domain of the computation, and a counter for the nodes made in it.
+	 */
+	static final class Domain
+	{
+		final double x1, x2;
+		int nodes = 0;
+
+		Domain(double x1, double x2)
+		{
+			this.x1 = x1;
+			this.x2 = x2;
+		}
+	}
+
+	/**
+	 * The boundary curves of a geometry: line segments, circles and the heights of horizontal edges and vertices.
+	 */
+	static final class Boundary
+	{
+		double[] segments = new double[64];
+		double[] circles = new double[48];
+		double[] heights = new double[64];
+		int segs = 0, circs = 0, hs = 0;
+
+		void segment(double ax, double ay, double bx, double by)
+		{
+			if (segs+4 > segments.length) segments = Arrays.copyOf(segments, segments.length*2);
+			segments[segs++] = ax;
+			segments[segs++] = ay;
+			segments[segs++] = bx;
+			segments[segs++] = by;
+			height(ay);
+			height(by);
+		}
+
+		void circle(double cx, double cy, double r)
+		{
+			if (!(r > 0.0)) return;
+			if (circs+3 > circles.length) circles = Arrays.copyOf(circles, circles.length*2);
+			circles[circs++] = cx;
+			circles[circs++] = cy;
+			circles[circs++] = r;
+			height(cy - r);
+			height(cy + r);
+		}
+
+		void height(double y)
+		{
+			if (hs+1 > heights.length) heights = Arrays.copyOf(heights, heights.length*2);
+			heights[hs++] = y;
+		}
+	}
+
+	/**
+	 * A list of intervals, as pairs of x values.
+	 */
+	static final class Spans
+	{
+		double[] v = new double[16];
+		int n = 0;
+
+		void clear()
+		{
+			n = 0;
+		}
+
+		/*
+		 * appends an interval clipped to [lo,hi], merging it with the last interval if they touch
+		 */
+		void add(double from, double to, double lo, double hi)
+		{
+			if (from < lo) from = lo;
+			if (to > hi) to = hi;
+			if (!(from < to)) return;
+			if (n > 0 && v[n-1] >= from)
+			{
+				if (to > v[n-1]) v[n-1] = to;
+				return;
+			}
+			if (n+2 > v.length) v = Arrays.copyOf(v, v.length*2);
+			v[n++] = from;
+			v[n++] = to;
+		}
+
+		double length()
+		{
+			double l = 0.0;
+			for (int k=0; k<n; k+=2) l += v[k+1] - v[k];
+			return l;
+		}
+	}
+
+	/**
+	 * The interval buffers of every node and the work arrays of the groups, for one thread.
+	 */
+	static final class Scratch
+	{
+		final Spans[] spans;
+		double[] starts = new double[64];
+		double[] ends = new double[64];
+
+		Scratch(int nodes)
+		{
+			spans = new Spans[nodes];
+			for (int i=0; i<nodes; i++) spans[i] = new Spans();
+		}
+	}
+
+	/**
+	 * A circle.
+	 */
+	static final class CircleNode extends SectionNode
+	{
+		private final double cx, cy, r2, r;
+
+		CircleNode(Circle c, Domain d)
+		{
+			super(d);
+			cx = c.x;
+			cy = c.y;
+			r2 = c.sqr;
+			r = Math.sqrt(Math.max(0.0, r2));
+		}
+
+		@Override
+		Spans section(double y, Scratch s)
+		{
+			Spans out = s.spans[id];
+			out.clear();
+			double dy = y - cy;
+			double h2 = r2 - dy*dy;
+			if (h2 > 0.0)
+			{
+				double h = Math.sqrt(h2);
+				out.add(cx - h, cx + h, x1, x2);
+			}
+			return out;
+		}
+
+		@Override
+		void boundary(Boundary b)
+		{
+			b.circle(cx, cy, r);
+		}
+	}
+
+	/**
+	 * A triangle, which is convex, so its cross section lies between the lowest and highest crossing of its edges.
+	 */
+	static final class TriangleNode extends SectionNode
+	{
+		private final double[] v = new double[6];
+
+		TriangleNode(Triangle t, Domain d)
+		{
+			super(d);
+			v[0] = t.v1[0]; v[1] = t.v1[1];
+			v[2] = t.v2[0]; v[3] = t.v2[1];
+			v[4] = t.v3[0]; v[5] = t.v3[1];
+		}
+
+		@Override
+		Spans section(double y, Scratch s)
+		{
+			Spans out = s.spans[id];
+			out.clear();
+			double lo = Double.POSITIVE_INFINITY;
+			double hi = Double.NEGATIVE_INFINITY;
+			for (int k=0; k<6; k+=2)
+			{
+				double ax = v[k], ay = v[k+1];
+				double bx = v[(k+2)%6], by = v[(k+3)%6];
+				if ((ay <= y && y <= by) || (by <= y && y <= ay))
+				{
+					double x = (ay == by)? ax: ax + (y - ay) * (bx - ax) / (by - ay);
+					if (x < lo) lo = x;
+					if (x > hi) hi = x;
+					if (ay == by)
+					{
+						if (bx < lo) lo = bx;
+						if (bx > hi) hi = bx;
+					}
+				}
+			}
+			out.add(lo, hi, x1, x2);
+			return out;
+		}
+
+		@Override
+		void boundary(Boundary b)
+		{
+			b.segment(v[0], v[1], v[2], v[3]);
+			b.segment(v[2], v[3], v[4], v[5]);
+			b.segment(v[4], v[5], v[0], v[1]);
+		}
+	}
+
+	/**
+	 * A rectangle. Its two triangles cover the box between its corners, also for a negative width or height.
+	 */
+	static final class BoxNode extends SectionNode
+	{
+		private final double bx1, by1, bx2, by2;
+
+		BoxNode(Rectangle r, Domain d)
+		{
+			super(d);
+			bx1 = Math.min(r.x, r.x+r.w);
+			by1 = Math.min(r.y, r.y+r.h);
+			bx2 = Math.max(r.x, r.x+r.w);
+			by2 = Math.max(r.y, r.y+r.h);
+		}
+
+		@Override
+		Spans section(double y, Scratch s)
+		{
+			Spans out = s.spans[id];
+			out.clear();
+			if (by1 <= y && y <= by2) out.add(bx1, bx2, x1, x2);
+			return out;
+		}
+
+		@Override
+		void boundary(Boundary b)
+		{
+			b.segment(bx1, by1, bx2, by1);
+			b.segment(bx2, by1, bx2, by2);
+			b.segment(bx2, by2, bx1, by2);
+			b.segment(bx1, by2, bx1, by1);
+		}
+	}
+
+	/**
+	 * A rounded rectangle. Its bounding rectangle is covered, except where its corner circles cut off the ends of the cross section.
+	 */
+	static final class RoundNode extends SectionNode
+	{
+		private final double x, y, w, h, r;
+
+		RoundNode(RoundRectangle rr, Domain d)
+		{
+			super(d);
+			x = rr.x;
+			y = rr.y;
+			w = rr.w;
+			h = rr.h;
+			r = rr.r;
+		}
+
+		@Override
+		Spans section(double py, Scratch s)
+		{
+			Spans out = s.spans[id];
+			out.clear();
+			if (py < y || py > y+h) return out;
+
+			// the corner circles are centered one unit inside the right and bottom edges
+			double left = x;
+			double right = x+w;
+			double ct = y + r;
+			double cb = (y+h-1.0) - r;
+			if (py - y < r)
+			{
+				double e = chord(py - ct);
+				left = Math.max(left, (x + r) - e);
+				right = Math.min(right, ((x+w-1.0) - r) + e);
+			}
+			if ((y+h-1.0) - py < r)
+			{
+				double e = chord(py - cb);
+				left = Math.max(left, (x + r) - e);
+				right = Math.min(right, ((x+w-1.0) - r) + e);
+			}
+			out.add(left, right, x1, x2);
+			return out;
+		}
+
+		/*
+		 * half the width of a corner circle at the given distance from its center
+		 */
+		private double chord(double dy)
+		{
+			double h2 = r*r - dy*dy;
+			return (h2 > 0.0)? Math.sqrt(h2): 0.0;
+		}
+
+		@Override
+		void boundary(Boundary b)
+		{
+			b.segment(x, y, x+w, y);
+			b.segment(x+w, y, x+w, y+h);
+			b.segment(x+w, y+h, x, y+h);
+			b.segment(x, y+h, x, y);
+			b.circle(x + r, y + r, r);
+			b.circle((x+w-1.0) - r, y + r, r);
+			b.circle((x+w-1.0) - r, (y+h-1.0) - r, r);
+			b.circle(x + r, (y+h-1.0) - r, r);
+			b.height(y + r);
+			b.height((y+h-1.0) - r);
+		}
+	}
+
+	/**
+	 * A geometry without area, such as a point.
+	 */
+	static final class EmptyNode extends SectionNode
+	{
+		EmptyNode(Domain d)
+		{
+			super(d);
+		}
+
+		@Override
+		Spans section(double y, Scratch s)
+		{
+			Spans out = s.spans[id];
+			out.clear();
+			return out;
+		}
+
+		@Override
+		void boundary(Boundary b) {}
+	}
+
+	/**
+	 * A geometry that covers everything.
+	 */
+	static final class FullNode extends SectionNode
+	{
+		FullNode(Domain d)
+		{
+			super(d);
+		}
+
+		@Override
+		Spans section(double y, Scratch s)
+		{
+			Spans out = s.spans[id];
+			out.clear();
+			out.add(x1, x2, x1, x2);
+			return out;
+		}
+
+		@Override
+		void boundary(Boundary b) {}
+	}
+
+	/**
+	 * A logic group. Counts how many of its geometries cover every part of the line and keeps the parts where the count passes the rule of the group.
+	 */
+	static final class GroupNode extends SectionNode
+	{
+		static final int AND = 0, OR = 1, NOT = 2, ODD = 3, ONE = 4;
+
+		private final SectionNode[] children;
+		private final int rule;
+
+		GroupNode(Domain d, SectionNode[] children, int rule)
+		{
+			super(d);
+			this.children = children;
+			this.rule = rule;
+		}
+
+		private boolean pass(int count)
+		{
+			switch (rule)
+			{
+			case AND: return count == children.length;
+			case OR: return count > 0;
+			case NOT: return count == 0;
+			case ODD: return (count & 1) == 1;
+			default: return count == 1;
+			}
+		}
+
+		@Override
+		Spans section(double y, Scratch s)
+		{
+			// nested groups use the work arrays too, so all geometries are done before gathering
+			for (SectionNode c : children) c.section(y, s);
+
+			int n = 0;
+			for (SectionNode c : children)
+			{
+				Spans cs = s.spans[c.id];
+				if (n + cs.n/2 > s.starts.length)
+				{
+					int len = Math.max(s.starts.length*2, n + cs.n/2);
+					s.starts = Arrays.copyOf(s.starts, len);
+					s.ends = Arrays.copyOf(s.ends, len);
+				}
+				for (int k=0; k<cs.n; k+=2, n++)
+				{
+					s.starts[n] = cs.v[k];
+					s.ends[n] = cs.v[k+1];
+				}
+			}
+			double[] starts = s.starts;
+			double[] ends = s.ends;
+			Arrays.sort(starts, 0, n);
+			Arrays.sort(ends, 0, n);
+
+			// sweep along the line, keeping the cover count at every interval boundary
+			Spans out = s.spans[id];
+			out.clear();
+			int count = 0;
+			int si = 0, ei = 0;
+			double open = pass(0)? x1: Double.NaN;
+			while (si < n || ei < n)
+			{
+				double at = (si < n && starts[si] < ends[ei])? starts[si]: ends[ei];
+				while (ei < n && ends[ei] == at) {count--; ei++;}
+				while (si < n && starts[si] == at) {count++; si++;}
+				boolean in = pass(count);
+				if (in && open != open) open = at;
+				if (!in && open == open)
+				{
+					out.add(open, at, x1, x2);
+					open = Double.NaN;
+				}
+			}
+			if (open == open) out.add(open, x2, x1, x2);
+			return out;
+		}
+
+		@Override
+		void boundary(Boundary b)
+		{
+			for (SectionNode c : children) c.boundary(b);
+		}
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.geometry.raster;
+
+import java.util.Arrays;
+
+/**
+ * A bitmap of one bit per pixel that records which pixels are covered by a geometry. Every row starts at a new 64-bit word, so different rows never share a word and can be written by different threads.
+ * @since 1.1.0
+ * @see Rasterizer2D
+ */
+public class CoverageMask
+{
+	private final int width;
+	private final int height;
+	private final int stride;
+	private final long[] bits;
+
+	/**
+	 * Creates an empty coverage mask of the given size. Negative sizes are treated as {@code 0}.
+	 * @param width - the amount of pixels in a row
+	 * @param height - the amount of rows
+	 * @since 1.1.0
+	 */
+	public CoverageMask(int width, int height)
+	{
+		this.width = (width<0)?0:width;
+		this.height = (height<0)?0:height;
+		this.stride = (this.width + 63) >>> 6;
+		this.bits = new long[stride * this.height];
+	}
+
+	/**
+	 * Returns the amount of pixels in a row.
+	 * @return the amount of pixels in a row
+	 * @since 1.1.0
+	 */
+	public int width()
+	{
+		return width;
+	}
+
+	/**
+	 * Returns the amount of rows.
+	 * @return the amount of rows
+	 * @since 1.1.0
+	 */
+	public int height()
+	{
+		return height;
+	}
+
+	/**
+	 * Returns {@code true} if the given pixel is covered. Pixels outside of the mask are never covered.
+	 * @param x - the column of the pixel
+	 * @param y - the row of the pixel
+	 * @return {@code true} if the given pixel is covered
+	 * @since 1.1.0
+	 */
+	public boolean get(int x, int y)
+	{
+		if (x < 0 || x >= width || y < 0 || y >= height) return false;
+		return (bits[y*stride + (x >>> 6)] & (1L << x)) != 0L;
+	}
+
+	/**
+	 * Sets whether the given pixel is covered. Pixels outside of the mask are ignored.
+	 * @param x - the column of the pixel
+	 * @param y - the row of the pixel
+	 * @param covered - {@code true} if the pixel is covered
+	 * @since 1.1.0
+	 */
+	public void set(int x, int y, boolean covered)
+	{
+		if (x < 0 || x >= width || y < 0 || y >= height) return;
+		int w = y*stride + (x >>> 6);
+		if (covered) bits[w] |= (1L << x);
+		else bits[w] &= ~(1L << x);
+	}
+
+	/**
+	 * Marks the pixels from column {@code from} up to, but not including, column {@code to} in the given row as covered. The span is clipped to the mask.
+	 * @param y - the row
+	 * @param from - the first covered column
+	 * @param to - the column after the last covered column
+	 * @since 1.1.0
+	 */
+	public void fill(int y, int from, int to)
+	{
+		if (y < 0 || y >= height) return;
+		if (from < 0) from = 0;
+		if (to > width) to = width;
+		if (from >= to) return;
+
+		int row = y*stride;
+		int w0 = row + (from >>> 6);
+		int w1 = row + ((to-1) >>> 6);
+		long m0 = -1L << from;
+		long m1 = -1L >>> (-to);
+		if (w0 == w1)
+		{
+			bits[w0] |= m0 & m1;
+			return;
+		}
+		bits[w0] |= m0;
+		for (int w = w0+1; w < w1; w++) bits[w] = -1L;
+		bits[w1] |= m1;
+	}
+
+	/**
+	 * Clears all pixels of the given row.
+	 * @param y - the row
+	 * @since 1.1.0
+	 */
+	public void clear(int y)
+	{
+		if (y < 0 || y >= height) return;
+		Arrays.fill(bits, y*stride, (y+1)*stride, 0L);
+	}
+
+	/**
+	 * Clears all pixels of the mask.
+	 * @since 1.1.0
+	 */
+	public void clear()
+	{
+		Arrays.fill(bits, 0L);
+	}
+
+	/**
+	 * Returns the amount of covered pixels.
+	 * @return the amount of covered pixels
+	 * @since 1.1.0
+	 */
+	public long count()
+	{
+		long n = 0L;
+		for (long b : bits) n += Long.bitCount(b);
+		return n;
+	}
+
+	/**
+	 * Writes the mask as an alpha channel of one byte per pixel, row by row. Covered pixels get the value {@code 255}, other pixels {@code 0}. A new array is made if the given array is {@code null} or too small.
+	 * @param res - the destination, at least {@code width * height} long
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public byte[] toAlpha(byte[] res)
+	{
+		int n = width * height;
+		if (res == null || res.length < n) res = new byte[n];
+		for (int y=0, i=0; y<height; y++)
+		{
+			int row = y*stride;
+			for (int x=0; x<width; x++, i++)
+			{
+				res[i] = (byte)((bits[row + (x >>> 6)] << ~x) >> 63);
+			}
+		}
+		return res;
+	}
+}
@@ -0,0 +1,541 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.geometry.raster;
+
+import java.util.Arrays;
+
+import com.nullpointerworks.math.geometry.g2d.Circle;
+import com.nullpointerworks.math.geometry.g2d.Geometry2D;
+import com.nullpointerworks.math.geometry.g2d.Point;
+import com.nullpointerworks.math.geometry.g2d.Rectangle;
+import com.nullpointerworks.math.geometry.g2d.Triangle;
+import com.nullpointerworks.math.geometry.logic.LogicAnd2D;
+import com.nullpointerworks.math.geometry.logic.LogicGroup2D;
+import com.nullpointerworks.math.geometry.logic.LogicNot2D;
+import com.nullpointerworks.math.geometry.logic.LogicOr2D;
+import com.nullpointerworks.math.geometry.logic.LogicXor2D;
+import com.nullpointerworks.math.geometry.logic.LogicXor2D.LogicMode;
+
+import exp.nullpointerworks.math.geometry.g2d.RoundRectangle;
+
+/**
+ * A geometry prepared for rasterization. For a row of pixels a node computes the horizontal spans of pixels that are inside the geometry. Primitives estimate where their edges cross the row and then settle every edge on the exact pixel with the same floating point test their {@code isInside(float,float)} method uses, so the spans match a per-pixel test. Groups combine the spans of their geometries by counting how many geometries cover each pixel.<br>
+ * <br>
+ * Spans are written as pairs of columns, the first covered column and the column after the last covered one. Nodes do not change while rasterizing, all intermediate spans are kept in a {@code Scratch} per thread.
+ * @since 1.1.0
+ */
+abstract class RasterNode
+{
+	/*
+	 * the sampling grid. pixel i of a row samples the location x + i*pixel
+	 */
+	final float x, pixel;
+	final int width;
+
+	/*
+	 * index of the span buffer of this node in the scratch
+	 */
+	final int id;
+
+	RasterNode(Grid g)
+	{
+		this.x = g.x;
+		this.pixel = g.pixel;
+		this.width = g.width;
+		this.id = g.nodes++;
+	}
+
+	/*
+	 * computes the spans of this node in the row sampled at py
+	 */
+	abstract Spans row(float py, Scratch s);
+
+	/*
+	 * the sample location of a column
+	 */
+	final float sx(int i)
+	{
+		return x + i*pixel;
+	}
+
+	/*
+	 * the column of a location, as a real number
+	 */
+	final double column(double px)
+	{
+		return (px - x) / pixel;
+	}
+
+	/*
+	 * a column clamped to [lo,hi]
+	 */
+	static int clamp(double c, int lo, int hi)
+	{
+		if (!(c > lo)) return lo;
+		if (c > hi) return hi;
+		return (int)c;
+	}
+
+	/**
+	 * Prepares the given geometry for rasterization on a grid. Only the exact library classes are rasterized as spans, subclasses may override {@code isInside} and are sampled per pixel.
+	 */
+	static RasterNode of(Geometry2D g, Grid grid)
+	{
+		Class<?> c = (g == null)? null: g.getClass();
+		if (c == Circle.class) return new CircleNode((Circle)g, grid);
+		if (c == Triangle.class) return new TriangleNode((Triangle)g, grid);
+		if (c == Rectangle.class && ((Rectangle)g).w > 0f && ((Rectangle)g).h > 0f) return new BoxNode((Rectangle)g, grid);
+		if (c == Point.class) return new PointNode((Point)g, grid);
+		if (c == RoundRectangle.class && ((RoundRectangle)g).w > 0f && ((RoundRectangle)g).h > 0f) return new RoundNode((RoundRectangle)g, grid);
+		if (c == LogicAnd2D.class) return new GroupNode((LogicGroup2D)g, grid, GroupNode.AND);
+		if (c == LogicOr2D.class) return new GroupNode((LogicGroup2D)g, grid, GroupNode.OR);
+		if (c == LogicNot2D.class) return new GroupNode((LogicGroup2D)g, grid, GroupNode.NOT);
+		if (c == LogicXor2D.class)
+		{
+			boolean one = ((LogicXor2D)g).getInterpretation() == LogicMode.ONLY_ONE;
+			return new GroupNode((LogicGroup2D)g, grid, (one)? GroupNode.ONE: GroupNode.ODD);
+		}
+		return new SampledNode(g, grid);
+	}
+
+	/**
+	 * The sampling grid of a rasterization, and a counter for the nodes made on it.
+	 */
+	static final class Grid
+	{
+		final float x, pixel;
+		final int width;
+		int nodes = 0;
+
+		Grid(float x, float pixel, int width)
+		{
+			this.x = x;
+			this.pixel = pixel;
+			this.width = width;
+		}
+	}
+
+	/**
+	 * A list of spans, as pairs of columns.
+	 */
+	static final class Spans
+	{
+		int[] v = new int[16];
+		int n = 0;
+
+		void clear()
+		{
+			n = 0;
+		}
+
+		/*
+		 * appends a span, merging it with the last span if they touch
+		 */
+		void add(int from, int to)
+		{
+			if (from >= to) return;
+			if (n > 0 && v[n-1] >= from)
+			{
+				if (to > v[n-1]) v[n-1] = to;
+				return;
+			}
+			if (n+2 > v.length) v = Arrays.copyOf(v, v.length*2);
+			v[n++] = from;
+			v[n++] = to;
+		}
+	}
+
+	/**
+	 * The span buffers of every node and the work arrays of the groups, for one thread.
+	 */
+	static final class Scratch
+	{
+		final Spans[] spans;
+		int[] starts = new int[64];
+		int[] ends = new int[64];
+
+		Scratch(int nodes)
+		{
+			spans = new Spans[nodes];
+			for (int i=0; i<nodes; i++) spans[i] = new Spans();
+		}
+	}
+
+	/*
+	 * a test that is false up to some column and true from there on, or the other way around
+	 */
+	interface Test
+	{
+		boolean at(int i);
+	}
+
+	/*
+	 * the first column in [lo,hi] at which a monotone test differs from its value at lo, hi+1 if it never does.
+	 * starts at an estimate and walks from there, which takes a step or two for a good estimate
+	 */
+	static int edge(Test t, int estimate, int lo, int hi)
+	{
+		if (lo > hi) return lo;
+		boolean first = t.at(lo);
+		int e = (estimate < lo+1)? lo+1: (estimate > hi+1)? hi+1: estimate;
+		while (e > lo+1 && t.at(e-1) != first) e--;
+		while (e <= hi && t.at(e) == first) e++;
+		return e;
+	}
+
+	/**
+	 * A circle. The test is monotone on either side of the column nearest to its center.
+	 */
+	static final class CircleNode extends RasterNode
+	{
+		private final float cx, cy, sqr;
+
+		CircleNode(Circle c, Grid g)
+		{
+			super(g);
+			cx = c.x;
+			cy = c.y;
+			sqr = c.sqr;
+		}
+
+		private boolean inside(int i, float py)
+		{
+			float dx = cx - sx(i);
+			float dy = cy - py;
+			dx *= dx;
+			dy *= dy;
+			return (dx+dy) < sqr;
+		}
+
+		@Override
+		Spans row(float py, Scratch s)
+		{
+			Spans out = s.spans[id];
+			out.clear();
+			if (width == 0) return out;
+
+			double dy = (double)cy - py;
+			double h2 = (double)sqr - dy*dy;
+			if (h2 < -1e-3 * sqr) return out;
+			double h = Math.sqrt(Math.max(h2, 0.0));
+
+			// the sample nearest to the center is inside whenever any sample is
+			int c = clamp(Math.rint(column(cx)), 0, width-1);
+			int m = c;
+			if (!inside(m, py))
+			{
+				if (c > 0 && inside(c-1, py)) m = c-1;
+				else
+				if (c < width-1 && inside(c+1, py)) m = c+1;
+				else return out;
+			}
+
+			final int mid = m;
+			int from = edge(i -> inside(i, py), (int)Math.ceil(column(cx - h)), 0, mid);
+			int to = edge(i -> inside(i, py), (int)Math.ceil(column(cx + h)), mid, width-1);
+			if (!inside(0, py)) out.add(from, to);
+			else out.add(0, to);
+			return out;
+		}
+	}
+
+	/**
+	 * A triangle. Every edge test is monotone along the row, so the triangle covers the columns where all three tests are true and the columns where all three are false.
+	 */
+	static final class TriangleNode extends RasterNode
+	{
+		/*
+		 * per edge: x and y of the last vertex, then the y and x difference
+		 */
+		private final float[] e = new float[12];
+
+		TriangleNode(Triangle t, Grid g)
+		{
+			super(g);
+			edge(0, t.v1, t.v2);
+			edge(4, t.v2, t.v3);
+			edge(8, t.v3, t.v1);
+		}
+
+		private void edge(int k, float[] p2, float[] p3)
+		{
+			e[k  ] = p3[0];
+			e[k+1] = p3[1];
+			e[k+2] = p2[1] - p3[1];
+			e[k+3] = p2[0] - p3[0];
+		}
+
+		private boolean test(int k, int i, float py)
+		{
+			return (sx(i) - e[k]) * e[k+2] - e[k+3] * (py - e[k+1]) < 0f;
+		}
+
+		@Override
+		Spans row(float py, Scratch s)
+		{
+			Spans out = s.spans[id];
+			out.clear();
+			if (width == 0) return out;
+
+			// columns in which all edge tests are true, and in which all are false
+			int tlo = 0, thi = width, flo = 0, fhi = width;
+			for (int k=0; k<12; k+=4)
+			{
+				final int edge = k;
+				Test t = i -> test(edge, i, py);
+				int est = width;
+				if (e[k+2] != 0f) est = (int)Math.ceil(column(e[k] + (double)e[k+3] * (py - e[k+1]) / e[k+2]));
+				int flip = RasterNode.edge(t, est, 0, width-1);
+
+				if (t.at(0))
+				{
+					thi = Math.min(thi, flip);
+					flo = Math.max(flo, flip);
+				}
+				else
+				{
+					tlo = Math.max(tlo, flip);
+					fhi = Math.min(fhi, flip);
+				}
+			}
+			if (tlo < flo)
+			{
+				out.add(tlo, thi);
+				out.add(flo, fhi);
+			}
+			else
+			{
+				out.add(flo, fhi);
+				out.add(tlo, thi);
+			}
+			return out;
+		}
+	}
+
+	/**
+	 * A rectangle with a positive size, covered up to and including its edges.
+	 */
+	static final class BoxNode extends RasterNode
+	{
+		private final float x1, y1, x2, y2;
+
+		BoxNode(Rectangle r, Grid g)
+		{
+			super(g);
+			x1 = r.x;
+			y1 = r.y;
+			x2 = r.x + r.w;
+			y2 = r.y + r.h;
+		}
+
+		@Override
+		Spans row(float py, Scratch s)
+		{
+			Spans out = s.spans[id];
+			out.clear();
+			if (width == 0 || py < y1 || py > y2) return out;
+			int from = edge(i -> sx(i) >= x1, (int)Math.ceil(column(x1)), 0, width-1);
+			int to = edge(i -> sx(i) > x2, (int)Math.floor(column(x2))+1, 0, width-1);
+			if (sx(0) >= x1) from = 0;
+			if (sx(0) > x2) to = 0;
+			out.add(from, to);
+			return out;
+		}
+	}
+
+	/**
+	 * A point, which only covers a sample that lies exactly on it.
+	 */
+	static final class PointNode extends RasterNode
+	{
+		private final float px, py;
+
+		PointNode(Point p, Grid g)
+		{
+			super(g);
+			px = p.x;
+			py = p.y;
+		}
+
+		@Override
+		Spans row(float y, Scratch s)
+		{
+			Spans out = s.spans[id];
+			out.clear();
+			if (width == 0 || y != py) return out;
+			int c = clamp(Math.rint(column(px)), 0, width-1);
+			for (int i = Math.max(0, c-1), l = Math.min(width-1, c+1); i <= l; i++)
+			{
+				if (sx(i) == px) out.add(i, i+1);
+			}
+			return out;
+		}
+	}
+
+	/**
+	 * A rounded rectangle. Its bounding rectangle is covered, except for the columns at the ends of the row that fall outside of a corner.
+	 */
+	static final class RoundNode extends RasterNode
+	{
+		private final RoundRectangle rr;
+		private final BoxNode box;
+
+		RoundNode(RoundRectangle r, Grid g)
+		{
+			super(g);
+			rr = r;
+			box = new BoxNode(r.getBoundingBox(), g);
+		}
+
+		@Override
+		Spans row(float py, Scratch s)
+		{
+			Spans out = s.spans[id];
+			out.clear();
+			Spans b = box.row(py, s);
+			if (b.n == 0) return out;
+			int from = b.v[0];
+			int to = b.v[1];
+
+			// the middle column is inside whenever any column is
+			Test t = i -> rr.isInside(sx(i), py);
+			int c = clamp(Math.rint(column(rr.x + (rr.w-1f)*0.5f)), from, to-1);
+			int m = c;
+			if (!t.at(m))
+			{
+				if (c > from && t.at(c-1)) m = c-1;
+				else
+				if (c < to-1 && t.at(c+1)) m = c+1;
+				else return out;
+			}
+
+			// estimate the ends from the corner circles, then settle them with the exact test
+			float r = rr.r;
+			double dy = Math.max(rr.y + r - py, py - (rr.y + rr.h - 1f - r));
+			double inset = (dy > 0.0)? r - Math.sqrt(Math.max(0.0, (double)r*r - dy*dy)): 0.0;
+			int a = (t.at(from))? from: edge(t, (int)Math.ceil(column(rr.x + inset)), from, m);
+			int e = edge(t, (int)Math.ceil(column(rr.x + rr.w - 1f - inset)), m, to-1);
+			out.add(a, e);
+			return out;
+		}
+	}
+	
+	/**
+	 * Any other geometry, tested pixel by pixel.
+	 */
+	static final class SampledNode extends RasterNode
+	{
+		private final Geometry2D geom;
+
+		SampledNode(Geometry2D g, Grid grid)
+		{
+			super(grid);
+			geom = g;
+		}
+
+		@Override
+		Spans row(float py, Scratch s)
+		{
+			Spans out = s.spans[id];
+			out.clear();
+			int start = -1;
+			for (int i=0; i<width; i++)
+			{
+				boolean in = geom != null && geom.isInside(sx(i), py);
+				if (in && start < 0) start = i;
+				if (!in && start >= 0)
+				{
+					out.add(start, i);
+					start = -1;
+				}
+			}
+			if (start >= 0) out.add(start, width);
+			return out;
+		}
+	}
+
+	/**
+	 * A logic group. Counts how many of its geometries cover every column and keeps the columns where the count passes the rule of the group.
+	 */
+	static final class GroupNode extends RasterNode
+	{
+		static final int AND = 0, OR = 1, NOT = 2, ODD = 3, ONE = 4;
+
+		private final RasterNode[] children;
+		private final int rule;
+
+		GroupNode(LogicGroup2D g, Grid grid, int rule)
+		{
+			super(grid);
+			this.rule = rule;
+			children = new RasterNode[g.size()];
+			for (int i=0; i<children.length; i++) children[i] = RasterNode.of(g.get(i), grid);
+		}
+
+		private boolean pass(int count)
+		{
+			switch (rule)
+			{
+			case AND: return count == children.length;
+			case OR: return count > 0;
+			case NOT: return count == 0;
+			case ODD: return (count & 1) == 1;
+			default: return count == 1;
+			}
+		}
+
+		@Override
+		Spans row(float py, Scratch s)
+		{
+			// nested groups use the work arrays too, so all geometries are done before gathering
+			for (RasterNode c : children) c.row(py, s);
+
+			// gather the starts and ends of all spans of the geometries
+			int n = 0;
+			for (RasterNode c : children)
+			{
+				Spans cs = s.spans[c.id];
+				if (n + cs.n/2 > s.starts.length)
+				{
+					int len = Math.max(s.starts.length*2, n + cs.n/2);
+					s.starts = Arrays.copyOf(s.starts, len);
+					s.ends = Arrays.copyOf(s.ends, len);
+				}
+				for (int k=0; k<cs.n; k+=2, n++)
+				{
+					s.starts[n] = cs.v[k];
+					s.ends[n] = cs.v[k+1];
+				}
+			}
+			int[] starts = s.starts;
+			int[] ends = s.ends;
+			Arrays.sort(starts, 0, n);
+			Arrays.sort(ends, 0, n);
+
+			// sweep along the row, keeping the coverage count at every span boundary
+			Spans out = s.spans[id];
+			out.clear();
+			int count = 0;
+			int si = 0, ei = 0;
+			int open = pass(0)? 0: -1;
+			while (si < n || ei < n)
+			{
+				int at = (si < n && starts[si] < ends[ei])? starts[si]: ends[ei];
+				while (ei < n && ends[ei] == at) {count--; ei++;}
+				while (si < n && starts[si] == at) {count++; si++;}
+				boolean in = pass(count);
+				if (in && open < 0) open = at;
+				if (!in && open >= 0)
+				{
+					out.add(open, at);
+					open = -1;
+				}
+			}
+			if (open >= 0) out.add(open, width);
+			return out;
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.geometry.raster;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A fork/join task that rasterizes a band of rows. The band is halved until it holds no more than {@code LEAF} pixels or a single row. Every band writes its own rows of the mask and uses its own scratch buffers, so tasks never share data that is written.
+ * @since 1.1.0
+ */
+final class RasterTask extends RecursiveAction
+{
+	private static final long serialVersionUID = 6217740129953461850L;
+
+	/*
+	 * the amount of pixels below which the mask is rasterized on the calling thread
+	 */
+	static final long THRESHOLD = 256L*256L;
+
+	/*
+	 * the largest amount of pixels for a single task
+	 */
+	static final long LEAF = 64L*1024L;
+
+	private final RasterNode root;
+	private final int nodes;
+	private final CoverageMask mask;
+	private final float y, pixel;
+	private final int row0, row1;
+
+	RasterTask(RasterNode root, int nodes, CoverageMask mask, float y, float pixel, int row0, int row1)
+	{
+		this.root = root;
+		this.nodes = nodes;
+		this.mask = mask;
+		this.y = y;
+		this.pixel = pixel;
+		this.row0 = row0;
+		this.row1 = row1;
+	}
+
+	/**
+	 * Returns {@code true} if a mask of the given size is large enough to be worth splitting over multiple threads.
+	 */
+	static boolean isParallel(int width, int height)
+	{
+		return (long)width * height >= THRESHOLD;
+	}
+
+	@Override
+	protected void compute()
+	{
+		int rows = row1-row0;
+		if (rows <= 1 || (long)rows * mask.width() <= LEAF)
+		{
+			rows();
+			return;
+		}
+
+		int mid = row0 + rows/2;
+		invokeAll(new RasterTask(root, nodes, mask, y, pixel, row0, mid),
+				  new RasterTask(root, nodes, mask, y, pixel, mid, row1));
+	}
+
+	/*
+	 * rasterize the band on the calling thread
+	 */
+	void rows()
+	{
+		RasterNode.Scratch s = new RasterNode.Scratch(nodes);
+		for (int j=row0; j<row1; j++)
+		{
+			RasterNode.Spans spans = root.row(y + j*pixel, s);
+			mask.clear(j);
+			for (int k=0; k<spans.n; k+=2)
+			{
+				mask.fill(j, spans.v[k], spans.v[k+1]);
+			}
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.geometry.raster;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.nullpointerworks.math.geometry.g2d.Geometry2D;
+
+/**
+ * Rasterizes 2D geometries and logic groups into a {@code CoverageMask}. Pixel {@code (i,j)} of the mask is covered when the location {@code (x + i*pixel, y + j*pixel)} is inside the geometry, so the result is the same as calling {@code isInside(float,float)} for every pixel.
+ * <pre>
+ * CoverageMask mask = new CoverageMask(3840, 2160);
+ * Rasterizer2D.rasterize(region, mask, 0.5f, 0.5f, 1f, ForkJoinPool.commonPool());</pre>
+ * Instead of testing every pixel, every row is rasterized as a list of horizontal spans. Circles, triangles, rectangles and rounded rectangles compute where their edges cross the row and settle each edge on the exact pixel with their own inside test. Logic groups combine the spans of their geometries by their {@code AND}, {@code OR}, {@code XOR} or {@code NOT} rule. The cost of a row therefore depends on the amount of geometries and edges in it, not on its width. Any other geometry is tested pixel by pixel.<br>
+ * <br>
+ * Large masks can be split into bands of rows that are rasterized on a fork/join pool. Rows never share memory in a mask, so the bands are independent.
+ * @since 1.1.0
+ * @see CoverageMask
+ */
+public class Rasterizer2D
+{
+	private Rasterizer2D() {}
+	
+	/**
+	 * Rasterizes a geometry into a new coverage mask, on the calling thread.
+	 * @param g - the geometry to rasterize
+	 * @param width - the amount of pixels in a row
+	 * @param height - the amount of rows
+	 * @param x - the x location sampled by the first column
+	 * @param y - the y location sampled by the first row
+	 * @param pixel - the distance between two samples
+	 * @return a new coverage mask of the geometry
+	 * @since 1.1.0
+	 */
+	public static CoverageMask rasterize(Geometry2D g, int width, int height, float x, float y, float pixel)
+	{
+		CoverageMask mask = new CoverageMask(width, height);
+		rasterize(g, mask, x, y, pixel, null);
+		return mask;
+	}
+
+	/**
+	 * Rasterizes a geometry into the given coverage mask, on the calling thread. Every row of the mask is overwritten.
+	 * @param g - the geometry to rasterize
+	 * @param mask - the destination mask
+	 * @param x - the x location sampled by the first column
+	 * @param y - the y location sampled by the first row
+	 * @param pixel - the distance between two samples
+	 * @return the destination mask
+	 * @since 1.1.0
+	 */
+	public static CoverageMask rasterize(Geometry2D g, CoverageMask mask, float x, float y, float pixel)
+	{
+		return rasterize(g, mask, x, y, pixel, null);
+	}
+
+	/**
+	 * Rasterizes a geometry into the given coverage mask, using the given fork/join pool. Large masks are split into bands of rows that are rasterized in parallel, small masks and a {@code null} pool are rasterized on the calling thread. Every row of the mask is overwritten. The geometry must not change while it is being rasterized.
+	 * @param g - the geometry to rasterize
+	 * @param mask - the destination mask
+	 * @param x - the x location sampled by the first column
+	 * @param y - the y location sampled by the first row
+	 * @param pixel - the distance between two samples
+	 * @param pool - the pool to rasterize on, or {@code null}
+	 * @return the destination mask
+	 * @since 1.1.0
+	 */
+	public static CoverageMask rasterize(Geometry2D g, CoverageMask mask, float x, float y, float pixel, ForkJoinPool pool)
+	{
+		RasterNode.Grid grid = new RasterNode.Grid(x, pixel, mask.width());
+		RasterNode root = RasterNode.of(g, grid);
+		RasterTask task = new RasterTask(root, grid.nodes, mask, y, pixel, 0, mask.height());
+
+		if (pool != null && RasterTask.isParallel(mask.width(), mask.height()))
+		{
+			pool.invoke(task);
+		}
+		else
+		{
+			task.rows();
+		}
+		return mask;
+	}
+}
@@ -0,0 +1,353 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.matrix;
+
+/**
+ * General matrix-matrix multiplication engine used by {@code MatrixN}. The product {@code C = op(A) * op(B)} is computed in cache sized blocks. For every block a panel of {@code B} and a slice of {@code A} are packed into contiguous scratch buffers so that the inner kernel can compute a {@code 4x4} tile of {@code C} entirely in registers while streaming both operands linearly from memory.
+ * <pre>
+ * for each NC wide column panel of B
+ *   for each KC deep slice of the shared dimension
+ *     pack B[KC x NC]
+ *     for each MC high row panel of A
+ *       pack A[MC x KC]
+ *       compute C[MC x NC] with the 4x4 kernel</pre>
+ * Operands can be supplied as jagged {@code float[][]} matrices or as flat row-major {@code float[]} arrays. Either operand can be read transposed, in which case the transposition is folded into the packing step and no transposed copy is made.
+ * @since 1.1.0
+ */
+final class Gemm
+{
+	static final int MR = 4;
+	static final int NR = 4;
+	static final int KC = 256;
+	static final int MC = 128;
+	static final int NC = 1024;
+
+	/*
+	 * a matrix operand. either flat or rows is set
+	 */
+	static final class Operand
+	{
+		final float[] flat;
+		final float[][] rows;
+		final int offset;
+		final int stride;
+		final boolean transposed;
+
+		Operand(float[] flat, int offset, int stride, boolean transposed)
+		{
+			this.flat = flat;
+			this.rows = null;
+			this.offset = offset;
+			this.stride = stride;
+			this.transposed = transposed;
+		}
+
+		Operand(float[][] rows, boolean transposed)
+		{
+			this.flat = null;
+			this.rows = rows;
+			this.offset = 0;
+			this.stride = 0;
+			this.transposed = transposed;
+		}
+	}
+
+	/*
+	 * the amount of multiply-adds below which packing costs more than it saves
+	 */
+	static final long SMALL = 32L*32L*32L;
+
+	/*
+	 * the packing buffer of every thread, grown on demand and reused by later products
+	 */
+	private static final ThreadLocal<float[][]> BUFFER = ThreadLocal.withInitial(() -> new float[1][0]);
+
+	/**
+	 * Returns the packing buffer of the calling thread, grown to fit one A slice and one B panel of a product of the given size.
+	 */
+	static float[] scratch(int rows, int cols, int k)
+	{
+		float[][] holder = BUFFER.get();
+		int kc = Math.min(KC, k);
+		int size = round(Math.min(MC, rows), MR)*kc + kc*round(Math.min(NC, cols), NR);
+		if (holder[0].length < size) holder[0] = new float[size];
+		return holder[0];
+	}
+
+	/**
+	 * Computes {@code C = op(A) * op(B)} for the given range of output rows and columns. The shared dimension is {@code k}. Small products are computed directly, larger products are packed into the buffer of the calling thread.
+	 */
+	static void multiply(Operand A, Operand B, Operand C,
+						 int row0, int row1, int col0, int col1, int k)
+	{
+		int rows = row1-row0;
+		int cols = col1-col0;
+		if ((long)rows*cols*k < SMALL)
+		{
+			direct(A, B, C, row0, row1, col0, col1, k);
+			return;
+		}
+
+		float[] scratch = scratch(rows, cols, k);
+		final int bOff = round(Math.min(MC, rows), MR)*Math.min(KC, k);
+		for (int jc=col0; jc<col1; jc+=NC)
+		{
+			int nc = Math.min(NC, col1-jc);
+			for (int pc=0; pc<k; pc+=KC)
+			{
+				int kc = Math.min(KC, k-pc);
+				boolean accumulate = pc > 0;
+				packB(B, pc, jc, kc, nc, scratch, bOff);
+
+				for (int ic=row0; ic<row1; ic+=MC)
+				{
+					int mc = Math.min(MC, row1-ic);
+					packA(A, ic, pc, mc, kc, scratch, 0);
+					block(scratch, bOff, C, ic, jc, mc, nc, kc, accumulate);
+				}
+			}
+		}
+	}
+
+	/*
+	 * compute a small product without packing, one dot product per output element
+	 */
+	private static void direct(Operand A, Operand B, Operand C,
+							   int row0, int row1, int col0, int col1, int k)
+	{
+		if (A.rows != null && B.rows != null && C.rows != null && !A.transposed && !B.transposed)
+		{
+			float[][] a = A.rows, b = B.rows, c = C.rows;
+			for (int i=row0; i<row1; i++)
+			{
+				float[] ai = a[i];
+				float[] ci = c[i];
+				for (int j=col0; j<col1; j++)
+				{
+					float sum = 0f;
+					for (int p=0; p<k; p++) sum += ai[p] * b[p][j];
+					ci[j] = sum;
+				}
+			}
+			return;
+		}
+
+		for (int i=row0; i<row1; i++)
+		{
+			for (int j=col0; j<col1; j++)
+			{
+				float sum = 0f;
+				for (int p=0; p<k; p++) sum += get(A, i, p) * get(B, p, j);
+				if (C.rows != null) C.rows[i][j] = sum;
+				else C.flat[C.offset + i*C.stride + j] = sum;
+			}
+		}
+	}
+
+	/*
+	 * read element (i,j) of op(M)
+	 */
+	private static float get(Operand M, int i, int j)
+	{
+		if (M.transposed)
+		{
+			int t = i; i = j; j = t;
+		}
+		return (M.rows != null)? M.rows[i][j]: M.flat[M.offset + i*M.stride + j];
+	}
+
+	/*
+	 * round up to a multiple of the tile size
+	 */
+	private static int round(int n, int tile)
+	{
+		return ((n + tile - 1) / tile) * tile;
+	}
+
+	/*
+	 * run the 4x4 kernel over an mc-by-nc block of C
+	 */
+	private static void block(float[] buf, int bOff, Operand C,
+							  int ic, int jc, int mc, int nc, int kc,
+							  boolean accumulate)
+	{
+		for (int jr=0; jr<nc; jr+=NR)
+		{
+			int nr = Math.min(NR, nc-jr);
+			int bo = bOff + jr*kc;
+			for (int ir=0; ir<mc; ir+=MR)
+			{
+				int mr = Math.min(MR, mc-ir);
+				int ao = ir*kc;
+
+				float c00=0f,c01=0f,c02=0f,c03=0f;
+				float c10=0f,c11=0f,c12=0f,c13=0f;
+				float c20=0f,c21=0f,c22=0f,c23=0f;
+				float c30=0f,c31=0f,c32=0f,c33=0f;
+
+				for (int p=0, a=ao, b=bo; p<kc; p++, a+=MR, b+=NR)
+				{
+					float a0 = buf[a  ];
+					float a1 = buf[a+1];
+					float a2 = buf[a+2];
+					float a3 = buf[a+3];
+					float b0 = buf[b  ];
+					float b1 = buf[b+1];
+					float b2 = buf[b+2];
+					float b3 = buf[b+3];
+
+					c00 += a0*b0; c01 += a0*b1; c02 += a0*b2; c03 += a0*b3;
+					c10 += a1*b0; c11 += a1*b1; c12 += a1*b2; c13 += a1*b3;
+					c20 += a2*b0; c21 += a2*b1; c22 += a2*b2; c23 += a2*b3;
+					c30 += a3*b0; c31 += a3*b1; c32 += a3*b2; c33 += a3*b3;
+				}
+
+				int i = ic+ir;
+				int j = jc+jr;
+				store(C, i  , j, nr, c00, c01, c02, c03, accumulate);
+				if (mr > 1) store(C, i+1, j, nr, c10, c11, c12, c13, accumulate);
+				if (mr > 2) store(C, i+2, j, nr, c20, c21, c22, c23, accumulate);
+				if (mr > 3) store(C, i+3, j, nr, c30, c31, c32, c33, accumulate);
+			}
+		}
+	}
+
+	/*
+	 * write up to four values of a kernel tile row into C
+	 */
+	private static void store(Operand C, int i, int j, int nr,
+							  float v0, float v1, float v2, float v3,
+							  boolean accumulate)
+	{
+		float[] row;
+		int o;
+		if (C.rows != null)
+		{
+			row = C.rows[i];
+			o = j;
+		}
+		else
+		{
+			row = C.flat;
+			o = C.offset + i*C.stride + j;
+		}
+
+		if (accumulate)
+		{
+			row[o] += v0;
+			if (nr > 1) row[o+1] += v1;
+			if (nr > 2) row[o+2] += v2;
+			if (nr > 3) row[o+3] += v3;
+		}
+		else
+		{
+			row[o] = v0;
+			if (nr > 1) row[o+1] = v1;
+			if (nr > 2) row[o+2] = v2;
+			if (nr > 3) row[o+3] = v3;
+		}
+	}
+
+	/*
+	 * pack an mc-by-kc slice of op(A) into MR high strips.
+	 * each strip stores MR values per step along k, padded with zeros
+	 */
+	private static void packA(Operand A, int i0, int p0, int mc, int kc, float[] buf, int off)
+	{
+		for (int ir=0; ir<mc; ir+=MR)
+		{
+			int mr = Math.min(MR, mc-ir);
+			int o = off + ir*kc;
+			for (int r=0; r<MR; r++)
+			{
+				int d = o + r;
+				if (r >= mr)
+				{
+					for (int p=0; p<kc; p++, d+=MR) buf[d] = 0f;
+					continue;
+				}
+				int i = i0+ir+r;
+				if (A.rows != null)
+				{
+					if (A.transposed)
+					{
+						float[][] a = A.rows;
+						for (int p=0; p<kc; p++, d+=MR) buf[d] = a[p0+p][i];
+					}
+					else
+					{
+						float[] a = A.rows[i];
+						for (int p=0; p<kc; p++, d+=MR) buf[d] = a[p0+p];
+					}
+				}
+				else
+				{
+					float[] a = A.flat;
+					if (A.transposed)
+					{
+						int s = A.offset + p0*A.stride + i;
+						for (int p=0; p<kc; p++, d+=MR, s+=A.stride) buf[d] = a[s];
+					}
+					else
+					{
+						int s = A.offset + i*A.stride + p0;
+						for (int p=0; p<kc; p++, d+=MR, s++) buf[d] = a[s];
+					}
+				}
+			}
+		}
+	}
+
+	/*
+	 * pack a kc-by-nc panel of op(B) into NR wide strips.
+	 * each strip stores NR values per step along k, padded with zeros
+	 */
+	private static void packB(Operand B, int p0, int j0, int kc, int nc, float[] buf, int off)
+	{
+		for (int jr=0; jr<nc; jr+=NR)
+		{
+			int nr = Math.min(NR, nc-jr);
+			int o = off + jr*kc;
+			for (int c=0; c<NR; c++)
+			{
+				int d = o + c;
+				if (c >= nr)
+				{
+					for (int p=0; p<kc; p++, d+=NR) buf[d] = 0f;
+					continue;
+				}
+				int j = j0+jr+c;
+				if (B.rows != null)
+				{
+					if (B.transposed)
+					{
+						float[] b = B.rows[j];
+						for (int p=0; p<kc; p++, d+=NR) buf[d] = b[p0+p];
+					}
+					else
+					{
+						float[][] b = B.rows;
+						for (int p=0; p<kc; p++, d+=NR) buf[d] = b[p0+p][j];
+					}
+				}
+				else
+				{
+					float[] b = B.flat;
+					if (B.transposed)
+					{
+						int s = B.offset + j*B.stride + p0;
+						for (int p=0; p<kc; p++, d+=NR, s++) buf[d] = b[s];
+					}
+					else
+					{
+						int s = B.offset + p0*B.stride + j;
+						for (int p=0; p<kc; p++, d+=NR, s+=B.stride) buf[d] = b[s];
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.matrix;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A fork/join task that splits the output of a matrix product into tiles and computes each tile with the {@code Gemm} engine. The output is halved along its longest side until a tile holds no more than {@code LEAF} elements. Every tile writes into its own region of the destination, so tasks never share output elements. Every worker thread packs into its own reused buffer.
+ * @since 1.1.0
+ */
+final class GemmTask extends RecursiveAction
+{
+	private static final long serialVersionUID = -1380453478447302612L;
+
+	/*
+	 * the amount of multiply-adds below which the product is computed on the calling thread
+	 */
+	static final long THRESHOLD = 128L*128L*128L;
+
+	/*
+	 * the largest amount of output elements for a single task
+	 */
+	static final int LEAF = 128*256;
+
+	private final Gemm.Operand A, B, C;
+	private final int row0, row1, col0, col1, k;
+
+	GemmTask(Gemm.Operand A, Gemm.Operand B, Gemm.Operand C,
+			 int row0, int row1, int col0, int col1, int k)
+	{
+		this.A = A;
+		this.B = B;
+		this.C = C;
+		this.row0 = row0;
+		this.row1 = row1;
+		this.col0 = col0;
+		this.col1 = col1;
+		this.k = k;
+	}
+
+	/**
+	 * Returns {@code true} if a product of the given size is large enough to be worth splitting over multiple threads.
+	 */
+	static boolean isParallel(int rows, int cols, int k)
+	{
+		return (long)rows * cols * k >= THRESHOLD;
+	}
+
+	@Override
+	protected void compute()
+	{
+		int rows = row1-row0;
+		int cols = col1-col0;
+
+		if ((long)rows*cols <= LEAF)
+		{
+			Gemm.multiply(A, B, C, row0, row1, col0, col1, k);
+			return;
+		}
+
+		// split the longest side, keeping the kernel tiles intact
+		if (rows >= cols)
+		{
+			int mid = row0 + align(rows/2, Gemm.MR);
+			invokeAll(new GemmTask(A,B,C, row0,mid, col0,col1, k),
+					  new GemmTask(A,B,C, mid,row1, col0,col1, k));
+		}
+		else
+		{
+			int mid = col0 + align(cols/2, Gemm.NR);
+			invokeAll(new GemmTask(A,B,C, row0,row1, col0,mid, k),
+					  new GemmTask(A,B,C, row0,row1, mid,col1, k));
+		}
+	}
+
+	/*
+	 * round up to a multiple of the tile size
+	 */
+	private static int align(int n, int tile)
+	{
+		return ((n + tile - 1) / tile) * tile;
+	}
+}
@@ -0,0 +1,516 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.matrix;
+
+import com.nullpointerworks.math.Approximate;
+import com.nullpointerworks.math.ObjectPool;
+import com.nullpointerworks.math.vector.Vec3f;
+
+/**
+ * A mutable 4-by-4 matrix stored in fields. Field {@code mRC} holds row {@code R} and column {@code C}, and vectors are multiplied as columns, the same layout as the {@code float[][]} matrices of {@code Matrix4}. All operations modify the matrix they are called on and return it, so transforms can be composed without creating new objects. Temporary matrices can be taken from the thread-local {@code pool}.
+ * <pre>
+ * Mat4f model = new Mat4f().translation(x, y, z).rotate(0f, 1f, 0f, angle).scale(s, s, s);
+ * model.transform(point);</pre>
+ * @since 1.1.0
+ * @see Matrix4
+ */
+public final class Mat4f
+{
+	/**
+	 * A thread-local pool of reusable matrices.
+	 * @since 1.1.0
+	 */
+	public static final ObjectPool<Mat4f> pool = new ObjectPool<Mat4f>(Mat4f::new);
+	
+	public float m00, m01, m02, m03;
+	public float m10, m11, m12, m13;
+	public float m20, m21, m22, m23;
+	public float m30, m31, m32, m33;
+	
+	/**
+	 * Creates an identity matrix.
+	 * @since 1.1.0
+	 */
+	public Mat4f()
+	{
+		identity();
+	}
+	
+	/**
+	 * Creates a copy of the given matrix.
+	 * @param m - the matrix to copy
+	 * @since 1.1.0
+	 */
+	public Mat4f(Mat4f m)
+	{
+		set(m);
+	}
+	
+	/**
+	 * Creates a matrix from a {@code float[4][4]} matrix.
+	 * @param m - a {@code float[4][4]} matrix
+	 * @since 1.1.0
+	 */
+	public Mat4f(float[][] m)
+	{
+		set(m);
+	}
+	
+	/**
+	 * Sets all sixteen components of this matrix, row by row.
+	 * @return this matrix
+	 * @since 1.1.0
+	 */
+	public Mat4f set(float m00, float m01, float m02, float m03,
+					 float m10, float m11, float m12, float m13,
+					 float m20, float m21, float m22, float m23,
+					 float m30, float m31, float m32, float m33)
+	{
+		this.m00 = m00; this.m01 = m01; this.m02 = m02; this.m03 = m03;
+		this.m10 = m10; this.m11 = m11; this.m12 = m12; this.m13 = m13;
+		this.m20 = m20; this.m21 = m21; this.m22 = m22; this.m23 = m23;
+		this.m30 = m30; this.m31 = m31; this.m32 = m32; this.m33 = m33;
+		return this;
+	}
+	
+	/**
+	 * Copies the given matrix into this matrix.
+	 * @param m - the matrix to copy
+	 * @return this matrix
+	 * @since 1.1.0
+	 */
+	public Mat4f set(Mat4f m)
+	{
+		return set(m.m00, m.m01, m.m02, m.m03,
+				   m.m10, m.m11, m.m12, m.m13,
+				   m.m20, m.m21, m.m22, m.m23,
+				   m.m30, m.m31, m.m32, m.m33);
+	}
+	
+	/**
+	 * Copies a {@code float[4][4]} matrix into this matrix.
+	 * @param m - a {@code float[4][4]} matrix
+	 * @return this matrix
+	 * @since 1.1.0
+	 */
+	public Mat4f set(float[][] m)
+	{
+		float[] r0 = m[0], r1 = m[1], r2 = m[2], r3 = m[3];
+		return set(r0[0], r0[1], r0[2], r0[3],
+				   r1[0], r1[1], r1[2], r1[3],
+				   r2[0], r2[1], r2[2], r2[3],
+				   r3[0], r3[1], r3[2], r3[3]);
+	}
+	
+	/**
+	 * Copies sixteen row-major values from a flat array, starting at the given index, into this matrix.
+	 * @param m - a flat array of matrices
+	 * @param offset - the index of the first component
+	 * @return this matrix
+	 * @since 1.1.0
+	 */
+	public Mat4f set(float[] m, int offset)
+	{
+		int o = offset;
+		return set(m[o   ], m[o+ 1], m[o+ 2], m[o+ 3],
+				   m[o+ 4], m[o+ 5], m[o+ 6], m[o+ 7],
+				   m[o+ 8], m[o+ 9], m[o+10], m[o+11],
+				   m[o+12], m[o+13], m[o+14], m[o+15]);
+	}
+	
+	/**
+	 * Writes this matrix into a {@code float[4][4]} matrix.
+	 * @param res - the destination {@code float[4][4]} matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] get(float[][] res)
+	{
+		float[] r0 = res[0], r1 = res[1], r2 = res[2], r3 = res[3];
+		r0[0] = m00; r0[1] = m01; r0[2] = m02; r0[3] = m03;
+		r1[0] = m10; r1[1] = m11; r1[2] = m12; r1[3] = m13;
+		r2[0] = m20; r2[1] = m21; r2[2] = m22; r2[3] = m23;
+		r3[0] = m30; r3[1] = m31; r3[2] = m32; r3[3] = m33;
+		return res;
+	}
+	
+	/**
+	 * Writes this matrix row-major into a flat array, starting at the given index.
+	 * @param res - the destination array
+	 * @param offset - the index of the first component
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public float[] get(float[] res, int offset)
+	{
+		int o = offset;
+		res[o   ] = m00; res[o+ 1] = m01; res[o+ 2] = m02; res[o+ 3] = m03;
+		res[o+ 4] = m10; res[o+ 5] = m11; res[o+ 6] = m12; res[o+ 7] = m13;
+		res[o+ 8] = m20; res[o+ 9] = m21; res[o+10] = m22; res[o+11] = m23;
+		res[o+12] = m30; res[o+13] = m31; res[o+14] = m32; res[o+15] = m33;
+		return res;
+	}
+	
+	/**
+	 * Returns this matrix as a new {@code float[4][4]} matrix.
+	 * @return a new {@code float[4][4]} matrix
+	 * @since 1.1.0
+	 */
+	public float[][] toArray()
+	{
+		return get(new float[4][4]);
+	}
+	
+	/**
+	 * Sets this matrix to the identity matrix.
+	 * @return this matrix
+	 * @since 1.1.0
+	 */
+	public Mat4f identity()
+	{
+		return set(1f,0f,0f,0f,
+				   0f,1f,0f,0f,
+				   0f,0f,1f,0f,
+				   0f,0f,0f,1f);
+	}
+	
+	/**
+	 * Sets all components of this matrix to {@code 0}.
+	 * @return this matrix
+	 * @since 1.1.0
+	 */
+	public Mat4f zero()
+	{
+		return set(0f,0f,0f,0f,
+				   0f,0f,0f,0f,
+				   0f,0f,0f,0f,
+				   0f,0f,0f,0f);
+	}
+	
+	/**
+	 * Sets this matrix to a translation matrix.
+	 * @param x - the Cartesian x location
+	 * @param y - the Cartesian y location
+	 * @param z - the Cartesian z location
+	 * @return this matrix
+	 * @since 1.1.0
+	 */
+	public Mat4f translation(float x, float y, float z)
+	{
+		return set(1f,0f,0f,x,
+				   0f,1f,0f,y,
+				   0f,0f,1f,z,
+				   0f,0f,0f,1f);
+	}
+	
+	/**
+	 * Sets this matrix to a scaling matrix.
+	 * @param sx - scale along the x axes
+	 * @param sy - scale along the y axes
+	 * @param sz - scale along the z axes
+	 * @return this matrix
+	 * @since 1.1.0
+	 */
+	public Mat4f scaling(float sx, float sy, float sz)
+	{
+		return set(sx,0f,0f,0f,
+				   0f,sy,0f,0f,
+				   0f,0f,sz,0f,
+				   0f,0f,0f,1f);
+	}
+	
+	/**
+	 * Sets this matrix to a rotation around the given axes. The axes does not have to be normalized. This method uses the approximation library for sine and cosine, like {@code Matrix4.rotation}.
+	 * @param ax - x component of the rotation axes
+	 * @param ay - y component of the rotation axes
+	 * @param az - z component of the rotation axes
+	 * @param angle - the amount of radians to rotate around
+	 * @return this matrix
+	 * @since 1.1.0
+	 * @see Approximate
+	 */
+	public Mat4f rotation(float ax, float ay, float az, float angle)
+	{
+		float m = ax*ax + ay*ay + az*az;
+		if (m == 0f) return identity();
+		float invm = 1f / (float) Math.sqrt(m);
+		
+		float sin = (float) Approximate.sin(angle*0.5f);
+		float w = (float) Approximate.cos(angle*0.5f);
+		float x = ax*invm*sin;
+		float y = ay*invm*sin;
+		float z = az*invm*sin;
+		
+		float xx2 = 2f*x*x, xy2 = 2f*x*y, xz2 = 2f*x*z;
+		float yy2 = 2f*y*y, yz2 = 2f*y*z, zz2 = 2f*z*z;
+		float wx2 = 2f*w*x, wy2 = 2f*w*y, wz2 = 2f*w*z;
+		
+		return set(1f - yy2 - zz2,	xy2 - wz2,		xz2 + wy2,		0f,
+				   xy2 + wz2,		1f - xx2 - zz2,	yz2 - wx2,		0f,
+				   xz2 - wy2,		yz2 + wx2,		1f - xx2 - yy2,	0f,
+				   0f,				0f,				0f,				1f);
+	}
+	
+	/**
+	 * Sets this matrix to the product of this matrix with the given matrix, {@code this * m}.
+	 * @param m - the right hand side matrix
+	 * @return this matrix
+	 * @since 1.1.0
+	 */
+	public Mat4f mul(Mat4f m)
+	{
+		return mul(this, m);
+	}
+	
+	/**
+	 * Sets this matrix to the product of two matrices, {@code a * b}. Either matrix may be this matrix.
+	 * @param a - the left hand side matrix
+	 * @param b - the right hand side matrix
+	 * @return this matrix
+	 * @since 1.1.0
+	 */
+	public Mat4f mul(Mat4f a, Mat4f b)
+	{
+		return set(a.m00*b.m00 + a.m01*b.m10 + a.m02*b.m20 + a.m03*b.m30,
+				   a.m00*b.m01 + a.m01*b.m11 + a.m02*b.m21 + a.m03*b.m31,
+				   a.m00*b.m02 + a.m01*b.m12 + a.m02*b.m22 + a.m03*b.m32,
+				   a.m00*b.m03 + a.m01*b.m13 + a.m02*b.m23 + a.m03*b.m33,
+				   
+				   a.m10*b.m00 + a.m11*b.m10 + a.m12*b.m20 + a.m13*b.m30,
+				   a.m10*b.m01 + a.m11*b.m11 + a.m12*b.m21 + a.m13*b.m31,
+				   a.m10*b.m02 + a.m11*b.m12 + a.m12*b.m22 + a.m13*b.m32,
+				   a.m10*b.m03 + a.m11*b.m13 + a.m12*b.m23 + a.m13*b.m33,
+				   
+				   a.m20*b.m00 + a.m21*b.m10 + a.m22*b.m20 + a.m23*b.m30,
+				   a.m20*b.m01 + a.m21*b.m11 + a.m22*b.m21 + a.m23*b.m31,
+				   a.m20*b.m02 + a.m21*b.m12 + a.m22*b.m22 + a.m23*b.m32,
+				   a.m20*b.m03 + a.m21*b.m13 + a.m22*b.m23 + a.m23*b.m33,
+				   
+				   a.m30*b.m00 + a.m31*b.m10 + a.m32*b.m20 + a.m33*b.m30,
+				   a.m30*b.m01 + a.m31*b.m11 + a.m32*b.m21 + a.m33*b.m31,
+				   a.m30*b.m02 + a.m31*b.m12 + a.m32*b.m22 + a.m33*b.m32,
+				   a.m30*b.m03 + a.m31*b.m13 + a.m32*b.m23 + a.m33*b.m33);
+	}
+	
+	/**
+	 * Multiplies all components of this matrix with a factor.
+	 * @param f - the multiplication factor
+	 * @return this matrix
+	 * @since 1.1.0
+	 */
+	public Mat4f mul(float f)
+	{
+		return set(m00*f, m01*f, m02*f, m03*f,
+				   m10*f, m11*f, m12*f, m13*f,
+				   m20*f, m21*f, m22*f, m23*f,
+				   m30*f, m31*f, m32*f, m33*f);
+	}
+	
+	/**
+	 * Applies a translation after the transformation of this matrix, {@code this * T}.
+	 * @param x - the Cartesian x location
+	 * @param y - the Cartesian y location
+	 * @param z - the Cartesian z location
+	 * @return this matrix
+	 * @since 1.1.0
+	 */
+	public Mat4f translate(float x, float y, float z)
+	{
+		m03 += m00*x + m01*y + m02*z;
+		m13 += m10*x + m11*y + m12*z;
+		m23 += m20*x + m21*y + m22*z;
+		m33 += m30*x + m31*y + m32*z;
+		return this;
+	}
+	
+	/**
+	 * Multiplies this matrix with a scaling matrix, {@code this * S}.
+	 * @param sx - scale along the x axes
+	 * @param sy - scale along the y axes
+	 * @param sz - scale along the z axes
+	 * @return this matrix
+	 * @since 1.1.0
+	 */
+	public Mat4f scale(float sx, float sy, float sz)
+	{
+		m00 *= sx; m01 *= sy; m02 *= sz;
+		m10 *= sx; m11 *= sy; m12 *= sz;
+		m20 *= sx; m21 *= sy; m22 *= sz;
+		m30 *= sx; m31 *= sy; m32 *= sz;
+		return this;
+	}
+	
+	/**
+	 * Multiplies this matrix with a rotation around the given axes, {@code this * R}.
+	 * @param ax - x component of the rotation axes
+	 * @param ay - y component of the rotation axes
+	 * @param az - z component of the rotation axes
+	 * @param angle - the amount of radians to rotate around
+	 * @return this matrix
+	 * @since 1.1.0
+	 * @see #rotation(float, float, float, float)
+	 */
+	public Mat4f rotate(float ax, float ay, float az, float angle)
+	{
+		float m = ax*ax + ay*ay + az*az;
+		if (m == 0f) return this;
+		float invm = 1f / (float) Math.sqrt(m);
+		
+		float sin = (float) Approximate.sin(angle*0.5f);
+		float w = (float) Approximate.cos(angle*0.5f);
+		float x = ax*invm*sin;
+		float y = ay*invm*sin;
+		float z = az*invm*sin;
+		
+		float xx2 = 2f*x*x, xy2 = 2f*x*y, xz2 = 2f*x*z;
+		float yy2 = 2f*y*y, yz2 = 2f*y*z, zz2 = 2f*z*z;
+		float wx2 = 2f*w*x, wy2 = 2f*w*y, wz2 = 2f*w*z;
+		
+		float r00 = 1f - yy2 - zz2, r01 = xy2 - wz2, r02 = xz2 + wy2;
+		float r10 = xy2 + wz2, r11 = 1f - xx2 - zz2, r12 = yz2 - wx2;
+		float r20 = xz2 - wy2, r21 = yz2 + wx2, r22 = 1f - xx2 - yy2;
+		
+		// the rotation has no translation, so the last column of this matrix is unchanged
+		float a0, a1, a2;
+		a0 = m00; a1 = m01; a2 = m02;
+		m00 = a0*r00 + a1*r10 + a2*r20;
+		m01 = a0*r01 + a1*r11 + a2*r21;
+		m02 = a0*r02 + a1*r12 + a2*r22;
+		a0 = m10; a1 = m11; a2 = m12;
+		m10 = a0*r00 + a1*r10 + a2*r20;
+		m11 = a0*r01 + a1*r11 + a2*r21;
+		m12 = a0*r02 + a1*r12 + a2*r22;
+		a0 = m20; a1 = m21; a2 = m22;
+		m20 = a0*r00 + a1*r10 + a2*r20;
+		m21 = a0*r01 + a1*r11 + a2*r21;
+		m22 = a0*r02 + a1*r12 + a2*r22;
+		a0 = m30; a1 = m31; a2 = m32;
+		m30 = a0*r00 + a1*r10 + a2*r20;
+		m31 = a0*r01 + a1*r11 + a2*r21;
+		m32 = a0*r02 + a1*r12 + a2*r22;
+		return this;
+	}
+	
+	/**
+	 * Transposes this matrix.
+	 * @return this matrix
+	 * @since 1.1.0
+	 */
+	public Mat4f transpose()
+	{
+		return set(m00, m10, m20, m30,
+				   m01, m11, m21, m31,
+				   m02, m12, m22, m32,
+				   m03, m13, m23, m33);
+	}
+	
+	/**
+	 * Returns the determinant of this matrix.
+	 * @return the determinant
+	 * @since 1.1.0
+	 */
+	public float det()
+	{
+		float s0 = m00*m11 - m10*m01;
+		float s1 = m00*m12 - m10*m02;
+		float s2 = m00*m13 - m10*m03;
+		float s3 = m01*m12 - m11*m02;
+		float s4 = m01*m13 - m11*m03;
+		float s5 = m02*m13 - m12*m03;
+		
+		float c5 = m22*m33 - m32*m23;
+		float c4 = m21*m33 - m31*m23;
+		float c3 = m21*m32 - m31*m22;
+		float c2 = m20*m33 - m30*m23;
+		float c1 = m20*m32 - m30*m22;
+		float c0 = m20*m31 - m30*m21;
+		
+		return s0*c5 - s1*c4 + s2*c3 + s3*c2 - s4*c1 + s5*c0;
+	}
+	
+	/**
+	 * Inverts this matrix. A matrix with a determinant of {@code 0} has no inverse and is left unchanged.
+	 * @return this matrix
+	 * @since 1.1.0
+	 */
+	public Mat4f inverse()
+	{
+		float s0 = m00*m11 - m10*m01;
+		float s1 = m00*m12 - m10*m02;
+		float s2 = m00*m13 - m10*m03;
+		float s3 = m01*m12 - m11*m02;
+		float s4 = m01*m13 - m11*m03;
+		float s5 = m02*m13 - m12*m03;
+		
+		float c5 = m22*m33 - m32*m23;
+		float c4 = m21*m33 - m31*m23;
+		float c3 = m21*m32 - m31*m22;
+		float c2 = m20*m33 - m30*m23;
+		float c1 = m20*m32 - m30*m22;
+		float c0 = m20*m31 - m30*m21;
+		
+		float det = s0*c5 - s1*c4 + s2*c3 + s3*c2 - s4*c1 + s5*c0;
+		if (det == 0f) return this;
+		float d = 1f / det;
+		
+		return set(( m11*c5 - m12*c4 + m13*c3) * d,
+				   (-m01*c5 + m02*c4 - m03*c3) * d,
+				   ( m31*s5 - m32*s4 + m33*s3) * d,
+				   (-m21*s5 + m22*s4 - m23*s3) * d,
+				   
+				   (-m10*c5 + m12*c2 - m13*c1) * d,
+				   ( m00*c5 - m02*c2 + m03*c1) * d,
+				   (-m30*s5 + m32*s2 - m33*s1) * d,
+				   ( m20*s5 - m22*s2 + m23*s1) * d,
+				   
+				   ( m10*c4 - m11*c2 + m13*c0) * d,
+				   (-m00*c4 + m01*c2 - m03*c0) * d,
+				   ( m30*s4 - m31*s2 + m33*s0) * d,
+				   (-m20*s4 + m21*s2 - m23*s0) * d,
+				   
+				   (-m10*c3 + m11*c1 - m12*c0) * d,
+				   ( m00*c3 - m01*c1 + m02*c0) * d,
+				   (-m30*s3 + m31*s1 - m32*s0) * d,
+				   ( m20*s3 - m21*s1 + m22*s0) * d);
+	}
+	
+	/**
+	 * Transforms a point with this matrix, as a column vector with a w component of {@code 1}. The result is written back into the point. The bottom row of the matrix is ignored, which suits affine transformations.
+	 * @param v - the point to transform
+	 * @return the transformed point
+	 * @since 1.1.0
+	 */
+	public Vec3f transform(Vec3f v)
+	{
+		float x = v.x, y = v.y, z = v.z;
+		return v.set(m00*x + m01*y + m02*z + m03,
+					 m10*x + m11*y + m12*z + m13,
+					 m20*x + m21*y + m22*z + m23);
+	}
+	
+	/**
+	 * Transforms a direction with this matrix, as a column vector with a w component of {@code 0}, so it is not translated. The result is written back into the direction.
+	 * @param v - the direction to transform
+	 * @return the transformed direction
+	 * @since 1.1.0
+	 */
+	public Vec3f transformDirection(Vec3f v)
+	{
+		float x = v.x, y = v.y, z = v.z;
+		return v.set(m00*x + m01*y + m02*z,
+					 m10*x + m11*y + m12*z,
+					 m20*x + m21*y + m22*z);
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "["+m00+", "+m01+", "+m02+", "+m03+"]\n"+
+			   "["+m10+", "+m11+", "+m12+", "+m13+"]\n"+
+			   "["+m20+", "+m21+", "+m22+", "+m23+"]\n"+
+			   "["+m30+", "+m31+", "+m32+", "+m33+"]";
+	}
+}
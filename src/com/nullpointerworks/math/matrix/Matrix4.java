@@ -7,6 +7,8 @@ package com.nullpointerworks.math.matrix;
 
 import static com.nullpointerworks.math.FloatMath.RADIAN;
 
+import java.nio.FloatBuffer;
+
 import com.nullpointerworks.math.Approximate;
 import com.nullpointerworks.math.Quaternion;
 import com.nullpointerworks.math.vector.Vector3;
@@ -14,7 +16,9 @@ import com.nullpointerworks.math.vector.Vector4;
 import com.nullpointerworks.math.vector.VectorN;
 
 /**
- * A 4 dimensional implementation of the {@code Matrix} interface. This class contains various 4-by-4 matrix operations including a set of special functions to help generate 3D world transformations.
+ * A 4 dimensional implementation of the {@code Matrix} interface. This class contains various 4-by-4 matrix operations including a set of special functions to help generate 3D world transformations.<br>
+ * <br>
+ * Next to the methods that return a new matrix, every operation has an allocation free variant that writes its result into a caller-provided {@code float[4][4]} destination {@code res} and returns it. These produce bit-identical results to their allocating counterparts. The destination may be the same matrix as one of the inputs. Since {@code mul(float[][]...)} already accepts any number of matrices, the matrix products that write into a destination are named {@code product}.
  * @since 1.0.0
  */
 public class Matrix4 implements Matrix 
@@ -573,4 +577,661 @@ public class Matrix4 implements Matrix
 							 { 0f, 0f,-n33, 0f},
 							 { 0f, 0f,  0f, 1f}};
 	}
+	
+	// =========================================================
+	
+	/**
+	 * Fills the destination with a zero matrix.
+	 * @param res - the destination matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] zero(float[][] res)
+	{
+		set(res[0], 0f,0f,0f,0f);
+		set(res[1], 0f,0f,0f,0f);
+		set(res[2], 0f,0f,0f,0f);
+		set(res[3], 0f,0f,0f,0f);
+		return res;
+	}
+	
+	/**
+	 * Fills the destination with an identity matrix.
+	 * @param res - the destination matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] identity(float[][] res)
+	{
+		set(res[0], 1f,0f,0f,0f);
+		set(res[1], 0f,1f,0f,0f);
+		set(res[2], 0f,0f,1f,0f);
+		set(res[3], 0f,0f,0f,1f);
+		return res;
+	}
+	
+	/**
+	 * Writes the transpose of the given matrix into the destination.
+	 * @param m - the matrix to transpose
+	 * @param res - the destination matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] transpose(float[][] m, float[][] res)
+	{
+		float[] m0 = m[0], m1 = m[1], m2 = m[2], m3 = m[3];
+		float a00=m0[0], a01=m0[1], a02=m0[2], a03=m0[3];
+		float a10=m1[0], a11=m1[1], a12=m1[2], a13=m1[3];
+		float a20=m2[0], a21=m2[1], a22=m2[2], a23=m2[3];
+		float a30=m3[0], a31=m3[1], a32=m3[2], a33=m3[3];
+		set(res[0], a00,a10,a20,a30);
+		set(res[1], a01,a11,a21,a31);
+		set(res[2], a02,a12,a22,a32);
+		set(res[3], a03,a13,a23,a33);
+		return res;
+	}
+	
+	/**
+	 * Multiplies all elements of a matrix with a factor and writes the result into the destination.
+	 * @param m - a matrix
+	 * @param f - the multiplication factor
+	 * @param res - the destination matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] mul(float[][] m, float f, float[][] res)
+	{
+		float[] m0 = m[0], m1 = m[1], m2 = m[2], m3 = m[3];
+		set(res[0], m0[0]*f, m0[1]*f, m0[2]*f, m0[3]*f);
+		set(res[1], m1[0]*f, m1[1]*f, m1[2]*f, m1[3]*f);
+		set(res[2], m2[0]*f, m2[1]*f, m2[2]*f, m2[3]*f);
+		set(res[3], m3[0]*f, m3[1]*f, m3[2]*f, m3[3]*f);
+		return res;
+	}
+	
+	/**
+	 * Multiplies two matrices and writes the result into the destination. The destination may be one of the operands.
+	 * @param m1 - the base matrix
+	 * @param m2 - the matrix to multiply with
+	 * @param res - the destination matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] product(float[][] m1, float[][] m2, float[][] res)
+	{
+		float[] b0 = m2[0], b1 = m2[1], b2 = m2[2], b3 = m2[3];
+		float c00=b0[0], c01=b0[1], c02=b0[2], c03=b0[3];
+		float c10=b1[0], c11=b1[1], c12=b1[2], c13=b1[3];
+		float c20=b2[0], c21=b2[1], c22=b2[2], c23=b2[3];
+		float c30=b3[0], c31=b3[1], c32=b3[2], c33=b3[3];
+		
+		for (int r=0; r<4; r++)
+		{
+			float[] a = m1[r];
+			float a0=a[0], a1=a[1], a2=a[2], a3=a[3];
+			float r0 = a0*c00 + a1*c10 + a2*c20 + a3*c30;
+			float r1 = a0*c01 + a1*c11 + a2*c21 + a3*c31;
+			float r2 = a0*c02 + a1*c12 + a2*c22 + a3*c32;
+			float r3 = a0*c03 + a1*c13 + a2*c23 + a3*c33;
+			set(res[r], r0,r1,r2,r3);
+		}
+		return res;
+	}
+	
+	/**
+	 * Multiplies a list of matrices and writes the result into the destination. The destination must not be any of the listed matrices other than the first.
+	 * @param res - the destination matrix
+	 * @param m - a list of matrices
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] product(float[][] res, float[][][] m)
+	{
+		int l = m.length;
+		if (l==0) return identity(res);
+		identity_product(m[0], res);
+		for (int i=1; i<l; i++)
+		{
+			product(res, m[i], res);
+		}
+		return res;
+	}
+	
+	/*
+	 * res = identity * m, which is not always m itself for signed zeros
+	 */
+	private void identity_product(float[][] m, float[][] res)
+	{
+		float[] b0 = m[0], b1 = m[1], b2 = m[2], b3 = m[3];
+		float c00=b0[0], c01=b0[1], c02=b0[2], c03=b0[3];
+		float c10=b1[0], c11=b1[1], c12=b1[2], c13=b1[3];
+		float c20=b2[0], c21=b2[1], c22=b2[2], c23=b2[3];
+		float c30=b3[0], c31=b3[1], c32=b3[2], c33=b3[3];
+		set(res[0], 1f*c00 + 0f*c10 + 0f*c20 + 0f*c30,
+					1f*c01 + 0f*c11 + 0f*c21 + 0f*c31,
+					1f*c02 + 0f*c12 + 0f*c22 + 0f*c32,
+					1f*c03 + 0f*c13 + 0f*c23 + 0f*c33);
+		set(res[1], 0f*c00 + 1f*c10 + 0f*c20 + 0f*c30,
+					0f*c01 + 1f*c11 + 0f*c21 + 0f*c31,
+					0f*c02 + 1f*c12 + 0f*c22 + 0f*c32,
+					0f*c03 + 1f*c13 + 0f*c23 + 0f*c33);
+		set(res[2], 0f*c00 + 0f*c10 + 1f*c20 + 0f*c30,
+					0f*c01 + 0f*c11 + 1f*c21 + 0f*c31,
+					0f*c02 + 0f*c12 + 1f*c22 + 0f*c32,
+					0f*c03 + 0f*c13 + 1f*c23 + 0f*c33);
+		set(res[3], 0f*c00 + 0f*c10 + 0f*c20 + 1f*c30,
+					0f*c01 + 0f*c11 + 0f*c21 + 1f*c31,
+					0f*c02 + 0f*c12 + 0f*c22 + 1f*c32,
+					0f*c03 + 0f*c13 + 0f*c23 + 1f*c33);
+	}
+	
+	/**
+	 * Writes the adjugate of the given matrix into the destination.
+	 * @param m - a matrix
+	 * @param res - the destination matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] adjugate(float[][] m, float[][] res)
+	{
+		return cofactors(m, res, false);
+	}
+	
+	/**
+	 * Writes the inverse of the given matrix into the destination.
+	 * @param m - a matrix
+	 * @param res - the destination matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] inverse(float[][] m, float[][] res)
+	{
+		return cofactors(m, res, true);
+	}
+	
+	/*
+	 * shared body of adjugate and inverse
+	 */
+	private float[][] cofactors(float[][] m, float[][] res, boolean invert)
+	{
+		float[] m0 = m[0];
+		float[] m1 = m[1];
+		float[] m2 = m[2];
+		float[] m3 = m[3];
+		
+		float s0 = m0[0] * m1[1] - m1[0] * m0[1];
+		float s1 = m0[0] * m1[2] - m1[0] * m0[2];
+		float s2 = m0[0] * m1[3] - m1[0] * m0[3];
+		float s3 = m0[1] * m1[2] - m1[1] * m0[2];
+		float s4 = m0[1] * m1[3] - m1[1] * m0[2];
+		float s5 = m0[2] * m1[3] - m1[2] * m0[3];
+
+		float c5 = m2[2] * m3[3] - m3[2] * m2[3];
+		float c4 = m2[1] * m3[3] - m3[1] * m2[3];
+		float c3 = m2[1] * m3[2] - m3[1] * m2[2];
+		float c2 = m2[0] * m3[3] - m3[0] * m2[3];
+		float c1 = m2[0] * m3[2] - m3[0] * m2[2];
+		float c0 = m2[0] * m3[1] - m3[0] * m2[1];
+		
+		float r00 = ( m1[1]*c5 - m1[2]*c4 + m1[3]*c3);
+		float r01 = (-m0[1]*c5 + m0[2]*c4 - m0[3]*c3);
+		float r02 = ( m3[1]*s5 - m3[2]*s4 + m3[3]*s3);
+		float r03 = (-m2[1]*s5 + m2[2]*s4 - m2[3]*s3);
+
+		float r10 = (-m1[0]*c5 + m1[2]*c2 - m1[3]*c1);
+		float r11 = ( m0[0]*c5 - m0[2]*c2 + m0[3]*c1);
+		float r12 = (-m3[0]*s5 + m3[2]*s2 - m3[3]*s1);
+		float r13 = ( m2[0]*s5 - m2[2]*s2 + m2[3]*s1);
+		
+		float r20 = ( m1[0]*c4 - m1[1]*c2 + m1[3]*c0);
+		float r21 = (-m0[0]*c4 + m0[1]*c2 - m0[3]*c0);
+		float r22 = ( m3[0]*s4 - m3[1]*s2 + m3[3]*s0);
+		float r23 = (-m2[0]*s4 + m2[1]*s2 - m2[3]*s0);
+		
+		float r30 = (-m1[0]*c3 + m1[1]*c1 - m1[2]*c0);
+		float r31 = ( m0[0]*c3 - m0[1]*c1 + m0[2]*c0);
+		float r32 = (-m3[0]*s3 + m3[1]*s1 - m3[2]*s0);
+		float r33 = ( m2[0]*s3 - m2[1]*s1 + m2[2]*s0);
+		
+		if (invert)
+		{
+			float d = 1f / (s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0);
+			set(res[0], r00*d, r01*d, r02*d, r03*d);
+			set(res[1], r10*d, r11*d, r12*d, r13*d);
+			set(res[2], r20*d, r21*d, r22*d, r23*d);
+			set(res[3], r30*d, r31*d, r32*d, r33*d);
+			return res;
+		}
+		
+		set(res[0], r00, r01, r02, r03);
+		set(res[1], r10, r11, r12, r13);
+		set(res[2], r20, r21, r22, r23);
+		set(res[3], r30, r31, r32, r33);
+		return res;
+	}
+	
+	/**
+	 * Transforms a list of vertices {@code v} defined as an {@code float[n][4]} array and writes them into the destination list. The destination may be the same list as {@code v}.
+	 * @param m - the transformation matrix
+	 * @param v - the array of vertices
+	 * @param res - the destination {@code float[n][4]} array
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public float[][] transform(float[][] m, float[][] v, float[][] res)
+	{
+		for (int i=0,l=v.length; i<l; i++)
+		{
+			transform(m, v[i], res[i]);
+		}
+		return res;
+	}
+	
+	/**
+	 * Transforms a vertex and writes it into the destination vertex. The destination may be the same vertex as {@code v}.
+	 * @param m - the transformation matrix
+	 * @param v - a vertex
+	 * @param res - the destination {@code float[4]} vertex
+	 * @return the destination vertex
+	 * @since 1.1.0
+	 */
+	public float[] transform(float[][] m, float[] v, float[] res)
+	{
+		float x=v[0], y=v[1], z=v[2], w=v[3];
+		float[] m0 = m[0], m1 = m[1], m2 = m[2], m3 = m[3];
+		float r0 = m0[0]*x + m0[1]*y + m0[2]*z + m0[3]*w;
+		float r1 = m1[0]*x + m1[1]*y + m1[2]*z + m1[3]*w;
+		float r2 = m2[0]*x + m2[1]*y + m2[2]*z + m2[3]*w;
+		float r3 = m3[0]*x + m3[1]*y + m3[2]*z + m3[3]*w;
+		res[0] = r0;
+		res[1] = r1;
+		res[2] = r2;
+		res[3] = r3;
+		return res;
+	}
+	
+	/**
+	 * Transforms {@code count} vertices stored in a packed {@code float[]} and writes them into a packed destination array. Each vertex is four consecutive floats {@code x,y,z,w}. The stride is the distance in floats between the start of two vertices, a tightly packed array has a stride of {@code 4}. Source and destination may be the same array, as long as their vertices either coincide or don't overlap.
+	 * @param m - the transformation matrix
+	 * @param src - the packed source vertices
+	 * @param srcOffset - array index of the first float of the first source vertex
+	 * @param srcStride - floats between two source vertices
+	 * @param dst - the packed destination vertices
+	 * @param dstOffset - array index of the first float of the first destination vertex
+	 * @param dstStride - floats between two destination vertices
+	 * @param count - the number of vertices to transform
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public float[] transform(float[][] m, 
+							 float[] src, int srcOffset, int srcStride,
+							 float[] dst, int dstOffset, int dstStride, int count)
+	{
+		float[] m0 = m[0], m1 = m[1], m2 = m[2], m3 = m[3];
+		float a00=m0[0], a01=m0[1], a02=m0[2], a03=m0[3];
+		float a10=m1[0], a11=m1[1], a12=m1[2], a13=m1[3];
+		float a20=m2[0], a21=m2[1], a22=m2[2], a23=m2[3];
+		float a30=m3[0], a31=m3[1], a32=m3[2], a33=m3[3];
+		
+		for (int i=0, s=srcOffset, d=dstOffset; i<count; i++, s+=srcStride, d+=dstStride)
+		{
+			float x=src[s], y=src[s+1], z=src[s+2], w=src[s+3];
+			dst[d  ] = a00*x + a01*y + a02*z + a03*w;
+			dst[d+1] = a10*x + a11*y + a12*z + a13*w;
+			dst[d+2] = a20*x + a21*y + a22*z + a23*w;
+			dst[d+3] = a30*x + a31*y + a32*z + a33*w;
+		}
+		return dst;
+	}
+	
+	/**
+	 * Transforms {@code count} vertices stored in a {@code FloatBuffer} and writes them into a destination buffer. Heap and direct buffers are both supported, offsets are absolute and the buffer positions are left untouched. Each vertex is four consecutive floats {@code x,y,z,w}, the stride is the distance in floats between the start of two vertices.
+	 * @param m - the transformation matrix
+	 * @param src - the source vertex buffer
+	 * @param srcOffset - array index of the first float of the first source vertex
+	 * @param srcStride - floats between two source vertices
+	 * @param dst - the destination vertex buffer
+	 * @param dstOffset - array index of the first float of the first destination vertex
+	 * @param dstStride - floats between two destination vertices
+	 * @param count - the number of vertices to transform
+	 * @return the destination buffer
+	 * @since 1.1.0
+	 */
+	public FloatBuffer transform(float[][] m, 
+								 FloatBuffer src, int srcOffset, int srcStride,
+								 FloatBuffer dst, int dstOffset, int dstStride, int count)
+	{
+		// heap buffers can use the array kernel directly
+		if (src.hasArray() && dst.hasArray() && !dst.isReadOnly())
+		{
+			transform(m, src.array(), src.arrayOffset()+srcOffset, srcStride,
+						 dst.array(), dst.arrayOffset()+dstOffset, dstStride, count);
+			return dst;
+		}
+		
+		float[] m0 = m[0], m1 = m[1], m2 = m[2], m3 = m[3];
+		float a00=m0[0], a01=m0[1], a02=m0[2], a03=m0[3];
+		float a10=m1[0], a11=m1[1], a12=m1[2], a13=m1[3];
+		float a20=m2[0], a21=m2[1], a22=m2[2], a23=m2[3];
+		float a30=m3[0], a31=m3[1], a32=m3[2], a33=m3[3];
+		
+		for (int i=0, s=srcOffset, d=dstOffset; i<count; i++, s+=srcStride, d+=dstStride)
+		{
+			float x=src.get(s), y=src.get(s+1), z=src.get(s+2), w=src.get(s+3);
+			dst.put(d  , a00*x + a01*y + a02*z + a03*w);
+			dst.put(d+1, a10*x + a11*y + a12*z + a13*w);
+			dst.put(d+2, a20*x + a21*y + a22*z + a23*w);
+			dst.put(d+3, a30*x + a31*y + a32*z + a33*w);
+		}
+		return dst;
+	}
+	
+	/**
+	 * Writes a translation matrix into the destination.
+	 * @param x - the Cartesian x location
+	 * @param y - the Cartesian y location
+	 * @param z - the Cartesian z location
+	 * @param res - the destination matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] translate(float x, float y, float z, float[][] res)
+	{
+		set(res[0], 1f,0f,0f,x);
+		set(res[1], 0f,1f,0f,y);
+		set(res[2], 0f,0f,1f,z);
+		set(res[3], 0f,0f,0f,1f);
+		return res;
+	}
+	
+	/**
+	 * Writes a translation matrix with the content of {@code float[3]} vector {@code v} into the destination.
+	 * @param v - the vector with the Cartesian x, y and z location
+	 * @param res - the destination matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] translate(float[] v, float[][] res)
+	{
+		return translate(v[0], v[1], v[2], res);
+	}
+	
+	/**
+	 * Writes a scaling matrix into the destination.
+	 * @param sx - the scale on x
+	 * @param sy - the scale on y
+	 * @param sz - the scale on z
+	 * @param res - the destination matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] scale(float sx, float sy, float sz, float[][] res)
+	{
+		set(res[0], sx,0f,0f,0f);
+		set(res[1], 0f,sy,0f,0f);
+		set(res[2], 0f,0f,sz,0f);
+		set(res[3], 0f,0f,0f,1f);
+		return res;
+	}
+	
+	/**
+	 * Writes a scaling matrix with the content of {@code float[3]} vector {@code s} into the destination.
+	 * @param s - the vector with the x, y and z scales
+	 * @param res - the destination matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] scale(float[] s, float[][] res)
+	{
+		return scale(s[0], s[1], s[2], res);
+	}
+	
+	/**
+	 * Writes a 3D screen-space correction matrix into the destination.
+	 * @param width - the width of the screen
+	 * @param height - the height of the screen
+	 * @param res - the destination matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] correction(float width, float height, float[][] res)
+	{
+		float hw = width*0.5f;
+		float hh = height*0.5f;
+		set(res[0], hw, 0f, 0f, hw-0.5f);
+		set(res[1], 0f,-hh, 0f, hh-0.5f);
+		set(res[2], 0f, 0f, 1f, 0f);
+		set(res[3], 0f, 0f, 0f, 1f);
+		return res;
+	}
+	
+	/**
+	 * Writes a counter screen-space transformation matrix into the destination.
+	 * @param width - the width of the screen
+	 * @param height - the height of the screen
+	 * @param res - the destination matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] counter(float width, float height, float[][] res)
+	{
+		float asp = width / height;
+		float m00 = 2f / height;
+		set(res[0], m00,  0f, 0f,-asp);
+		set(res[1],  0f,-m00, 0f, 1f);
+		set(res[2],  0f,  0f, 1f, 0f);
+		set(res[3],  0f,  0f, 0f, 1f);
+		return res;
+	}
+	
+	/**
+	 * Writes a rotation matrix computed with quaternions into the destination.
+	 * @param axes - an axes defines by a {@code float[3]} vector
+	 * @param angle - the angle in radians to rotate
+	 * @param res - the destination matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] rotation(float[] axes, float angle, float[][] res)
+	{
+		// normalized axes
+		float ax = axes[0], ay = axes[1], az = axes[2];
+		float invm = 1f / (float)Math.sqrt(ax*ax + ay*ay + az*az);
+		ax = ax*invm;
+		ay = ay*invm;
+		az = az*invm;
+		
+		// rotation quaternion
+		float sin = (float)Approximate.sin(angle*0.5f);
+		float w = (float)Approximate.cos(angle*0.5f);
+		float x = ax*sin;
+		float y = ay*sin;
+		float z = az*sin;
+		
+		float xx2 = 2f*x*x;
+		float xy2 = 2f*x*y;
+		float xz2 = 2f*x*z;
+		float yy2 = 2f*y*y;
+		float yz2 = 2f*y*z;
+		float zz2 = 2f*z*z;
+		float wx2 = 2f*w*x;
+		float wy2 = 2f*w*y;
+		float wz2 = 2f*w*z;
+		
+		set(res[0], 1f - yy2 - zz2, 	 xy2 - wz2, 	 xz2 + wy2, 0f);
+		set(res[1], 	 xy2 + wz2, 1f - xx2 - zz2, 	 yz2 - wx2, 0f);
+		set(res[2], 	 xz2 - wy2, 	 yz2 + wx2, 1f - xx2 - yy2, 0f);
+		set(res[3], 0f, 0f, 0f, 1f);
+		return res;
+	}
+	
+	/**
+	 * Writes a rotation matrix into the destination by passing the angles for each axes. The scratch matrix is used to hold the intermediate axes rotations.
+	 * @param roll - rotation around the z axes, angle in radians
+	 * @param pitch - rotation around the y axes, angle in radians
+	 * @param yaw - rotation around the x axes, angle in radians
+	 * @param res - the destination matrix
+	 * @param scratch - a {@code float[4][4]} matrix to hold intermediate results, must not be {@code res}
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 * @see Approximate
+	 */
+	public float[][] rotation(float roll, float pitch, float yaw, float[][] res, float[][] scratch)
+	{
+		float cos = (float) Approximate.cos(pitch);
+		float sin = (float) Approximate.sin(pitch);
+		set(scratch[0], 1f, 0f,  0f, 0f);
+		set(scratch[1], 0f,cos,-sin, 0f);
+		set(scratch[2], 0f,sin, cos, 0f);
+		set(scratch[3], 0f, 0f,  0f, 1f);
+		identity_product(scratch, res);
+		
+		cos = (float) Approximate.cos(yaw);
+		sin = (float) Approximate.sin(yaw);
+		set(scratch[0],  cos, 0f,sin, 0f);
+		set(scratch[1],   0f, 1f, 0f, 0f);
+		set(scratch[2], -sin, 0f,cos, 0f);
+		set(scratch[3],   0f, 0f, 0f, 1f);
+		product(res, scratch, res);
+		
+		cos = (float) Approximate.cos(roll);
+		sin = (float) Approximate.sin(roll);
+		set(scratch[0], cos,-sin, 0f, 0f);
+		set(scratch[1], sin, cos, 0f, 0f);
+		set(scratch[2],  0f,  0f, 1f, 0f);
+		set(scratch[3],  0f,  0f, 0f, 1f);
+		return product(res, scratch, res);
+	}
+	
+	/**
+	 * Writes a "look-at" view matrix into the destination.
+	 * @param eye - the location vertex of the camera
+	 * @param target - the location vertex to look at
+	 * @param up - the upwards camera vector
+	 * @param res - the destination matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] lookAt(float[] eye, float[] target, float[] up, float[][] res)
+	{
+		float ex = eye[0], ey = eye[1], ez = eye[2];
+		
+		float zx = ex - target[0];
+		float zy = ey - target[1];
+		float zz = ez - target[2];
+		float inv = 1f / (float)Math.sqrt(zx*zx + zy*zy + zz*zz);
+		zx = zx*inv;
+		zy = zy*inv;
+		zz = zz*inv;
+		
+		float xx = up[1]*zz - up[2]*zy;
+		float xy = up[2]*zx - up[0]*zz;
+		float xz = up[0]*zy - up[1]*zx;
+		
+		float yx = zy*xz - zz*xy;
+		float yy = zz*xx - zx*xz;
+		float yz = zx*xy - zy*xx;
+		
+		inv = 1f / (float)Math.sqrt(xx*xx + xy*xy + xz*xz);
+		xx = xx*inv;
+		xy = xy*inv;
+		xz = xz*inv;
+		
+		inv = 1f / (float)Math.sqrt(yx*yx + yy*yy + yz*yz);
+		yx = yx*inv;
+		yy = yy*inv;
+		yz = yz*inv;
+		
+		float Xd = -(xx*ex + xy*ey + xz*ez);
+		float Yd = -(yx*ex + yy*ey + yz*ez);
+		float Zd = -(zx*ex + zy*ey + zz*ez);
+		
+		set(res[0], xx, xy, xz, Xd);
+		set(res[1], yx, yy, yz, Yd);
+		set(res[2], zx, zy, zz, Zd);
+		set(res[3], 0f, 0f, 0f, 1f);
+		return res;
+	}
+	
+	/**
+	 * Writes a perspective transformation matrix into the destination.
+	 * @param fov - field of view in degrees,
+	 * @param aspect - the aspect ratio of the screen
+	 * @param near - the distance to the frustum's near plane
+	 * @param far - the distance to the frustum's far plane
+	 * @param res - the destination matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] perspective(float fov, float aspect, float near, float far, float[][] res)
+	{
+		float t = (float)Math.tan((double)(RADIAN * fov * 0.5f));
+		float n11 = 1f / (t * aspect);
+		float n22 = 1f / (t);
+		float n33 = (far + near) / (far - near);
+		float n34 = (- 2.0f * far * near) / (far - near);
+		set(res[0], n11,  0f,  0f,  0f);
+		set(res[1],  0f, n22,  0f,  0f);
+		set(res[2],  0f,  0f,-n33, n34);
+		set(res[3],  0f,  0f, -1f,  0f);
+		return res;
+	}
+	
+	/**
+	 * Writes an orthographic transformation matrix into the destination.
+	 * @param fov - field of view in degrees,
+	 * @param aspect - the aspect ratio of the screen
+	 * @param near - the distance to the frustum's near plane
+	 * @param far - the distance to the frustum's far plane
+	 * @param res - the destination matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] orthographic(float fov, float aspect, float near, float far, float[][] res)
+	{
+		float t = near * (float)Math.tan((double)(RADIAN * fov * 0.5f));
+		float r = t * aspect;
+		float s = 0.7f;
+		float n11 = s / (r+r);
+		float n22 = s / (t+t);
+		float n33 = (-s) / (far - near);
+		float n34 = far * near * n33;
+		set(res[0], n11,  0f,  0f,  0f);
+		set(res[1],  0f, n22,  0f,  0f);
+		set(res[2],  0f,  0f, n33, n34);
+		set(res[3],  0f,  0f,  0f,  1f);
+		return res;
+	}
+	
+	/**
+	 * Writes an orthographic lightbox transformation matrix into the destination.
+	 * @param width - the width of the box
+	 * @param height - the height of the box
+	 * @param length - the length of the box
+	 * @param res - the destination matrix
+	 * @return the destination matrix
+	 * @since 1.1.0
+	 */
+	public float[][] lightbox_orthographic(float width, float height, float length, float[][] res)
+	{
+		float n11 = 2f / width;
+		float n22 = 2f / height;
+		float n33 = 2f / length;
+		set(res[0], n11, 0f,  0f, 0f);
+		set(res[1],  0f,n22,  0f, 0f);
+		set(res[2],  0f, 0f,-n33, 0f);
+		set(res[3],  0f, 0f,  0f, 1f);
+		return res;
+	}
+	
+	/*
+	 * fill a matrix row
+	 */
+	private void set(float[] r, float a, float b, float c, float d)
+	{
+		r[0] = a;
+		r[1] = b;
+		r[2] = c;
+		r[3] = d;
+	}
 }
@@ -5,7 +5,10 @@
  */
 package com.nullpointerworks.math.matrix;
 
+import java.util.concurrent.ForkJoinPool;
+
 import com.nullpointerworks.math.Function;
+import com.nullpointerworks.math.vector.VectorN;
 
 public class MatrixN 
 {
@@ -36,25 +39,7 @@ public class MatrixN
 	 */
 	public static float[][] mul(float[][] m1, float[][] m2)
 	{
-		int rows = m1.length;
-		int cols = m2[0].length;
-		
-		// if the columns and rows don't match, return an empty matrix
-		if (m1[0].length != m2.length) return new float[0][0];
-		
-		float[][] res = new float[rows][];
-		for (int r=0;r<rows;r++)
-		{
-			float[] col = new float[cols];
-			float[] m1r = m1[r];
-			for (int c=0;c<cols;c++)
-			{
-				float d = dot( m1r , col(m2,c) );
-				col[c] = d;
-			}
-			res[r]=col;
-		}
-		return res;
+		return mul(m1,false,m2,false);
 	}
 
 	/**
@@ -63,78 +48,173 @@ public class MatrixN
 	 */
 	public static float[][] mul(float[][] m1, boolean t1, float[][] m2, boolean t2)
 	{
-		// if no transposition is done
-		if (!t1)
-		if (!t2)
-		{
-			return mul(m1,m2);
-		}
+		int rows = (t1)? m1[0].length : m1.length;
+		int cols = (t2)? m2.length : m2[0].length;
+		
+		// if the columns and rows don't match, return an empty matrix
+		if (inner(m1,t1) != outer(m2,t2)) return new float[0][0];
+		
+		float[][] res = new float[rows][cols];
+		return mul(m1,t1,m2,t2,res);
+	}
+	
+	/**
+	 * multiply two matrices with each other and write the product into the given destination matrix. 
+	 * the destination must not be one of the operands. returns the destination, 
+	 * or null if the dimensions of the matrices don't match
+	 */
+	public static float[][] mul(float[][] m1, float[][] m2, float[][] res)
+	{
+		return mul(m1,false,m2,false,res);
+	}
+	
+	/**
+	 * multiply two matrices with each other and write the product into the given destination matrix. 
+	 * takes transposition flags. the destination must not be one of the operands. returns the destination, 
+	 * or null if the dimensions of the matrices don't match
+	 */
+	public static float[][] mul(float[][] m1, boolean t1, float[][] m2, boolean t2, float[][] res)
+	{
+		return mul(m1,t1,m2,t2,res,null);
+	}
+	
+	/**
+	 * multiply two matrices with each other using the given fork/join pool. 
+	 * returns the resulting matrix
+	 */
+	public static float[][] mul(float[][] m1, float[][] m2, ForkJoinPool pool)
+	{
+		return mul(m1,false,m2,false,pool);
+	}
+	
+	/**
+	 * multiply two matrices with each other using the given fork/join pool. takes transposition flags
+	 * returns the resulting matrix. does not modify original matrices
+	 */
+	public static float[][] mul(float[][] m1, boolean t1, float[][] m2, boolean t2, ForkJoinPool pool)
+	{
+		int rows = (t1)? m1[0].length : m1.length;
+		int cols = (t2)? m2.length : m2[0].length;
+		
+		// if the columns and rows don't match, return an empty matrix
+		if (inner(m1,t1) != outer(m2,t2)) return new float[0][0];
+		
+		float[][] res = new float[rows][cols];
+		return mul(m1,t1,m2,t2,res,pool);
+	}
+	
+	/**
+	 * multiply two matrices with each other and write the product into the given destination matrix. 
+	 * large products are split into tiles that are computed on the given fork/join pool, 
+	 * small products and a {@code null} pool are computed on the calling thread. 
+	 * takes transposition flags. the destination must not be one of the operands. returns the destination, 
+	 * or null if the dimensions of the matrices don't match
+	 */
+	public static float[][] mul(float[][] m1, boolean t1, float[][] m2, boolean t2, float[][] res, ForkJoinPool pool)
+	{
+		int rows = (t1)? m1[0].length : m1.length;
+		int cols = (t2)? m2.length : m2[0].length;
+		int k = inner(m1,t1);
+		
+		if (k != outer(m2,t2)) return null;
+		if (res.length != rows) return null;
+		if (rows > 0 && res[0].length != cols) return null;
+		
+		Gemm.Operand A = new Gemm.Operand(m1,t1);
+		Gemm.Operand B = new Gemm.Operand(m2,t2);
+		Gemm.Operand C = new Gemm.Operand(res,false);
+		multiply(A, B, C, rows, cols, k, pool);
+		return res;
+	}
+	
+	/**
+	 * multiply two flat row-major matrices with each other and write the product into the given destination. 
+	 * matrix {@code a} has {@code rows x inner} elements, {@code b} has {@code inner x cols} elements 
+	 * and {@code res} receives {@code rows x cols} elements. the destination must not be one of the operands. 
+	 * returns the destination, or null if any of the arrays is too small
+	 */
+	public static float[] mul(float[] a, float[] b, float[] res, int rows, int inner, int cols)
+	{
+		return mul(a,false,b,false,res,rows,inner,cols);
+	}
+	
+	/**
+	 * multiply two flat row-major matrices with each other and write the product into the given destination. 
+	 * takes transposition flags, a transposed operand is read as if it was stored in its transposed form. 
+	 * the dimensions describe the matrices after transposition. the destination must not be one of the operands. 
+	 * returns the destination, or null if any of the arrays is too small
+	 */
+	public static float[] mul(float[] a, boolean ta, float[] b, boolean tb, float[] res, int rows, int inner, int cols)
+	{
+		return mul(a,ta,b,tb,res,rows,inner,cols,null);
+	}
+	
+	/**
+	 * multiply two flat row-major matrices with each other and write the product into the given destination. 
+	 * large products are split into tiles that are computed on the given fork/join pool, 
+	 * small products and a {@code null} pool are computed on the calling thread. 
+	 * takes transposition flags, the dimensions describe the matrices after transposition. 
+	 * the destination must not be one of the operands. returns the destination, or null if any of the arrays is too small
+	 */
+	public static float[] mul(float[] a, boolean ta, float[] b, boolean tb, float[] res, int rows, int inner, int cols, ForkJoinPool pool)
+	{
+		if (a.length < rows*inner) return null;
+		if (b.length < inner*cols) return null;
+		if (res.length < rows*cols) return null;
 		
-		// if first is transposed
-		if (t1)
-		if (!t2)
+		Gemm.Operand A = new Gemm.Operand(a, 0, (ta)? rows : inner, ta);
+		Gemm.Operand B = new Gemm.Operand(b, 0, (tb)? inner : cols, tb);
+		Gemm.Operand C = new Gemm.Operand(res, 0, cols, false);
+		multiply(A, B, C, rows, cols, inner, pool);
+		return res;
+	}
+	
+	/*
+	 * compute on the pool when it pays off, on the calling thread otherwise
+	 */
+	private static void multiply(Gemm.Operand A, Gemm.Operand B, Gemm.Operand C, int rows, int cols, int k, ForkJoinPool pool)
+	{
+		if (pool != null && GemmTask.isParallel(rows, cols, k))
 		{
-			int rows = m1[0].length;
-			int cols = m2[0].length;
-			
-			float[][] res = new float[rows][cols];
-			
-			for (int r=0;r<rows;r++)
-			{
-				float[] res_row = res[r];
-				
-				for (int c=0;c<cols;c++)
-				{
-					res_row[c] = dot( col(m1,r) , col(m2,c) );
-				}
-			}
-			return res;
+			pool.invoke(new GemmTask(A, B, C, 0, rows, 0, cols, k));
+			return;
 		}
+		Gemm.multiply(A, B, C, 0, rows, 0, cols, k);
+	}
+	
+	/**
+	 * multiply a matrix with a column vector and write the result into the given destination vector. 
+	 * the destination must not be the same array as {@code v}. returns the destination, 
+	 * or null if the dimensions don't match
+	 */
+	public static float[] mul(float[][] m, float[] v, float[] res)
+	{
+		int rows = m.length;
+		if (rows > 0 && m[0].length != v.length) return null;
+		if (res.length != rows) return null;
 		
-		// if second is transposed
-		if (!t1)
-		if (t2)
+		for (int r=0; r<rows; r++)
 		{
-			int rows = m1.length;
-			int cols = m2.length;
-			
-			float[][] res = new float[rows][cols];
-			
-			for (int r=0;r<rows;r++)
-			{
-				float[] res_row = res[r];
-				
-				for (int c=0;c<cols;c++)
-				{
-					res_row[c] = dot( row(m1,r) , row(m2,c) );
-				}
-			}
-			return res;
+			res[r] = VectorN.dot(m[r], v);
 		}
+		return res;
+	}
+	
+	/**
+	 * multiply a flat row-major {@code rows x cols} matrix with a column vector and write the result into the given destination vector. 
+	 * the destination must not be the same array as {@code v}. returns the destination, or null if any of the arrays is too small
+	 */
+	public static float[] mul(float[] m, float[] v, float[] res, int rows, int cols)
+	{
+		if (m.length < rows*cols) return null;
+		if (v.length < cols) return null;
+		if (res.length < rows) return null;
 		
-		// if both transposed
-		if (t1)
-		if (t2)
+		for (int r=0; r<rows; r++)
 		{
-			int rows = m1[0].length;
-			int cols = m2.length;
-			
-			float[][] res = new float[rows][cols];
-			
-			for (int r=0;r<rows;r++)
-			{
-				float[] res_row = res[r];
-				
-				for (int c=0;c<cols;c++)
-				{
-					res_row[c] = dot( col(m1,r) , row(m2,c) );
-				}
-			}
-			return res;
+			res[r] = VectorN.dot(m, r*cols, v, 0, cols);
 		}
-		
-		//return empty matrix
-		return new float[0][0];
+		return res;
 	}
 	
 	/**
@@ -147,13 +227,7 @@ public class MatrixN
 		float[][] res = new float[rows][];
 		for (int y=0; y<rows; y++)
 		{
-			float[] my = m[y];
-			float[] col = new float[cols];
-			for (int x=0; x<cols; x++)
-			{
-				col[x] = s.calculate(my[x]);
-			}
-			res[y] = col;
+			res[y] = VectorN.map(m[y], s, new float[cols]);
 		}
 		return res;
 	}
@@ -168,13 +242,7 @@ public class MatrixN
 		float[][] res = new float[rows][];
 		for (int y=0; y<rows; y++)
 		{
-			float[] my = m[y];
-			float[] col = new float[cols];
-			for (int x=0; x<cols; x++)
-			{
-				col[x] = value * my[x];
-			}
-			res[y] = col;
+			res[y] = VectorN.mul(m[y], value, new float[cols]);
 		}
 		return res;
 	}
@@ -259,26 +327,20 @@ public class MatrixN
 		return String.format("%" + l + "." + l + "s", Float.toString(v));
 	}
 	
-	private static float dot(float[] a, float[] b)
-	{
-		float r=0f;
-		for (int i=0,l=a.length; i<l; i++) 
-			r += (a[i]*b[i]);
-		return r;
-	}
-	
-	private static float[] col(float[][] matrix, int i)
+	/*
+	 * the shared dimension of the left operand
+	 */
+	private static int inner(float[][] m, boolean t)
 	{
-		int l = matrix.length;
-		float[] r = new float[l];
-		for (int it=0;it<l;it++)
-			r[it] = matrix[it][i];
-		return r;
+		return (t)? m.length : m[0].length;
 	}
 	
-	private static float[] row(float[][] matrix,int i)
+	/*
+	 * the shared dimension of the right operand
+	 */
+	private static int outer(float[][] m, boolean t)
 	{
-		return matrix[i];
+		return (t)? m[0].length : m.length;
 	}
 	
 }
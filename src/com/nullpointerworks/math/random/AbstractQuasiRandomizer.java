@@ -0,0 +1,156 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * The common part of the low-discrepancy sequences. Keeps the index of the next point and hands out the coordinates of the current point one by one. Implementations only generate whole points and move to an index.
+ * @since 1.1.0
+ */
+abstract class AbstractQuasiRandomizer extends AbstractRandomizer implements QuasiRandomizer
+{
+	final int dims;
+	long index = 0L;
+	long seed = 0L;
+
+	/*
+	 * the current point, and the index of its next coordinate
+	 */
+	private final double[] cur;
+	private int cursor;
+
+	AbstractQuasiRandomizer(int dims)
+	{
+		this.dims = dims;
+		this.cur = new double[dims];
+		this.cursor = dims;
+	}
+
+	/*
+	 * writes the point at the current index and moves to the next index
+	 */
+	abstract void next(double[] res, int offset);
+
+	/*
+	 * moves the sequence state to the given index
+	 */
+	abstract void move(long index);
+
+	/*
+	 * sets the random shift of every dimension for the given seed, 0 means no shift
+	 */
+	abstract void shift(long seed);
+
+	@Override
+	public long seed()
+	{
+		return seed;
+	}
+
+	@Override
+	public void seed(long s)
+	{
+		seed = s;
+		shift(s);
+		seek(0L);
+	}
+
+	@Override
+	public int dimensions()
+	{
+		return dims;
+	}
+
+	@Override
+	public long index()
+	{
+		return index;
+	}
+
+	@Override
+	public void seek(long i)
+	{
+		index = (i<0L)?0L:i;
+		cursor = dims;
+		move(index);
+	}
+
+	@Override
+	public void points(double[] res, int offset, int count)
+	{
+		cursor = dims;
+		for (int i=0, o=offset; i<count; i++, o+=dims)
+		{
+			next(res, o);
+			index++;
+		}
+	}
+
+	@Override
+	public void points(float[] res, int offset, int count)
+	{
+		cursor = dims;
+		for (int i=0, o=offset; i<count; i++, o+=dims)
+		{
+			next(cur, 0);
+			index++;
+			for (int d=0; d<dims; d++) res[o+d] = toFloat(cur[d]);
+		}
+	}
+
+	@Override
+	public double _double()
+	{
+		if (cursor >= dims)
+		{
+			next(cur, 0);
+			index++;
+			cursor = 0;
+		}
+		return cur[cursor++];
+	}
+
+	@Override
+	public float _float()
+	{
+		return toFloat(_double());
+	}
+
+	@Override
+	public boolean _boolean()
+	{
+		return _double() < 0.5;
+	}
+
+	@Override
+	public double _double(double low, double high)
+	{
+		return low + _double()*(high-low);
+	}
+
+	@Override
+	public float _float(float low, float high)
+	{
+		return low + _float()*(high-low);
+	}
+
+	@Override
+	public int _integer(int low, int high)
+	{
+		if (high < low) return _integer(high, low);
+		long n = (long)high - low + 1L;
+		long k = (long)(_double() * n);
+		return (int)(low + ((k<n)?k:n-1L));
+	}
+
+	/*
+	 * rounds a coordinate to a float, without rounding up to 1
+	 */
+	private static float toFloat(double x)
+	{
+		float f = (float)x;
+		return (f < 1f)? f: 0x1.fffffep-1f;
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * The shared base of the distributions in this package. It turns the output of a {@code Randomizer} into raw bits, uniform values, and standard normal, exponential and gamma variates.<br>
+ * <br>
+ * Normal and exponential variates use the ziggurat method of Marsaglia and Tsang, with 128 layers for the normal and 256 layers for the exponential distribution. A single 64-bit draw selects the layer and the position within the layer, and about 98% of all samples are accepted by one comparison. Gamma variates use the squeeze method of Marsaglia and Tsang on top of the normal ziggurat.
+ * @since 1.1.0
+ */
+abstract class AbstractSampler
+{
+	/*
+	 * normal ziggurat, 128 layers
+	 */
+	private static final double NORMAL_R = 3.442619855899;
+	private static final double NORMAL_V = 9.91256303526217e-3;
+	private static final double[] NORMAL_X = new double[129];
+	private static final double[] NORMAL_F = new double[129];
+	private static final double[] NORMAL_RATIO = new double[128];
+	
+	/*
+	 * exponential ziggurat, 256 layers
+	 */
+	private static final double EXP_R = 7.69711747013104972;
+	private static final double EXP_V = 3.949659822581572e-3;
+	private static final double[] EXP_X = new double[257];
+	private static final double[] EXP_F = new double[257];
+	private static final double[] EXP_RATIO = new double[256];
+	
+	/*
+	 * log(k!) for small k
+	 */
+	private static final double[] LOG_FACTORIAL = new double[256];
+	
+	static
+	{
+		NORMAL_X[0] = NORMAL_V / Math.exp(-0.5*NORMAL_R*NORMAL_R);
+		NORMAL_X[1] = NORMAL_R;
+		for (int i=2; i<128; i++)
+		{
+			double x = NORMAL_X[i-1];
+			NORMAL_X[i] = Math.sqrt(-2.0*Math.log(NORMAL_V/x + Math.exp(-0.5*x*x)));
+		}
+		NORMAL_X[128] = 0.0;
+		for (int i=0; i<=128; i++) NORMAL_F[i] = Math.exp(-0.5*NORMAL_X[i]*NORMAL_X[i]);
+		for (int i=0; i<128; i++) NORMAL_RATIO[i] = NORMAL_X[i+1] / NORMAL_X[i];
+		
+		EXP_X[0] = EXP_V / Math.exp(-EXP_R);
+		EXP_X[1] = EXP_R;
+		for (int i=2; i<256; i++)
+		{
+			double x = EXP_X[i-1];
+			EXP_X[i] = -Math.log(EXP_V/x + Math.exp(-x));
+		}
+		EXP_X[256] = 0.0;
+		for (int i=0; i<=256; i++) EXP_F[i] = Math.exp(-EXP_X[i]);
+		for (int i=0; i<256; i++) EXP_RATIO[i] = EXP_X[i+1] / EXP_X[i];
+		
+		for (int i=2; i<LOG_FACTORIAL.length; i++) LOG_FACTORIAL[i] = LOG_FACTORIAL[i-1] + Math.log(i);
+	}
+	
+	final Randomizer rng;
+	private final SplittableRandomizer bits;
+	
+	AbstractSampler(Randomizer rng)
+	{
+		this.rng = rng;
+		this.bits = (rng instanceof SplittableRandomizer)? (SplittableRandomizer)rng: null;
+	}
+	
+	/*
+	 * 64 random bits. randomizers without a 64-bit output contribute 32 bits per double, 
+	 * which are mixed so that weak low bits, as those of an LCG, never pick the layer on their own
+	 */
+	final long bits()
+	{
+		if (bits != null) return bits._long();
+		long hi = (long)(rng._double() * 0x1.0p32);
+		long lo = (long)(rng._double() * 0x1.0p32);
+		return SplitMix64.mix64((hi << 32) | lo);
+	}
+	
+	/*
+	 * uniform in (0,1], safe to take the logarithm of
+	 */
+	final double uniform()
+	{
+		return 1.0 - rng._double();
+	}
+	
+	/*
+	 * standard normal variate
+	 */
+	final double normal()
+	{
+		for (;;)
+		{
+			long b = bits();
+			int i = (int)b & 127;
+			double u = (b >> 11) * 0x1.0p-52;
+			if (Math.abs(u) < NORMAL_RATIO[i]) return u * NORMAL_X[i];
+			if (i == 0) return normalTail(u < 0.0);
+			
+			double x = u * NORMAL_X[i];
+			double y = NORMAL_F[i] + rng._double()*(NORMAL_F[i+1] - NORMAL_F[i]);
+			if (y < Math.exp(-0.5*x*x)) return x;
+		}
+	}
+	
+	/*
+	 * sample beyond the base layer of the normal ziggurat
+	 */
+	private double normalTail(boolean negative)
+	{
+		double x, y;
+		do
+		{
+			x = Math.log(uniform()) / NORMAL_R;
+			y = Math.log(uniform());
+		}
+		while (-2.0*y < x*x);
+		return negative? x - NORMAL_R: NORMAL_R - x;
+	}
+	
+	/*
+	 * standard exponential variate
+	 */
+	final double exponential()
+	{
+		for (;;)
+		{
+			long b = bits();
+			int i = (int)b & 255;
+			double u = (b >>> 11) * 0x1.0p-53;
+			if (u < EXP_RATIO[i]) return u * EXP_X[i];
+			if (i == 0) return EXP_R - Math.log(uniform());
+			
+			double x = u * EXP_X[i];
+			double y = EXP_F[i] + rng._double()*(EXP_F[i+1] - EXP_F[i]);
+			if (y < Math.exp(-x)) return x;
+		}
+	}
+	
+	/*
+	 * gamma variate with the given shape and a scale of 1
+	 */
+	final double gamma(double shape)
+	{
+		if (shape < 1.0)
+		{
+			return gamma(shape + 1.0) * Math.pow(uniform(), 1.0/shape);
+		}
+		
+		double d = shape - 1.0/3.0;
+		double c = 1.0 / Math.sqrt(9.0*d);
+		for (;;)
+		{
+			double x, v;
+			do
+			{
+				x = normal();
+				v = 1.0 + c*x;
+			}
+			while (v <= 0.0);
+			
+			v = v*v*v;
+			double u = uniform();
+			double xx = x*x;
+			if (u < 1.0 - 0.0331*xx*xx) return d*v;
+			if (Math.log(u) < 0.5*xx + d*(1.0 - v + Math.log(v))) return d*v;
+		}
+	}
+	
+	/*
+	 * log(k!), from a table or Stirling's series
+	 */
+	static double logFactorial(double k)
+	{
+		if (k < LOG_FACTORIAL.length) return LOG_FACTORIAL[(int)k];
+		double n = k + 1.0;
+		double inv = 1.0 / n;
+		double inv2 = inv*inv;
+		return (n - 0.5)*Math.log(n) - n + 0.91893853320467274178 
+				+ inv*(1.0/12.0 - inv2*(1.0/360.0 - inv2*(1.0/1260.0)));
+	}
+}
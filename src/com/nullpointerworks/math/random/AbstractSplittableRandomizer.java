@@ -0,0 +1,79 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * An abstraction of a 64-bit splittable generator. All values are derived from {@code _long()}. Doubles use the upper 53 bits and floats the upper 24 bits, so every representable value in {@code [0,1)} on that grid is equally likely. Integers are drawn without bias over the full, inclusive range.
+ * @since 1.1.0
+ */
+abstract class AbstractSplittableRandomizer extends AbstractRandomizer implements SplittableRandomizer
+{
+	@Override
+	public abstract long _long();
+	
+	@Override
+	public double _double()
+	{
+		return (_long() >>> 11) * 0x1.0p-53;
+	}
+	
+	@Override
+	public float _float()
+	{
+		return (_long() >>> 40) * 0x1.0p-24f;
+	}
+	
+	@Override
+	public boolean _boolean()
+	{
+		return _long() < 0L;
+	}
+	
+	@Override
+	public double _double(double low, double high)
+	{
+		return low + _double()*(high-low);
+	}
+	
+	@Override
+	public float _float(float low, float high)
+	{
+		return low + _float()*(high-low);
+	}
+	
+	@Override
+	public int _integer(int low, int high)
+	{
+		if (high < low) return _integer(high, low);
+		
+		// multiply-shift with rejection of the biased remainder
+		long n = (long)high - low + 1L;
+		long m = (_long() >>> 32) * n;
+		long l = m & 0xffffffffL;
+		if (l < n)
+		{
+			long t = (0x100000000L - n) % n;
+			while (l < t)
+			{
+				m = (_long() >>> 32) * n;
+				l = m & 0xffffffffL;
+			}
+		}
+		return (int)(low + (m >>> 32));
+	}
+	
+	@Override
+	public void fill(float[] res, int offset, int length)
+	{
+		for (int i=offset, l=offset+length; i<l; i++) res[i] = _float();
+	}
+	
+	@Override
+	public void fill(double[] res)
+	{
+		for (int i=0; i<res.length; i++) res[i] = _double();
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * A discrete distribution over the indices of a table of weights, sampled with the alias method of Walker and Vose. Index {@code i} is drawn with a probability of {@code weights[i] / sum(weights)}. After a linear time setup every sample takes one 64-bit draw, two table lookups and one comparison, regardless of the size of the table.<br>
+ * <br>
+ * Negative and non-finite weights are treated as {@code 0}. A table without any positive weight samples all indices uniformly.
+ * @since 1.1.0
+ */
+public final class AliasTable extends AbstractSampler implements DiscreteDistribution
+{
+	private final int size;
+	private final double[] probability;
+	private final int[] alias;
+	
+	/**
+	 * Creates an alias table for the given weights. The weights are copied.
+	 * @param rng - the source of uniform random numbers
+	 * @param weights - the relative weight of every index
+	 * @since 1.1.0
+	 */
+	public AliasTable(Randomizer rng, double[] weights)
+	{
+		super(rng);
+		size = Math.max(weights.length, 1);
+		probability = new double[size];
+		alias = new int[size];
+		
+		double sum = 0.0;
+		for (double w : weights) sum += valid(w);
+		
+		// scale the weights so that their mean is 1
+		double[] scaled = new double[size];
+		for (int i=0; i<size; i++)
+		{
+			double w = (i < weights.length)? valid(weights[i]): 0.0;
+			scaled[i] = (sum > 0.0)? w*size/sum: 1.0;
+		}
+		
+		// Vose, pair every index below the mean with one above it
+		int[] small = new int[size];
+		int[] large = new int[size];
+		int ns = 0, nl = 0;
+		for (int i=0; i<size; i++)
+		{
+			if (scaled[i] < 1.0) small[ns++] = i;
+			else large[nl++] = i;
+		}
+		while (ns > 0 && nl > 0)
+		{
+			int l = small[--ns];
+			int g = large[--nl];
+			probability[l] = scaled[l];
+			alias[l] = g;
+			scaled[g] = (scaled[g] + scaled[l]) - 1.0;
+			if (scaled[g] < 1.0) small[ns++] = g;
+			else large[nl++] = g;
+		}
+		while (nl > 0) 
+		{
+			int g = large[--nl];
+			probability[g] = 1.0;
+			alias[g] = g;
+		}
+		while (ns > 0) 
+		{
+			int l = small[--ns];
+			probability[l] = 1.0;
+			alias[l] = l;
+		}
+	}
+	
+	@Override
+	public int sample()
+	{
+		long b = bits();
+		int i = (int)(((b >>> 32) * size) >>> 32);
+		double u = (b & 0xffffffffL) * 0x1.0p-32;
+		return (u < probability[i])? i: alias[i];
+	}
+	
+	/*
+	 * usable weight
+	 */
+	private static double valid(double w)
+	{
+		return (w > 0.0 && w < Double.POSITIVE_INFINITY)? w: 0.0;
+	}
+	
+	@Override
+	public void fill(int[] res)
+	{
+		for (int i=0; i<res.length; i++) res[i] = sample();
+	}
+}
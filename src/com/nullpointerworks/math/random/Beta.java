@@ -0,0 +1,50 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * The beta distribution on {@code [0,1]} with the shape parameters {@code alpha} and {@code beta}. A sample is computed from two gamma variates as {@code X/(X+Y)}, with {@code X ~ Gamma(alpha)} and {@code Y ~ Gamma(beta)}.
+ * @since 1.1.0
+ */
+public final class Beta extends AbstractSampler implements Distribution
+{
+	private final double alpha;
+	private final double beta;
+	
+	/**
+	 * Creates a beta distribution with the given shape parameters.
+	 * @param rng - the source of uniform random numbers
+	 * @param alpha - the first shape parameter, larger than {@code 0}
+	 * @param beta - the second shape parameter, larger than {@code 0}
+	 * @since 1.1.0
+	 */
+	public Beta(Randomizer rng, double alpha, double beta)
+	{
+		super(rng);
+		this.alpha = alpha;
+		this.beta = beta;
+	}
+	
+	@Override
+	public double sample()
+	{
+		double x = gamma(alpha);
+		double y = gamma(beta);
+		return x / (x + y);
+	}
+	
+	@Override
+	public void fill(double[] res)
+	{
+		for (int i=0; i<res.length; i++) res[i] = sample();
+	}
+	
+	@Override
+	public void fill(float[] res)
+	{
+		for (int i=0; i<res.length; i++) res[i] = (float)sample();
+	}
+}
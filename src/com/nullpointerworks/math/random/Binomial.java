@@ -0,0 +1,108 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * The binomial distribution, the distribution of the amount of successes in {@code n} independent trials that each succeed with probability {@code p}. When {@code n*min(p,1-p)} is below {@code 10} samples are drawn by inversion. Otherwise the transformed rejection method BTRS of H&ouml;rmann is used, which takes a constant amount of work per sample regardless of {@code n}.
+ * @since 1.1.0
+ * @see "W. H&ouml;rmann, The generation of binomial random variates, 1993"
+ */
+public final class Binomial extends AbstractSampler implements DiscreteDistribution
+{
+	private final int n;
+	private final boolean flip;
+	private final double p;
+	
+	/*
+	 * inversion constants
+	 */
+	private final double q, s, r0;
+	
+	/*
+	 * BTRS constants
+	 */
+	private final double a, b, c, vr, alpha, lpq, h;
+	private final int m;
+	
+	/**
+	 * Creates a binomial distribution with the given amount of trials and probability of success.
+	 * @param rng - the source of uniform random numbers
+	 * @param n - the amount of trials
+	 * @param p - the probability of success of each trial, in {@code [0,1]}
+	 * @since 1.1.0
+	 */
+	public Binomial(Randomizer rng, int n, double p)
+	{
+		super(rng);
+		this.n = Math.max(n, 0);
+		this.flip = p > 0.5;
+		this.p = flip? 1.0-p: p;
+		
+		q = 1.0 - this.p;
+		s = this.p / q;
+		r0 = Math.pow(q, this.n);
+		
+		double spq = Math.sqrt(this.n*this.p*q);
+		b = 1.15 + 2.53*spq;
+		a = -0.0873 + 0.0248*b + 0.01*this.p;
+		c = this.n*this.p + 0.5;
+		vr = 0.92 - 4.2/b;
+		alpha = (2.83 + 5.1/b)*spq;
+		lpq = Math.log(this.p / q);
+		m = (int)Math.floor((this.n + 1)*this.p);
+		h = logFactorial(m) + logFactorial(this.n - m);
+	}
+	
+	@Override
+	public int sample()
+	{
+		int k = (n*p < 10.0)? inversion(): rejection();
+		return flip? n-k: k;
+	}
+	
+	/*
+	 * sequential search over the cumulative distribution
+	 */
+	private int inversion()
+	{
+		double r = r0;
+		double u = rng._double();
+		double g = (n + 1)*s;
+		int k = 0;
+		while (u > r && k < n)
+		{
+			u -= r;
+			k++;
+			r *= g/k - s;
+		}
+		return k;
+	}
+	
+	/*
+	 * BTRS
+	 */
+	private int rejection()
+	{
+		for (;;)
+		{
+			double u = rng._double() - 0.5;
+			double v = rng._double();
+			double us = 0.5 - Math.abs(u);
+			double k = Math.floor((2.0*a/us + b)*u + c);
+			if (k < 0.0 || k > n) continue;
+			if (us >= 0.07 && v <= vr) return (int)k;
+			
+			v = Math.log(v*alpha / (a/(us*us) + b));
+			if (v <= h - logFactorial(k) - logFactorial(n - k) + (k - m)*lpq) return (int)k;
+		}
+	}
+	
+	@Override
+	public void fill(int[] res)
+	{
+		for (int i=0; i<res.length; i++) res[i] = sample();
+	}
+}
@@ -0,0 +1,27 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * A discrete probability distribution over the integers that draws its samples from a {@code Randomizer}. A distribution is as thread-safe as the {@code Randomizer} it draws from.
+ * @since 1.1.0
+ */
+public interface DiscreteDistribution
+{
+	/**
+	 * Returns a new sample from this distribution.
+	 * @return a new sample from this distribution
+	 * @since 1.1.0
+	 */
+	int sample();
+	
+	/**
+	 * Fills the given array with new samples from this distribution.
+	 * @param res - the destination array
+	 * @since 1.1.0
+	 */
+	void fill(int[] res);
+}
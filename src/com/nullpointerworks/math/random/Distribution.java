@@ -0,0 +1,34 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * A continuous probability distribution that draws its samples from a {@code Randomizer}. A distribution is as thread-safe as the {@code Randomizer} it draws from.
+ * @since 1.1.0
+ */
+public interface Distribution
+{
+	/**
+	 * Returns a new sample from this distribution.
+	 * @return a new sample from this distribution
+	 * @since 1.1.0
+	 */
+	double sample();
+	
+	/**
+	 * Fills the given array with new samples from this distribution.
+	 * @param res - the destination array
+	 * @since 1.1.0
+	 */
+	void fill(double[] res);
+	
+	/**
+	 * Fills the given array with new samples from this distribution.
+	 * @param res - the destination array
+	 * @since 1.1.0
+	 */
+	void fill(float[] res);
+}
@@ -0,0 +1,55 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * The exponential distribution with a given rate, the distribution of the waiting time between events that occur at a constant average rate. The mean of the distribution is {@code 1/rate}. Samples are drawn with the ziggurat method.
+ * @since 1.1.0
+ */
+public final class Exponential extends AbstractSampler implements Distribution
+{
+	private final double mean;
+	
+	/**
+	 * Creates an exponential distribution with a rate of {@code 1}.
+	 * @param rng - the source of uniform random numbers
+	 * @since 1.1.0
+	 */
+	public Exponential(Randomizer rng)
+	{
+		this(rng, 1.0);
+	}
+	
+	/**
+	 * Creates an exponential distribution with the given rate.
+	 * @param rng - the source of uniform random numbers
+	 * @param rate - the rate of events, larger than {@code 0}
+	 * @since 1.1.0
+	 */
+	public Exponential(Randomizer rng, double rate)
+	{
+		super(rng);
+		this.mean = 1.0 / rate;
+	}
+	
+	@Override
+	public double sample()
+	{
+		return mean*exponential();
+	}
+	
+	@Override
+	public void fill(double[] res)
+	{
+		for (int i=0; i<res.length; i++) res[i] = sample();
+	}
+	
+	@Override
+	public void fill(float[] res)
+	{
+		for (int i=0; i<res.length; i++) res[i] = (float)sample();
+	}
+}
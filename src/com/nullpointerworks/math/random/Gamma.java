@@ -0,0 +1,48 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * The gamma distribution with a given shape {@code k} and scale {@code theta}. The mean of the distribution is {@code k*theta}. Samples are drawn with the method of Marsaglia and Tsang, which takes about one normal and one uniform variate per sample. Shapes below {@code 1} are boosted by one and corrected with a power of a uniform variate.
+ * @since 1.1.0
+ */
+public final class Gamma extends AbstractSampler implements Distribution
+{
+	private final double shape;
+	private final double scale;
+	
+	/**
+	 * Creates a gamma distribution with the given shape and scale.
+	 * @param rng - the source of uniform random numbers
+	 * @param shape - the shape parameter {@code k}, larger than {@code 0}
+	 * @param scale - the scale parameter {@code theta}, larger than {@code 0}
+	 * @since 1.1.0
+	 */
+	public Gamma(Randomizer rng, double shape, double scale)
+	{
+		super(rng);
+		this.shape = shape;
+		this.scale = scale;
+	}
+	
+	@Override
+	public double sample()
+	{
+		return scale*gamma(shape);
+	}
+	
+	@Override
+	public void fill(double[] res)
+	{
+		for (int i=0; i<res.length; i++) res[i] = sample();
+	}
+	
+	@Override
+	public void fill(float[] res)
+	{
+		for (int i=0; i<res.length; i++) res[i] = (float)sample();
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * The normal, or Gaussian, distribution with a given mean and standard deviation. Samples are drawn with the ziggurat method, which needs a single 64-bit draw and one multiplication for about 98% of all samples, without evaluating any logarithm or trigonometric function.
+ * @since 1.1.0
+ */
+public final class Gaussian extends AbstractSampler implements Distribution
+{
+	private final double mean;
+	private final double deviation;
+	
+	/**
+	 * Creates a standard normal distribution, with a mean of {@code 0} and a standard deviation of {@code 1}.
+	 * @param rng - the source of uniform random numbers
+	 * @since 1.1.0
+	 */
+	public Gaussian(Randomizer rng)
+	{
+		this(rng, 0.0, 1.0);
+	}
+	
+	/**
+	 * Creates a normal distribution with the given mean and standard deviation.
+	 * @param rng - the source of uniform random numbers
+	 * @param mean - the mean of the distribution
+	 * @param deviation - the standard deviation of the distribution
+	 * @since 1.1.0
+	 */
+	public Gaussian(Randomizer rng, double mean, double deviation)
+	{
+		super(rng);
+		this.mean = mean;
+		this.deviation = deviation;
+	}
+	
+	@Override
+	public double sample()
+	{
+		return mean + deviation*normal();
+	}
+	
+	@Override
+	public void fill(double[] res)
+	{
+		for (int i=0; i<res.length; i++) res[i] = sample();
+	}
+	
+	@Override
+	public void fill(float[] res)
+	{
+		for (int i=0; i<res.length; i++) res[i] = (float)sample();
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * The Halton sequence. Coordinate {@code d} of point {@code n} is the radical inverse of {@code n} in the {@code d}-th prime base, the digits of {@code n} in that base mirrored around the decimal point. Every dimension on its own is spread perfectly evenly, but the higher bases of many dimensions are correlated over short runs of points, so the sequence works best for a handful of dimensions.<br>
+ * <br>
+ * Points are generated by counting up the digits of the index in every base, which keeps the radical inverses exact. Seeking computes the digits of an index directly. A seed other than {@code 0} applies a random shift modulo 1 to every dimension.
+ * @since 1.1.0
+ */
+public class Halton extends AbstractQuasiRandomizer
+{
+	/**
+	 * The largest amount of dimensions.
+	 * @since 1.1.0
+	 */
+	public static final int MAX_DIMENSIONS = 64;
+
+	private final long[] bases;
+	private final double[] shift;
+
+	/*
+	 * the digits of the index in every base, lowest first, and the radical inverse as an integer
+	 * numerator over the power of the base that fits in 53 bits
+	 */
+	private final int[][] digits;
+	private final long[][] weight;
+	private final long[] num;
+	private final double[] scale;
+
+	/**
+	 * Creates a 2D Halton sequence without a shift.
+	 * @since 1.1.0
+	 */
+	public Halton()
+	{
+		this(2);
+	}
+
+	/**
+	 * Creates a Halton sequence of the given amount of dimensions, without a shift. The amount is clamped to {@code [1, MAX_DIMENSIONS]}.
+	 * @param dimensions - the amount of coordinates of every point
+	 * @since 1.1.0
+	 */
+	public Halton(int dimensions)
+	{
+		this(dimensions, 0L);
+	}
+
+	/**
+	 * Creates a Halton sequence of the given amount of dimensions, shifted by the given seed. The amount is clamped to {@code [1, MAX_DIMENSIONS]}.
+	 * @param dimensions - the amount of coordinates of every point
+	 * @param seed - the seed of the random shift, or {@code 0}
+	 * @since 1.1.0
+	 */
+	public Halton(int dimensions, long seed)
+	{
+		super(Math.max(1, Math.min(MAX_DIMENSIONS, dimensions)));
+		bases = new long[dims];
+		shift = new double[dims];
+		digits = new int[dims][];
+		weight = new long[dims][];
+		num = new long[dims];
+		scale = new double[dims];
+
+		// the first primes, by trial division
+		for (int d=0, p=2; d<dims; p++)
+		{
+			boolean prime = true;
+			for (int k=0; k<d && bases[k]*bases[k] <= p; k++)
+			{
+				if (p % bases[k] == 0) {prime = false; break;}
+			}
+			if (!prime) continue;
+			bases[d] = p;
+			d++;
+		}
+		for (int d=1; d<dims; d++)
+		{
+			long b = bases[d];
+			int k = 0;
+			long pw = 1L;
+			while (pw <= (1L << 53) / b) {pw *= b; k++;}
+			scale[d] = pw;
+			digits[d] = new int[k];
+			weight[d] = new long[k];
+			for (int j=0; j<k; j++) {pw /= b; weight[d][j] = pw;}
+		}
+		seed(seed);
+	}
+
+	/**
+	 * Returns the radical inverse of the index in the given base.
+	 * @param index - the index of the point
+	 * @param base - the base, at least {@code 2}
+	 * @return the radical inverse of the index
+	 * @since 1.1.0
+	 */
+	public static double radicalInverse(long index, int base)
+	{
+		if (base == 2) return (Long.reverse(index) >>> 11) * 0x1.0p-53;
+		double inv = 1.0 / base;
+		double f = inv;
+		double r = 0.0;
+		for (long n=index; n > 0L; n /= base)
+		{
+			r += (n % base) * f;
+			f *= inv;
+		}
+		return r;
+	}
+
+	@Override
+	void shift(long s)
+	{
+		SplitMix64 r = new SplitMix64(s);
+		for (int d=0; d<dims; d++) shift[d] = (s == 0L)? 0.0: r._double();
+	}
+
+	@Override
+	void move(long i)
+	{
+		for (int d=1; d<dims; d++)
+		{
+			long b = bases[d];
+			int[] dg = digits[d];
+			long[] w = weight[d];
+			long n = i, v = 0L;
+			for (int j=0; j<dg.length; j++)
+			{
+				long q = n / b;
+				dg[j] = (int)(n - q*b);
+				v += dg[j] * w[j];
+				n = q;
+			}
+			num[d] = v;
+		}
+	}
+
+	@Override
+	void next(double[] res, int offset)
+	{
+		res[offset] = wrap((Long.reverse(index) >>> 11) * 0x1.0p-53 + shift[0]);
+		for (int d=1; d<dims; d++)
+		{
+			res[offset+d] = wrap(num[d] / scale[d] + shift[d]);
+
+			// add one to the index, carrying over the digits of the base
+			int top = (int)bases[d] - 1;
+			int[] dg = digits[d];
+			long[] w = weight[d];
+			int j = 0;
+			while (j < dg.length && dg[j] == top)
+			{
+				num[d] -= top * w[j];
+				dg[j++] = 0;
+			}
+			if (j < dg.length)
+			{
+				dg[j]++;
+				num[d] += w[j];
+			}
+		}
+	}
+
+	/*
+	 * the fraction of a shifted coordinate
+	 */
+	private static double wrap(double x)
+	{
+		if (x >= 1.0) x -= 1.0;
+		return (x < 1.0)? x: 0x1.fffffffffffffp-1;
+	}
+}
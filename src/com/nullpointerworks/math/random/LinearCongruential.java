@@ -29,14 +29,18 @@ public class LinearCongruential extends AbstractRandomizer
 	 */
 	private final long a = 1664525;
 	private final long i = 1013904223;
-	private final long m = pow(2,32);
+	private final long m = 1L << 32;
     private long x = 0;
-    private long pow(long n, long pow)
-	{
-		if (pow == 0) return 1;
-		if (pow == 1) return n;
-		return n * pow(n,pow-1);
-	}
+    
+	/*
+	 * the recipe applied two, three and four times, for generating four values at once
+	 */
+	private final long a2 = (a*a) & (m-1);
+	private final long i2 = (a*i + i) & (m-1);
+	private final long a3 = (a*a2) & (m-1);
+	private final long i3 = (a*i2 + i) & (m-1);
+	private final long a4 = (a*a3) & (m-1);
+	private final long i4 = (a*i3 + i) & (m-1);
     
     @Override
     public final void seed(long seed) 
@@ -88,6 +92,60 @@ public class LinearCongruential extends AbstractRandomizer
     }
 	
 
+    @Override
+    public void fill(float[] res, int offset, int length)
+    {
+    	int k = offset;
+    	int l = offset+length;
+    	if (x >= 0)
+    	{
+    		final long mask = m-1;
+    		final double inv = 1.0 / m;
+    		long s = x;
+    		for (; k<l-3; k+=4)
+    		{
+    			long s1 = (a *s + i ) & mask;
+    			long s2 = (a2*s + i2) & mask;
+    			long s3 = (a3*s + i3) & mask;
+    			long s4 = (a4*s + i4) & mask;
+    			res[k  ] = (float)(s1 * inv);
+    			res[k+1] = (float)(s2 * inv);
+    			res[k+2] = (float)(s3 * inv);
+    			res[k+3] = (float)(s4 * inv);
+    			s = s4;
+    		}
+    		x = s;
+    	}
+    	for (; k<l; k++) res[k] = (float)_double();
+    }
+    
+    @Override
+    public void fill(double[] res)
+    {
+    	int k = 0;
+    	int l = res.length;
+    	if (x >= 0)
+    	{
+    		final long mask = m-1;
+    		final double inv = 1.0 / m;
+    		long s = x;
+    		for (; k<l-3; k+=4)
+    		{
+    			long s1 = (a *s + i ) & mask;
+    			long s2 = (a2*s + i2) & mask;
+    			long s3 = (a3*s + i3) & mask;
+    			long s4 = (a4*s + i4) & mask;
+    			res[k  ] = s1 * inv;
+    			res[k+1] = s2 * inv;
+    			res[k+2] = s3 * inv;
+    			res[k+3] = s4 * inv;
+    			s = s4;
+    		}
+    		x = s;
+    	}
+    	for (; k<l; k++) res[k] = _double();
+    }
+    
     @Override
 	public int _integer(int low, int high)
 	{
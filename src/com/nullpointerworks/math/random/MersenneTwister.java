@@ -6,8 +6,7 @@
 package com.nullpointerworks.math.random;
 
 /**
- * The Mersenne twister is a pseudo random number generator that uses a table of bit-states that help shuffle the seed when generating the next random number. 
- * 
+ * The Mersenne twister is a pseudo random number generator that uses a table of bit-states that help shuffle the seed when generating the next random number. Every output is a tempered 32-bit word of the table. Doubles map the word as an unsigned value to {@code [0,1)} and floats use its upper 24 bits.
  * @since 1.0.0
  * @see https://en.wikipedia.org/wiki/Mersenne_Twister
  */
@@ -19,7 +18,6 @@ public class MersenneTwister extends AbstractRandomizer
 	private final int size 		= 624;
 	private final int offset 	= size - m;
 	private int[] bitstate		= new int[size];
-	private final double invMAX = 1.0 / (double)Integer.MAX_VALUE;
 	
 	/**
 	 * Creates a new Mersenne twister object and sets the initial state.
@@ -37,7 +35,7 @@ public class MersenneTwister extends AbstractRandomizer
 		bitstate[0] = this.seed;
 		
 		for (int i = 1; i < size; i++)    
-			bitstate[i] = 1812433253 * (bitstate[i-1] ^ (bitstate[i-1] >> 30)) + i;
+			bitstate[i] = 1812433253 * (bitstate[i-1] ^ (bitstate[i-1] >>> 30)) + i;
 		
 		twist();
     }
@@ -54,12 +52,12 @@ public class MersenneTwister extends AbstractRandomizer
     	if (next >= size) twist();
     	
     	int x = bitstate[next++];   
-    	x ^= (x >> 11);
+    	x ^= (x >>> 11);
     	x ^= (x <<  7) & 0x9d2c5680;
     	x ^= (x << 15) & 0xefc60000;
-    	x ^= (x >> 18);
+    	x ^= (x >>> 18);
     	
-    	return (double)x * invMAX;
+    	return (x & 0xffffffffL) * 0x1.0p-32;
     }
 
     @Override
@@ -74,11 +72,11 @@ public class MersenneTwister extends AbstractRandomizer
     {
     	if (next >= size) twist();
     	int x = bitstate[next++];   
-    	x ^= (x >> 11);
+    	x ^= (x >>> 11);
     	x ^= (x <<  7) & 0x9d2c5680;
     	x ^= (x << 15) & 0xefc60000;
-    	x ^= (x >> 18);
-    	return (float)(x * invMAX);
+    	x ^= (x >>> 18);
+    	return (x >>> 8) * 0x1.0p-24f;
     }
 
     @Override
@@ -91,7 +89,7 @@ public class MersenneTwister extends AbstractRandomizer
     @Override
     public float _float(float low, float high) 
     {
-    	float r = (float)_double();
+    	float r = _float();
         return low + r*(high-low);
     }
 
@@ -102,6 +100,52 @@ public class MersenneTwister extends AbstractRandomizer
         return low + (int)( r*(high-low) + 0.5);
 	}
 	
+    @Override
+    public void fill(float[] res, int offset, int length)
+    {
+    	int i = offset;
+    	int l = offset+length;
+    	while (i < l)
+    	{
+    		if (next >= size) twist();
+    		int[] s = bitstate;
+    		int e = Math.min(size, next + (l-i));
+    		for (int k = next; k<e; k++, i++)
+    		{
+    			int x = s[k];
+    			x ^= (x >>> 11);
+    			x ^= (x <<  7) & 0x9d2c5680;
+    			x ^= (x << 15) & 0xefc60000;
+    			x ^= (x >>> 18);
+    			res[i] = (x >>> 8) * 0x1.0p-24f;
+    		}
+    		next = e;
+    	}
+    }
+    
+    @Override
+    public void fill(double[] res)
+    {
+    	int i = 0;
+    	int l = res.length;
+    	while (i < l)
+    	{
+    		if (next >= size) twist();
+    		int[] s = bitstate;
+    		int e = Math.min(size, next + (l-i));
+    		for (int k = next; k<e; k++, i++)
+    		{
+    			int x = s[k];
+    			x ^= (x >>> 11);
+    			x ^= (x <<  7) & 0x9d2c5680;
+    			x ^= (x << 15) & 0xefc60000;
+    			x ^= (x >>> 18);
+    			res[i] = (x & 0xffffffffL) * 0x1.0p-32;
+    		}
+    		next = e;
+    	}
+    }
+	
     /*
      * recompute the state of the twister
      */
@@ -112,17 +156,17 @@ public class MersenneTwister extends AbstractRandomizer
     	for (i = 0; i<offset; i++)   
     	{     
     		int bits = (bitstate[i] & 0x80000000) | (bitstate[i + 1] & 0x7fffffff);     
-    		bitstate[i] = bitstate[i + m] ^ (bits >> 1) ^ ((bits & 1) * 0x9908b0df);   
+    		bitstate[i] = bitstate[i + m] ^ (bits >>> 1) ^ ((bits & 1) * 0x9908b0df);   
     	}   
     	
     	for (int l = size-1; i<l; i++)   
     	{     
     		int bits = (bitstate[i] & 0x80000000) | (bitstate[i + 1] & 0x7fffffff);     
-    		bitstate[i] = bitstate[i - offset] ^ (bits >> 1) ^ ((bits & 1) * 0x9908b0df);   
+    		bitstate[i] = bitstate[i - offset] ^ (bits >>> 1) ^ ((bits & 1) * 0x9908b0df);   
     	}
     	
     	int bits = (bitstate[i] & 0x80000000) | (bitstate[0] & 0x7fffffff);   
-    	bitstate[i] = bitstate[m - 1] ^ (bits >> 1) ^ ((bits & 1) * 0x9908b0df);   
+    	bitstate[i] = bitstate[m - 1] ^ (bits >>> 1) ^ ((bits & 1) * 0x9908b0df);   
     	
     	next = 0;
     }
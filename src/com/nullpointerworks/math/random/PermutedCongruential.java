@@ -0,0 +1,160 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * A permuted congruential generator (a.k.a. PCG) in its PCG32 variant. A 64-bit linear congruential generator advances the state and a random rotation of the upper bits permutes it into a 32-bit output. The increment of the congruential step selects one of {@code 2^63} streams, each with a period of {@code 2^64}.<br>
+ * <br>
+ * Splitting returns a generator on a different stream. A jump advances the generator by {@code 2^48} steps in logarithmic time. Every 64-bit value and every double consumes two steps, a float consumes one.
+ * @since 1.1.0
+ * @see https://www.pcg-random.org/
+ */
+public class PermutedCongruential extends AbstractSplittableRandomizer
+{
+	private static final long MULTIPLIER = 6364136223846793005L;
+	private static final long DEFAULT_STREAM = 0xda3e39cb94b95bdbL >>> 1;
+	
+	private long seed;
+	private long state;
+	private long inc;
+	
+	/**
+	 * Creates a new PCG32 generator with a seed of {@code 0} on the default stream.
+	 * @since 1.1.0
+	 */
+	public PermutedCongruential()
+	{
+		this(0L);
+	}
+	
+	/**
+	 * Creates a new PCG32 generator with the given seed on the default stream.
+	 * @param seed - the seed
+	 * @since 1.1.0
+	 */
+	public PermutedCongruential(long seed)
+	{
+		this(seed, DEFAULT_STREAM);
+	}
+	
+	/**
+	 * Creates a new PCG32 generator with the given seed on the given stream. Only the lower 63 bits of the stream are used.
+	 * @param seed - the seed
+	 * @param stream - the stream selector
+	 * @since 1.1.0
+	 */
+	public PermutedCongruential(long seed, long stream)
+	{
+		seed(seed, stream);
+	}
+	
+	private PermutedCongruential(PermutedCongruential p)
+	{
+		seed = p.seed;
+		state = p.state;
+		inc = p.inc;
+	}
+	
+	@Override
+	public void seed(long s)
+	{
+		seed(s, DEFAULT_STREAM);
+	}
+	
+	/*
+	 * pcg32_srandom_r
+	 */
+	private void seed(long s, long stream)
+	{
+		seed = s;
+		state = 0L;
+		inc = (stream << 1) | 1L;
+		next();
+		state += s;
+		next();
+	}
+	
+	@Override
+	public long seed()
+	{
+		return seed;
+	}
+	
+	@Override
+	public long _long()
+	{
+		long hi = next();
+		return (hi << 32) | (next() & 0xffffffffL);
+	}
+	
+	@Override
+	public float _float()
+	{
+		return (next() >>> 8) * 0x1.0p-24f;
+	}
+	
+	@Override
+	public boolean _boolean()
+	{
+		return next() < 0;
+	}
+	
+	@Override
+	public SplittableRandomizer split()
+	{
+		long s = _long();
+		long stream = _long();
+		PermutedCongruential p = new PermutedCongruential(s, stream);
+		p.seed = seed;
+		return p;
+	}
+	
+	@Override
+	public void jump()
+	{
+		advance(1L << 48);
+	}
+	
+	/**
+	 * Advances this generator by the given amount of steps, in logarithmic time. The amount is treated as unsigned, so the generator can be moved back by passing a negative value.
+	 * @param steps - the amount of steps to advance
+	 * @since 1.1.0
+	 */
+	public void advance(long steps)
+	{
+		long mul = MULTIPLIER, add = inc;
+		long accMul = 1L, accAdd = 0L;
+		for (long d = steps; d != 0L; d >>>= 1)
+		{
+			if ((d & 1L) != 0L)
+			{
+				accMul *= mul;
+				accAdd = accAdd*mul + add;
+			}
+			add = (mul + 1L)*add;
+			mul *= mul;
+		}
+		state = accMul*state + accAdd;
+	}
+	
+	@Override
+	public SplittableRandomizer copy()
+	{
+		return new PermutedCongruential(this);
+	}
+	
+	/*
+	 * pcg32_random_r, XSH-RR output
+	 */
+	private int next()
+	{
+		long old = state;
+		state = old*MULTIPLIER + inc;
+		int xorshifted = (int)(((old >>> 18) ^ old) >>> 27);
+		int rot = (int)(old >>> 59);
+		return Integer.rotateRight(xorshifted, rot);
+	}
+}
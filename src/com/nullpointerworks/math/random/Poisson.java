@@ -0,0 +1,82 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * The Poisson distribution with a given mean, the distribution of the amount of events in a fixed interval when events occur at a constant average rate. Means below {@code 10} are sampled by inversion, with on average {@code mean+1} steps. Larger means use the transformed rejection method PTRS of H&ouml;rmann, which takes about 1.1 pairs of uniform variates per sample regardless of the mean.
+ * @since 1.1.0
+ * @see "W. H&ouml;rmann, The transformed rejection method for generating Poisson random variables, 1993"
+ */
+public final class Poisson extends AbstractSampler implements DiscreteDistribution
+{
+	private final double mean;
+	private final double expMean;
+	
+	/*
+	 * PTRS constants
+	 */
+	private final double a, b, logMean, logInvAlpha, vr;
+	
+	/**
+	 * Creates a Poisson distribution with the given mean.
+	 * @param rng - the source of uniform random numbers
+	 * @param mean - the mean amount of events, larger than {@code 0}
+	 * @since 1.1.0
+	 */
+	public Poisson(Randomizer rng, double mean)
+	{
+		super(rng);
+		this.mean = mean;
+		this.expMean = Math.exp(-mean);
+		
+		double smu = Math.sqrt(mean);
+		b = 0.931 + 2.53*smu;
+		a = -0.059 + 0.02483*b;
+		logInvAlpha = Math.log(1.1239 + 1.1328/(b - 3.4));
+		vr = 0.9277 - 3.6224/(b - 2.0);
+		logMean = Math.log(mean);
+	}
+	
+	@Override
+	public int sample()
+	{
+		if (mean < 10.0) return inversion();
+		for (;;)
+		{
+			double u = rng._double() - 0.5;
+			double v = rng._double();
+			double us = 0.5 - Math.abs(u);
+			double k = Math.floor((2.0*a/us + b)*u + mean + 0.43);
+			if (us >= 0.07 && v <= vr) return (int)k;
+			if (k < 0.0 || (us < 0.013 && v > us)) continue;
+			if (Math.log(v) + logInvAlpha - Math.log(a/(us*us) + b) <= -mean + k*logMean - logFactorial(k)) return (int)k;
+		}
+	}
+	
+	/*
+	 * sequential search over the cumulative distribution
+	 */
+	private int inversion()
+	{
+		double p = expMean;
+		double s = p;
+		double u = rng._double();
+		int k = 0;
+		while (u > s && k < 1000)
+		{
+			k++;
+			p *= mean / k;
+			s += p;
+		}
+		return k;
+	}
+	
+	@Override
+	public void fill(int[] res)
+	{
+		for (int i=0; i<res.length; i++) res[i] = sample();
+	}
+}
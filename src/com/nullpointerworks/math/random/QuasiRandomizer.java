@@ -0,0 +1,75 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * A {@code Randomizer} on a low-discrepancy sequence. Its points fill the unit cube of its dimensions far more evenly than random points, so the error of a Monte Carlo estimate drops close to {@code 1/n} instead of {@code 1/sqrt(n)}.<br>
+ * <br>
+ * Points are generated into flat arrays, {@code {x0,y0, x1,y1, ...}}. The single value methods of {@code Randomizer} return the coordinates of consecutive points one by one, so a 2D sequence gives 2D points when its values are used in pairs.<br>
+ * <br>
+ * Every point has an index, and a sequence can be moved to any index with {@code seek(long)}. Work can be split over threads by giving every thread its own generator with the same seed and seeking each to the start of its own range of points. The seed selects a random shift of the sequence, which keeps its evenness. A seed of {@code 0} gives the plain sequence.
+ * <pre>
+ * QuasiRandomizer q = new Sobol(3);
+ * q.seek(thread * 4096L);
+ * double[] xyz = new double[3 * 4096];
+ * q.points(xyz, 0, 4096);</pre>
+ * Values drawn one after the other are strongly correlated, a sequence should not be used where independent random numbers are needed.
+ * @since 1.1.0
+ * @see Sobol
+ * @see Halton
+ * @see R2
+ */
+public interface QuasiRandomizer extends Randomizer
+{
+	/**
+	 * Returns the amount of coordinates of every point.
+	 * @return the amount of coordinates of every point
+	 * @since 1.1.0
+	 */
+	int dimensions();
+
+	/**
+	 * Returns the index of the next point.
+	 * @return the index of the next point
+	 * @since 1.1.0
+	 */
+	long index();
+
+	/**
+	 * Moves the sequence to the point with the given index. The coordinates left of a partly used point are discarded. Negative indices are treated as {@code 0}.
+	 * @param index - the index of the next point
+	 * @since 1.1.0
+	 */
+	void seek(long index);
+
+	/**
+	 * Skips the given amount of points, the same as {@code seek(index() + n)}.
+	 * @param n - the amount of points to skip
+	 * @since 1.1.0
+	 */
+	default void skip(long n)
+	{
+		seek(index() + n);
+	}
+
+	/**
+	 * Writes the given amount of consecutive points into the array, starting at the given offset. Every point takes {@code dimensions()} values. The coordinates left of a partly used point are discarded.
+	 * @param res - the destination array
+	 * @param offset - the index of the first value to write
+	 * @param count - the amount of points to write
+	 * @since 1.1.0
+	 */
+	void points(double[] res, int offset, int count);
+
+	/**
+	 * Writes the given amount of consecutive points into the array, starting at the given offset. Every point takes {@code dimensions()} values. The coordinates left of a partly used point are discarded.
+	 * @param res - the destination array
+	 * @param offset - the index of the first value to write
+	 * @param count - the amount of points to write
+	 * @since 1.1.0
+	 */
+	void points(float[] res, int offset, int count);
+}
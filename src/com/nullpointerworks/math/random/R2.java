@@ -0,0 +1,93 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * The R2 sequence of Martin Roberts, an additive recurrence on the generalized golden ratio. Point {@code n} is {@code frac(s + n*a)}, where {@code a_d = 1/phi^(d+1)} and {@code phi} is the positive root of {@code x^(D+1) = x + 1} for {@code D} dimensions. In two dimensions this is R2, other amounts of dimensions give the rest of the family. The points are spread evenly for any amount of samples, not only powers of two, and it is the cheapest of the low-discrepancy sequences.<br>
+ * <br>
+ * The recurrence is kept in 64-bit fixed point, so points are exact for every index and seeking is free. A seed other than {@code 0} sets a random start {@code s}.
+ * @since 1.1.0
+ * @see http://extremelearning.com.au/unreasonable-effectiveness-of-quasirandom-sequences/
+ */
+public class R2 extends AbstractQuasiRandomizer
+{
+	private final long[] step;
+	private final long[] start;
+	private final long[] x;
+
+	/**
+	 * Creates a 2D R2 sequence without a shift.
+	 * @since 1.1.0
+	 */
+	public R2()
+	{
+		this(2);
+	}
+
+	/**
+	 * Creates an R-sequence of the given amount of dimensions, without a shift. Amounts below {@code 1} are treated as {@code 1}.
+	 * @param dimensions - the amount of coordinates of every point
+	 * @since 1.1.0
+	 */
+	public R2(int dimensions)
+	{
+		this(dimensions, 0L);
+	}
+
+	/**
+	 * Creates an R-sequence of the given amount of dimensions, shifted by the given seed. Amounts below {@code 1} are treated as {@code 1}.
+	 * @param dimensions - the amount of coordinates of every point
+	 * @param seed - the seed of the random start, or {@code 0}
+	 * @since 1.1.0
+	 */
+	public R2(int dimensions, long seed)
+	{
+		super(Math.max(1, dimensions));
+		step = new long[dims];
+		start = new long[dims];
+		x = new long[dims];
+
+		// Newton's method on x^(D+1) - x - 1, starting right of the root
+		double phi = 2.0;
+		for (int it=0; it<64; it++)
+		{
+			double p = Math.pow(phi, dims);
+			double next = phi - (p*phi - phi - 1.0) / ((dims+1)*p - 1.0);
+			if (next == phi) break;
+			phi = next;
+		}
+		double a = 1.0;
+		for (int d=0; d<dims; d++)
+		{
+			a /= phi;
+			step[d] = (long)(a * 0x1.0p63) << 1;
+		}
+		seed(seed);
+	}
+
+	@Override
+	void shift(long s)
+	{
+		SplitMix64 r = new SplitMix64(s);
+		for (int d=0; d<dims; d++) start[d] = (s == 0L)? 0L: r._long();
+	}
+
+	@Override
+	void move(long i)
+	{
+		for (int d=0; d<dims; d++) x[d] = start[d] + i*step[d];
+	}
+
+	@Override
+	void next(double[] res, int offset)
+	{
+		for (int d=0; d<dims; d++)
+		{
+			res[offset+d] = (x[d] >>> 11) * 0x1.0p-53;
+			x[d] += step[d];
+		}
+	}
+}
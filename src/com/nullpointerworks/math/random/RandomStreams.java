@@ -0,0 +1,71 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out independent streams of random numbers that are all derived from one root generator. Stream {@code i} starts where the root generator would be after {@code i} jumps, so the streams never overlap and the numbers of every stream only depend on the seed of the root and the index of the stream.
+ * <pre>
+ * RandomStreams streams = Random.streams(42L);
+ * 
+ * // reproducible, every task draws from its own indexed stream
+ * parallel for task in 0..n
+ *     Randomizer r = streams.stream(task);
+ * 
+ * // convenient, every thread draws from the next unused stream
+ * Randomizer r = streams.local();</pre>
+ * Streams handed out by {@code local()} are assigned to threads in the order in which threads first ask for one. Results are therefore only reproducible with {@code local()} if work is assigned to threads in a fixed order. Use {@code stream(int)} with a task index otherwise.
+ * @since 1.1.0
+ * @see SplittableRandomizer
+ */
+public final class RandomStreams
+{
+	private final List<SplittableRandomizer> starts = new ArrayList<SplittableRandomizer>();
+	private final AtomicInteger next = new AtomicInteger();
+	private final ThreadLocal<SplittableRandomizer> local;
+	
+	/**
+	 * Creates a set of streams derived from the given generator. The generator itself is not modified.
+	 * @param root - the generator of the first stream
+	 * @since 1.1.0
+	 */
+	public RandomStreams(SplittableRandomizer root)
+	{
+		starts.add(root.copy());
+		local = ThreadLocal.withInitial(() -> stream(next.getAndIncrement()));
+	}
+	
+	/**
+	 * Returns a new generator at the start of the stream with the given index. Every call returns a new generator, so a stream can be replayed by asking for it again. Negative indices are treated as {@code 0}.
+	 * @param index - the index of the stream
+	 * @return a new generator at the start of the given stream
+	 * @since 1.1.0
+	 */
+	public synchronized SplittableRandomizer stream(int index)
+	{
+		int i = (index < 0)? 0: index;
+		while (starts.size() <= i)
+		{
+			SplittableRandomizer r = starts.get(starts.size()-1).copy();
+			r.jump();
+			starts.add(r);
+		}
+		return starts.get(i).copy();
+	}
+	
+	/**
+	 * Returns the generator of the calling thread. The first call on a thread assigns it the next unused stream, later calls on the same thread return the same generator.
+	 * @return the generator of the calling thread
+	 * @since 1.1.0
+	 */
+	public SplittableRandomizer local()
+	{
+		return local.get();
+	}
+}
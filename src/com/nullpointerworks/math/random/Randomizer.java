@@ -5,8 +5,12 @@
  */
 package com.nullpointerworks.math.random;
 
+import java.nio.FloatBuffer;
+
 /**
- * An interface for a custom random number generator. Can be set in the Random class for later use.
+ * An interface for a custom random number generator. Can be set in the Random class for later use.<br>
+ * <br>
+ * The {@code fill} methods generate whole arrays at once. Their default implementations call the single value methods, implementations of this library override them with loops that keep the generator state in registers.
  * @since 1.0.0
  */
 public interface Randomizer
@@ -70,4 +74,101 @@ public interface Randomizer
 	 * @since 1.0.0
 	 */
 	int _integer(int low, int high);
-}
\ No newline at end of file
+	
+	/**
+	 * Fills the given array with newly generated floats from the {@code Randomizer}.
+	 * @param res - the destination array
+	 * @since 1.1.0
+	 */
+	default void fill(float[] res)
+	{
+		fill(res, 0, res.length);
+	}
+	
+	/**
+	 * Fills a range of the given array with newly generated floats from the {@code Randomizer}.
+	 * @param res - the destination array
+	 * @param offset - the index of the first element to fill
+	 * @param length - the amount of elements to fill
+	 * @since 1.1.0
+	 */
+	default void fill(float[] res, int offset, int length)
+	{
+		for (int i=offset, l=offset+length; i<l; i++) res[i] = _float();
+	}
+	
+	/**
+	 * Fills the given array with floats within the range of the lower and upper limit.
+	 * @param res - the destination array
+	 * @param low - the lower limit
+	 * @param high - the upper limit
+	 * @since 1.1.0
+	 */
+	default void fill(float[] res, float low, float high)
+	{
+		fill(res, 0, res.length);
+		float d = high-low;
+		for (int i=0; i<res.length; i++) res[i] = low + res[i]*d;
+	}
+	
+	/**
+	 * Fills the given array with newly generated doubles from the {@code Randomizer}.
+	 * @param res - the destination array
+	 * @since 1.1.0
+	 */
+	default void fill(double[] res)
+	{
+		for (int i=0; i<res.length; i++) res[i] = _double();
+	}
+	
+	/**
+	 * Fills the given array with doubles within the range of the lower and upper limit.
+	 * @param res - the destination array
+	 * @param low - the lower limit
+	 * @param high - the upper limit
+	 * @since 1.1.0
+	 */
+	default void fill(double[] res, double low, double high)
+	{
+		fill(res);
+		double d = high-low;
+		for (int i=0; i<res.length; i++) res[i] = low + res[i]*d;
+	}
+	
+	/**
+	 * Fills the given array with integers within the range of the lower and upper limit.
+	 * @param res - the destination array
+	 * @param low - the lower limit
+	 * @param high - the upper limit
+	 * @since 1.1.0
+	 */
+	default void fill(int[] res, int low, int high)
+	{
+		for (int i=0; i<res.length; i++) res[i] = _integer(low, high);
+	}
+	
+	/**
+	 * Fills the remaining elements of the given buffer with newly generated floats from the {@code Randomizer}. The position of the buffer is moved to its limit.
+	 * @param buf - the destination buffer
+	 * @since 1.1.0
+	 */
+	default void fill(FloatBuffer buf)
+	{
+		int n = buf.remaining();
+		if (buf.hasArray())
+		{
+			int p = buf.position();
+			fill(buf.array(), buf.arrayOffset()+p, n);
+			buf.position(p+n);
+			return;
+		}
+		float[] tmp = new float[Math.min(n, 1024)];
+		while (n > 0)
+		{
+			int k = Math.min(n, tmp.length);
+			fill(tmp, 0, k);
+			buf.put(tmp, 0, k);
+			n -= k;
+		}
+	}
+}
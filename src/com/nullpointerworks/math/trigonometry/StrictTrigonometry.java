@@ -0,0 +1,90 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.trigonometry;
+
+/**
+ * A {@code Trigonometry} provider that delegates to {@code StrictMath}. The results are the same on every platform and are within 1 ulp of the exact value, but this is the slowest option. This is the provider {@code FloatMath} uses by default.
+ * @since 1.1.0
+ * @see StrictMath
+ */
+public final class StrictTrigonometry implements Trigonometry
+{
+	public static final StrictTrigonometry instance = new StrictTrigonometry();
+	
+	private StrictTrigonometry() {}
+	
+	@Override
+	public float sin(float x)
+	{
+		return (float) StrictMath.sin(x);
+	}
+	
+	@Override
+	public float cos(float x)
+	{
+		return (float) StrictMath.cos(x);
+	}
+	
+	@Override
+	public float tan(float x)
+	{
+		return (float) StrictMath.tan(x);
+	}
+	
+	@Override
+	public float asin(float x)
+	{
+		return (float) StrictMath.asin(x);
+	}
+	
+	@Override
+	public float acos(float x)
+	{
+		return (float) StrictMath.acos(x);
+	}
+	
+	@Override
+	public float atan(float x)
+	{
+		return (float) StrictMath.atan(x);
+	}
+	
+	@Override
+	public void sin(float[] x, float[] res)
+	{
+		for (int i=0,l=x.length; i<l; i++) res[i] = sin(x[i]);
+	}
+	
+	@Override
+	public void cos(float[] x, float[] res)
+	{
+		for (int i=0,l=x.length; i<l; i++) res[i] = cos(x[i]);
+	}
+	
+	@Override
+	public void tan(float[] x, float[] res)
+	{
+		for (int i=0,l=x.length; i<l; i++) res[i] = tan(x[i]);
+	}
+	
+	@Override
+	public void asin(float[] x, float[] res)
+	{
+		for (int i=0,l=x.length; i<l; i++) res[i] = asin(x[i]);
+	}
+	
+	@Override
+	public void acos(float[] x, float[] res)
+	{
+		for (int i=0,l=x.length; i<l; i++) res[i] = acos(x[i]);
+	}
+	
+	@Override
+	public void atan(float[] x, float[] res)
+	{
+		for (int i=0,l=x.length; i<l; i++) res[i] = atan(x[i]);
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.trigonometry;
+
+/**
+ * An interface for a provider of float trigonometry. A provider can be installed globally with {@code FloatMath.setTrigonometry(Trigonometry)}, or be called directly at a call site that needs a specific trade-off between speed and accuracy. The library comes with three providers:
+ * <pre>
+ * StrictTrigonometry      - StrictMath, within 1 ulp, the default
+ * PolynomialTrigonometry  - minimax polynomials, within 0.80 ulp
+ * TableTrigonometry       - lookup tables with a series correction, within 0.501 ulp</pre>
+ * The bulk methods write the result of every element of {@code x} into the same index of {@code res}. The destination has to be at least as long as the input, and may be the input array itself.
+ * @since 1.1.0
+ */
+public interface Trigonometry
+{
+	/**
+	 * Returns the trigonometric sine of an angle.
+	 * @param x - an angle, in radians
+	 * @return the sine of the argument
+	 * @since 1.1.0
+	 */
+	float sin(float x);
+	
+	/**
+	 * Returns the trigonometric cosine of an angle.
+	 * @param x - an angle, in radians
+	 * @return the cosine of the argument
+	 * @since 1.1.0
+	 */
+	float cos(float x);
+	
+	/**
+	 * Returns the trigonometric tangent of an angle.
+	 * @param x - an angle, in radians
+	 * @return the tangent of the argument
+	 * @since 1.1.0
+	 */
+	float tan(float x);
+	
+	/**
+	 * Returns the arc sine of a value, in the range -<i>pi</i>/2 through <i>pi</i>/2.
+	 * @param x - the value whose arc sine is to be returned
+	 * @return the arc sine of the argument
+	 * @since 1.1.0
+	 */
+	float asin(float x);
+	
+	/**
+	 * Returns the arc cosine of a value, in the range 0.0 through <i>pi</i>.
+	 * @param x - the value whose arc cosine is to be returned
+	 * @return the arc cosine of the argument
+	 * @since 1.1.0
+	 */
+	float acos(float x);
+	
+	/**
+	 * Returns the arc tangent of a value, in the range -<i>pi</i>/2 through <i>pi</i>/2.
+	 * @param x - the value whose arc tangent is to be returned
+	 * @return the arc tangent of the argument
+	 * @since 1.1.0
+	 */
+	float atan(float x);
+	
+	/**
+	 * Writes the sine of every angle in {@code x} into {@code res}.
+	 * @param x - an array of angles, in radians
+	 * @param res - the destination array
+	 * @since 1.1.0
+	 */
+	void sin(float[] x, float[] res);
+	
+	/**
+	 * Writes the cosine of every angle in {@code x} into {@code res}.
+	 * @param x - an array of angles, in radians
+	 * @param res - the destination array
+	 * @since 1.1.0
+	 */
+	void cos(float[] x, float[] res);
+	
+	/**
+	 * Writes the tangent of every angle in {@code x} into {@code res}.
+	 * @param x - an array of angles, in radians
+	 * @param res - the destination array
+	 * @since 1.1.0
+	 */
+	void tan(float[] x, float[] res);
+	
+	/**
+	 * Writes the arc sine of every value in {@code x} into {@code res}.
+	 * @param x - an array of values
+	 * @param res - the destination array
+	 * @since 1.1.0
+	 */
+	void asin(float[] x, float[] res);
+	
+	/**
+	 * Writes the arc cosine of every value in {@code x} into {@code res}.
+	 * @param x - an array of values
+	 * @param res - the destination array
+	 * @since 1.1.0
+	 */
+	void acos(float[] x, float[] res);
+	
+	/**
+	 * Writes the arc tangent of every value in {@code x} into {@code res}.
+	 * @param x - an array of values
+	 * @param res - the destination array
+	 * @since 1.1.0
+	 */
+	void atan(float[] x, float[] res);
+}
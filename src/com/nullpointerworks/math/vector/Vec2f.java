@@ -0,0 +1,321 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.vector;
+
+import com.nullpointerworks.math.ObjectPool;
+
+/**
+ * A mutable 2 dimensional vector stored in fields. Unlike the {@code float[]} based {@code Vector2}, all operations modify the vector they are called on and return it, so a chain of operations creates no new objects. Temporary vectors can be taken from the thread-local {@code pool}.
+ * <pre>
+ * Vec2f v = new Vec2f(a).sub(b).normalize();
+ * float[] f = v.get(new float[2]);</pre>
+ * @since 1.1.0
+ * @see Vector2
+ */
+public final class Vec2f
+{
+	/**
+	 * A thread-local pool of reusable vectors.
+	 * @since 1.1.0
+	 */
+	public static final ObjectPool<Vec2f> pool = new ObjectPool<Vec2f>(Vec2f::new);
+	
+	public float x, y;
+	
+	/**
+	 * Creates a vector at {@code (0,0)}.
+	 * @since 1.1.0
+	 */
+	public Vec2f() {}
+	
+	/**
+	 * Creates a vector with the given components.
+	 * @param x - the x component
+	 * @param y - the y component
+	 * @since 1.1.0
+	 */
+	public Vec2f(float x, float y)
+	{
+		this.x = x;
+		this.y = y;
+	}
+	
+	/**
+	 * Creates a vector from the first two values of a {@code float[]} vector.
+	 * @param v - a {@code float[2]} vector
+	 * @since 1.1.0
+	 */
+	public Vec2f(float[] v)
+	{
+		this(v[0], v[1]);
+	}
+	
+	/**
+	 * Creates a copy of the given vector.
+	 * @param v - the vector to copy
+	 * @since 1.1.0
+	 */
+	public Vec2f(Vec2f v)
+	{
+		this(v.x, v.y);
+	}
+	
+	/**
+	 * Sets the components of this vector.
+	 * @param x - the x component
+	 * @param y - the y component
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec2f set(float x, float y)
+	{
+		this.x = x;
+		this.y = y;
+		return this;
+	}
+	
+	/**
+	 * Copies the components of the given vector into this vector.
+	 * @param v - the vector to copy
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec2f set(Vec2f v)
+	{
+		return set(v.x, v.y);
+	}
+	
+	/**
+	 * Copies the first two values of a {@code float[]} vector into this vector.
+	 * @param v - a {@code float[2]} vector
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec2f set(float[] v)
+	{
+		return set(v[0], v[1]);
+	}
+	
+	/**
+	 * Copies two values from a packed array, starting at the given index, into this vector.
+	 * @param v - a packed array of vectors
+	 * @param offset - the index of the x component
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec2f set(float[] v, int offset)
+	{
+		return set(v[offset], v[offset+1]);
+	}
+	
+	/**
+	 * Writes the components of this vector into the first two values of {@code res}.
+	 * @param res - the destination {@code float[2]}
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public float[] get(float[] res)
+	{
+		return get(res, 0);
+	}
+	
+	/**
+	 * Writes the components of this vector into a packed array, starting at the given index.
+	 * @param res - the destination array
+	 * @param offset - the index of the x component
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public float[] get(float[] res, int offset)
+	{
+		res[offset  ] = x;
+		res[offset+1] = y;
+		return res;
+	}
+	
+	/**
+	 * Returns the components of this vector as a new {@code float[2]}.
+	 * @return a new {@code float[2]} vector
+	 * @since 1.1.0
+	 */
+	public float[] toArray()
+	{
+		return new float[] {x, y};
+	}
+	
+	/**
+	 * Adds the given vector to this vector.
+	 * @param v - the vector to add
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec2f add(Vec2f v)
+	{
+		return set(x + v.x, y + v.y);
+	}
+	
+	/**
+	 * Adds the given components to this vector.
+	 * @param x - the x component to add
+	 * @param y - the y component to add
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec2f add(float x, float y)
+	{
+		return set(this.x + x, this.y + y);
+	}
+	
+	/**
+	 * Subtracts the given vector from this vector.
+	 * @param v - the vector to subtract
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec2f sub(Vec2f v)
+	{
+		return set(x - v.x, y - v.y);
+	}
+	
+	/**
+	 * Multiplies this vector with a factor.
+	 * @param f - the multiplication factor
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec2f mul(float f)
+	{
+		return set(x * f, y * f);
+	}
+	
+	/**
+	 * Multiplies the components of this vector with the components of the given vector.
+	 * @param v - the vector to multiply with
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec2f mul(Vec2f v)
+	{
+		return set(x * v.x, y * v.y);
+	}
+	
+	/**
+	 * Adds the given vector multiplied with a factor to this vector, {@code this + v*f}.
+	 * @param v - the vector to add
+	 * @param f - the multiplication factor
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec2f add(Vec2f v, float f)
+	{
+		return set(x + v.x*f, y + v.y*f);
+	}
+	
+	/**
+	 * Negates all components of this vector.
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec2f negate()
+	{
+		return set(-x, -y);
+	}
+	
+	/**
+	 * Returns the depth component of the cross product of this vector with the given vector, {@code x*v.y - y*v.x}.
+	 * @param v - the right hand side vector
+	 * @return the cross product
+	 * @since 1.1.0
+	 */
+	public float cross(Vec2f v)
+	{
+		return x*v.y - y*v.x;
+	}
+	
+	/**
+	 * Rotates this vector a quarter turn counter clockwise, giving its normal {@code (-y,x)}.
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec2f normal()
+	{
+		return set(-y, x);
+	}
+	
+	/**
+	 * Returns the dot product of this vector with the given vector.
+	 * @param v - the other vector
+	 * @return the dot product
+	 * @since 1.1.0
+	 */
+	public float dot(Vec2f v)
+	{
+		return x*v.x + y*v.y;
+	}
+	
+	/**
+	 * Returns the squared length of this vector.
+	 * @return the squared length
+	 * @since 1.1.0
+	 */
+	public float lengthSquared()
+	{
+		return x*x + y*y;
+	}
+	
+	/**
+	 * Returns the length of this vector.
+	 * @return the length
+	 * @since 1.1.0
+	 */
+	public float length()
+	{
+		return (float) Math.sqrt( lengthSquared() );
+	}
+	
+	/**
+	 * Returns the distance between the points this vector and the given vector point to.
+	 * @param v - the other point
+	 * @return the distance between the points
+	 * @since 1.1.0
+	 */
+	public float distance(Vec2f v)
+	{
+		float dx = x - v.x;
+		float dy = y - v.y;
+		return (float) Math.sqrt( dx*dx + dy*dy );
+	}
+	
+	/**
+	 * Scales this vector to a length of {@code 1.0}. A vector of length {@code 0} is left unchanged.
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec2f normalize()
+	{
+		float m = lengthSquared();
+		if (m == 0f) return this;
+		return mul(1f / (float) Math.sqrt(m));
+	}
+	
+	/**
+	 * Linearly interpolates this vector towards the given vector. A {@code t} of {@code 0} leaves this vector unchanged, {@code 1} gives {@code v}.
+	 * @param v - the target vector
+	 * @param t - the interpolation factor
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec2f lerp(Vec2f v, float t)
+	{
+		return set(x + (v.x - x)*t, y + (v.y - y)*t);
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "("+x+", "+y+")";
+	}
+}
@@ -0,0 +1,320 @@
+/*
+ * This is free and unencumbered software released into the public domain.
+ * (http://unlicense.org/)
+ * Nullpointer Works (2021)
+ */
+package com.nullpointerworks.math.vector;
+
+import com.nullpointerworks.math.ObjectPool;
+
+/**
+ * A mutable 3 dimensional vector stored in fields. Unlike the {@code float[]} based {@code Vector3}, all operations modify the vector they are called on and return it, so a chain of operations creates no new objects. Temporary vectors can be taken from the thread-local {@code pool}.
+ * <pre>
+ * Vec3f v = new Vec3f(a).sub(b).normalize();
+ * float[] f = v.get(new float[3]);</pre>
+ * @since 1.1.0
+ * @see Vector3
+ */
+public final class Vec3f
+{
+	/**
+	 * A thread-local pool of reusable vectors.
+	 * @since 1.1.0
+	 */
+	public static final ObjectPool<Vec3f> pool = new ObjectPool<Vec3f>(Vec3f::new);
+	
+	public float x, y, z;
+	
+	/**
+	 * Creates a vector at {@code (0,0,0)}.
+	 * @since 1.1.0
+	 */
+	public Vec3f() {}
+	
+	/**
+	 * Creates a vector with the given components.
+	 * @param x - the x component
+	 * @param y - the y component
+	 * @param z - the z component
+	 * @since 1.1.0
+	 */
+	public Vec3f(float x, float y, float z)
+	{
+		this.x = x;
+		this.y = y;
+		this.z = z;
+	}
+	
+	/**
+	 * Creates a vector from the first three values of a {@code float[]} vector.
+	 * @param v - a {@code float[3]} vector
+	 * @since 1.1.0
+	 */
+	public Vec3f(float[] v)
+	{
+		this(v[0], v[1], v[2]);
+	}
+	
+	/**
+	 * Creates a copy of the given vector.
+	 * @param v - the vector to copy
+	 * @since 1.1.0
+	 */
+	public Vec3f(Vec3f v)
+	{
+		this(v.x, v.y, v.z);
+	}
+	
+	/**
+	 * Sets the components of this vector.
+	 * @param x - the x component
+	 * @param y - the y component
+	 * @param z - the z component
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec3f set(float x, float y, float z)
+	{
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		return this;
+	}
+	
+	/**
+	 * Copies the components of the given vector into this vector.
+	 * @param v - the vector to copy
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec3f set(Vec3f v)
+	{
+		return set(v.x, v.y, v.z);
+	}
+	
+	/**
+	 * Copies the first three values of a {@code float[]} vector into this vector.
+	 * @param v - a {@code float[3]} vector
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec3f set(float[] v)
+	{
+		return set(v[0], v[1], v[2]);
+	}
+	
+	/**
+	 * Copies three values from a packed array, starting at the given index, into this vector.
+	 * @param v - a packed array of vectors
+	 * @param offset - the index of the x component
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec3f set(float[] v, int offset)
+	{
+		return set(v[offset], v[offset+1], v[offset+2]);
+	}
+	
+	/**
+	 * Writes the components of this vector into the first three values of {@code res}.
+	 * @param res - the destination {@code float[3]}
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public float[] get(float[] res)
+	{
+		return get(res, 0);
+	}
+	
+	/**
+	 * Writes the components of this vector into a packed array, starting at the given index.
+	 * @param res - the destination array
+	 * @param offset - the index of the x component
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public float[] get(float[] res, int offset)
+	{
+		res[offset  ] = x;
+		res[offset+1] = y;
+		res[offset+2] = z;
+		return res;
+	}
+	
+	/**
+	 * Returns the components of this vector as a new {@code float[3]}.
+	 * @return a new {@code float[3]} vector
+	 * @since 1.1.0
+	 */
+	public float[] toArray()
+	{
+		return new float[] {x, y, z};
+	}
+	
+	/**
+	 * Adds the given vector to this vector.
+	 * @param v - the vector to add
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec3f add(Vec3f v)
+	{
+		return set(x + v.x, y + v.y, z + v.z);
+	}
+	
+	/**
+	 * Adds the given components to this vector.
+	 * @param x - the x component to add
+	 * @param y - the y component to add
+	 * @param z - the z component to add
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec3f add(float x, float y, float z)
+	{
+		return set(this.x + x, this.y + y, this.z + z);
+	}
+	
+	/**
+	 * Subtracts the given vector from this vector.
+	 * @param v - the vector to subtract
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec3f sub(Vec3f v)
+	{
+		return set(x - v.x, y - v.y, z - v.z);
+	}
+	
+	/**
+	 * Multiplies this vector with a factor.
+	 * @param f - the multiplication factor
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec3f mul(float f)
+	{
+		return set(x * f, y * f, z * f);
+	}
+	
+	/**
+	 * Multiplies the components of this vector with the components of the given vector.
+	 * @param v - the vector to multiply with
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec3f mul(Vec3f v)
+	{
+		return set(x * v.x, y * v.y, z * v.z);
+	}
+	
+	/**
+	 * Adds the given vector multiplied with a factor to this vector, {@code this + v*f}.
+	 * @param v - the vector to add
+	 * @param f - the multiplication factor
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec3f add(Vec3f v, float f)
+	{
+		return set(x + v.x*f, y + v.y*f, z + v.z*f);
+	}
+	
+	/**
+	 * Negates all components of this vector.
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec3f negate()
+	{
+		return set(-x, -y, -z);
+	}
+	
+	/**
+	 * Sets this vector to the cross product of itself with the given vector, {@code this x v}.
+	 * @param v - the right hand side vector
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec3f cross(Vec3f v)
+	{
+		return set(y*v.z - z*v.y,
+				   z*v.x - x*v.z,
+				   x*v.y - y*v.x);
+	}
+	
+	/**
+	 * Returns the dot product of this vector with the given vector.
+	 * @param v - the other vector
+	 * @return the dot product
+	 * @since 1.1.0
+	 */
+	public float dot(Vec3f v)
+	{
+		return x*v.x + y*v.y + z*v.z;
+	}
+	
+	/**
+	 * Returns the squared length of this vector.
+	 * @return the squared length
+	 * @since 1.1.0
+	 */
+	public float lengthSquared()
+	{
+		return x*x + y*y + z*z;
+	}
+	
+	/**
+	 * Returns the length of this vector.
+	 * @return the length
+	 * @since 1.1.0
+	 */
+	public float length()
+	{
+		return (float) Math.sqrt( lengthSquared() );
+	}
+	
+	/**
+	 * Returns the distance between the points this vector and the given vector point to.
+	 * @param v - the other point
+	 * @return the distance between the points
+	 * @since 1.1.0
+	 */
+	public float distance(Vec3f v)
+	{
+		float dx = x - v.x;
+		float dy = y - v.y;
+		float dz = z - v.z;
+		return (float) Math.sqrt( dx*dx + dy*dy + dz*dz );
+	}
+	
+	/**
+	 * Scales this vector to a length of {@code 1.0}. A vector of length {@code 0} is left unchanged.
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec3f normalize()
+	{
+		float m = lengthSquared();
+		if (m == 0f) return this;
+		return mul(1f / (float) Math.sqrt(m));
+	}
+	
+	/**
+	 * Linearly interpolates this vector towards the given vector. A {@code t} of {@code 0} leaves this vector unchanged, {@code 1} gives {@code v}.
+	 * @param v - the target vector
+	 * @param t - the interpolation factor
+	 * @return this vector
+	 * @since 1.1.0
+	 */
+	public Vec3f lerp(Vec3f v, float t)
+	{
+		return set(x + (v.x - x)*t, y + (v.y - y)*t, z + (v.z - z)*t);
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "("+x+", "+y+", "+z+")";
+	}
+}
@@ -291,4 +291,108 @@ public class Vector2 implements Vector
 		float[] P	= project(C, n, u+u);
 		return sub(P, A);
 	}
+	
+	// ======================================================
+	// packed arrays
+	// ======================================================
+	
+	/**
+	 * Adds {@code count} pairs of vectors that are packed in flat arrays, {@code {x0, y0, x1, y1, ...}}, and writes the sums packed into {@code res}. The destination may be one of the operands if it starts at the same offset.
+	 * @param a - the packed vectors
+	 * @param ao - the offset of the first vector in {@code a}
+	 * @param b - the other packed vectors
+	 * @param bo - the offset of the first vector in {@code b}
+	 * @param res - the destination array
+	 * @param ro - the offset of the first vector in {@code res}
+	 * @param count - the amount of vectors
+	 * @return the destination array
+	 * @since 1.1.0
+	 * @see VectorN#add(float[], int, float[], int, float[], int, int)
+	 */
+	public float[] add(float[] a, int ao, float[] b, int bo, float[] res, int ro, int count)
+	{
+		return VectorN.add(a, ao, b, bo, res, ro, count*2);
+	}
+	
+	/**
+	 * Multiplies {@code count} vectors that are packed in a flat array with a factor, and writes the results packed into {@code res}. The destination may be the source if it starts at the same offset.
+	 * @param v - the packed vectors
+	 * @param vo - the offset of the first vector in {@code v}
+	 * @param f - the multiplication factor
+	 * @param res - the destination array
+	 * @param ro - the offset of the first vector in {@code res}
+	 * @param count - the amount of vectors
+	 * @return the destination array
+	 * @since 1.1.0
+	 * @see VectorN#mul(float[], int, float, float[], int, int)
+	 */
+	public float[] mul(float[] v, int vo, float f, float[] res, int ro, int count)
+	{
+		return VectorN.mul(v, vo, f, res, ro, count*2);
+	}
+	
+	/**
+	 * Computes the dot products of {@code count} pairs of vectors that are packed in flat arrays, and writes one product per pair into {@code res}.
+	 * @param a - the packed vectors
+	 * @param ao - the offset of the first vector in {@code a}
+	 * @param b - the other packed vectors
+	 * @param bo - the offset of the first vector in {@code b}
+	 * @param res - the destination array
+	 * @param ro - the index of the first product in {@code res}
+	 * @param count - the amount of vector pairs
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public float[] dot(float[] a, int ao, float[] b, int bo, float[] res, int ro, int count)
+	{
+		for (int i=0; i<count; i++, ao+=2, bo+=2)
+		{
+			res[ro+i] = a[ao]*b[bo] + a[ao+1]*b[bo+1];
+		}
+		return res;
+	}
+	
+	/**
+	 * Normalizes {@code count} vectors that are packed in a flat array, and writes the unit vectors packed into {@code res}. The destination may be the source if it starts at the same offset. Vectors of zero length give {@code NaN} components, as with {@code normalize(float[])}.
+	 * @param v - the packed vectors
+	 * @param vo - the offset of the first vector in {@code v}
+	 * @param res - the destination array
+	 * @param ro - the offset of the first vector in {@code res}
+	 * @param count - the amount of vectors
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public float[] normalize(float[] v, int vo, float[] res, int ro, int count)
+	{
+		for (int i=0; i<count; i++, vo+=2, ro+=2)
+		{
+			float x = v[vo];
+			float y = v[vo+1];
+			float invm = 1f / (float)StrictMath.sqrt(x*x + y*y);
+			res[ro] = x*invm;
+			res[ro+1] = y*invm;
+		}
+		return res;
+	}
+	
+	/**
+	 * Computes the cross products of {@code count} pairs of 2D vectors that are packed in flat arrays. The cross product of two 2D vectors only has a z component, so one value per pair is written into {@code res}.
+	 * @param a - the packed vectors
+	 * @param ao - the offset of the first vector in {@code a}
+	 * @param b - the other packed vectors
+	 * @param bo - the offset of the first vector in {@code b}
+	 * @param res - the destination array
+	 * @param ro - the index of the first z component in {@code res}
+	 * @param count - the amount of vector pairs
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public float[] cross(float[] a, int ao, float[] b, int bo, float[] res, int ro, int count)
+	{
+		for (int i=0; i<count; i++, ao+=2, bo+=2)
+		{
+			res[ro+i] = a[ao]*b[bo+1] - a[ao+1]*b[bo];
+		}
+		return res;
+	}
 }
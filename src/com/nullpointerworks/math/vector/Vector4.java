@@ -178,4 +178,117 @@ public class Vector4 implements Vector
 	{
 		return add(A, mul(a, lambda) );
 	}
+	
+	// ======================================================
+	// packed arrays
+	// ======================================================
+	
+	/**
+	 * Adds {@code count} pairs of vectors that are packed in flat arrays, {@code {x0, y0, z0, w0, x1, y1, z1, w1, ...}}, and writes the sums packed into {@code res}. The destination may be one of the operands if it starts at the same offset.
+	 * @param a - the packed vectors
+	 * @param ao - the offset of the first vector in {@code a}
+	 * @param b - the other packed vectors
+	 * @param bo - the offset of the first vector in {@code b}
+	 * @param res - the destination array
+	 * @param ro - the offset of the first vector in {@code res}
+	 * @param count - the amount of vectors
+	 * @return the destination array
+	 * @since 1.1.0
+	 * @see VectorN#add(float[], int, float[], int, float[], int, int)
+	 */
+	public float[] add(float[] a, int ao, float[] b, int bo, float[] res, int ro, int count)
+	{
+		return VectorN.add(a, ao, b, bo, res, ro, count*4);
+	}
+	
+	/**
+	 * Multiplies {@code count} vectors that are packed in a flat array with a factor, and writes the results packed into {@code res}. The destination may be the source if it starts at the same offset.
+	 * @param v - the packed vectors
+	 * @param vo - the offset of the first vector in {@code v}
+	 * @param f - the multiplication factor
+	 * @param res - the destination array
+	 * @param ro - the offset of the first vector in {@code res}
+	 * @param count - the amount of vectors
+	 * @return the destination array
+	 * @since 1.1.0
+	 * @see VectorN#mul(float[], int, float, float[], int, int)
+	 */
+	public float[] mul(float[] v, int vo, float f, float[] res, int ro, int count)
+	{
+		return VectorN.mul(v, vo, f, res, ro, count*4);
+	}
+	
+	/**
+	 * Computes the dot products of {@code count} pairs of vectors that are packed in flat arrays, and writes one product per pair into {@code res}.
+	 * @param a - the packed vectors
+	 * @param ao - the offset of the first vector in {@code a}
+	 * @param b - the other packed vectors
+	 * @param bo - the offset of the first vector in {@code b}
+	 * @param res - the destination array
+	 * @param ro - the index of the first product in {@code res}
+	 * @param count - the amount of vector pairs
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public float[] dot(float[] a, int ao, float[] b, int bo, float[] res, int ro, int count)
+	{
+		for (int i=0; i<count; i++, ao+=4, bo+=4)
+		{
+			res[ro+i] = a[ao]*b[bo] + a[ao+1]*b[bo+1] + a[ao+2]*b[bo+2] + a[ao+3]*b[bo+3];
+		}
+		return res;
+	}
+	
+	/**
+	 * Normalizes {@code count} vectors that are packed in a flat array, and writes the unit vectors packed into {@code res}. The destination may be the source if it starts at the same offset. Vectors of zero length give {@code NaN} components, as with {@code normalize(float[])}.
+	 * @param v - the packed vectors
+	 * @param vo - the offset of the first vector in {@code v}
+	 * @param res - the destination array
+	 * @param ro - the offset of the first vector in {@code res}
+	 * @param count - the amount of vectors
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public float[] normalize(float[] v, int vo, float[] res, int ro, int count)
+	{
+		for (int i=0; i<count; i++, vo+=4, ro+=4)
+		{
+			float x = v[vo];
+			float y = v[vo+1];
+			float z = v[vo+2];
+			float w = v[vo+3];
+			float invm = 1f / (float)Math.sqrt(x*x + y*y + z*z + w*w);
+			res[ro] = x*invm;
+			res[ro+1] = y*invm;
+			res[ro+2] = z*invm;
+			res[ro+3] = w*invm;
+		}
+		return res;
+	}
+	
+	/**
+	 * Computes the cross products of {@code count} pairs of vectors that are packed in flat arrays, and writes them packed into {@code res}. The destination may be one of the operands if it starts at the same offset. The {@code w} components are ignored and set to {@code 0}.
+	 * @param a - the packed vectors
+	 * @param ao - the offset of the first vector in {@code a}
+	 * @param b - the other packed vectors
+	 * @param bo - the offset of the first vector in {@code b}
+	 * @param res - the destination array
+	 * @param ro - the offset of the first vector in {@code res}
+	 * @param count - the amount of vector pairs
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public float[] cross(float[] a, int ao, float[] b, int bo, float[] res, int ro, int count)
+	{
+		for (int i=0; i<count; i++, ao+=4, bo+=4, ro+=4)
+		{
+			float ax = a[ao], ay = a[ao+1], az = a[ao+2];
+			float bx = b[bo], by = b[bo+1], bz = b[bo+2];
+			res[ro  ] = ay*bz - az*by;
+			res[ro+1] = az*bx - ax*bz;
+			res[ro+2] = ax*by - ay*bx;
+			res[ro+3] = 0f;
+		}
+		return res;
+	}
 }
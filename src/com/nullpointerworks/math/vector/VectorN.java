@@ -5,8 +5,12 @@
  */
 package com.nullpointerworks.math.vector;
 
+import com.nullpointerworks.math.Function;
+
 /**
- * A general purpose vector manipulation class. This class allows for appending and prefixing vectors with values.
+ * A general purpose vector manipulation class. This class allows for appending and prefixing vectors with values.<br>
+ * <br>
+ * It also contains bulk kernels that operate on vectors of any length, like long rows of a matrix or a batch of packed vectors. These are written as plain counted loops over the arrays so that the JIT compiler can turn them into SIMD instructions on hardware that supports it. Reductions, like the dot product, are split over several independent partial sums to keep the pipeline full.
  * @since 1.0.0
  */
 public class VectorN 
@@ -56,4 +60,172 @@ public class VectorN
 		for (int i=0;i<l;i++) c[i] = v[i];
 		return c;
 	}
+	
+	/**
+	 * Returns the dot product of two vectors of equal length.
+	 * @param a - a vector
+	 * @param b - another vector
+	 * @return the dot product of two vectors
+	 * @since 1.1.0
+	 */
+	public static float dot(float[] a, float[] b)
+	{
+		return dot(a, 0, b, 0, a.length);
+	}
+	
+	/**
+	 * Returns the dot product of {@code n} consecutive elements of two arrays, starting at the given offsets.
+	 * @param a - an array
+	 * @param ao - the offset into {@code a}
+	 * @param b - another array
+	 * @param bo - the offset into {@code b}
+	 * @param n - the number of elements
+	 * @return the dot product of the two ranges
+	 * @since 1.1.0
+	 */
+	public static float dot(float[] a, int ao, float[] b, int bo, int n)
+	{
+		float s0=0f, s1=0f, s2=0f, s3=0f;
+		float s4=0f, s5=0f, s6=0f, s7=0f;
+		int i=0;
+		for (int l=n-7; i<l; i+=8)
+		{
+			int x = ao+i, y = bo+i;
+			s0 += a[x  ]*b[y  ];
+			s1 += a[x+1]*b[y+1];
+			s2 += a[x+2]*b[y+2];
+			s3 += a[x+3]*b[y+3];
+			s4 += a[x+4]*b[y+4];
+			s5 += a[x+5]*b[y+5];
+			s6 += a[x+6]*b[y+6];
+			s7 += a[x+7]*b[y+7];
+		}
+		for (; i<n; i++) s0 += a[ao+i]*b[bo+i];
+		return ((s0+s4) + (s1+s5)) + ((s2+s6) + (s3+s7));
+	}
+	
+	/**
+	 * Adds vector {@code x} scaled by {@code f} to vector {@code y}, {@code y = y + f*x}. The content of {@code y} is modified.
+	 * @param f - the scaling factor
+	 * @param x - the vector to scale
+	 * @param y - the vector to add to
+	 * @return vector {@code y}
+	 * @since 1.1.0
+	 */
+	public static float[] axpy(float f, float[] x, float[] y)
+	{
+		return axpy(f, x, 0, y, 0, x.length);
+	}
+	
+	/**
+	 * Adds {@code n} consecutive elements of {@code x} scaled by {@code f} to those of {@code y}, {@code y = y + f*x}. The content of {@code y} is modified.
+	 * @param f - the scaling factor
+	 * @param x - the array to scale
+	 * @param xo - the offset into {@code x}
+	 * @param y - the array to add to
+	 * @param yo - the offset into {@code y}
+	 * @param n - the number of elements
+	 * @return array {@code y}
+	 * @since 1.1.0
+	 */
+	public static float[] axpy(float f, float[] x, int xo, float[] y, int yo, int n)
+	{
+		for (int i=0; i<n; i++)
+		{
+			y[yo+i] += f * x[xo+i];
+		}
+		return y;
+	}
+	
+	/**
+	 * Adds the respective components of two vectors together and writes the result into {@code res}. The destination may be one of the operands.
+	 * @param a - a vector
+	 * @param b - another vector
+	 * @param res - the destination vector
+	 * @return the destination vector
+	 * @since 1.1.0
+	 */
+	public static float[] add(float[] a, float[] b, float[] res)
+	{
+		for (int i=0,l=res.length; i<l; i++)
+		{
+			res[i] = a[i] + b[i];
+		}
+		return res;
+	}
+	
+	/**
+	 * Adds {@code n} consecutive elements of two arrays together and writes the result into {@code res}, starting at the given offsets. The destination may overlap an operand if it starts at the same offset.
+	 * @param a - an array
+	 * @param ao - the offset into {@code a}
+	 * @param b - another array
+	 * @param bo - the offset into {@code b}
+	 * @param res - the destination array
+	 * @param ro - the offset into {@code res}
+	 * @param n - the number of elements
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public static float[] add(float[] a, int ao, float[] b, int bo, float[] res, int ro, int n)
+	{
+		for (int i=0; i<n; i++)
+		{
+			res[ro+i] = a[ao+i] + b[bo+i];
+		}
+		return res;
+	}
+	
+	/**
+	 * Multiplies all components of a vector with a factor and writes the result into {@code res}. The destination may be the same vector as {@code v}.
+	 * @param v - a vector
+	 * @param f - the multiplication factor
+	 * @param res - the destination vector
+	 * @return the destination vector
+	 * @since 1.1.0
+	 */
+	public static float[] mul(float[] v, float f, float[] res)
+	{
+		for (int i=0,l=res.length; i<l; i++)
+		{
+			res[i] = v[i] * f;
+		}
+		return res;
+	}
+	
+	/**
+	 * Multiplies {@code n} consecutive elements of an array with a factor and writes the result into {@code res}, starting at the given offsets. The destination may overlap {@code v} if it starts at the same offset.
+	 * @param v - an array
+	 * @param vo - the offset into {@code v}
+	 * @param f - the multiplication factor
+	 * @param res - the destination array
+	 * @param ro - the offset into {@code res}
+	 * @param n - the number of elements
+	 * @return the destination array
+	 * @since 1.1.0
+	 */
+	public static float[] mul(float[] v, int vo, float f, float[] res, int ro, int n)
+	{
+		for (int i=0; i<n; i++)
+		{
+			res[ro+i] = v[vo+i] * f;
+		}
+		return res;
+	}
+	
+	/**
+	 * Performs a function on each component of a vector and writes the result into {@code res}. The destination may be the same vector as {@code v}.
+	 * @param v - a vector
+	 * @param s - the function to apply
+	 * @param res - the destination vector
+	 * @return the destination vector
+	 * @since 1.1.0
+	 */
+	public static float[] map(float[] v, Function s, float[] res)
+	{
+		for (int i=0,l=res.length; i<l; i++)
+		{
+			res[i] = s.calculate(v[i]);
+		}
+		return res;
+	}
 }
@@ -12,8 +12,11 @@ module libnpw.math
 	exports com.nullpointerworks.math.geometry;
 	exports com.nullpointerworks.math.geometry.g2d;
 	exports com.nullpointerworks.math.geometry.logic;
+	exports com.nullpointerworks.math.geometry.index;
+	exports com.nullpointerworks.math.geometry.raster;
 	exports com.nullpointerworks.math.matrix;
 	exports com.nullpointerworks.math.random;
+	exports com.nullpointerworks.math.trigonometry;
 	exports com.nullpointerworks.math.vector;
 	
 	exports exp.nullpointerworks.math.geometry;